@@ -0,0 +1,40 @@
+package potato.backend.load;
+
+import java.util.Map;
+
+/**
+ * 채팅 부하 테스트 결과 (JSON으로 저장되어 버전 간 비교에 사용)
+ * @param label 결과 비교용 라벨
+ * @param timestamp 측정 시각 (ISO-8601)
+ * @param settings 측정 설정
+ * @param connectedClients 연결에 성공한 클라이언트 수
+ * @param connectFailures 연결에 실패한 클라이언트 수
+ * @param messagesSent 전송한 메시지 수
+ * @param messagesDelivered 수신된 메시지 수 (구독자 기준 fan-out 포함)
+ * @param expectedDeliveries 기대 수신 메시지 수
+ * @param durationSeconds 첫 전송부터 마지막 수신까지 걸린 시간
+ * @param messagesPerSecond 초당 처리된 전송 메시지 수
+ * @param deliveriesPerSecond 초당 수신된 메시지 수
+ * @param fanOutLatencyMillis 전송부터 수신까지의 지연 시간 백분위 (p50, p90, p99, p999, max)
+ * @param dbStatementsPerMessage 메시지당 실행된 JDBC statement 수
+ * @param dbQueriesPerMessage 메시지당 실행된 JPQL/HQL 쿼리 수
+ * @param heapBytesPerConnection 연결당 힙 사용량 (클라이언트와 서버가 같은 JVM이므로 양쪽 합산)
+ */
+public record ChatLoadReport(
+        String label,
+        String timestamp,
+        LoadTestSettings settings,
+        int connectedClients,
+        int connectFailures,
+        long messagesSent,
+        long messagesDelivered,
+        long expectedDeliveries,
+        double durationSeconds,
+        double messagesPerSecond,
+        double deliveriesPerSecond,
+        Map<String, Double> fanOutLatencyMillis,
+        double dbStatementsPerMessage,
+        double dbQueriesPerMessage,
+        long heapBytesPerConnection
+) {
+}
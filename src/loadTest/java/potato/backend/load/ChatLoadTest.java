@@ -0,0 +1,340 @@
+package potato.backend.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.firebase.messaging.FirebaseMessaging;
+
+import jakarta.persistence.EntityManagerFactory;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.chat.domain.ChatRoom;
+import potato.backend.domain.chat.repository.ChatRoomRepository;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.global.security.jwt.JwtUtil;
+import potato.backend.global.security.jwt.RefreshTokenRepository;
+import potato.backend.global.security.oauth.UserInfo;
+
+/**
+ * 채팅 STOMP 처리량 부하 테스트
+ * H2 위에서 애플리케이션을 띄우고 Redis/FCM은 목 객체로 대체한 뒤,
+ * 다수의 STOMP-over-WebSocket 클라이언트를 accessToken 쿠키로 /ws-chat 에 연결해 handleMessage 경로로 메시지를 보냅니다.
+ * 초당 메시지 수, fan-out 지연 시간 백분위, 메시지당 DB 쿼리 수, 연결당 힙 사용량을 JSON으로 기록합니다.
+ *
+ * 실행: ./gradlew loadTest -Pload.clients=2000 -Pload.senderRatio=0.5 -Pload.label=$(git rev-parse --short HEAD)
+ */
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+                "logging.level.potato.backend=WARN",
+                "chat.retention.enabled=false",
+                "server.tomcat.threads.max=400"
+        })
+@DisplayName("채팅 STOMP 부하 테스트")
+class ChatLoadTest {
+
+    private static final String CONTENT_PREFIX = "ts:";
+    private static final long SUBSCRIBE_SETTLE_MILLIS = 1_000L;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    // FCM, Redis 대체 (채팅 경로에서는 호출되지 않거나 외부 연결이 필요 없음)
+    @MockitoBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockitoBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @DynamicPropertySource
+    static void jwtKeys(DynamicPropertyRegistry registry) {
+        LoadTestJwt.register(registry);
+    }
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private final List<StompSession> sessions = Collections.synchronizedList(new ArrayList<>());
+    private WebSocketStompClient stompClient;
+    private ThreadPoolTaskScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        sessions.forEach(session -> {
+            if (session.isConnected()) {
+                session.disconnect();
+            }
+        });
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("채팅 메시지 처리량과 fan-out 지연 시간 측정")
+    void measureChatThroughput() throws Exception {
+        List<ChatRoom> rooms = createRooms(settings.rooms());
+        long expectedDeliveries = (long) settings.senders() * settings.messagesPerSender() * 2; // 채팅방 참여자 2명 모두 구독
+        LatencyRecorder latencies = new LatencyRecorder((int) Math.min(expectedDeliveries, 20_000_000L));
+        AtomicLong delivered = new AtomicLong();
+        AtomicLong lastDeliveryNanos = new AtomicLong();
+
+        // 1. 연결 전 힙 사용량
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long heapBefore = usedHeapAfterGc(memory);
+
+        // 2. 모든 클라이언트 연결 및 구독
+        stompClient = createStompClient();
+        List<ClientSession> clients = new ArrayList<>();
+        AtomicInteger connectFailures = new AtomicInteger();
+        Semaphore permits = new Semaphore(settings.connectConcurrency());
+        List<CompletableFuture<Void>> connects = new ArrayList<>();
+        for (ChatRoom room : rooms) {
+            for (Member member : List.of(room.getSeller(), room.getBuyer())) {
+                permits.acquire();
+                String accessToken = jwtUtil.generateAccessToken(UserInfo.from(member));
+                CompletableFuture<Void> connect = connectAndSubscribe(accessToken, room.getId(), latencies,
+                        delivered, lastDeliveryNanos)
+                        .thenAccept(session -> {
+                            synchronized (clients) {
+                                clients.add(new ClientSession(member.getId(), room.getId(), session));
+                            }
+                        })
+                        .exceptionally(e -> {
+                            connectFailures.incrementAndGet();
+                            return null;
+                        })
+                        .whenComplete((ignored, e) -> permits.release());
+                connects.add(connect);
+            }
+        }
+        CompletableFuture.allOf(connects.toArray(CompletableFuture[]::new)).get(settings.timeoutSeconds(), TimeUnit.SECONDS);
+        // simple broker는 SUBSCRIBE에 RECEIPT를 보내지 않으므로 구독 등록이 끝날 때까지 잠시 대기
+        Thread.sleep(SUBSCRIBE_SETTLE_MILLIS);
+
+        long heapAfter = usedHeapAfterGc(memory);
+        long heapPerConnection = clients.isEmpty() ? 0 : Math.max(0, heapAfter - heapBefore) / clients.size();
+
+        // 3. 메시지 전송
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<ClientSession> senders = clients.subList(0, Math.min(settings.senders(), clients.size()));
+        long expected = (long) senders.size() * settings.messagesPerSender() * 2;
+        AtomicLong sent = new AtomicLong();
+        ScheduledExecutorService sendExecutor = Executors.newScheduledThreadPool(
+                Math.max(4, Runtime.getRuntime().availableProcessors()));
+        CountDownLatch sendsDone = new CountDownLatch(senders.size());
+
+        long startNanos = System.nanoTime();
+        for (ClientSession sender : senders) {
+            AtomicInteger remaining = new AtomicInteger(settings.messagesPerSender());
+            long initialDelay = (long) (Math.random() * settings.sendIntervalMs()); // 전송 시점 분산
+            sendExecutor.scheduleAtFixedRate(() -> {
+                if (remaining.getAndDecrement() <= 0) {
+                    return;
+                }
+                // 보낸 사람은 서버가 세션 Principal로 결정하므로 content만 전송
+                Map<String, Object> payload = Map.of("content", CONTENT_PREFIX + System.nanoTime());
+                sender.session().send("/app/api/v1/chat/" + sender.roomId(), payload);
+                sent.incrementAndGet();
+                if (remaining.get() == 0) {
+                    sendsDone.countDown();
+                }
+            }, initialDelay, settings.sendIntervalMs(), TimeUnit.MILLISECONDS);
+        }
+
+        sendsDone.await(settings.timeoutSeconds(), TimeUnit.SECONDS);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(settings.timeoutSeconds());
+        while (delivered.get() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        sendExecutor.shutdownNow();
+
+        // 4. 결과 집계
+        long endNanos = Math.max(lastDeliveryNanos.get(), startNanos + 1);
+        double durationSeconds = (endNanos - startNanos) / 1_000_000_000.0;
+        double[] percentiles = latencies.percentilesMillis(0.5, 0.9, 0.99, 0.999, 1.0);
+        Map<String, Double> latencyReport = new LinkedHashMap<>();
+        latencyReport.put("p50", percentiles[0]);
+        latencyReport.put("p90", percentiles[1]);
+        latencyReport.put("p99", percentiles[2]);
+        latencyReport.put("p999", percentiles[3]);
+        latencyReport.put("max", percentiles[4]);
+
+        long messagesSent = sent.get();
+        ChatLoadReport report = new ChatLoadReport(
+                settings.label(),
+                Instant.now().toString(),
+                settings,
+                clients.size(),
+                connectFailures.get(),
+                messagesSent,
+                delivered.get(),
+                expected,
+                durationSeconds,
+                messagesSent / durationSeconds,
+                delivered.get() / durationSeconds,
+                latencyReport,
+                messagesSent == 0 ? 0 : (double) statistics.getPrepareStatementCount() / messagesSent,
+                messagesSent == 0 ? 0 : (double) statistics.getQueryExecutionCount() / messagesSent,
+                heapPerConnection
+        );
+        Path output = writeReport(report);
+        System.out.println("[load] report written to " + output);
+
+        assertThat(clients).isNotEmpty();
+        assertThat(delivered.get()).isPositive();
+    }
+
+    private CompletableFuture<StompSession> connectAndSubscribe(String accessToken, Long roomId, LatencyRecorder latencies,
+                                                                AtomicLong delivered, AtomicLong lastDeliveryNanos) {
+        String url = "ws://localhost:" + port + "/ws-chat/websocket";
+        WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+        handshakeHeaders.add(HttpHeaders.COOKIE, "accessToken=" + accessToken);
+        return stompClient.connectAsync(url, handshakeHeaders, new StompHeaders(), new StompSessionHandlerAdapter() { })
+                .thenCompose(session -> {
+                    sessions.add(session);
+                    session.subscribe("/topic/chat/" + roomId, new StompFrameHandler() {
+                        @Override
+                        public Type getPayloadType(StompHeaders headers) {
+                            return Map.class;
+                        }
+
+                        @Override
+                        public void handleFrame(StompHeaders headers, Object payload) {
+                            long now = System.nanoTime();
+                            Object content = ((Map<?, ?>) payload).get("content");
+                            if (content instanceof String text && text.startsWith(CONTENT_PREFIX)) {
+                                latencies.record(now - Long.parseLong(text.substring(CONTENT_PREFIX.length())));
+                            }
+                            delivered.incrementAndGet();
+                            lastDeliveryNanos.accumulateAndGet(now, Math::max);
+                        }
+                    });
+                    return CompletableFuture.completedFuture(session);
+                });
+    }
+
+    private WebSocketStompClient createStompClient() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("load-stomp-");
+        scheduler.initialize();
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setMessageConverter(new MappingJackson2MessageConverter());
+        client.setTaskScheduler(scheduler);
+        client.setDefaultHeartbeat(new long[]{0, 0});
+        client.setInboundMessageSizeLimit(64 * 1024);
+        return client;
+    }
+
+    private List<ChatRoom> createRooms(int count) {
+        Category category = categoryRepository.save(Category.create("부하테스트"));
+        List<ChatRoom> rooms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Member seller = memberRepository.save(Member.create("seller-" + i, "seller-" + i + "@load.test", "pw", "010-0000-0000"));
+            Member buyer = memberRepository.save(Member.create("buyer-" + i, "buyer-" + i + "@load.test", "pw", "010-0000-0000"));
+            Product product = productRepository.save(Product.create(
+                    seller, List.of(category), "상품 " + i, "부하 테스트 상품", List.of("image.jpg"),
+                    BigDecimal.valueOf(10_000L), Status.SELLING, "image.jpg", Condition.USED));
+            rooms.add(chatRoomRepository.save(ChatRoom.create(seller, buyer, product)));
+        }
+        return rooms;
+    }
+
+    private long usedHeapAfterGc(MemoryMXBean memory) throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    private Path writeReport(ChatLoadReport report) throws Exception {
+        Files.createDirectories(settings.outputDir());
+        Path output = settings.outputDir().resolve("chat-throughput-" + settings.label() + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), report);
+        return output;
+    }
+
+    private record ClientSession(Long memberId, Long roomId, StompSession session) {
+    }
+}
@@ -0,0 +1,39 @@
+package potato.backend.load;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 핸드셰이크 벤치마크 결과 (JSON으로 저장되어 버전 간 비교에 사용)
+ * @param label 결과 비교용 라벨
+ * @param timestamp 측정 시각 (ISO-8601)
+ * @param settings 측정 설정
+ * @param scenarios 인증 경로별 측정 결과
+ */
+public record HandshakeLoadReport(
+        String label,
+        String timestamp,
+        LoadTestSettings settings,
+        List<Scenario> scenarios
+) {
+
+    /**
+     * @param name 인증 경로 이름
+     * @param handshakes STOMP CONNECTED까지 성공한 연결 수
+     * @param failures 실패한 연결 수
+     * @param durationSeconds 모든 연결이 끝날 때까지 걸린 시간
+     * @param handshakesPerSecond 초당 핸드셰이크 수
+     * @param latencyMillis 연결 지연 시간 백분위 (p50, p99, max)
+     * @param dbStatementsPerHandshake 핸드셰이크당 실행된 JDBC statement 수
+     */
+    public record Scenario(
+            String name,
+            int handshakes,
+            int failures,
+            double durationSeconds,
+            double handshakesPerSecond,
+            Map<String, Double> latencyMillis,
+            double dbStatementsPerHandshake
+    ) {
+    }
+}
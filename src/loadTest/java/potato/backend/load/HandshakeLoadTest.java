@@ -0,0 +1,217 @@
+package potato.backend.load;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.google.firebase.messaging.FirebaseMessaging;
+
+import jakarta.persistence.EntityManagerFactory;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.global.security.jwt.JwtUtil;
+import potato.backend.global.security.jwt.RefreshTokenRepository;
+import potato.backend.global.security.oauth.UserInfo;
+
+/**
+ * WebSocket 핸드셰이크 처리량 벤치마크
+ * 같은 회원 집합으로 세 가지 경로를 차례로 측정해 초당 핸드셰이크 수와 핸드셰이크당 DB 쿼리 수를 비교합니다.
+ * <ul>
+ *     <li>jwt-claims: 클레임만으로 UserInfo 생성 (DB 조회 없음)</li>
+ *     <li>member-lookup-cold: 클레임이 부족한 토큰, 빈 캐시 (연결마다 회원 조회 - 기존 memberId 파라미터 방식과 같은 비용)</li>
+ *     <li>member-lookup-warm: 클레임이 부족한 토큰, 회원 캐시 적중</li>
+ * </ul>
+ *
+ * 실행: ./gradlew loadTest --tests '*HandshakeLoadTest' -Pload.clients=2000
+ */
+@Tag("load")
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.properties.hibernate.generate_statistics=true",
+                "logging.level.org.hibernate.SQL=WARN",
+                "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN",
+                "logging.level.potato.backend=WARN",
+                "chat.retention.enabled=false",
+                "server.tomcat.threads.max=400"
+        })
+@DisplayName("WebSocket 핸드셰이크 벤치마크")
+class HandshakeLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private FirebaseMessaging firebaseMessaging;
+
+    @MockitoBean
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @DynamicPropertySource
+    static void jwtKeys(DynamicPropertyRegistry registry) {
+        LoadTestJwt.register(registry);
+    }
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private WebSocketStompClient stompClient;
+    private ThreadPoolTaskScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (stompClient != null) {
+            stompClient.stop();
+        }
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("JWT 클레임 인증과 회원 조회 인증의 핸드셰이크 처리량 비교")
+    void measureHandshakeThroughput() throws Exception {
+        List<Member> members = new ArrayList<>(settings.clients());
+        for (int i = 0; i < settings.clients(); i++) {
+            members.add(memberRepository.save(Member.create("member-" + i, "member-" + i + "@load.test", "pw", "010-0000-0000")));
+        }
+        stompClient = createStompClient();
+
+        // 워밍업 (JIT, 커넥션 풀)
+        runScenario("warmup", members.subList(0, Math.min(50, members.size())),
+                member -> jwtUtil.generateAccessToken(UserInfo.from(member)));
+
+        List<HandshakeLoadReport.Scenario> scenarios = List.of(
+                runScenario("jwt-claims", members, member -> jwtUtil.generateAccessToken(UserInfo.from(member))),
+                runScenario("member-lookup-cold", members, member -> LoadTestJwt.minimalAccessToken(member.getId())),
+                runScenario("member-lookup-warm", members, member -> LoadTestJwt.minimalAccessToken(member.getId())));
+
+        HandshakeLoadReport report = new HandshakeLoadReport(settings.label(), Instant.now().toString(), settings, scenarios);
+        Path output = writeReport(report);
+        System.out.println("[load] report written to " + output);
+
+        assertThat(scenarios).allSatisfy(scenario -> assertThat(scenario.handshakes()).isPositive());
+        assertThat(scenarios.get(0).dbStatementsPerHandshake()).isZero();
+    }
+
+    private HandshakeLoadReport.Scenario runScenario(String name, List<Member> members,
+                                                     Function<Member, String> tokenFactory) throws Exception {
+        List<String> tokens = members.stream().map(tokenFactory).toList();
+        LatencyRecorder latencies = new LatencyRecorder(tokens.size());
+        AtomicInteger failures = new AtomicInteger();
+        List<StompSession> sessions = new ArrayList<>();
+        Semaphore permits = new Semaphore(settings.connectConcurrency());
+        List<CompletableFuture<Void>> connects = new ArrayList<>();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long startNanos = System.nanoTime();
+        for (String token : tokens) {
+            permits.acquire();
+            long connectStart = System.nanoTime();
+            WebSocketHttpHeaders handshakeHeaders = new WebSocketHttpHeaders();
+            handshakeHeaders.add(HttpHeaders.COOKIE, "accessToken=" + token);
+            CompletableFuture<Void> connect = stompClient
+                    .connectAsync("ws://localhost:" + port + "/ws-chat/websocket", handshakeHeaders, new StompHeaders(),
+                            new StompSessionHandlerAdapter() { })
+                    .thenAccept(session -> {
+                        latencies.record(System.nanoTime() - connectStart);
+                        synchronized (sessions) {
+                            sessions.add(session);
+                        }
+                    })
+                    .exceptionally(e -> {
+                        failures.incrementAndGet();
+                        return null;
+                    })
+                    .whenComplete((ignored, e) -> permits.release());
+            connects.add(connect);
+        }
+        CompletableFuture.allOf(connects.toArray(CompletableFuture[]::new)).get(settings.timeoutSeconds(), TimeUnit.SECONDS);
+        double durationSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        long statements = statistics.getPrepareStatementCount();
+
+        synchronized (sessions) {
+            sessions.forEach(StompSession::disconnect);
+        }
+
+        double[] percentiles = latencies.percentilesMillis(0.5, 0.99, 1.0);
+        Map<String, Double> latencyReport = new LinkedHashMap<>();
+        latencyReport.put("p50", percentiles[0]);
+        latencyReport.put("p99", percentiles[1]);
+        latencyReport.put("max", percentiles[2]);
+
+        int handshakes = latencies.count();
+        return new HandshakeLoadReport.Scenario(
+                name,
+                handshakes,
+                failures.get(),
+                durationSeconds,
+                handshakes / durationSeconds,
+                latencyReport,
+                handshakes == 0 ? 0 : (double) statements / handshakes);
+    }
+
+    private WebSocketStompClient createStompClient() {
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("load-handshake-");
+        scheduler.initialize();
+
+        WebSocketStompClient client = new WebSocketStompClient(new StandardWebSocketClient());
+        client.setTaskScheduler(scheduler);
+        client.setDefaultHeartbeat(new long[]{0, 0});
+        return client;
+    }
+
+    private Path writeReport(HandshakeLoadReport report) throws Exception {
+        Files.createDirectories(settings.outputDir());
+        Path output = settings.outputDir().resolve("handshake-throughput-" + settings.label() + ".json");
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(output.toFile(), report);
+        return output;
+    }
+}
@@ -0,0 +1,58 @@
+package potato.backend.load;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전달 지연 시간 기록기
+ * 수신 스레드에서 락 없이 기록할 수 있도록 미리 할당한 배열에 나노초 단위로 저장합니다.
+ * 용량을 넘는 기록은 버리고 dropped로 집계합니다.
+ */
+public class LatencyRecorder {
+
+    private final long[] samples;
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+
+    public LatencyRecorder(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    public void record(long latencyNanos) {
+        int index = size.getAndIncrement();
+        if (index < samples.length) {
+            samples[index] = latencyNanos;
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public int count() {
+        return Math.min(size.get(), samples.length);
+    }
+
+    public int dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * 백분위 지연 시간 계산 (밀리초)
+     * @param percentiles 0.0 ~ 1.0 사이의 백분위 목록
+     * @return 백분위별 지연 시간 (기록이 없으면 0)
+     */
+    public double[] percentilesMillis(double... percentiles) {
+        int count = count();
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+
+        double[] result = new double[percentiles.length];
+        for (int i = 0; i < percentiles.length; i++) {
+            if (count == 0) {
+                continue;
+            }
+            int index = (int) Math.min(count - 1, Math.ceil(percentiles[i] * count) - 1);
+            result[i] = sorted[Math.max(index, 0)] / 1_000_000.0;
+        }
+        return result;
+    }
+}
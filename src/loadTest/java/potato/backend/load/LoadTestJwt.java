@@ -0,0 +1,56 @@
+package potato.backend.load;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+
+import io.jsonwebtoken.Jwts;
+import potato.backend.domain.user.domain.Role;
+
+/**
+ * 부하 테스트용 JWT 키/토큰
+ * 테스트 프로파일의 jwt 키는 실제 키가 아니므로 실행마다 ES256 키 쌍을 생성해 JwtUtil에 주입합니다.
+ */
+final class LoadTestJwt {
+
+    private static final KeyPair KEY_PAIR = generateKeyPair();
+
+    private LoadTestJwt() {
+    }
+
+    static void register(DynamicPropertyRegistry registry) {
+        registry.add("jwt.public-key", () -> Base64.getEncoder().encodeToString(KEY_PAIR.getPublic().getEncoded()));
+        registry.add("jwt.private-key", () -> Base64.getEncoder().encodeToString(KEY_PAIR.getPrivate().getEncoded()));
+    }
+
+    /**
+     * 회원 ID와 권한만 담긴 Access Token (이름 등 프로필 클레임 없음)
+     * 클레임이 부족해 회원 조회로 보충해야 하는 경로를 측정할 때 사용합니다.
+     */
+    static String minimalAccessToken(Long memberId) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .subject(memberId.toString())
+                .claim("role", Role.USER.name())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(30, ChronoUnit.MINUTES)))
+                .signWith(KEY_PAIR.getPrivate(), Jwts.SIG.ES256)
+                .compact();
+    }
+
+    private static KeyPair generateKeyPair() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (Exception e) {
+            throw new IllegalStateException("테스트용 JWT 키 생성 실패", e);
+        }
+    }
+}
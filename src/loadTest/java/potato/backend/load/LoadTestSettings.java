@@ -0,0 +1,49 @@
+package potato.backend.load;
+
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트 설정
+ * 모든 값은 시스템 프로퍼티(-Pload.xxx=...)로 덮어쓸 수 있습니다.
+ * @param clients 동시에 연결할 STOMP 클라이언트 수 (2명이 한 채팅방을 사용)
+ * @param senderRatio 메시지를 보내는 클라이언트 비율 (0.0 ~ 1.0), 나머지는 구독만 함
+ * @param messagesPerSender 발신 클라이언트별 전송 메시지 수
+ * @param sendIntervalMs 발신 클라이언트별 메시지 전송 간격
+ * @param connectConcurrency 동시에 진행할 핸드셰이크 수
+ * @param timeoutSeconds 전송된 메시지의 전달을 기다리는 최대 시간
+ * @param label 결과 비교용 라벨 (예: 커밋 해시, 버전)
+ * @param outputDir 결과 JSON 저장 디렉터리
+ */
+public record LoadTestSettings(
+        int clients,
+        double senderRatio,
+        int messagesPerSender,
+        long sendIntervalMs,
+        int connectConcurrency,
+        long timeoutSeconds,
+        String label,
+        Path outputDir
+) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        int clients = Integer.getInteger("load.clients", 1000);
+        return new LoadTestSettings(
+                clients - clients % 2, // 채팅방은 2명 단위
+                Double.parseDouble(System.getProperty("load.senderRatio", "0.5")),
+                Integer.getInteger("load.messagesPerSender", 20),
+                Long.getLong("load.sendIntervalMs", 100L),
+                Integer.getInteger("load.connectConcurrency", 100),
+                Long.getLong("load.timeoutSeconds", 120L),
+                System.getProperty("load.label", "local"),
+                Path.of(System.getProperty("load.output", "build/load-results"))
+        );
+    }
+
+    public int rooms() {
+        return clients / 2;
+    }
+
+    public int senders() {
+        return (int) Math.ceil(clients * senderRatio);
+    }
+}
@@ -6,10 +6,18 @@ import lombok.*;
 import java.util.Objects;
 
 @Entity
+@Table(uniqueConstraints = {
+        @UniqueConstraint(name = "uk_category_name", columnNames = "category_name") // 동시에 같은 이름의 카테고리가 생성되지 않도록 제한
+})
 @Getter
 @Builder(access = AccessLevel.PRIVATE)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SequenceGenerator(
+        name = "category_seq",
+        sequenceName = "category_seq",
+        allocationSize = 50 // 캐싱 사이즈 (CategoryDictionary의 INSERT도 같은 시퀀스 사용)
+)
 public class Category {
 
     @Id
@@ -0,0 +1,165 @@
+package potato.backend.domain.category.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+
+/**
+ * 카테고리 이름 → 카테고리 사전 (불변 스냅샷)
+ * 상품 생성/수정마다 카테고리를 이름으로 조회하지 않도록 전체 카테고리를 메모리에 두고,
+ * 사전에 있는 이름은 쿼리 없이 바로 반환합니다.
+ * <ul>
+ *     <li>없는 이름은 한 번의 배치 INSERT(PostgreSQL: ON CONFLICT DO NOTHING)로 만들고 다시 조회</li>
+ *     <li>새 카테고리는 트랜잭션 커밋 후에만 사전에 반영 (롤백된 ID가 남지 않도록)</li>
+ *     <li>기동 시 전체 적재, 다른 노드에서 만든 카테고리는 없는 이름 처리 또는 주기적 재적재로 반영</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CategoryDictionary {
+
+    private static final String SEQUENCE_NAME = "category_seq";
+
+    private final CategoryRepository categoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate loadTransaction;
+    private final String insertSql;
+    private final boolean insertSqlBindsNameTwice;
+    private volatile Map<String, Category> snapshot;
+
+    public CategoryDictionary(CategoryRepository categoryRepository,
+                              JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              EntityManagerFactory entityManagerFactory) {
+        this.categoryRepository = categoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        // 호출 측 트랜잭션의 미커밋 데이터가 사전에 섞이지 않도록 별도 트랜잭션에서 적재
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        String nextId = dialect.getSequenceSupport().getSelectSequenceNextValString(SEQUENCE_NAME);
+        if (dialect instanceof PostgreSQLDialect) {
+            this.insertSql = "INSERT INTO category (id, category_name) VALUES (" + nextId + ", ?) ON CONFLICT DO NOTHING";
+            this.insertSqlBindsNameTwice = false;
+        } else {
+            this.insertSql = "INSERT INTO category (id, category_name) SELECT " + nextId + ", CAST(? AS VARCHAR(255)) " +
+                    "WHERE NOT EXISTS (SELECT 1 FROM category WHERE category_name = ?)";
+            this.insertSqlBindsNameTwice = true;
+        }
+    }
+
+    /**
+     * 카테고리 이름 목록을 카테고리로 변환 (없는 이름은 생성)
+     * @param names 정규화(trim, 중복 제거)된 카테고리 이름
+     * @return 이름 순서대로의 카테고리
+     */
+    public List<Category> resolve(List<String> names) {
+        Map<String, Category> current = snapshot();
+        List<String> missingNames = names.stream()
+                .filter(name -> !current.containsKey(name))
+                .toList();
+        if (missingNames.isEmpty()) {
+            return names.stream().map(current::get).toList();
+        }
+
+        Map<String, Category> created = upsert(missingNames);
+        return names.stream()
+                .map(name -> current.containsKey(name) ? current.get(name) : created.get(name))
+                .toList();
+    }
+
+    public int size() {
+        return snapshot().size();
+    }
+
+    /**
+     * 전체 카테고리 재적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${category.dictionary.reload-interval-ms:600000}",
+            initialDelayString = "${category.dictionary.reload-interval-ms:600000}")
+    public void reload() {
+        Map<String, Category> loaded = loadTransaction.execute(status -> toMap(categoryRepository.findAll()));
+        synchronized (this) {
+            snapshot = loaded;
+        }
+        log.info("카테고리 사전 적재 완료 - categories: {}", loaded.size());
+    }
+
+    private Map<String, Category> snapshot() {
+        Map<String, Category> current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reload();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 없는 카테고리를 한 번의 배치 INSERT로 만들고 ID를 조회 (동시에 같은 이름을 만들어도 한 행만 남음)
+     */
+    private Map<String, Category> upsert(List<String> missingNames) {
+        jdbcTemplate.batchUpdate(insertSql, missingNames.stream()
+                .map(name -> insertSqlBindsNameTwice ? new Object[]{name, name} : new Object[]{name})
+                .toList());
+        Map<String, Category> created = toMap(categoryRepository.findByNameIn(missingNames));
+        if (created.size() != missingNames.size()) {
+            throw new IllegalStateException("카테고리 생성 후 조회 실패 - names: " + missingNames);
+        }
+        log.info("카테고리 생성 - names: {}", missingNames);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    merge(created);
+                }
+            });
+        } else {
+            merge(created);
+        }
+        return created;
+    }
+
+    private synchronized void merge(Map<String, Category> created) {
+        Map<String, Category> next = new HashMap<>(snapshot());
+        created.forEach(next::putIfAbsent);
+        snapshot = Map.copyOf(next);
+    }
+
+    /**
+     * 이름이 같은 카테고리가 여러 개면 (유니크 제약 이전 데이터) ID가 가장 작은 것을 사용
+     */
+    private static Map<String, Category> toMap(List<Category> categories) {
+        Map<String, Category> map = new LinkedHashMap<>();
+        categories.forEach(category -> map.merge(category.getCategoryName(), category,
+                (a, b) -> a.getId() <= b.getId() ? a : b));
+        return Map.copyOf(map);
+    }
+}
@@ -24,9 +24,13 @@ import potato.backend.domain.chat.dto.chatMessage.ChatMessageResponse;
 import potato.backend.domain.chat.dto.chatMessage.ChatReadResponse;
 import potato.backend.domain.chat.dto.chatMessage.ChatSendRequest;
 import potato.backend.domain.chat.dto.chatMessage.ChatUnreadCountResponse;
+import potato.backend.domain.chat.dto.chatRoom.ChatSyncResponse;
 import potato.backend.domain.chat.service.ChatMessageService;
+import potato.backend.domain.chat.service.ChatSyncService;
+import potato.backend.global.security.oauth.UserInfo;
 import potato.backend.global.util.MemberUtil;
 
+import java.security.Principal;
 import java.util.Map;
 import potato.backend.global.exception.ErrorResponse;
 
@@ -44,18 +48,25 @@ public class ChatMessageController {
     private static final String TOPIC_PREFIX = "/topic/chat/"; // 클라이언트가 구독하는 채널 주소 앞 부분
 
     private final ChatMessageService chatMessageService;
+    private final ChatSyncService chatSyncService;
     private final SimpMessagingTemplate messagingTemplate; // 스프링에 제공하는 메시지 전송 도구
     private final MemberUtil memberUtil;
 
     /**
      * 메시지 전송/수신을 처리하는 메서드
      * @param roomId 채팅방 아이디
-     * @param payload 메시지 전송 요청 정보
+     * @param payload 메시지 전송 요청 정보 (content)
+     * @param principal 핸드셰이크/CONNECT 단계에서 인증된 사용자
      * @return 메시지 전송 결과
      */
     @MessageMapping("/api/v1/chat/{roomId}")
-    public void handleMessage(@DestinationVariable Long roomId, Map<String, Object> payload) {
-        Long senderId = Long.valueOf(payload.get("senderId").toString());
+    public void handleMessage(@DestinationVariable Long roomId, Map<String, Object> payload, Principal principal) {
+        // 보낸 사람은 인증된 세션의 Principal로 결정 (payload의 senderId는 신뢰하지 않음)
+        if (!(principal instanceof UserInfo userInfo)) {
+            log.warn("메시지 전송 거부: 인증되지 않은 세션입니다. roomId={}", roomId);
+            return;
+        }
+        Long senderId = userInfo.memberId();
         String content = (String) payload.get("content");
 
         log.info("메시지 수신: roomId={}, senderId={}, content={}", roomId, senderId, content);
@@ -481,4 +492,49 @@ public class ChatMessageController {
             throw e; // GlobalExceptionHandler에서 처리하도록 예외를 다시 throw
         }
     }
+
+    /**
+     * 동기화 토큰 이후 변경된 채팅방과 새 메시지를 조회하는 API
+     * @param since 마지막 동기화 토큰 (없으면 전체 채팅방 목록)
+     * @param limit 채팅방별 최대 새 메시지 개수 (기본값: 50)
+     * @return 동기화 결과
+     */
+    @Operation(summary = "채팅 동기화 API",
+            description = "마지막 동기화 토큰 이후 마지막 메시지, 읽지 않은 메시지 수, 거래 완료 상태가 바뀐 채팅방과 새 메시지만 조회합니다. "
+                    + "토큰이 없거나 만료된 경우 full_sync=true와 함께 전체 채팅방 목록을 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(
+                responseCode = "200",
+                description = "조회 성공",
+                content = @Content(mediaType = "application/json", schema = @Schema(implementation = ChatSyncResponse.class))
+            ),
+            @ApiResponse(
+                responseCode = "400",
+                description = "잘못된 요청 (유효하지 않은 동기화 토큰)",
+                content = @Content(
+                        mediaType = "application/json",
+                        schema = @Schema(implementation = ErrorResponse.class),
+                        examples = @ExampleObject(
+                                name = "INVALID_ARGUMENT",
+                                value = "{\"errorCodeName\":\"INVALID_ARGUMENT\",\"errorMessage\":\"유효하지 않은 동기화 토큰입니다\"}"
+                        )
+                )
+            )
+    })
+    @GetMapping("/sync")
+    public ResponseEntity<ChatSyncResponse> sync(
+            @Parameter(description = "마지막 동기화 토큰")
+            @RequestParam(required = false) String since,
+            @Parameter(description = "채팅방별 최대 새 메시지 개수 (기본값: 50, 최대: 100)")
+            @RequestParam(required = false) Integer limit) {
+
+        Long authenticatedMemberId = memberUtil.getCurrentUser().memberId();
+        log.info("채팅 동기화 요청: authenticatedMemberId={}, since={}", authenticatedMemberId, since);
+
+        ChatSyncResponse response = chatSyncService.sync(authenticatedMemberId, since, limit);
+
+        log.info("채팅 동기화 완료: authenticatedMemberId={}, roomCount={}, fullSync={}",
+                authenticatedMemberId, response.getData().getRooms().size(), response.getData().isFullSync());
+        return ResponseEntity.ok(response);
+    }
 }
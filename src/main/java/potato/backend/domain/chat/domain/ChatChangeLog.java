@@ -0,0 +1,64 @@
+package potato.backend.domain.chat.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 채팅 변경 로그 엔티티 (append-only)
+ * 사용자별 받은 편지함에 영향을 주는 변경을 기록하며, ID가 곧 동기화 토큰의 기준이 됩니다.
+ * IDENTITY 값은 커밋 순서가 아니라 INSERT 순서로 부여되므로, 토큰은 기록된 지 일정 시간이 지난 변경까지만 전진합니다.
+ * 동기화 시 (member_id, change_id) 인덱스로 마지막 토큰 이후의 변경만 읽어 변경량에 비례한 작업만 수행합니다.
+ */
+@Entity
+@Table(name = "chat_change_log", indexes = {
+        @Index(name = "idx_chat_change_log_member_change", columnList = "member_id, change_id")
+})
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatChangeLog {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId; // 변경을 받아야 하는 사용자
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ChatChangeType type;
+
+    @Column(name = "chat_message_id")
+    private Long chatMessageId; // MESSAGE 유형일 때 새 메시지 ID
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    // ChatChangeLog 생성자
+    public static ChatChangeLog create(Long memberId, Long chatRoomId, ChatChangeType type, Long chatMessageId) {
+        return ChatChangeLog.builder()
+                .memberId(memberId)
+                .chatRoomId(chatRoomId)
+                .type(type)
+                .chatMessageId(chatMessageId)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    // 채팅방의 두 참여자 모두에게 같은 변경을 기록
+    public static List<ChatChangeLog> forParticipants(ChatRoom chatRoom, ChatChangeType type, Long chatMessageId) {
+        return List.of(
+                create(chatRoom.getSeller().getId(), chatRoom.getId(), type, chatMessageId),
+                create(chatRoom.getBuyer().getId(), chatRoom.getId(), type, chatMessageId)
+        );
+    }
+}
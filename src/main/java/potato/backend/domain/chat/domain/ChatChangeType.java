@@ -0,0 +1,11 @@
+package potato.backend.domain.chat.domain;
+
+/**
+ * 채팅 변경 로그 유형
+ */
+public enum ChatChangeType {
+    ROOM_CREATED, // 채팅방 생성
+    MESSAGE,      // 새 메시지 (마지막 메시지/읽지 않은 메시지 수 변경)
+    READ,         // 읽음 처리 (읽지 않은 메시지 수 변경)
+    COMPLETED     // 거래 완료
+}
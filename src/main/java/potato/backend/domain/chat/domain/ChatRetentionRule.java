@@ -0,0 +1,18 @@
+package potato.backend.domain.chat.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지 보관 기간 정책 규칙
+ * 각 규칙은 삭제 대상 메시지를 판별하는 기준 시각(cutoff)을 가집니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ChatRetentionRule {
+
+    COMPLETED_ROOM("거래 완료 후 N일이 지난 채팅방의 메시지"),
+    SOFT_DELETED("소프트 삭제 후 N일이 지난 메시지");
+
+    private final String description;
+}
@@ -0,0 +1,76 @@
+package potato.backend.domain.chat.dto.chatRoom;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import potato.backend.domain.chat.dto.chatMessage.ChatMessageListResponse;
+
+/**
+ * 채팅 동기화(delta-sync) 응답 DTO
+ */
+@Getter
+@Schema(description = "채팅 동기화 응답")
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatSyncResponse {
+
+    private boolean success;
+    private Data data;
+
+    @Getter
+    @Builder(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Schema(description = "응답 데이터")
+    public static class Data {
+        private String syncToken;      // 다음 동기화 요청에 사용할 토큰
+        private boolean fullSync;      // true면 변경분이 아닌 전체 채팅방 목록 (클라이언트는 로컬 상태를 교체)
+        private boolean hasMore;       // 아직 전달하지 않은 변경이 남아 있는지 여부
+        private List<RoomChange> rooms;
+    }
+
+    @Getter
+    @Builder(access = AccessLevel.PRIVATE)
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    @NoArgsConstructor(access = AccessLevel.PROTECTED)
+    @Schema(description = "변경된 채팅방 정보")
+    public static class RoomChange {
+        private ChatRoomListResponse.ChatRoomSummary room;
+        private boolean completed;                              // 거래 완료 여부
+        private List<ChatMessageListResponse.Message> messages; // 토큰 이후 새 메시지 (오래된 순)
+        private boolean hasMoreMessages;                        // 상한을 넘어 생략된 새 메시지가 있는지 여부
+    }
+
+    public static ChatSyncResponse success(String syncToken, boolean fullSync, boolean hasMore, List<RoomChange> rooms) {
+        Data data = Data.builder()
+                .syncToken(syncToken)
+                .fullSync(fullSync)
+                .hasMore(hasMore)
+                .rooms(rooms)
+                .build();
+
+        return ChatSyncResponse.builder()
+                .success(true)
+                .data(data)
+                .build();
+    }
+
+    public static RoomChange ofRoomChange(
+            ChatRoomListResponse.ChatRoomSummary room,
+            boolean completed,
+            List<ChatMessageListResponse.Message> messages,
+            boolean hasMoreMessages) {
+        return RoomChange.builder()
+                .room(room)
+                .completed(completed)
+                .messages(messages)
+                .hasMoreMessages(hasMoreMessages)
+                .build();
+    }
+}
@@ -0,0 +1,10 @@
+package potato.backend.domain.chat.event;
+
+/**
+ * 채팅방 생성 이벤트 (기존 채팅방을 다시 연 경우는 발행하지 않음)
+ * 트랜잭션 안에서 발행하고, 구독자는 커밋 이후(AFTER_COMMIT)에 처리합니다.
+ * @param chatRoomId 채팅방 ID
+ * @param productId 상품 ID
+ */
+public record ChatRoomCreatedEvent(Long chatRoomId, Long productId) {
+}
@@ -0,0 +1,47 @@
+package potato.backend.domain.chat.repository;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import potato.backend.domain.chat.domain.ChatChangeLog;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface ChatChangeLogRepository extends JpaRepository<ChatChangeLog, Long> {
+
+    /**
+     * 특정 사용자의 변경 로그 중 sinceId 이후의 변경을 오래된 순으로 조회
+     * @param memberId 사용자 ID
+     * @param sinceId 마지막으로 동기화한 변경 ID (이 ID는 제외)
+     * @param pageable 최대 조회 개수
+     * @return 변경 로그 목록
+     */
+    @Query("SELECT c FROM ChatChangeLog c WHERE c.memberId = :memberId AND c.id > :sinceId ORDER BY c.id ASC")
+    List<ChatChangeLog> findChangesSince(@Param("memberId") Long memberId,
+                                         @Param("sinceId") Long sinceId,
+                                         Pageable pageable);
+
+    /**
+     * cutoff 이전에 기록된 변경 로그 중 가장 큰 ID 조회 (전체 동기화 시 토큰 기준)
+     * 아직 커밋되지 않은 더 작은 ID를 건너뛰지 않도록 최근 변경은 기준에서 제외합니다.
+     * @param cutoff 기준 시각
+     * @return 가장 큰 변경 ID (없으면 null)
+     */
+    @Query("SELECT MAX(c.id) FROM ChatChangeLog c WHERE c.createdAt < :cutoff")
+    Long findMaxIdCreatedBefore(@Param("cutoff") Instant cutoff);
+
+    /**
+     * cutoff 이전에 기록된 변경 로그 삭제
+     * @param cutoff 기준 시각
+     * @return 삭제된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ChatChangeLog c WHERE c.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") Instant cutoff);
+}
@@ -1,6 +1,8 @@
 package potato.backend.domain.chat.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -9,6 +11,8 @@ import potato.backend.domain.chat.domain.ChatMessage;
 import potato.backend.domain.chat.domain.ChatRoom;
 import potato.backend.domain.user.domain.Member;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -96,4 +100,90 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long>
     long countByChatRoomWithPaging(@Param("chatRoom") ChatRoom chatRoom,
                                    @Param("beforeMessageId") Long beforeMessageId);
 
-}
\ No newline at end of file
+    /**
+     * 보관 기간 정책: 거래 완료 후 cutoff 이전에 완료된 채팅방의 메시지 중 fromId 이상인 가장 작은 메시지 ID 조회
+     * @param fromId 탐색 시작 메시지 ID (포함)
+     * @param cutoff 채팅방 거래 완료 기준 시각
+     * @return 삭제 대상 메시지 중 가장 작은 ID (없으면 null)
+     */
+    @Query("SELECT MIN(cm.id) FROM ChatMessage cm WHERE cm.id >= :fromId " +
+           "AND cm.chatRoom.id IN (SELECT cr.id FROM ChatRoom cr WHERE cr.completed = true AND cr.completedAt < :cutoff)")
+    Long findFirstIdOfCompletedRoomsFrom(@Param("fromId") Long fromId, @Param("cutoff") Instant cutoff);
+
+    /**
+     * 보관 기간 정책: [fromId, toId) 범위에서 cutoff 이전에 완료된 채팅방의 메시지 개수 조회 (dry-run 용)
+     */
+    @Query("SELECT COUNT(cm) FROM ChatMessage cm WHERE cm.id >= :fromId AND cm.id < :toId " +
+           "AND cm.chatRoom.id IN (SELECT cr.id FROM ChatRoom cr WHERE cr.completed = true AND cr.completedAt < :cutoff)")
+    long countCompletedRoomMessagesInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                           @Param("cutoff") Instant cutoff);
+
+    /**
+     * 보관 기간 정책: [fromId, toId) 범위에서 cutoff 이전에 완료된 채팅방의 메시지를 일괄 삭제
+     * PK 범위로 한정하여 한 번에 잠기는 행 수와 WAL 크기를 제한합니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ChatMessage cm WHERE cm.id >= :fromId AND cm.id < :toId " +
+           "AND cm.chatRoom.id IN (SELECT cr.id FROM ChatRoom cr WHERE cr.completed = true AND cr.completedAt < :cutoff)")
+    int deleteCompletedRoomMessagesInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                           @Param("cutoff") Instant cutoff);
+
+    /**
+     * 보관 기간 정책: deletedAt이 cutoff 이전인(소프트 삭제된) 메시지 중 fromId 이상인 가장 작은 메시지 ID 조회
+     */
+    @Query("SELECT MIN(cm.id) FROM ChatMessage cm WHERE cm.id >= :fromId " +
+           "AND cm.deletedAt IS NOT NULL AND cm.deletedAt < :cutoff")
+    Long findFirstSoftDeletedIdFrom(@Param("fromId") Long fromId, @Param("cutoff") Instant cutoff);
+
+    /**
+     * 보관 기간 정책: [fromId, toId) 범위에서 소프트 삭제된 메시지 개수 조회 (dry-run 용)
+     */
+    @Query("SELECT COUNT(cm) FROM ChatMessage cm WHERE cm.id >= :fromId AND cm.id < :toId " +
+           "AND cm.deletedAt IS NOT NULL AND cm.deletedAt < :cutoff")
+    long countSoftDeletedInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                 @Param("cutoff") Instant cutoff);
+
+    /**
+     * 보관 기간 정책: [fromId, toId) 범위에서 소프트 삭제된 메시지를 일괄 삭제
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM ChatMessage cm WHERE cm.id >= :fromId AND cm.id < :toId " +
+           "AND cm.deletedAt IS NOT NULL AND cm.deletedAt < :cutoff")
+    int deleteSoftDeletedInRange(@Param("fromId") Long fromId, @Param("toId") Long toId,
+                                 @Param("cutoff") Instant cutoff);
+
+    /**
+     * 여러 채팅방의 마지막 메시지를 한 번에 조회 (동기화 응답 생성용)
+     * @param roomIds 채팅방 ID 목록
+     * @return 채팅방별 마지막 메시지 목록
+     */
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender WHERE cm.id IN " +
+           "(SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom.id IN :roomIds GROUP BY m.chatRoom.id)")
+    List<ChatMessage> findLastMessagesByChatRoomIds(@Param("roomIds") Collection<Long> roomIds);
+
+    /**
+     * 여러 채팅방에서 특정 사용자가 읽지 않은 메시지 개수를 한 번에 조회 (동기화 응답 생성용)
+     * @param roomIds 채팅방 ID 목록
+     * @param memberId 사용자 ID
+     * @return [채팅방 ID, 읽지 않은 메시지 개수] 목록
+     */
+    @Query("SELECT cm.chatRoom.id, COUNT(cm) FROM ChatMessage cm " +
+           "WHERE cm.chatRoom.id IN :roomIds AND cm.isRead = false AND cm.sender.id <> :memberId " +
+           "GROUP BY cm.chatRoom.id")
+    List<Object[]> countUnreadByChatRoomIds(@Param("roomIds") Collection<Long> roomIds,
+                                            @Param("memberId") Long memberId);
+
+    /**
+     * 채팅방에서 fromId 이상인 메시지를 오래된 순으로 조회 (동기화 시 새 메시지 전달용)
+     * @param roomId 채팅방 ID
+     * @param fromId 시작 메시지 ID (포함)
+     * @param pageable 최대 조회 개수
+     * @return 메시지 목록
+     */
+    @Query("SELECT cm FROM ChatMessage cm JOIN FETCH cm.sender " +
+           "WHERE cm.chatRoom.id = :roomId AND cm.id >= :fromId ORDER BY cm.id ASC")
+    List<ChatMessage> findByChatRoomIdFrom(@Param("roomId") Long roomId,
+                                           @Param("fromId") Long fromId,
+                                           Pageable pageable);
+
+}
@@ -1,5 +1,6 @@
 package potato.backend.domain.chat.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,4 +53,16 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
            "WHERE cr.buyer.id = :buyerId AND cr.completed = true " +
            "ORDER BY cr.completedAt DESC")
     List<ChatRoom> findCompletedByBuyerIdWithProduct(@Param("buyerId") Long buyerId);
+
+    /**
+     * 여러 채팅방을 참여자, 상품과 함께 한 번에 조회 (동기화 응답 생성용)
+     * @param ids 채팅방 ID 목록
+     * @return 채팅방 목록
+     */
+    @Query("SELECT cr FROM ChatRoom cr " +
+           "JOIN FETCH cr.seller " +
+           "JOIN FETCH cr.buyer " +
+           "LEFT JOIN FETCH cr.product " +
+           "WHERE cr.id IN :ids")
+    List<ChatRoom> findAllByIdInWithDetails(@Param("ids") Collection<Long> ids);
 }
@@ -5,6 +5,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.chat.domain.ChatChangeType;
 import potato.backend.domain.chat.domain.ChatMessage;
 import potato.backend.domain.chat.domain.ChatRoom;
 import potato.backend.domain.chat.dto.chatMessage.ChatMessageResponse;
@@ -39,6 +40,7 @@ public class ChatMessageService {
     private final MemberRepository memberRepository;
     private final ChatSessionManager chatSessionManager;
     private final FcmService fcmService;
+    private final ChatSyncService chatSyncService;
 
     /**
      * 메시지 전송 메서드
@@ -64,6 +66,9 @@ public class ChatMessageService {
         chatRoom.addMessage(message);
 
         ChatMessage savedMessage = chatMessageRepository.save(message);
+
+        // 두 참여자의 동기화 변경 로그 기록 (마지막 메시지/읽지 않은 메시지 수 변경)
+        chatSyncService.recordForParticipants(chatRoom, ChatChangeType.MESSAGE, savedMessage.getId());
         
         // 오프라인 사용자에게 FCM 알림 전송
         sendFcmNotificationIfOffline(chatRoom, sender, request.getContent());
@@ -112,6 +117,7 @@ public class ChatMessageService {
         if (!message.isRead()) {
             message.markAsRead();
             chatMessageRepository.save(message);
+            chatSyncService.record(memberId, message.getChatRoom().getId(), ChatChangeType.READ);
         }
 
         return ChatMessageResponse.from(message);
@@ -143,6 +149,9 @@ public class ChatMessageService {
         }
 
         chatMessageRepository.saveAll(unreadMessages);
+        if (!unreadMessages.isEmpty()) {
+            chatSyncService.record(memberId, roomId, ChatChangeType.READ);
+        }
         return unreadMessages.size();
     }
 
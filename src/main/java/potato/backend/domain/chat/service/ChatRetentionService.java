@@ -0,0 +1,264 @@
+package potato.backend.domain.chat.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import potato.backend.domain.chat.domain.ChatRetentionRule;
+import potato.backend.domain.chat.repository.ChatMessageRepository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 보관 기간 정책 엔진
+ * 규칙별로 삭제 대상 메시지를 PK 범위 단위(chunk)로 나누어 삭제합니다.
+ * 각 chunk는 별도 트랜잭션으로 실행되어 장시간 락과 대량 undo/WAL 생성을 피하고,
+ * 규칙별 커서를 유지하여 한 번의 실행에서 끝나지 않은 작업을 다음 실행에서 이어서 처리합니다.
+ */
+@Slf4j
+@Service
+public class ChatRetentionService {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${chat.retention.enabled:true}")
+    private boolean enabled;
+
+    @Value("${chat.retention.dry-run:false}")
+    private boolean dryRun;
+
+    @Value("${chat.retention.chunk-size:5000}")
+    private long chunkSize;
+
+    @Value("${chat.retention.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    @Value("${chat.retention.pause-between-chunks-ms:50}")
+    private long pauseBetweenChunksMs;
+
+    @Value("${chat.retention.rules.completed-room.days:180}")
+    private int completedRoomDays;
+
+    @Value("${chat.retention.rules.soft-deleted.days:30}")
+    private int softDeletedDays;
+
+    // 규칙별 다음 실행 시작 메시지 ID (재시작 가능한 진행 상태)
+    private final Map<ChatRetentionRule, AtomicLong> cursors = new EnumMap<>(ChatRetentionRule.class);
+    private final Map<ChatRetentionRule, Counter> purgedCounters = new EnumMap<>(ChatRetentionRule.class);
+    private final Map<ChatRetentionRule, Counter> candidateCounters = new EnumMap<>(ChatRetentionRule.class);
+    private final AtomicLong lastRowsPerSecond = new AtomicLong();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Timer chunkTimer;
+
+    public ChatRetentionService(ChatMessageRepository chatMessageRepository,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        for (ChatRetentionRule rule : ChatRetentionRule.values()) {
+            AtomicLong cursor = new AtomicLong(0L);
+            cursors.put(rule, cursor);
+            Gauge.builder("chat.retention.cursor", cursor, AtomicLong::get)
+                    .tag("rule", rule.name())
+                    .description("규칙별 다음 삭제 시작 메시지 ID")
+                    .register(meterRegistry);
+            purgedCounters.put(rule, Counter.builder("chat.retention.purged.rows")
+                    .tag("rule", rule.name())
+                    .description("보관 기간 정책으로 삭제된 메시지 수")
+                    .register(meterRegistry));
+            candidateCounters.put(rule, Counter.builder("chat.retention.dry_run.rows")
+                    .tag("rule", rule.name())
+                    .description("dry-run 모드에서 삭제 대상으로 집계된 메시지 수")
+                    .register(meterRegistry));
+        }
+        Gauge.builder("chat.retention.rows_per_second", lastRowsPerSecond, AtomicLong::get)
+                .description("마지막 실행의 초당 처리 행 수")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("chat.retention.chunk.duration")
+                .description("chunk 단위 삭제 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스케줄에 따라 모든 보관 기간 규칙 실행
+     */
+    @Scheduled(cron = "${chat.retention.cron:0 30 4 * * *}")
+    public void purgeOnSchedule() {
+        if (!enabled) {
+            return;
+        }
+        runAll(dryRun);
+    }
+
+    /**
+     * 모든 보관 기간 규칙 실행
+     * 이미 실행 중이면 아무 작업도 하지 않고 빈 결과를 반환합니다.
+     * @param dryRun true이면 삭제 없이 대상 행 수만 집계
+     * @return 규칙별 실행 결과
+     */
+    public List<RetentionRunResult> runAll(boolean dryRun) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("채팅 메시지 보관 기간 정책이 이미 실행 중입니다.");
+            return List.of();
+        }
+        try {
+            List<RetentionRunResult> results = new ArrayList<>();
+            Instant now = Instant.now();
+            for (ChatRetentionRule rule : ChatRetentionRule.values()) {
+                int days = retentionDays(rule);
+                if (days <= 0) {
+                    continue; // 0 이하면 규칙 비활성화
+                }
+                results.add(run(rule, now.minus(Duration.ofDays(days)), dryRun));
+            }
+            return results;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 단일 규칙을 chunk 단위로 실행
+     * 커서에서 시작하여 다음 삭제 대상 ID를 찾고, [start, start + chunkSize) 범위를 한 트랜잭션에서 처리합니다.
+     * 실행당 최대 chunk 수에 도달하면 커서를 저장하고 종료하며, 대상이 더 없으면 커서를 처음으로 되돌립니다.
+     * @param rule 보관 기간 규칙
+     * @param cutoff 기준 시각
+     * @param dryRun true이면 삭제 없이 대상 행 수만 집계
+     * @return 실행 결과
+     */
+    public RetentionRunResult run(ChatRetentionRule rule, Instant cutoff, boolean dryRun) {
+        AtomicLong cursor = cursors.get(rule);
+        long startedAt = System.nanoTime();
+        long affected = 0;
+        int chunks = 0;
+        boolean completed = false;
+
+        log.info("채팅 메시지 보관 기간 정책 시작: rule={}, cutoff={}, cursor={}, dryRun={}",
+                rule, cutoff, cursor.get(), dryRun);
+
+        while (chunks < maxChunksPerRun) {
+            Long start = findFirstId(rule, cursor.get(), cutoff);
+            if (start == null) {
+                completed = true;
+                break;
+            }
+            long end = start + chunkSize;
+
+            long chunkStartedAt = System.nanoTime();
+            long rows = dryRun ? count(rule, start, end, cutoff) : delete(rule, start, end, cutoff);
+            chunkTimer.record(Duration.ofNanos(System.nanoTime() - chunkStartedAt));
+
+            affected += rows;
+            chunks++;
+            cursor.set(end);
+            (dryRun ? candidateCounters : purgedCounters).get(rule).increment(rows);
+            log.debug("채팅 메시지 보관 기간 chunk 처리: rule={}, range=[{}, {}), rows={}", rule, start, end, rows);
+
+            if (!pause()) {
+                break;
+            }
+        }
+
+        // dry-run은 실제 상태를 바꾸지 않으므로 다음 실행이 같은 범위를 다시 보도록 커서 초기화
+        if (completed || dryRun) {
+            cursor.set(0L);
+        }
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long rowsPerSecond = elapsedNanos > 0 ? affected * 1_000_000_000L / elapsedNanos : 0;
+        lastRowsPerSecond.set(rowsPerSecond);
+
+        log.info("채팅 메시지 보관 기간 정책 종료: rule={}, rows={}, chunks={}, rowsPerSecond={}, completed={}, dryRun={}",
+                rule, affected, chunks, rowsPerSecond, completed, dryRun);
+        return new RetentionRunResult(rule, cutoff, affected, chunks, rowsPerSecond, completed, dryRun);
+    }
+
+    /**
+     * 규칙별 다음 실행 시작 메시지 ID 조회
+     * @param rule 보관 기간 규칙
+     * @return 커서 값
+     */
+    public long getCursor(ChatRetentionRule rule) {
+        return cursors.get(rule).get();
+    }
+
+    private int retentionDays(ChatRetentionRule rule) {
+        return switch (rule) {
+            case COMPLETED_ROOM -> completedRoomDays;
+            case SOFT_DELETED -> softDeletedDays;
+        };
+    }
+
+    private Long findFirstId(ChatRetentionRule rule, long fromId, Instant cutoff) {
+        return switch (rule) {
+            case COMPLETED_ROOM -> chatMessageRepository.findFirstIdOfCompletedRoomsFrom(fromId, cutoff);
+            case SOFT_DELETED -> chatMessageRepository.findFirstSoftDeletedIdFrom(fromId, cutoff);
+        };
+    }
+
+    private long count(ChatRetentionRule rule, long fromId, long toId, Instant cutoff) {
+        return switch (rule) {
+            case COMPLETED_ROOM -> chatMessageRepository.countCompletedRoomMessagesInRange(fromId, toId, cutoff);
+            case SOFT_DELETED -> chatMessageRepository.countSoftDeletedInRange(fromId, toId, cutoff);
+        };
+    }
+
+    private long delete(ChatRetentionRule rule, long fromId, long toId, Instant cutoff) {
+        Integer deleted = transactionTemplate.execute(status -> switch (rule) {
+            case COMPLETED_ROOM -> chatMessageRepository.deleteCompletedRoomMessagesInRange(fromId, toId, cutoff);
+            case SOFT_DELETED -> chatMessageRepository.deleteSoftDeletedInRange(fromId, toId, cutoff);
+        });
+        return deleted != null ? deleted : 0;
+    }
+
+    // chunk 사이에 잠시 쉬어 운영 트래픽과 복제 지연에 여유를 줌
+    private boolean pause() {
+        if (pauseBetweenChunksMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenChunksMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("채팅 메시지 보관 기간 정책이 중단되었습니다. 다음 실행에서 이어서 처리합니다.");
+            return false;
+        }
+    }
+
+    /**
+     * 보관 기간 규칙 실행 결과
+     * @param rule 실행한 규칙
+     * @param cutoff 기준 시각
+     * @param rows 삭제(또는 dry-run 시 집계)된 행 수
+     * @param chunks 처리한 chunk 수
+     * @param rowsPerSecond 초당 처리 행 수
+     * @param completed 대상이 더 이상 남지 않았는지 여부
+     * @param dryRun dry-run 여부
+     */
+    public record RetentionRunResult(
+            ChatRetentionRule rule,
+            Instant cutoff,
+            long rows,
+            int chunks,
+            long rowsPerSecond,
+            boolean completed,
+            boolean dryRun
+    ) {
+    }
+}
@@ -2,6 +2,7 @@ package potato.backend.domain.chat.service;
 
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -9,17 +10,20 @@ import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.chat.domain.ChatChangeType;
 import potato.backend.domain.chat.domain.ChatRoom;
 import potato.backend.domain.chat.dto.chatMessage.ChatRoomCreateRequest;
 import potato.backend.domain.chat.dto.chatRoom.ChatRoomDetailResponse;
 import potato.backend.domain.chat.dto.chatRoom.ChatRoomListResponse;
 import potato.backend.domain.chat.dto.chatRoom.ChatRoomResponse;
+import potato.backend.domain.chat.event.ChatRoomCreatedEvent;
 import potato.backend.domain.chat.exception.ChatRoomNotFoundException;
 import potato.backend.domain.chat.exception.InvalidChatRoomParticipantsException;
 import potato.backend.domain.chat.exception.MemberNotFoundException;
 import potato.backend.domain.chat.repository.ChatMessageRepository;
 import potato.backend.domain.chat.repository.ChatRoomRepository;
 import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.event.ProductChangedEvent;
 import potato.backend.domain.product.repository.ProductRepository;
 import potato.backend.domain.user.domain.Member;
 import potato.backend.domain.user.repository.MemberRepository;
@@ -39,6 +43,8 @@ public class ChatRoomService {
     private final ChatMessageRepository chatMessageRepository;
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
+    private final ChatSyncService chatSyncService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 채팅방 생성 메서드
@@ -54,7 +60,12 @@ public class ChatRoomService {
         Product product = getProduct(request.getProductId());
 
         ChatRoom chatRoom = chatRoomRepository.findByParticipantsAndProduct(seller, buyer, product)
-                .orElseGet(() -> chatRoomRepository.save(ChatRoom.create(seller, buyer, product)));
+                .orElseGet(() -> {
+                    ChatRoom created = chatRoomRepository.save(ChatRoom.create(seller, buyer, product));
+                    chatSyncService.recordForParticipants(created, ChatChangeType.ROOM_CREATED, null);
+                    eventPublisher.publishEvent(new ChatRoomCreatedEvent(created.getId(), product.getId()));
+                    return created;
+                });
 
         return ChatRoomResponse.from(chatRoom);
     }
@@ -196,7 +207,7 @@ public class ChatRoomService {
     }
 
     private Product getProduct(Long productId) {
-        return productRepository.findById(productId)
+        return productRepository.findActiveById(productId)
                 .orElseThrow(() -> new RuntimeException("Product not found with id: " + productId));
     }
 
@@ -246,6 +257,8 @@ public class ChatRoomService {
         // 거래 완료 처리
         chatRoom.completeTransaction();
         product.markAsSoldOut(chatRoom.getBuyer());
+        eventPublisher.publishEvent(ProductChangedEvent.updated(product));
+        chatSyncService.recordForParticipants(chatRoom, ChatChangeType.COMPLETED, null);
 
         log.info("거래 완료 처리 완료 - chatRoomId: {}, productId: {}, buyerId: {}", 
                 chatRoomId, product.getId(), chatRoom.getBuyer().getId());
@@ -6,7 +6,6 @@ import org.springframework.stereotype.Component;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.Objects;
 
 /**
  * WebSocket 세션 관리를 위한 컴포넌트
@@ -69,13 +68,11 @@ public class ChatSessionManager {
      * @param memberId 사용자 ID
      */
     public void removeAllSessions(Long memberId) {
-        roomSessions.replaceAll((roomId, members) -> {
-            if (members.remove(memberId)) {
-                log.debug("사용자가 모든 채팅방에서 연결 해제됨: memberId={}", memberId);
-            }
-            return members.isEmpty() ? null : members;
-        });
-        roomSessions.values().removeIf(Objects::isNull);
+        // replaceAll은 null 반환을 허용하지 않으므로 키마다 removeSession에 위임 (빈 Set은 removeSession의 computeIfPresent가 제거)
+        for (Long roomId : roomSessions.keySet()) {
+            removeSession(roomId, memberId);
+        }
+        log.debug("사용자가 모든 채팅방에서 연결 해제됨: memberId={}", memberId);
     }
 }
 
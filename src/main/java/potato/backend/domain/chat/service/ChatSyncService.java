@@ -0,0 +1,318 @@
+package potato.backend.domain.chat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.chat.domain.ChatChangeLog;
+import potato.backend.domain.chat.domain.ChatChangeType;
+import potato.backend.domain.chat.domain.ChatMessage;
+import potato.backend.domain.chat.domain.ChatRoom;
+import potato.backend.domain.chat.dto.chatMessage.ChatMessageListResponse;
+import potato.backend.domain.chat.dto.chatRoom.ChatRoomListResponse;
+import potato.backend.domain.chat.dto.chatRoom.ChatSyncResponse;
+import potato.backend.domain.chat.exception.InvalidPagingParameterException;
+import potato.backend.domain.chat.repository.ChatChangeLogRepository;
+import potato.backend.domain.chat.repository.ChatMessageRepository;
+import potato.backend.domain.chat.repository.ChatRoomRepository;
+import potato.backend.domain.user.domain.Member;
+
+/**
+ * 채팅 동기화(delta-sync) 서비스
+ * append-only 변경 로그(chat_change_log)를 기준으로 마지막 동기화 토큰 이후 변경된 채팅방만 응답합니다.
+ * 변경된 채팅방의 요약 정보와 새 메시지는 채팅방 수와 무관하게 고정된 횟수의 일괄 조회로 만듭니다.
+ * 변경 ID는 INSERT 시점에 부여되어 커밋 순서와 다를 수 있으므로, 기록된 지 commitLag가 지나지 않은 변경은
+ * 응답에는 포함하되 토큰 기준으로 삼지 않습니다. 그 변경은 다음 동기화에서 다시 전달되며 클라이언트는 ID로 중복을 제거합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChatSyncService {
+
+    private static final String TOKEN_PREFIX = "v1:";
+    private static final int DEFAULT_MESSAGE_LIMIT = 50;
+    private static final int MAX_MESSAGE_LIMIT = 100;
+
+    private final ChatChangeLogRepository chatChangeLogRepository;
+    private final ChatRoomRepository chatRoomRepository;
+    private final ChatMessageRepository chatMessageRepository;
+
+    @Value("${chat.sync.max-changes:500}")
+    private int maxChanges; // 한 번의 동기화 응답에 반영할 최대 변경 로그 수
+
+    @Value("${chat.sync.change-log-retention-days:30}")
+    private int changeLogRetentionDays;
+
+    @Value("${chat.sync.commit-lag-ms:5000}")
+    private long commitLagMs; // 변경 로그 기록부터 커밋까지 허용하는 최대 지연
+
+    /**
+     * 변경 로그 기록
+     * 채팅방의 두 참여자 모두에게 같은 변경을 기록합니다.
+     * @param chatRoom 채팅방
+     * @param type 변경 유형
+     * @param chatMessageId 새 메시지 ID (MESSAGE 유형이 아니면 null)
+     */
+    @Transactional
+    public void recordForParticipants(ChatRoom chatRoom, ChatChangeType type, Long chatMessageId) {
+        chatChangeLogRepository.saveAll(ChatChangeLog.forParticipants(chatRoom, type, chatMessageId));
+    }
+
+    /**
+     * 변경 로그 기록 (한 사용자)
+     * @param memberId 변경을 받아야 하는 사용자 ID
+     * @param chatRoomId 채팅방 ID
+     * @param type 변경 유형
+     */
+    @Transactional
+    public void record(Long memberId, Long chatRoomId, ChatChangeType type) {
+        chatChangeLogRepository.save(ChatChangeLog.create(memberId, chatRoomId, type, null));
+    }
+
+    /**
+     * 동기화 토큰 이후 변경된 채팅방 조회
+     * 토큰이 없거나 보관 기간이 지나 변경 로그가 정리된 토큰이면 전체 채팅방 목록을 반환합니다.
+     * @param memberId 사용자 ID
+     * @param since 마지막 동기화 토큰
+     * @param messageLimit 채팅방별 최대 새 메시지 개수 (기본값: 50, 최대: 100)
+     * @return 동기화 응답
+     */
+    public ChatSyncResponse sync(Long memberId, String since, Integer messageLimit) {
+        int actualLimit = resolveMessageLimit(messageLimit);
+
+        if (since == null || since.isBlank()) {
+            return fullSync(memberId);
+        }
+
+        SyncToken token = decodeToken(since);
+        Instant retentionCutoff = Instant.now().minus(Duration.ofDays(changeLogRetentionDays));
+        if (token.issuedAt().isBefore(retentionCutoff)) {
+            // 토큰 발급 이후의 변경 로그 일부가 이미 정리되었을 수 있음
+            log.info("만료된 동기화 토큰으로 전체 동기화: memberId={}, issuedAt={}", memberId, token.issuedAt());
+            return fullSync(memberId);
+        }
+        long sinceId = token.changeId();
+
+        List<ChatChangeLog> changes = chatChangeLogRepository.findChangesSince(
+                memberId, sinceId, PageRequest.of(0, maxChanges + 1));
+        boolean hasMore = changes.size() > maxChanges;
+        if (hasMore) {
+            changes = changes.subList(0, maxChanges);
+        }
+        if (changes.isEmpty()) {
+            return ChatSyncResponse.success(encodeToken(sinceId, Instant.now()), false, false, List.of());
+        }
+
+        // 변경된 채팅방과 채팅방별 첫 새 메시지 ID 수집
+        Set<Long> roomIds = new LinkedHashSet<>();
+        Map<Long, Long> firstNewMessageIds = new HashMap<>();
+        for (ChatChangeLog change : changes) {
+            roomIds.add(change.getChatRoomId());
+            if (change.getType() == ChatChangeType.MESSAGE && change.getChatMessageId() != null) {
+                firstNewMessageIds.merge(change.getChatRoomId(), change.getChatMessageId(), Math::min);
+            }
+        }
+
+        ChatChangeLog lastChange = changes.get(changes.size() - 1);
+        List<ChatSyncResponse.RoomChange> rooms = buildRoomChanges(memberId, roomIds, firstNewMessageIds, actualLimit);
+
+        // 더 작은 ID를 가진 트랜잭션이 아직 커밋 전일 수 있으므로, 기록된 지 commitLag가 지난 변경까지만 토큰을 전진
+        ChatChangeLog watermark = findSettledWatermark(changes);
+        String nextToken = watermark != null
+                // 아직 전달하지 않은 변경은 기준 변경 이후에 기록되었으므로 그 시각을 발급 시각으로 사용
+                ? encodeToken(watermark.getId(), watermark.getCreatedAt())
+                : encodeToken(sinceId, token.issuedAt());
+        // 기준이 페이지 끝까지 전진하지 못했으면 바로 다시 요청해도 같은 변경을 받으므로 hasMore를 내리지 않음
+        boolean hasMoreSettled = hasMore && watermark == lastChange;
+
+        log.debug("채팅 동기화: memberId={}, sinceId={}, lastChangeId={}, watermarkId={}, changes={}, rooms={}",
+                memberId, sinceId, lastChange.getId(), watermark != null ? watermark.getId() : sinceId,
+                changes.size(), rooms.size());
+        return ChatSyncResponse.success(nextToken, false, hasMoreSettled, rooms);
+    }
+
+    /**
+     * 보관 기간이 지난 변경 로그 정리
+     */
+    @Scheduled(cron = "${chat.sync.cleanup-cron:0 0 5 * * *}")
+    @Transactional
+    public void purgeExpiredChanges() {
+        Instant cutoff = Instant.now().minus(Duration.ofDays(changeLogRetentionDays));
+        int deleted = chatChangeLogRepository.deleteByCreatedAtBefore(cutoff);
+        log.info("채팅 변경 로그 정리 완료: cutoff={}, deleted={}", cutoff, deleted);
+    }
+
+    /**
+     * 토큰 기준이 될 수 있는 마지막 변경 조회
+     * ID 순서대로 보며 기록된 지 commitLag가 지나지 않은 첫 변경 직전에서 멈춥니다.
+     * @return 기준 변경 (첫 변경부터 최근이면 null)
+     */
+    private ChatChangeLog findSettledWatermark(List<ChatChangeLog> changes) {
+        Instant settledBefore = Instant.now().minusMillis(commitLagMs);
+        ChatChangeLog watermark = null;
+        for (ChatChangeLog change : changes) {
+            if (!change.getCreatedAt().isBefore(settledBefore)) {
+                break;
+            }
+            watermark = change;
+        }
+        return watermark;
+    }
+
+    /**
+     * 전체 동기화
+     * 채팅방 목록을 읽기 전에 토큰 기준 ID를 먼저 읽어, 그 사이에 생긴 변경은 다음 동기화에서 다시 전달되도록 합니다.
+     * 기준 ID도 commitLag 이전에 기록된 변경 중에서만 골라, 늦게 커밋되는 변경을 건너뛰지 않게 합니다.
+     */
+    private ChatSyncResponse fullSync(Long memberId) {
+        Instant issuedAt = Instant.now();
+        Long maxId = chatChangeLogRepository.findMaxIdCreatedBefore(issuedAt.minusMillis(commitLagMs));
+        Set<Long> roomIds = chatRoomRepository.findAllByMemberId(memberId).stream()
+                .map(ChatRoom::getId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        List<ChatSyncResponse.RoomChange> rooms = new ArrayList<>(buildRoomChanges(memberId, roomIds, Map.of(), 0));
+        rooms.sort(Comparator.comparing((ChatSyncResponse.RoomChange change) -> change.getRoom().getTimestamp(),
+                Comparator.nullsLast(Comparator.reverseOrder())));
+
+        return ChatSyncResponse.success(encodeToken(maxId != null ? maxId : 0L, issuedAt), true, false, rooms);
+    }
+
+    /**
+     * 변경된 채팅방 정보 생성
+     * 채팅방, 마지막 메시지, 읽지 않은 메시지 수를 각각 한 번의 쿼리로 조회하고,
+     * 새 메시지는 새 메시지가 있는 채팅방에 대해서만 조회합니다.
+     */
+    private List<ChatSyncResponse.RoomChange> buildRoomChanges(Long memberId, Set<Long> roomIds,
+                                                               Map<Long, Long> firstNewMessageIds, int messageLimit) {
+        if (roomIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, ChatRoom> chatRooms = chatRoomRepository.findAllByIdInWithDetails(roomIds).stream()
+                .collect(Collectors.toMap(ChatRoom::getId, Function.identity()));
+        Map<Long, ChatMessage> lastMessages = chatMessageRepository.findLastMessagesByChatRoomIds(roomIds).stream()
+                .collect(Collectors.toMap(message -> message.getChatRoom().getId(), Function.identity()));
+        Map<Long, Long> unreadCounts = chatMessageRepository.countUnreadByChatRoomIds(roomIds, memberId).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+
+        List<ChatSyncResponse.RoomChange> result = new ArrayList<>(roomIds.size());
+        for (Long roomId : roomIds) {
+            ChatRoom chatRoom = chatRooms.get(roomId);
+            if (chatRoom == null || !isParticipant(chatRoom, memberId)) {
+                continue; // 삭제되었거나 참여하지 않은 채팅방
+            }
+
+            ChatRoomListResponse.ChatRoomSummary summary = createSummary(
+                    chatRoom, memberId, lastMessages.get(roomId), unreadCounts.getOrDefault(roomId, 0L));
+
+            List<ChatMessageListResponse.Message> messages = List.of();
+            boolean hasMoreMessages = false;
+            Long fromId = firstNewMessageIds.get(roomId);
+            if (fromId != null && messageLimit > 0) {
+                List<ChatMessage> newMessages = chatMessageRepository.findByChatRoomIdFrom(
+                        roomId, fromId, PageRequest.of(0, messageLimit + 1));
+                hasMoreMessages = newMessages.size() > messageLimit;
+                if (hasMoreMessages) {
+                    newMessages = newMessages.subList(0, messageLimit);
+                }
+                messages = newMessages.stream()
+                        .map(ChatMessageListResponse::ofMessage)
+                        .toList();
+            }
+
+            result.add(ChatSyncResponse.ofRoomChange(summary, chatRoom.getCompleted(), messages, hasMoreMessages));
+        }
+        return result;
+    }
+
+    private ChatRoomListResponse.ChatRoomSummary createSummary(ChatRoom chatRoom, Long memberId,
+                                                               ChatMessage lastMessage, long unreadCount) {
+        Member otherParticipant = chatRoom.getSeller().getId().equals(memberId)
+                ? chatRoom.getBuyer()
+                : chatRoom.getSeller();
+
+        String productImage = chatRoom.getProduct() != null ? chatRoom.getProduct().getMainImageUrl() : null;
+        String productName = chatRoom.getProduct() != null ? chatRoom.getProduct().getTitle() : null;
+        Long productPrice = chatRoom.getProduct() != null ? chatRoom.getProduct().getPrice().longValue() : 0L;
+
+        return ChatRoomListResponse.ofRoom(
+                chatRoom.getId(),
+                otherParticipant.getName(),
+                otherParticipant.getId().toString(),
+                productImage,
+                productName,
+                chatRoom.getProduct() != null ? chatRoom.getProduct().getId().toString() : null,
+                productPrice,
+                lastMessage != null ? lastMessage.getContent() : null,
+                lastMessage != null ? lastMessage.getSentAt().toString() : null,
+                unreadCount,
+                false // 온라인 상태 (현재 구현되지 않음)
+        );
+    }
+
+    private boolean isParticipant(ChatRoom chatRoom, Long memberId) {
+        return chatRoom.getSeller().getId().equals(memberId) || chatRoom.getBuyer().getId().equals(memberId);
+    }
+
+    private int resolveMessageLimit(Integer messageLimit) {
+        if (messageLimit == null) {
+            return DEFAULT_MESSAGE_LIMIT;
+        }
+        if (messageLimit <= 0 || messageLimit > MAX_MESSAGE_LIMIT) {
+            throw new InvalidPagingParameterException("limit은 1 이상 " + MAX_MESSAGE_LIMIT + " 이하여야 합니다");
+        }
+        return messageLimit;
+    }
+
+    // 동기화 토큰은 클라이언트가 해석하지 않도록 변경 로그 ID와 발급 시각을 감싼 불투명 문자열로 전달
+    // 발급 시각은 변경 로그 보관 기간이 지난 토큰을 판별하는 데 사용
+    private String encodeToken(long changeId, Instant issuedAt) {
+        String raw = TOKEN_PREFIX + changeId + ":" + issuedAt.getEpochSecond();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private SyncToken decodeToken(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(TOKEN_PREFIX)) {
+                throw new IllegalArgumentException("유효하지 않은 동기화 토큰입니다");
+            }
+            String[] parts = decoded.substring(TOKEN_PREFIX.length()).split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("유효하지 않은 동기화 토큰입니다");
+            }
+            long changeId = Long.parseLong(parts[0]);
+            if (changeId < 0) {
+                throw new IllegalArgumentException("유효하지 않은 동기화 토큰입니다");
+            }
+            return new SyncToken(changeId, Instant.ofEpochSecond(Long.parseLong(parts[1])));
+        } catch (IllegalArgumentException | java.time.DateTimeException e) {
+            // Base64 디코딩 실패와 숫자 변환 실패(NumberFormatException) 모두 IllegalArgumentException 계열
+            throw new IllegalArgumentException("유효하지 않은 동기화 토큰입니다");
+        }
+    }
+
+    private record SyncToken(long changeId, Instant issuedAt) {
+    }
+}
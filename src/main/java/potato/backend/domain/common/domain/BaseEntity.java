@@ -26,4 +26,11 @@ public class BaseEntity {
 
     @Column(name = "deleted_at")
     private Instant deletedAt;
+
+    /**
+     * 연관 컬렉션만 바뀌어 엔티티 행이 UPDATE 되지 않을 때 updatedAt을 갱신 (flush 시 행 UPDATE)
+     */
+    protected void touch() {
+        this.updatedAt = Instant.now();
+    }
 }
@@ -9,6 +9,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -17,9 +18,13 @@ import org.springframework.web.multipart.MultipartFile;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.image.dto.ImagePresignRequest;
+import potato.backend.domain.image.dto.ImagePresignResponse;
 import potato.backend.domain.image.dto.ImageResponse;
+import potato.backend.domain.image.dto.ImageUploadCompleteRequest;
 import potato.backend.domain.image.service.ImageService;
 
 @Slf4j
@@ -55,6 +60,31 @@ public class ImageController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @PostMapping("/presigned-upload")
+    @Operation(summary = "서명된 업로드 URL 발급",
+            description = "S3에 직접 업로드할 수 있는 단기 PUT URL을 발급합니다. 응답의 headers를 그대로 실어 업로드해야 합니다.")
+    public ResponseEntity<ImagePresignResponse> createUploadUrl(
+            @Valid @RequestBody ImagePresignRequest request
+    ) {
+        log.info("서명된 업로드 URL 발급 요청 - 파일명: {}, 파일 크기: {} bytes",
+                request.fileName(), request.contentLength());
+        ImagePresignResponse response = imageService.createUploadUrl(request);
+        log.info("서명된 업로드 URL 발급 완료 - key: {}, expiresAt: {}", response.key(), response.expiresAt());
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/presigned-upload/complete")
+    @Operation(summary = "서명된 URL 업로드 완료",
+            description = "S3에 업로드된 파일을 확인하고 이미지 정보를 등록합니다.")
+    public ResponseEntity<ImageResponse> completeUpload(
+            @Valid @RequestBody ImageUploadCompleteRequest request
+    ) {
+        log.info("서명된 URL 업로드 완료 요청 - key: {}", request.key());
+        ImageResponse response = imageService.completeUpload(request);
+        log.info("서명된 URL 업로드 완료 - imageId: {}, imageUrl: {}", response.id(), response.imageUrl());
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @GetMapping("/debug/s3")
     @Operation(summary = "S3 연결 확인 (디버그)", description = "S3 연결 및 권한을 간단히 체크합니다.")
     public ResponseEntity<String> checkS3() {
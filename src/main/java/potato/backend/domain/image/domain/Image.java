@@ -28,6 +28,9 @@ public class Image extends BaseEntity {
     @Column(nullable = false)
     private String imageUrl;
 
+    @Column(name = "position")
+    private Integer position; // 상품 내 표시 순서 (0부터, 상품에 연결되지 않은 이미지는 null)
+
     public static Image create(String imageUrl) {
         if (imageUrl == null || imageUrl.isBlank()) {
             throw new IllegalArgumentException("Image URL cannot be null or empty");
@@ -42,4 +45,11 @@ public class Image extends BaseEntity {
     public void setProduct(Product product) {
         this.product = product;
     }
+
+    // 표시 순서 변경 (같은 값이면 변경하지 않아 UPDATE가 발생하지 않음)
+    public void changePosition(int position) {
+        if (this.position == null || this.position != position) {
+            this.position = position;
+        }
+    }
 }
@@ -0,0 +1,20 @@
+package potato.backend.domain.image.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 서명된 업로드 URL 발급 요청
+ * 형식과 크기는 서명에 포함되므로 실제 업로드할 파일과 같아야 합니다.
+ */
+public record ImagePresignRequest(
+        @NotBlank(message = "파일명은 필수입니다")
+        String fileName,
+        @NotBlank(message = "파일 형식은 필수입니다")
+        String contentType,
+        @NotNull(message = "파일 크기는 필수입니다")
+        @Positive(message = "파일 크기는 0보다 커야 합니다")
+        Long contentLength
+) {
+}
@@ -0,0 +1,31 @@
+package potato.backend.domain.image.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import potato.backend.domain.storage.dto.PresignedUpload;
+
+/**
+ * 서명된 업로드 URL 발급 응답
+ * 클라이언트는 uploadUrl로 headers를 실어 PUT한 뒤, key로 업로드 완료를 요청합니다.
+ */
+public record ImagePresignResponse(
+        String key,
+        String uploadUrl,
+        String method,
+        Map<String, String> headers,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss'Z'", timezone = "UTC")
+        Instant expiresAt
+) {
+    public static ImagePresignResponse from(PresignedUpload upload) {
+        return new ImagePresignResponse(
+                upload.key(),
+                upload.uploadUrl(),
+                "PUT",
+                upload.headers(),
+                upload.expiresAt()
+        );
+    }
+}
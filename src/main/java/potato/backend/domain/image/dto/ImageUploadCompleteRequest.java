@@ -0,0 +1,12 @@
+package potato.backend.domain.image.dto;
+
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * 서명된 URL 업로드 완료 요청
+ */
+public record ImageUploadCompleteRequest(
+        @NotBlank(message = "업로드 key는 필수입니다")
+        String key
+) {
+}
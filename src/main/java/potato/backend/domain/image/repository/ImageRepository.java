@@ -66,6 +66,13 @@ public interface ImageRepository extends JpaRepository<Image, Long> {
     @Query("SELECT i FROM Image i WHERE i.imageUrl = :imageUrl")
     Optional<Image> findByImageUrl(@Param("imageUrl") String imageUrl);
     
+    /**
+     * 상품에 아직 연결되지 않은 이미지를 URL로 조회 (업로드 완료 재요청용)
+     * 이미지 url은 유일하지 않으므로(상품에 연결된 행, 동시 재요청으로 생긴 중복 행) 가장 먼저 저장된 한 건만 반환합니다.
+     * SQL: SELECT * FROM product_images WHERE `상품 이미지 url` = ? AND 상품아이디 IS NULL ORDER BY 상품이미지아이디 LIMIT 1
+     */
+    Optional<Image> findFirstByImageUrlAndProductIsNullOrderByIdAsc(String imageUrl);
+    
     /**
      * 상품의 이미지 개수 조회 (상품아이디)
      * SQL: SELECT COUNT(*) FROM product_images WHERE 상품아이디 = ?
@@ -10,7 +10,10 @@ import org.springframework.web.multipart.MultipartFile;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import potato.backend.domain.image.domain.Image;
+import potato.backend.domain.image.dto.ImagePresignRequest;
+import potato.backend.domain.image.dto.ImagePresignResponse;
 import potato.backend.domain.image.dto.ImageResponse;
+import potato.backend.domain.image.dto.ImageUploadCompleteRequest;
 import potato.backend.domain.image.exception.ImageNotFoundException;
 import potato.backend.domain.image.repository.ImageRepository;
 import potato.backend.domain.product.domain.Product;
@@ -95,13 +98,48 @@ public class ImageService {
         return ImageResponse.from(savedImage);
     }
     
+    /**
+     * 서명된 업로드 URL 발급
+     * 이미지 바이트는 서버를 거치지 않고 클라이언트에서 S3로 직접 업로드됩니다.
+     */
+    public ImagePresignResponse createUploadUrl(ImagePresignRequest request) {
+        log.info("서명된 업로드 URL 발급 시작 - 파일명: {}, 형식: {}, 크기: {} bytes",
+                request.fileName(), request.contentType(), request.contentLength());
+        
+        if (s3Service == null) {
+            throw new IllegalStateException("S3 서비스가 활성화되지 않았습니다. cloud.aws.s3.enabled=true로 설정해주세요.");
+        }
+        
+        return ImagePresignResponse.from(
+                s3Service.presignUpload(request.fileName(), request.contentType(), request.contentLength()));
+    }
+    
+    /**
+     * 서명된 URL 업로드 완료 처리
+     * S3에 올라간 객체를 검증한 뒤 이미지 정보를 저장합니다. 같은 key로 다시 요청하면 아직 상품에 연결되지 않은 기존 이미지를 반환합니다.
+     */
+    @Transactional
+    public ImageResponse completeUpload(ImageUploadCompleteRequest request) {
+        log.info("서명된 URL 업로드 완료 처리 시작 - key: {}", request.key());
+        
+        if (s3Service == null) {
+            throw new IllegalStateException("S3 서비스가 활성화되지 않았습니다. cloud.aws.s3.enabled=true로 설정해주세요.");
+        }
+        
+        String imageUrl = s3Service.verifyUploadedFile(request.key());
+        Image image = imageRepository.findFirstByImageUrlAndProductIsNullOrderByIdAsc(imageUrl)
+                .orElseGet(() -> imageRepository.save(Image.create(imageUrl)));
+        log.info("서명된 URL 업로드 완료 처리 완료 - imageId: {}, imageUrl: {}", image.getId(), imageUrl);
+        return ImageResponse.from(image);
+    }
+    
     /**
      * 상품의 모든 이미지 조회
      */
     public List<ImageResponse> getImagesByProduct(Long productId) {
         log.info("상품 이미지 조회 시작 - productId: {}", productId);
         
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findActiveById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다: " + productId));
         
         List<Image> images = imageRepository.findByProduct(product);
@@ -146,7 +184,7 @@ public class ImageService {
             throw new IllegalStateException("S3 서비스가 활성화되지 않았습니다. cloud.aws.s3.enabled=true로 설정해주세요.");
         }
         
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findActiveById(productId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다: " + productId));
         
         List<Image> images = imageRepository.findByProduct(product);
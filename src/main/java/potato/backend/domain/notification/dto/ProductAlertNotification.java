@@ -0,0 +1,13 @@
+package potato.backend.domain.notification.dto;
+
+import potato.backend.domain.user.domain.Member;
+
+/**
+ * 새 상품 알림 (저장된 검색 조건과 일치하는 상품 등록)
+ * @param recipient 수신자
+ * @param productId 상품 ID
+ * @param productTitle 상품 제목
+ * @param price 가격 (원)
+ */
+public record ProductAlertNotification(Member recipient, Long productId, String productTitle, long price) {
+}
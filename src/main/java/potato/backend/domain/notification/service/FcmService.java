@@ -1,16 +1,26 @@
 package potato.backend.domain.notification.service;
 
+import com.google.api.core.ApiFuture;
+import com.google.firebase.messaging.BatchResponse;
 import com.google.firebase.messaging.FirebaseMessaging;
 import com.google.firebase.messaging.FirebaseMessagingException;
 import com.google.firebase.messaging.Message;
 import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.MulticastMessage;
 import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import potato.backend.domain.notification.dto.ProductAlertNotification;
 import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.wishlist.dto.WishlistPushTarget;
 import potato.backend.domain.user.service.MemberService;
 
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.ExecutionException;
 
 /**
@@ -21,6 +31,9 @@ import java.util.concurrent.ExecutionException;
 @RequiredArgsConstructor
 public class FcmService {
 
+    // FCM 다건/멀티캐스트 전송 한 번에 보낼 수 있는 최대 메시지(토큰) 수
+    private static final int MAX_MESSAGES_PER_BATCH = 500;
+
     private final FirebaseMessaging firebaseMessaging;
     private final MemberService memberService;
 
@@ -97,6 +110,136 @@ public class FcmService {
         }
     }
 
+    /**
+     * 새 상품 알림 일괄 전송
+     * 푸시 알림이 비활성화되었거나 FCM 토큰이 없는 수신자는 제외하고, 최대 500건씩 다건 전송(sendEachAsync)합니다.
+     * 메시지별 실패 중 토큰 오류(INVALID_ARGUMENT, UNREGISTERED)는 토큰을 삭제합니다.
+     * @param notifications 수신자별 알림
+     * @return 전송 요청한 메시지 수
+     */
+    public int sendProductAlerts(List<ProductAlertNotification> notifications) {
+        List<ProductAlertNotification> deliverable = notifications.stream()
+                .filter(notification -> Boolean.TRUE.equals(notification.recipient().getPushNotificationEnabled()))
+                .filter(notification -> notification.recipient().getFcmToken() != null
+                        && !notification.recipient().getFcmToken().isEmpty())
+                .toList();
+
+        for (int from = 0; from < deliverable.size(); from += MAX_MESSAGES_PER_BATCH) {
+            List<ProductAlertNotification> batch =
+                    deliverable.subList(from, Math.min(from + MAX_MESSAGES_PER_BATCH, deliverable.size()));
+            List<Message> messages = new ArrayList<>(batch.size());
+            for (ProductAlertNotification notification : batch) {
+                messages.add(Message.builder()
+                        .setToken(notification.recipient().getFcmToken())
+                        .setNotification(Notification.builder()
+                                .setTitle("저장한 검색 조건에 맞는 상품이 등록되었어요")
+                                .setBody(truncateMessage(notification.productTitle(), 50) + " · "
+                                        + NumberFormat.getNumberInstance(Locale.KOREA).format(notification.price()) + "원")
+                                .build())
+                        // 클라이언트에서 알림 클릭 시 상품 상세로 이동할 수 있도록 데이터 추가
+                        .putData("type", "saved_search")
+                        .putData("productId", String.valueOf(notification.productId()))
+                        .build());
+            }
+
+            try {
+                ApiFuture<BatchResponse> future = firebaseMessaging.sendEachAsync(messages);
+                future.addListener(() -> handleBatchResponse(future, batch), Runnable::run);
+            } catch (Exception e) {
+                log.error("FCM 새 상품 알림 일괄 전송 중 예상치 못한 오류: messages={}", messages.size(), e);
+            }
+        }
+        return deliverable.size();
+    }
+
+    private void handleBatchResponse(ApiFuture<BatchResponse> future, List<ProductAlertNotification> batch) {
+        try {
+            BatchResponse response = future.get();
+            log.info("FCM 새 상품 알림 일괄 전송 완료: success={}, failure={}",
+                    response.getSuccessCount(), response.getFailureCount());
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < responses.size(); i++) {
+                FirebaseMessagingException exception = responses.get(i).getException();
+                if (exception == null) {
+                    continue;
+                }
+                Member recipient = batch.get(i).recipient();
+                MessagingErrorCode errorCode = exception.getMessagingErrorCode();
+                if (errorCode == MessagingErrorCode.INVALID_ARGUMENT ||
+                        errorCode == MessagingErrorCode.UNREGISTERED) {
+                    handleInvalidToken(recipient.getId(), recipient.getFcmToken());
+                } else {
+                    log.warn("FCM 새 상품 알림 전송 실패: recipientId={}, productId={}, error={}",
+                            recipient.getId(), batch.get(i).productId(), exception.getMessage());
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            log.warn("FCM 새 상품 알림 콜백 처리 중 인터럽트 발생: messages={}", batch.size(), ie);
+        } catch (ExecutionException ee) {
+            log.error("FCM 새 상품 알림 일괄 전송 실패(비동기): messages={}, error={}",
+                    batch.size(), ee.getMessage(), ee);
+        }
+    }
+
+    /**
+     * 가격 인하 알림 멀티캐스트 전송 (호출 스레드에서 완료까지 대기)
+     * 같은 내용을 최대 500개 토큰씩 나눠 보내며, 백그라운드 스레드에서 호출하는 것을 전제로 합니다.
+     * 토큰 오류(INVALID_ARGUMENT, UNREGISTERED)로 실패한 회원은 토큰을 삭제합니다.
+     * @param targets 푸시 알림 대상 (푸시 알림 활성화, 토큰 보유 회원)
+     * @param productId 상품 ID
+     * @param productTitle 상품 제목
+     * @param previousPrice 인하 전 가격 (원)
+     * @param price 인하 후 가격 (원)
+     * @return 전송 성공 수
+     */
+    public int sendPriceDropNotifications(List<WishlistPushTarget> targets, Long productId, String productTitle,
+                                          long previousPrice, long price) {
+        NumberFormat format = NumberFormat.getNumberInstance(Locale.KOREA);
+        Notification notification = Notification.builder()
+                .setTitle("찜한 상품의 가격이 내려갔어요")
+                .setBody(truncateMessage(productTitle, 50) + " · "
+                        + format.format(previousPrice) + "원 → " + format.format(price) + "원")
+                .build();
+
+        int success = 0;
+        for (int from = 0; from < targets.size(); from += MAX_MESSAGES_PER_BATCH) {
+            List<WishlistPushTarget> chunk =
+                    targets.subList(from, Math.min(from + MAX_MESSAGES_PER_BATCH, targets.size()));
+            MulticastMessage message = MulticastMessage.builder()
+                    .addAllTokens(chunk.stream().map(WishlistPushTarget::fcmToken).toList())
+                    .setNotification(notification)
+                    // 클라이언트에서 알림 클릭 시 상품 상세로 이동할 수 있도록 데이터 추가
+                    .putData("type", "price_drop")
+                    .putData("productId", String.valueOf(productId))
+                    .putData("price", String.valueOf(price))
+                    .build();
+            try {
+                BatchResponse response = firebaseMessaging.sendEachForMulticast(message);
+                success += response.getSuccessCount();
+                List<SendResponse> responses = response.getResponses();
+                for (int i = 0; i < responses.size(); i++) {
+                    FirebaseMessagingException exception = responses.get(i).getException();
+                    if (exception == null) {
+                        continue;
+                    }
+                    MessagingErrorCode errorCode = exception.getMessagingErrorCode();
+                    if (errorCode == MessagingErrorCode.INVALID_ARGUMENT ||
+                            errorCode == MessagingErrorCode.UNREGISTERED) {
+                        handleInvalidToken(chunk.get(i).memberId(), chunk.get(i).fcmToken());
+                    }
+                }
+            } catch (FirebaseMessagingException e) {
+                log.error("FCM 가격 인하 알림 전송 실패: productId={}, tokens={}, error={}",
+                        productId, chunk.size(), e.getMessage(), e);
+            } catch (Exception e) {
+                log.error("FCM 가격 인하 알림 전송 중 예상치 못한 오류: productId={}, tokens={}",
+                        productId, chunk.size(), e);
+            }
+        }
+        return success;
+    }
+
     /**
      * 메시지 내용을 지정된 길이로 잘라냄
      * @param message 원본 메시지
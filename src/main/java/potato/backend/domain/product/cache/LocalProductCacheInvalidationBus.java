@@ -0,0 +1,22 @@
+package potato.backend.domain.product.cache;
+
+import java.util.function.Consumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 노드용 무효화 전파 (전파할 다른 노드가 없음)
+ */
+@Component
+@ConditionalOnProperty(name = "product.cache.invalidation-bus", havingValue = "local", matchIfMissing = true)
+public class LocalProductCacheInvalidationBus implements ProductCacheInvalidationBus {
+
+    @Override
+    public void publish(Long productId) {
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+    }
+}
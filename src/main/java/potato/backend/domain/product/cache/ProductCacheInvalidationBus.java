@@ -0,0 +1,23 @@
+package potato.backend.domain.product.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 상품 캐시 무효화 메시지 전파 (노드 간)
+ * 상세 캐시 외에 검색/필터 색인도 구독해 전파된 상품을 DB에서 다시 읽어 반영합니다.
+ * product.cache.invalidation-bus 설정으로 구현을 선택합니다. (local: 단일 노드, redis: Redis Pub/Sub)
+ */
+public interface ProductCacheInvalidationBus {
+
+    /**
+     * 다른 노드에 무효화 전파 (자기 노드의 캐시는 호출 측에서 직접 무효화)
+     * @param productId 상품 ID
+     */
+    void publish(Long productId);
+
+    /**
+     * 다른 노드에서 전파된 무효화 수신
+     * @param listener 무효화할 상품 ID를 받는 리스너
+     */
+    void subscribe(Consumer<Long> listener);
+}
@@ -0,0 +1,144 @@
+package potato.backend.domain.product.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.product.dto.ProductResponse;
+import potato.backend.domain.product.event.ProductChangedEvent;
+
+/**
+ * 상품 상세 응답 캐시 (near-cache)
+ * 직렬화한 JSON과 ETag(상품 ID + 본문 해시)를 함께 보관해 캐시 적중 시 DB 조회와 직렬화를 모두 생략합니다.
+ * <ul>
+ *     <li>상품 수정/삭제/판매 완료 커밋 후 ProductChangedEvent로 즉시 무효화하고 다른 노드에도 전파</li>
+ *     <li>생성도 전파해 다른 노드의 검색/필터 색인이 새 상품을 반영하도록 함 (전파는 이 클래스에서 한 번만)</li>
+ *     <li>조회수/찜 수처럼 updatedAt을 바꾸지 않는 값은 TTL이 지나야 갱신</li>
+ *     <li>ETag는 본문에서 만들므로 이미지/카테고리만 바뀌어 updatedAt이 그대로여도 다시 읽은 응답의 ETag는 달라짐</li>
+ * </ul>
+ * 조회 도중 무효화가 일어나면 이전 값을 캐시에 넣지 않도록 무효화 세대(epoch)를 비교합니다.
+ */
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    private final Cache<Long, CachedProduct> cache;
+    private final ObjectMapper objectMapper;
+    private final ProductCacheInvalidationBus invalidationBus;
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+
+    public ProductDetailCache(ObjectMapper objectMapper,
+                              ProductCacheInvalidationBus invalidationBus,
+                              MeterRegistry meterRegistry,
+                              @Value("${product.cache.max-size:10000}") long maxSize,
+                              @Value("${product.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.invalidationBus = invalidationBus;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "product.detail");
+        invalidationBus.subscribe(this::invalidateLocal);
+    }
+
+    /**
+     * 캐시된 응답 조회 (없으면 null)
+     */
+    public CachedProduct get(Long productId) {
+        return cache.getIfPresent(productId);
+    }
+
+    /**
+     * 캐시된 응답 조회, 없으면 loader로 조회 후 캐시
+     * @param loader 상품 상세 조회 (없는 상품이면 예외를 그대로 전달)
+     */
+    public CachedProduct getOrLoad(Long productId, Supplier<ProductResponse> loader) {
+        CachedProduct cached = cache.getIfPresent(productId);
+        if (cached != null) {
+            return cached;
+        }
+        long epoch = invalidationEpoch.get();
+        ProductResponse product = loader.get();
+        byte[] body = serialize(product);
+        CachedProduct loaded = new CachedProduct(body, etagOf(productId, body));
+        if (invalidationEpoch.get() == epoch) {
+            cache.put(productId, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 상품 변경 커밋 후 무효화 (이 노드 + 다른 노드)
+     * 생성은 캐시된 값이 없어 이 노드에서는 무효화하지 않고 다른 노드의 색인 갱신을 위해 전파만 합니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.type() != ProductChangedEvent.Type.CREATED) {
+            invalidateLocal(event.productId());
+        }
+        invalidationBus.publish(event.productId());
+    }
+
+    void invalidateLocal(Long productId) {
+        invalidationEpoch.incrementAndGet();
+        cache.invalidate(productId);
+        log.debug("상품 상세 캐시 무효화 - productId: {}", productId);
+    }
+
+    private byte[] serialize(ProductResponse product) {
+        try {
+            return objectMapper.writeValueAsBytes(product);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상품 상세 응답 직렬화 실패 - productId: " + product.getProductId(), e);
+        }
+    }
+
+    private static String etagOf(Long productId, byte[] body) {
+        return "W/\"" + productId + "-" + Hashing.murmur3_128().hashBytes(body) + "\"";
+    }
+
+    /**
+     * 캐시된 상품 상세 응답
+     * @param body 직렬화한 JSON
+     * @param etag 약한 ETag (W/"상품ID-본문해시")
+     */
+    public record CachedProduct(byte[] body, String etag) {
+
+        /**
+         * If-None-Match 헤더와 ETag 비교 (약한 비교, 여러 값/와일드카드 허용)
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            String opaque = opaqueTag(etag);
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.equals("*") || opaqueTag(tag).equals(opaque)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private static String opaqueTag(String tag) {
+            return tag.startsWith("W/") ? tag.substring(2) : tag;
+        }
+    }
+}
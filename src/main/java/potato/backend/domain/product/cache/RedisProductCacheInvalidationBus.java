@@ -0,0 +1,73 @@
+package potato.backend.domain.product.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Pub/Sub 기반 무효화 전파
+ * 메시지는 "노드ID:상품ID" 형식이며 자기 노드가 보낸 메시지는 무시합니다.
+ * 전파에 실패해도 캐시 TTL이 지나면 다른 노드의 캐시도 갱신됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "product.cache.invalidation-bus", havingValue = "redis")
+public class RedisProductCacheInvalidationBus implements ProductCacheInvalidationBus, DisposableBean {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public RedisProductCacheInvalidationBus(RedisConnectionFactory connectionFactory,
+                                            StringRedisTemplate redisTemplate,
+                                            @Value("${product.cache.redis-channel:product:cache:invalidate}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.topic = new ChannelTopic(channel);
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.afterPropertiesSet();
+        this.listenerContainer.start();
+    }
+
+    @Override
+    public void publish(Long productId) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), nodeId + ":" + productId);
+        } catch (RuntimeException e) {
+            log.warn("상품 캐시 무효화 전파 실패 - productId: {}, message: {}", productId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            int separator = body.lastIndexOf(':');
+            if (separator < 0 || body.substring(0, separator).equals(nodeId)) {
+                return;
+            }
+            try {
+                listener.accept(Long.parseLong(body.substring(separator + 1)));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 상품 캐시 무효화 메시지 - body: {}", body);
+            }
+        }, topic);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        listenerContainer.destroy();
+    }
+}
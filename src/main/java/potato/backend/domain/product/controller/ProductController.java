@@ -1,17 +1,26 @@
 package potato.backend.domain.product.controller;
 
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -19,15 +28,30 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
 import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springdoc.core.annotations.ParameterObject;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.product.cache.ProductDetailCache;
+import potato.backend.domain.product.dto.ProductBulkImportResponse;
 import potato.backend.domain.product.dto.ProductCreateRequest;
+import potato.backend.domain.product.dto.ProductFeedResponse;
+import potato.backend.domain.product.dto.ProductFilterResponse;
 import potato.backend.domain.product.dto.ProductListResponse;
 import potato.backend.domain.product.dto.ProductResponse;
+import potato.backend.domain.product.dto.ProductSearchResponse;
+import potato.backend.domain.product.dto.ProductTrendingResponse;
 import potato.backend.domain.product.dto.ProductUpdateRequest;
+import potato.backend.domain.product.service.ProductBulkImportService;
+import potato.backend.domain.product.service.ProductFilterService;
+import potato.backend.domain.product.service.ProductSearchService;
 import potato.backend.domain.product.service.ProductService;
+import potato.backend.domain.product.service.ProductTrendingService;
+import potato.backend.domain.product.service.ProductViewCountService;
+import potato.backend.domain.wishlist.cache.WishlistMembershipCache;
+import potato.backend.global.security.oauth.UserInfo;
 
 @Tag(name = "Product", description = "상품 관리 API")
 @RestController
@@ -37,40 +61,173 @@ import potato.backend.domain.product.service.ProductService;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductSearchService productSearchService;
+    private final ProductFilterService productFilterService;
+    private final ProductViewCountService productViewCountService;
+    private final ProductDetailCache productDetailCache;
+    private final ProductBulkImportService productBulkImportService;
+    private final ProductTrendingService productTrendingService;
+    private final WishlistMembershipCache wishlistMembershipCache;
 
     /**
-     * 상품 목록 조회 (페이징)
+     * 상품 목록 조회 (페이징, 관리자용)
      */
     @Operation(
             summary = "상품 목록 조회",
-            description = "페이징된 상품 목록을 조회합니다. page/size/sort 파라미터를 쿼리스트링으로 전달하세요. 예) ?page=0&size=20&sort=price,asc&sort=createdAt,desc"
+            description = "페이징된 상품 목록을 조회합니다. page/size/sort 파라미터를 쿼리스트링으로 전달하세요. 예) ?page=0&size=20&sort=price,asc&sort=createdAt,desc "
+                    + "전체 개수와 OFFSET을 사용하므로 관리 화면용이며, 무한 스크롤은 /api/v1/products/feed 를 사용하세요."
     )
     @GetMapping
     public ResponseEntity<Page<ProductListResponse>> getProductList(
             @Parameter(description = "Pageable 쿼리 파라미터(page, size, sort=필드,방향)")
-            @PageableDefault(size = 20) @ParameterObject Pageable pageable
+            @PageableDefault(size = 20) @ParameterObject Pageable pageable,
+            @AuthenticationPrincipal UserInfo userInfo
     ) {
         log.info("상품 목록 조회 요청 - page: {}, size: {}, sort: {}", 
                 pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort());
         Page<ProductListResponse> products = productService.getProductList(pageable);
+        markWishlisted(userInfo, products.getContent());
         log.info("상품 목록 조회 완료 - 총 {}개 상품 중 {}개 조회", 
                 products.getTotalElements(), products.getNumberOfElements());
         return ResponseEntity.ok(products);
     }
 
+    /**
+     * 상품 피드 조회 (커서 기반 페이징)
+     */
+    @Operation(
+            summary = "상품 피드 조회",
+            description = "무한 스크롤용 상품 목록을 조회합니다. 전체 개수 없이 다음 페이지 여부와 next_cursor만 반환합니다. 다음 페이지는 같은 sort와 함께 next_cursor를 cursor로 전달하세요."
+    )
+    @GetMapping("/feed")
+    public ResponseEntity<ProductFeedResponse> getProductFeed(
+            @Parameter(description = "정렬 기준 (LATEST: 최신순(기본), PRICE_ASC: 가격 낮은순, PRICE_DESC: 가격 높은순)")
+            @RequestParam(required = false) String sort,
+            @Parameter(description = "이전 응답의 next_cursor (첫 페이지면 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserInfo userInfo
+    ) {
+        log.info("상품 피드 조회 요청 - sort: {}, size: {}, hasCursor: {}", sort, size, cursor != null);
+        ProductFeedResponse response = productService.getProductFeed(sort, cursor, size);
+        markWishlisted(userInfo, response.getProducts());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 상품 필터 조회 (항목별 개수 포함)
+     */
+    @Operation(
+            summary = "상품 필터 조회",
+            description = "카테고리, 상품 상태, 판매 상태, 가격 범위를 조합해 최신 등록순으로 조회하고 항목별 상품 수를 함께 반환합니다. 예) ?category=디지털&condition=NEW&minPrice=10000"
+    )
+    @GetMapping("/filter")
+    public ResponseEntity<ProductFilterResponse> filterProducts(
+            @Parameter(description = "카테고리 이름")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "상품 상태 (NEW, USED, REFURBISHED)")
+            @RequestParam(required = false) String condition,
+            @Parameter(description = "판매 상태 (SELLING, RESERVED, SOLD_OUT)")
+            @RequestParam(required = false) String status,
+            @Parameter(description = "최소 가격 (포함)")
+            @RequestParam(required = false) Long minPrice,
+            @Parameter(description = "최대 가격 (포함)")
+            @RequestParam(required = false) Long maxPrice,
+            @Parameter(description = "페이지 번호 (0부터)")
+            @RequestParam(required = false) Integer page,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserInfo userInfo
+    ) {
+        log.info("상품 필터 조회 요청 - category: {}, condition: {}, status: {}, minPrice: {}, maxPrice: {}, page: {}",
+                category, condition, status, minPrice, maxPrice, page);
+        ProductFilterResponse response = productFilterService.filter(category, condition, status, minPrice, maxPrice, page, size);
+        markWishlisted(userInfo, response.getProducts());
+        log.info("상품 필터 조회 완료 - totalHits: {}", response.getTotalHits());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 상품 검색 (커서 기반 페이징)
+     */
+    @Operation(
+            summary = "상품 검색",
+            description = "제목, 상세 설명, 카테고리 이름에서 검색어를 찾아 관련도 순으로 조회합니다. 다음 페이지는 응답의 next_cursor를 cursor로 전달하세요."
+    )
+    @GetMapping("/search")
+    public ResponseEntity<ProductSearchResponse> searchProducts(
+            @Parameter(description = "검색어", required = true)
+            @RequestParam String keyword,
+            @Parameter(description = "이전 응답의 next_cursor (첫 페이지면 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserInfo userInfo
+    ) {
+        log.info("상품 검색 요청 - keyword: {}, size: {}", keyword, size);
+        ProductSearchResponse response = productSearchService.search(keyword, cursor, size);
+        markWishlisted(userInfo, response.getProducts());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 인기 상품 조회
+     */
+    @Operation(
+            summary = "인기 상품 조회",
+            description = "최근 조회, 찜, 채팅 요청을 시간에 따라 감쇠해 합산한 인기 점수 높은순으로 조회합니다. category를 주면 해당 카테고리 안의 순위를 반환합니다."
+    )
+    @GetMapping("/trending")
+    public ResponseEntity<ProductTrendingResponse> getTrendingProducts(
+            @Parameter(description = "카테고리 이름 (생략하면 전체)")
+            @RequestParam(required = false) String category,
+            @Parameter(description = "개수 (기본 20, 최대 product.trending.capacity)")
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserInfo userInfo
+    ) {
+        log.info("인기 상품 조회 요청 - category: {}, size: {}", category, size);
+        ProductTrendingResponse response = productTrendingService.getTrending(category, size);
+        markWishlisted(userInfo, response.getProducts());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 상품 상세 조회
      */
-    @Operation(summary = "상품 상세 조회", description = "특정 상품의 상세 정보를 조회합니다.")
+    @Operation(summary = "상품 상세 조회",
+            description = "특정 상품의 상세 정보를 조회합니다. ETag를 If-None-Match로 보내면 변경이 없을 때 304를 반환합니다.")
+    @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = ProductResponse.class)))
+    @ApiResponse(responseCode = "304", description = "변경 없음")
     @GetMapping("/{productId}")
-    public ResponseEntity<ProductResponse> getProduct(
+    public ResponseEntity<byte[]> getProduct(
             @Parameter(description = "상품 ID", required = true)
-            @PathVariable Long productId
+            @PathVariable Long productId,
+            @Parameter(description = "이전 응답의 ETag")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @AuthenticationPrincipal UserInfo userInfo,
+            HttpServletRequest request
     ) {
         log.info("상품 상세 조회 요청 - productId: {}", productId);
-        ProductResponse product = productService.getProduct(productId);
-        log.info("상품 상세 조회 완료 - productId: {}, title: {}", productId, product.getTitle());
-        return ResponseEntity.ok(product);
+
+        // 캐시된 ETag와 일치하면 DB 조회 없이 304
+        ProductDetailCache.CachedProduct cached = productDetailCache.get(productId);
+        if (cached == null) {
+            cached = productDetailCache.getOrLoad(productId, () -> productService.getProduct(productId));
+        }
+        // 조회에 성공한(존재하는) 상품만 조회수에 집계하고, 중복 제외된 조회만 인기 점수에 반영
+        boolean counted = productViewCountService.recordView(productId, viewerKey(userInfo, request));
+        if (counted) {
+            productTrendingService.recordView(productId);
+        }
+        if (cached.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.etag()).build();
+        }
+        log.info("상품 상세 조회 완료 - productId: {}", productId);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(cached.etag())
+                .body(cached.body());
     }
 
     /**
@@ -99,6 +256,23 @@ public class ProductController {
         return ResponseEntity.status(HttpStatus.CREATED).body(product);
     }
 
+    /**
+     * 상품 대량 등록
+     */
+    @Operation(summary = "상품 대량 등록",
+            description = "NDJSON(한 줄에 상품 생성 요청 하나) 또는 CSV(헤더: member_id,title,category,content,main_image_url,images,price,status,condition, "
+                    + "category/images는 '|'로 구분)로 여러 상품을 등록합니다. 실패한 행은 줄 번호와 함께 보고하고 나머지 행은 등록합니다.")
+    @PostMapping(value = "/bulk", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<ProductBulkImportResponse> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            HttpServletRequest request
+    ) throws IOException {
+        ProductBulkImportService.Format format = ProductBulkImportService.Format.fromContentType(contentType);
+        log.info("상품 대량 등록 요청 - format: {}", format);
+        ProductBulkImportResponse response = productBulkImportService.importProducts(request.getInputStream(), format);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 상품 수정
      */
@@ -141,4 +315,26 @@ public class ProductController {
         log.info("상품 삭제 완료 - productId: {}", productId);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * 로그인 회원이면 목록의 찜 여부(is_wishlisted)를 채움 (페이지당 최대 한 번 IN 조회, 회원별 캐시)
+     */
+    private void markWishlisted(UserInfo userInfo, List<ProductListResponse> products) {
+        if (userInfo == null || products.isEmpty()) {
+            return;
+        }
+        Set<Long> wishlisted = wishlistMembershipCache.findWishlisted(userInfo.memberId(),
+                products.stream().map(ProductListResponse::getProductId).toList());
+        products.forEach(product -> product.markWishlisted(wishlisted.contains(product.getProductId())));
+    }
+
+    /**
+     * 조회수 중복 제거용 조회자 식별값 (로그인 회원은 회원 ID, 비로그인은 IP + User-Agent)
+     */
+    private String viewerKey(UserInfo userInfo, HttpServletRequest request) {
+        if (userInfo != null) {
+            return "m:" + userInfo.memberId();
+        }
+        return "a:" + request.getRemoteAddr() + "|" + request.getHeader("User-Agent");
+    }
 }
@@ -3,6 +3,7 @@ package potato.backend.domain.product.domain;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.Hibernate;
+import org.hibernate.annotations.SQLRestriction;
 import potato.backend.domain.category.domain.Category;
 import potato.backend.domain.common.domain.BaseEntity;
 import potato.backend.domain.image.domain.Image;
@@ -10,10 +11,33 @@ import potato.backend.domain.user.domain.Member;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Entity
+@Table(indexes = {
+        // 피드 키셋 페이징용: (created_at, id) 이후 행부터 인덱스 순서대로 읽음
+        @Index(name = "idx_product_created_at_id", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_product_price_id", columnList = "price, id"),
+        // 판매/구매 내역 키셋 페이징용: 회원별 (created_at, id) 순서
+        @Index(name = "idx_product_member_created_at_id", columnList = "member_id, created_at DESC, id DESC"),
+        @Index(name = "idx_product_buyer_created_at_id", columnList = "buyer_id, created_at DESC, id DESC"),
+        // 삭제된 상품 정리(ProductPurgeService)용
+        @Index(name = "idx_product_deleted_at", columnList = "deleted_at")
+})
+// 소프트 삭제된 상품은 모든 엔티티 조회/JPQL에서 제외 (연관관계 지연 로딩과 네이티브 SQL에는 적용되지 않음)
+@SQLRestriction("deleted_at IS NULL")
 @Getter
 @Builder(access = AccessLevel.PRIVATE)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -43,7 +67,7 @@ public class Product extends BaseEntity {
             joinColumns = @JoinColumn(name = "product_id"),
             inverseJoinColumns = @JoinColumn(name = "category_id")
     )
-    private List<Category> categories;
+    private Set<Category> categories; // Set: 수정 시 바뀐 연결 행만 INSERT/DELETE (List(bag)는 전체 삭제 후 재삽입)
 
     @Column(nullable = false)
     private String title;
@@ -56,6 +80,7 @@ public class Product extends BaseEntity {
     private String mainImageUrl;
 
     @OneToMany(mappedBy = "product", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OrderBy("position ASC, id ASC")
     @Builder.Default
     private List<Image> images = new java.util.ArrayList<>();
 
@@ -118,7 +143,7 @@ public class Product extends BaseEntity {
 
         Product product = Product.builder()
                 .member(member)
-                .categories(new java.util.ArrayList<>(categories))
+                .categories(new LinkedHashSet<>(categories))
                 .title(title)
                 .content(content)
                 .mainImageUrl(mainImageUrl)
@@ -127,15 +152,10 @@ public class Product extends BaseEntity {
                 .condition(condition)
                 .build();
 
-        // 이미지 URL 문자열로부터 Image 엔티티 생성 및 추가
-        List<Image> images = imageUrls.stream()
-                .map(imageUrl -> {
-                    Image image = Image.create(imageUrl);
-                    image.setProduct(product);
-                    return image;
-                })
-                .toList();
-        product.images.addAll(images);
+        // 이미지 URL 문자열로부터 Image 엔티티 생성 및 추가 (목록 순서를 position으로 저장)
+        for (int position = 0; position < imageUrls.size(); position++) {
+            product.images.add(product.newImage(imageUrls.get(position), position));
+        }
 
         return product;
     }
@@ -159,6 +179,12 @@ public class Product extends BaseEntity {
     }
 
     // == 비즈니스 메서드 ==
+
+    /**
+     * 상품 수정
+     * 이미지/카테고리는 연결 행만 바뀌어 product 행이 UPDATE 되지 않으므로, 바뀐 경우 updatedAt을 직접 갱신합니다.
+     * (검색/필터 색인의 주기적 보정이 updated_at 기준으로 변경분을 찾음)
+     */
     public void update(String title, String content, BigDecimal price, Status status, String mainImageUrl,
                        List<Category> categories, List<String> imageUrls) {
         if (title != null) {
@@ -179,23 +205,76 @@ public class Product extends BaseEntity {
         if (mainImageUrl != null) {
             this.mainImageUrl = mainImageUrl;
         }
+        boolean collectionsChanged = false;
         if (categories != null) {
-            this.categories.clear();
-            this.categories.addAll(categories);
+            collectionsChanged = updateCategories(categories);
         }
         if (imageUrls != null) {
-            this.images.clear();
-            List<Image> newImages = imageUrls.stream()
-                    .map(url -> {
-                        Image image = Image.create(url);
-                        image.setProduct(this);
-                        return image;
-                    })
-                    .toList();
-            this.images.addAll(newImages);
+            collectionsChanged |= updateImages(imageUrls);
+        }
+        if (collectionsChanged) {
+            touch();
         }
     }
 
+    /**
+     * 카테고리 ID 기준 차집합만 반영 (빠진 연결 행 DELETE, 새 연결 행 INSERT)
+     * @return 변경 여부
+     */
+    private boolean updateCategories(List<Category> categories) {
+        Set<Long> requestedIds = categories.stream().map(Category::getId).collect(Collectors.toSet());
+        boolean changed = this.categories.removeIf(category -> !requestedIds.contains(category.getId()));
+
+        Set<Long> currentIds = this.categories.stream().map(Category::getId).collect(Collectors.toSet());
+        for (Category category : categories) {
+            if (currentIds.add(category.getId())) {
+                this.categories.add(category);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * 이미지 URL 기준 차집합만 반영
+     * 유지되는 이미지는 위치가 바뀐 경우에만 position을 UPDATE 하고,
+     * 빠진 이미지는 orphanRemoval로 DELETE, 새 URL만 INSERT 합니다. (같은 URL이 여러 번 있으면 순서대로 짝지음)
+     * @return 변경 여부 (추가/삭제/순서 변경)
+     */
+    private boolean updateImages(List<String> imageUrls) {
+        List<String> before = this.images.stream().map(Image::getImageUrl).toList();
+        Map<String, Deque<Image>> existing = new HashMap<>();
+        for (Image image : this.images) {
+            existing.computeIfAbsent(image.getImageUrl(), url -> new ArrayDeque<>()).add(image);
+        }
+
+        Set<Image> kept = Collections.newSetFromMap(new IdentityHashMap<>());
+        List<Image> added = new ArrayList<>();
+        for (int position = 0; position < imageUrls.size(); position++) {
+            String url = imageUrls.get(position);
+            Deque<Image> candidates = existing.get(url);
+            Image image = candidates == null ? null : candidates.poll();
+            if (image == null) {
+                added.add(newImage(url, position));
+            } else {
+                image.changePosition(position);
+                kept.add(image);
+            }
+        }
+
+        this.images.removeIf(image -> !kept.contains(image));
+        this.images.addAll(added);
+        this.images.sort(Comparator.comparing(Image::getPosition));
+        return !before.equals(imageUrls);
+    }
+
+    private Image newImage(String imageUrl, int position) {
+        Image image = Image.create(imageUrl);
+        image.setProduct(this);
+        image.changePosition(position);
+        return image;
+    }
+
     // 거래 완료 처리 메서드 (구매자 설정 및 상태 변경)
     public void markAsSoldOut(Member buyer) {
         if (this.status == Status.SOLD_OUT) {
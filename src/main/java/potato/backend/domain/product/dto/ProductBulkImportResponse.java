@@ -0,0 +1,37 @@
+package potato.backend.domain.product.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ProductBulkImportResponse {
+    private int totalRows;
+    private int createdCount;
+    private int failedCount;
+    private List<Long> productIds;  // 생성된 상품 ID (요청 순서)
+    private List<RowError> errors;  // 실패한 행 (다른 행의 등록에는 영향 없음)
+
+    public static ProductBulkImportResponse of(int totalRows, List<Long> productIds, List<RowError> errors) {
+        ProductBulkImportResponse response = new ProductBulkImportResponse();
+        response.totalRows = totalRows;
+        response.createdCount = productIds.size();
+        response.failedCount = errors.size();
+        response.productIds = productIds;
+        response.errors = errors;
+        return response;
+    }
+
+    @Getter
+    public static class RowError {
+        private int line;       // 요청 본문의 줄 번호 (1부터)
+        private String message;
+
+        public static RowError of(int line, String message) {
+            RowError error = new RowError();
+            error.line = line;
+            error.message = message;
+            return error;
+        }
+    }
+}
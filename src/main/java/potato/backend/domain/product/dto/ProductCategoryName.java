@@ -0,0 +1,7 @@
+package potato.backend.domain.product.dto;
+
+/**
+ * 상품별 카테고리 이름 (목록 조회 시 상품 ID 목록으로 한 번에 조회)
+ */
+public record ProductCategoryName(Long productId, String categoryName) {
+}
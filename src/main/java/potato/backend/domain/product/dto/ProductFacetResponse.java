@@ -0,0 +1,63 @@
+package potato.backend.domain.product.dto;
+
+import lombok.Getter;
+import potato.backend.domain.product.search.ProductFacetIndex;
+
+import java.util.List;
+
+/**
+ * 필터 항목별 상품 수 (예: 디지털 (1,204))
+ * 각 항목의 개수는 그 항목을 제외한 나머지 필터 조건을 적용한 값입니다.
+ */
+@Getter
+public class ProductFacetResponse {
+    private List<FacetCount> categories;
+    private List<FacetCount> conditions;
+    private List<FacetCount> statuses;
+    private List<PriceRangeCount> priceRanges;
+
+    public static ProductFacetResponse from(ProductFacetIndex.Facets facets) {
+        ProductFacetResponse response = new ProductFacetResponse();
+        response.categories = facets.categories().entrySet().stream()
+                .map(entry -> FacetCount.of(entry.getKey(), entry.getValue()))
+                .toList();
+        response.conditions = facets.conditions().entrySet().stream()
+                .map(entry -> FacetCount.of(entry.getKey().name(), entry.getValue()))
+                .toList();
+        response.statuses = facets.statuses().entrySet().stream()
+                .map(entry -> FacetCount.of(entry.getKey().name(), entry.getValue()))
+                .toList();
+        response.priceRanges = facets.priceBuckets().stream()
+                .map(bucket -> PriceRangeCount.of(bucket.minPrice(), bucket.maxPrice(), bucket.count()))
+                .toList();
+        return response;
+    }
+
+    @Getter
+    public static class FacetCount {
+        private String value;
+        private int count;
+
+        public static FacetCount of(String value, int count) {
+            FacetCount facetCount = new FacetCount();
+            facetCount.value = value;
+            facetCount.count = count;
+            return facetCount;
+        }
+    }
+
+    @Getter
+    public static class PriceRangeCount {
+        private long minPrice;
+        private Long maxPrice;  // 마지막 구간은 null (상한 없음)
+        private int count;
+
+        public static PriceRangeCount of(long minPrice, Long maxPrice, int count) {
+            PriceRangeCount rangeCount = new PriceRangeCount();
+            rangeCount.minPrice = minPrice;
+            rangeCount.maxPrice = maxPrice;
+            rangeCount.count = count;
+            return rangeCount;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package potato.backend.domain.product.dto;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Locale;
+
+import potato.backend.global.exception.CustomException;
+import potato.backend.global.exception.ErrorCode;
+
+/**
+ * 상품 피드 커서 (마지막 행의 정렬 키)
+ * 클라이언트에는 "v1|정렬|정렬값|상품ID"를 base64url로 인코딩한 문자열로 전달하며,
+ * 정렬 기준이 다른 커서는 받지 않습니다.
+ * @param sort 정렬 기준
+ * @param createdAt 마지막 행의 등록 시각 (LATEST)
+ * @param price 마지막 행의 가격 (PRICE_ASC, PRICE_DESC)
+ * @param productId 마지막 행의 상품 ID
+ */
+public record ProductFeedCursor(Sort sort, Instant createdAt, BigDecimal price, Long productId) {
+
+    private static final String VERSION = "v1";
+
+    public enum Sort {
+        LATEST,     // created_at DESC, id DESC
+        PRICE_ASC,  // price ASC, id ASC
+        PRICE_DESC; // price DESC, id DESC
+
+        public static Sort from(String value) {
+            if (value == null || value.isBlank()) {
+                return LATEST;
+            }
+            try {
+                return Sort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new CustomException(ErrorCode.INVALID_ARGUMENT, "유효하지 않은 정렬 기준입니다: " + value);
+            }
+        }
+    }
+
+    public static ProductFeedCursor after(Sort sort, ProductListProjection last) {
+        return new ProductFeedCursor(sort, last.createdAt(), last.price(), last.productId());
+    }
+
+    public String encode() {
+        String key = sort == Sort.LATEST
+                ? createdAt.getEpochSecond() + "." + createdAt.getNano()
+                : price.toPlainString();
+        String raw = String.join("|", VERSION, sort.name(), key, String.valueOf(productId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석
+     * @param cursor 이전 응답의 next_cursor
+     * @param expectedSort 요청한 정렬 기준
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static ProductFeedCursor decode(String cursor, Sort expectedSort) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 4 || !VERSION.equals(parts[0]) || !expectedSort.name().equals(parts[1])) {
+                throw new IllegalArgumentException(cursor);
+            }
+            Long productId = Long.parseLong(parts[3]);
+            if (expectedSort == Sort.LATEST) {
+                String[] time = parts[2].split("\\.");
+                return new ProductFeedCursor(expectedSort,
+                        Instant.ofEpochSecond(Long.parseLong(time[0]), Long.parseLong(time[1])), null, productId);
+            }
+            return new ProductFeedCursor(expectedSort, null, new BigDecimal(parts[2]), productId);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT, "유효하지 않은 커서입니다");
+        }
+    }
+}
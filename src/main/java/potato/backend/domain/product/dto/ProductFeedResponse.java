@@ -0,0 +1,20 @@
+package potato.backend.domain.product.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ProductFeedResponse {
+    private List<ProductListResponse> products;
+    private boolean hasNext;
+    private String nextCursor;  // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+
+    public static ProductFeedResponse of(List<ProductListResponse> products, boolean hasNext, String nextCursor) {
+        ProductFeedResponse response = new ProductFeedResponse();
+        response.products = products;
+        response.hasNext = hasNext;
+        response.nextCursor = nextCursor;
+        return response;
+    }
+}
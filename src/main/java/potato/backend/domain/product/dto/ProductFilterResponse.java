@@ -0,0 +1,27 @@
+package potato.backend.domain.product.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ProductFilterResponse {
+    private List<ProductListResponse> products;  // 최신 등록순
+    private long totalHits;     // 필터 조건에 맞는 전체 상품 수
+    private int page;
+    private int size;
+    private boolean hasNext;
+    private ProductFacetResponse facets;
+
+    public static ProductFilterResponse of(List<ProductListResponse> products, long totalHits, int page, int size,
+                                           ProductFacetResponse facets) {
+        ProductFilterResponse response = new ProductFilterResponse();
+        response.products = products;
+        response.totalHits = totalHits;
+        response.page = page;
+        response.size = size;
+        response.hasNext = (long) (page + 1) * size < totalHits;
+        response.facets = facets;
+        return response;
+    }
+}
@@ -0,0 +1,38 @@
+package potato.backend.domain.product.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Status;
+
+/**
+ * 상품 목록 조회용 생성자 프로젝션 (엔티티/지연 로딩 없이 필요한 컬럼만 조회)
+ * @param totalCount 조건에 맞는 전체 상품 수 (count(*) over() 로 같은 쿼리에서 계산, 피드 조회에서는 null)
+ */
+public record ProductListProjection(
+        Long productId,
+        Long memberId,
+        String nickname,
+        String title,
+        Condition condition,
+        BigDecimal price,
+        String mainImageUrl,
+        Status status,
+        Long likeCount,
+        Long viewCount,
+        Instant createdAt,
+        Instant updatedAt,
+        Long totalCount
+) {
+
+    /**
+     * 전체 개수 없이 조회 (피드 키셋 페이징용)
+     */
+    public ProductListProjection(Long productId, Long memberId, String nickname, String title, Condition condition,
+                                 BigDecimal price, String mainImageUrl, Status status, Long likeCount, Long viewCount,
+                                 Instant createdAt, Instant updatedAt) {
+        this(productId, memberId, nickname, title, condition, price, mainImageUrl, status, likeCount, viewCount,
+                createdAt, updatedAt, null);
+    }
+}
@@ -23,6 +23,11 @@ public class ProductListResponse {
     private Long viewCount;
     private Instant createdAt;
     private Instant updatedAt;
+    private Boolean isWishlisted; // 로그인 회원의 찜 여부 (비로그인이면 null)
+
+    public void markWishlisted(boolean wishlisted) {
+        this.isWishlisted = wishlisted;
+    }
 
     public static ProductListResponse fromEntity(Product product) {
         ProductListResponse response = new ProductListResponse();
@@ -44,4 +49,22 @@ public class ProductListResponse {
         response.updatedAt = product.getUpdatedAt();
         return response;
     }
+
+    public static ProductListResponse from(ProductListProjection projection, List<String> categoryNames) {
+        ProductListResponse response = new ProductListResponse();
+        response.id = projection.memberId();
+        response.nickname = projection.nickname();
+        response.productId = projection.productId();
+        response.title = projection.title();
+        response.category = categoryNames;
+        response.condition = projection.condition().name();
+        response.price = projection.price().longValue();
+        response.mainImageUrl = projection.mainImageUrl();
+        response.status = projection.status().name();
+        response.likeCount = projection.likeCount();
+        response.viewCount = projection.viewCount();
+        response.createdAt = projection.createdAt();
+        response.updatedAt = projection.updatedAt();
+        return response;
+    }
 }
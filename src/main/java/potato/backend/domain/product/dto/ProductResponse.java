@@ -7,6 +7,7 @@ import potato.backend.domain.image.dto.ImageResponse;
 import potato.backend.domain.product.domain.Condition;
 import potato.backend.domain.product.domain.Product;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -30,7 +31,7 @@ public class ProductResponse {
         response.id = product.getMember().getId();
         response.nickname = product.getMember().getName();
         response.productId = product.getId();
-        response.categories = product.getCategories();
+        response.categories = new ArrayList<>(product.getCategories());
         response.title = product.getTitle();
         response.content = product.getCondition();
         response.price = product.getPrice().longValue();
@@ -0,0 +1,22 @@
+package potato.backend.domain.product.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ProductSearchResponse {
+    private List<ProductListResponse> products;
+    private long totalHits;     // 검색어와 일치하는 전체 상품 수
+    private boolean hasNext;
+    private String nextCursor;  // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+
+    public static ProductSearchResponse of(List<ProductListResponse> products, long totalHits, boolean hasNext, String nextCursor) {
+        ProductSearchResponse response = new ProductSearchResponse();
+        response.products = products;
+        response.totalHits = totalHits;
+        response.hasNext = hasNext;
+        response.nextCursor = nextCursor;
+        return response;
+    }
+}
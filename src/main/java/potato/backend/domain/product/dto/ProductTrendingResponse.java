@@ -0,0 +1,18 @@
+package potato.backend.domain.product.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class ProductTrendingResponse {
+    private String category;    // 전체 순위면 null
+    private List<ProductListResponse> products;  // 인기 점수 높은순
+
+    public static ProductTrendingResponse of(String category, List<ProductListResponse> products) {
+        ProductTrendingResponse response = new ProductTrendingResponse();
+        response.category = category;
+        response.products = products;
+        return response;
+    }
+}
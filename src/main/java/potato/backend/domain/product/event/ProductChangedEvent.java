@@ -0,0 +1,35 @@
+package potato.backend.domain.product.event;
+
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.search.ProductFacetDocument;
+import potato.backend.domain.product.search.ProductSearchDocument;
+
+/**
+ * 상품 생성/수정/삭제 이벤트
+ * 트랜잭션 안에서 발행하고, 구독자는 커밋 이후(AFTER_COMMIT)에 처리합니다.
+ * 커밋 이후에는 지연 로딩을 할 수 없으므로 필요한 정보는 발행 시점에 복사해 둡니다.
+ * @param productId 상품 ID
+ * @param type 변경 종류
+ * @param document 변경 후 검색 색인 정보 (삭제 시 null)
+ * @param facets 변경 후 필터 색인 정보 (삭제 시 null)
+ */
+public record ProductChangedEvent(Long productId, Type type, ProductSearchDocument document, ProductFacetDocument facets) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static ProductChangedEvent created(Product product) {
+        return new ProductChangedEvent(product.getId(), Type.CREATED,
+                ProductSearchDocument.from(product), ProductFacetDocument.from(product));
+    }
+
+    public static ProductChangedEvent updated(Product product) {
+        return new ProductChangedEvent(product.getId(), Type.UPDATED,
+                ProductSearchDocument.from(product), ProductFacetDocument.from(product));
+    }
+
+    public static ProductChangedEvent deleted(Long productId) {
+        return new ProductChangedEvent(productId, Type.DELETED, null, null);
+    }
+}
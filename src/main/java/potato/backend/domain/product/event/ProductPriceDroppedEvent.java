@@ -0,0 +1,12 @@
+package potato.backend.domain.product.event;
+
+/**
+ * 상품 가격 인하 이벤트
+ * 트랜잭션 안에서 발행하고, 구독자는 커밋 이후(AFTER_COMMIT)에 처리합니다.
+ * @param productId 상품 ID
+ * @param title 상품 제목
+ * @param previousPrice 인하 전 가격 (원)
+ * @param price 인하 후 가격 (원)
+ */
+public record ProductPriceDroppedEvent(Long productId, String title, long previousPrice, long price) {
+}
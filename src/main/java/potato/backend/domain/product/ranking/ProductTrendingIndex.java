@@ -0,0 +1,280 @@
+package potato.backend.domain.product.ranking;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인기 상품 순위 색인 (in-process)
+ * 조회/찜/채팅 이벤트마다 가중치를 지수 감쇠(반감기) 점수로 누적하고, 전체/카테고리별로 상위 K개만 정렬 상태로 유지합니다.
+ * <p>
+ * 점수는 기준 시각(landmark)부터의 forward decay 값(weight * e^(λ(t - landmark)))으로 저장하므로
+ * 시간이 흘러도 저장된 점수를 다시 계산할 필요가 없고, 점수는 증가만 하여 상위 K에 없던 상품은
+ * 자기 점수가 오를 때만 진입합니다. 지수가 커지면(refresh) 모든 점수를 같은 비율로 줄여 기준 시각을 옮깁니다.
+ * <p>
+ * 카테고리를 아직 모르는 상품은 전체 순위에만 반영되고, {@link #unresolved()}로 조회해 {@link #assignCategories}로 채웁니다.
+ * 삭제된 상품이 빠진 자리는 다음 refresh 때 채워집니다.
+ */
+public class ProductTrendingIndex {
+
+    /**
+     * 전체 순위 키
+     */
+    public static final String ALL = "";
+
+    private static final double REBASE_EXPONENT = 50.0;
+
+    private final double lambda;    // 밀리초당 감쇠율 (ln2 / 반감기)
+    private final int capacity;
+    private final double minScore;  // refresh 시 이 값보다 작아진 상품은 제거 (현재 시각 기준 점수)
+    private final Map<Long, Tracked> tracked = new HashMap<>();
+    private final Map<String, Board> boards = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long landmark;
+
+    /**
+     * @param halfLife 점수 반감기
+     * @param capacity 순위별로 유지할 상품 수 (K)
+     * @param minScore 추적을 멈출 최소 점수
+     * @param nowMillis 현재 시각 (기준 시각)
+     */
+    public ProductTrendingIndex(Duration halfLife, int capacity, double minScore, long nowMillis) {
+        if (halfLife.isZero() || halfLife.isNegative() || capacity < 1) {
+            throw new IllegalArgumentException("반감기와 capacity는 0보다 커야 합니다");
+        }
+        this.lambda = Math.log(2) / halfLife.toMillis();
+        this.capacity = capacity;
+        this.minScore = minScore;
+        this.landmark = nowMillis;
+        boards.put(ALL, new Board());
+    }
+
+    /**
+     * 이벤트 반영
+     * @param productId 상품 ID
+     * @param weight 가중치 (0 이하는 무시)
+     * @param nowMillis 이벤트 시각
+     */
+    public void record(Long productId, double weight, long nowMillis) {
+        if (weight <= 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (lambda * (nowMillis - landmark) > REBASE_EXPONENT) {
+                rebase(nowMillis);
+            }
+            Tracked entry = tracked.computeIfAbsent(productId, id -> new Tracked());
+            entry.score += weight * Math.exp(lambda * (nowMillis - landmark));
+            offer(productId, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 카테고리 지정 (추적 중인 상품만, 카테고리가 바뀌면 이전 카테고리 순위에서 제거)
+     */
+    public void assignCategories(Long productId, List<String> categoryNames) {
+        lock.writeLock().lock();
+        try {
+            Tracked entry = tracked.get(productId);
+            if (entry == null) {
+                return;
+            }
+            if (entry.categories != null) {
+                for (String category : entry.categories) {
+                    Board board = boards.get(category);
+                    if (board != null) {
+                        board.remove(productId);
+                    }
+                }
+            }
+            entry.categories = List.copyOf(categoryNames);
+            offer(productId, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 제거 (삭제된 상품)
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            Tracked entry = tracked.remove(productId);
+            if (entry == null) {
+                return;
+            }
+            boards.get(ALL).remove(productId);
+            if (entry.categories != null) {
+                for (String category : entry.categories) {
+                    Board board = boards.get(category);
+                    if (board != null) {
+                        board.remove(productId);
+                    }
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 카테고리를 아직 모르는 추적 상품 ID
+     */
+    public List<Long> unresolved() {
+        lock.readLock().lock();
+        try {
+            List<Long> ids = new ArrayList<>();
+            tracked.forEach((id, entry) -> {
+                if (entry.categories == null) {
+                    ids.add(id);
+                }
+            });
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준 시각 이동, 점수가 작아진 상품 제거, 순위 재구성 (O(N log K))
+     */
+    public void refresh(long nowMillis) {
+        lock.writeLock().lock();
+        try {
+            rebase(nowMillis);
+            tracked.values().removeIf(entry -> entry.score < minScore);
+            boards.clear();
+            boards.put(ALL, new Board());
+            tracked.forEach(this::offer);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상위 상품 조회 (O(limit))
+     * @param category 카테고리 이름 ({@link #ALL}이면 전체)
+     * @param limit 최대 개수 (capacity를 넘으면 capacity까지)
+     * @param nowMillis 현재 시각 (점수 감쇠 기준)
+     * @return 점수 높은순 상품
+     */
+    public List<Ranked> top(String category, int limit, long nowMillis) {
+        lock.readLock().lock();
+        try {
+            Board board = boards.get(category);
+            if (board == null) {
+                return List.of();
+            }
+            double decay = Math.exp(-lambda * (nowMillis - landmark));
+            List<Ranked> result = new ArrayList<>(Math.min(limit, board.entries.size()));
+            Iterator<Ranked> iterator = board.entries.iterator();
+            while (iterator.hasNext() && result.size() < limit) {
+                Ranked ranked = iterator.next();
+                result.add(new Ranked(ranked.productId(), ranked.score() * decay));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 추적 중인 상품 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return tracked.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void rebase(long nowMillis) {
+        double factor = Math.exp(-lambda * (nowMillis - landmark));
+        tracked.values().forEach(entry -> entry.score *= factor);
+        boards.values().forEach(board -> board.scale(factor));
+        landmark = nowMillis;
+    }
+
+    private void offer(Long productId, Tracked entry) {
+        boards.get(ALL).offer(productId, entry.score, capacity);
+        if (entry.categories != null) {
+            for (String category : entry.categories) {
+                boards.computeIfAbsent(category, k -> new Board()).offer(productId, entry.score, capacity);
+            }
+        }
+    }
+
+    /**
+     * 순위 항목
+     * @param productId 상품 ID
+     * @param score 점수 (top 조회 결과는 현재 시각 기준 감쇠 점수)
+     */
+    public record Ranked(Long productId, double score) {
+    }
+
+    private static final class Tracked {
+        private double score;               // 기준 시각 기준 forward decay 점수
+        private List<String> categories;    // null이면 아직 모름
+    }
+
+    /**
+     * 상위 K개 순위 (점수 높은순, 같으면 ID 오름차순)
+     */
+    private static final class Board {
+        private static final Comparator<Ranked> ORDER = Comparator.comparingDouble(Ranked::score).reversed()
+                .thenComparing(Ranked::productId);
+
+        private TreeSet<Ranked> entries = new TreeSet<>(ORDER);
+        private final Map<Long, Ranked> members = new HashMap<>();
+
+        void offer(Long productId, double score, int capacity) {
+            Ranked previous = members.get(productId);
+            if (previous != null) {
+                entries.remove(previous);
+            } else if (entries.size() >= capacity) {
+                Ranked last = entries.last();
+                if (ORDER.compare(new Ranked(productId, score), last) >= 0) {
+                    return;
+                }
+                entries.pollLast();
+                members.remove(last.productId());
+            }
+            Ranked ranked = new Ranked(productId, score);
+            entries.add(ranked);
+            members.put(productId, ranked);
+        }
+
+        void remove(Long productId) {
+            Ranked previous = members.remove(productId);
+            if (previous != null) {
+                entries.remove(previous);
+            }
+        }
+
+        /**
+         * 같은 비율로 줄이므로 순서는 유지됩니다
+         */
+        void scale(double factor) {
+            Collection<Ranked> scaled = entries.stream()
+                    .map(ranked -> new Ranked(ranked.productId(), ranked.score() * factor))
+                    .toList();
+            entries = new TreeSet<>(ORDER);
+            entries.addAll(scaled);
+            members.clear();
+            scaled.forEach(ranked -> members.put(ranked.productId(), ranked));
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package potato.backend.domain.product.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -11,6 +13,8 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.dto.ProductCategoryName;
+import potato.backend.domain.product.dto.ProductListProjection;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -29,6 +33,114 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p ORDER BY p.createdAt DESC")
     Page<Product> findAllProducts(Pageable pageable);
     
+    /**
+     * 상품 목록 조회 (프로젝션) - 작성자 정보와 전체 개수를 한 번의 쿼리로 조회
+     * 전체 개수는 count(*) over() 로 각 행에 함께 담기므로 별도 count 쿼리가 필요 없습니다.
+     * SQL: SELECT p.*, m.name, COUNT(*) OVER () FROM product p JOIN member m ... ORDER BY ? LIMIT ? OFFSET ?
+     */
+    @Query("SELECT new potato.backend.domain.product.dto.ProductListProjection(" +
+           "p.id, m.id, m.name, p.title, p.condition, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt, count(*) over ()) " +
+           "FROM Product p JOIN p.member m")
+    List<ProductListProjection> findProductListPage(Pageable pageable);
+
+    /**
+     * 상품 피드 - 최신순 첫 페이지
+     * SQL: SELECT ... FROM product p JOIN member m ... ORDER BY created_at DESC, id DESC LIMIT ?
+     */
+    @Query("SELECT new potato.backend.domain.product.dto.ProductListProjection(" +
+           "p.id, m.id, m.name, p.title, p.condition, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Product p JOIN p.member m " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductListProjection> findFeedLatest(Pageable pageable);
+
+    /**
+     * 상품 피드 - 최신순 다음 페이지 (키셋: 마지막 행의 (created_at, id) 이후)
+     * SQL: ... WHERE (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT ?
+     */
+    @Query("SELECT new potato.backend.domain.product.dto.ProductListProjection(" +
+           "p.id, m.id, m.name, p.title, p.condition, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Product p JOIN p.member m " +
+           "WHERE (p.createdAt, p.id) < (:createdAt, :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductListProjection> findFeedLatestAfter(@Param("createdAt") java.time.Instant createdAt,
+                                                    @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 상품 피드 - 가격 낮은순 첫 페이지
+     * SQL: SELECT ... ORDER BY price ASC, id ASC LIMIT ?
+     */
+    @Query("SELECT new potato.backend.domain.product.dto.ProductListProjection(" +
+           "p.id, m.id, m.name, p.title, p.condition, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Product p JOIN p.member m " +
+           "ORDER BY p.price ASC, p.id ASC")
+    List<ProductListProjection> findFeedPriceAsc(Pageable pageable);
+
+    /**
+     * 상품 피드 - 가격 낮은순 다음 페이지 (키셋: 마지막 행의 (price, id) 이후)
+     * SQL: ... WHERE (price, id) > (?, ?) ORDER BY price ASC, id ASC LIMIT ?
+     */
+    @Query("SELECT new potato.backend.domain.product.dto.ProductListProjection(" +
+           "p.id, m.id, m.name, p.title, p.condition, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Product p JOIN p.member m " +
+           "WHERE (p.price, p.id) > (:price, :id) " +
+           "ORDER BY p.price ASC, p.id ASC")
+    List<ProductListProjection> findFeedPriceAscAfter(@Param("price") java.math.BigDecimal price,
+                                                      @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 상품 피드 - 가격 높은순 첫 페이지
+     * SQL: SELECT ... ORDER BY price DESC, id DESC LIMIT ?
+     */
+    @Query("SELECT new potato.backend.domain.product.dto.ProductListProjection(" +
+           "p.id, m.id, m.name, p.title, p.condition, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Product p JOIN p.member m " +
+           "ORDER BY p.price DESC, p.id DESC")
+    List<ProductListProjection> findFeedPriceDesc(Pageable pageable);
+
+    /**
+     * 상품 피드 - 가격 높은순 다음 페이지 (키셋: 마지막 행의 (price, id) 이후)
+     * SQL: ... WHERE (price, id) < (?, ?) ORDER BY price DESC, id DESC LIMIT ?
+     */
+    @Query("SELECT new potato.backend.domain.product.dto.ProductListProjection(" +
+           "p.id, m.id, m.name, p.title, p.condition, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Product p JOIN p.member m " +
+           "WHERE (p.price, p.id) < (:price, :id) " +
+           "ORDER BY p.price DESC, p.id DESC")
+    List<ProductListProjection> findFeedPriceDescAfter(@Param("price") java.math.BigDecimal price,
+                                                       @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 상품 ID 목록의 카테고리 이름 조회 (목록 조회 시 카테고리 일괄 로딩용)
+     * SQL: SELECT pc.product_id, c.category_name FROM product_categories pc JOIN category c ... WHERE pc.product_id IN (?, ...)
+     */
+    @Query("SELECT new potato.backend.domain.product.dto.ProductCategoryName(p.id, c.categoryName) " +
+           "FROM Product p JOIN p.categories c " +
+           "WHERE p.id IN :productIds")
+    List<ProductCategoryName> findCategoryNamesByProductIds(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 삭제되지 않은 상품 조회 (상품아이디)
+     * SQL: SELECT * FROM product WHERE 상품아이디 = ? AND deleted_at IS NULL
+     */
+    @Query("SELECT p FROM Product p WHERE p.id = :productId AND p.deletedAt IS NULL")
+    Optional<Product> findActiveById(@Param("productId") Long productId);
+
+    /**
+     * 상품 소프트 삭제 (이미지/위시리스트/채팅방은 ProductPurgeService가 나중에 정리)
+     * SQL: UPDATE product SET deleted_at = ? WHERE 상품아이디 = ? AND deleted_at IS NULL
+     * @return 삭제 처리한 행 수 (없거나 이미 삭제된 상품이면 0)
+     */
+    @Modifying
+    @Query("UPDATE Product p SET p.deletedAt = :deletedAt WHERE p.id = :productId AND p.deletedAt IS NULL")
+    int softDeleteById(@Param("productId") Long productId, @Param("deletedAt") java.time.Instant deletedAt);
+
     /**
      * 상품 삭제 (상품아이디)
      * SQL: DELETE FROM product WHERE 상품아이디 = ?
@@ -59,29 +171,56 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     Page<Product> findByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 
     /**
-     * 사용자별 상품 조회 (사용자아이디) - 리스트 반환 (판매내역 조회용)
-     * SQL: SELECT * FROM product WHERE 사용자아이디 = ? ORDER BY created_at DESC
-     * DISTINCT 사용: @ManyToMany 관계인 categories 때문에 중복 제거 필요
+     * 판매내역 첫 페이지 (최신순)
+     * SQL: SELECT ... FROM product p JOIN member m ... WHERE p.member_id = ? ORDER BY created_at DESC, id DESC LIMIT ?
      */
-    @Query("SELECT DISTINCT p FROM Product p " +
-           "JOIN FETCH p.member " +
-           "LEFT JOIN FETCH p.categories " +
-           "WHERE p.member.id = :memberId " +
-           "ORDER BY p.createdAt DESC")
-    java.util.List<Product> findByMemberIdWithDetails(@Param("memberId") Long memberId);
+    @Query("SELECT new potato.backend.domain.product.dto.ProductListProjection(" +
+           "p.id, m.id, m.name, p.title, p.condition, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Product p JOIN p.member m " +
+           "WHERE m.id = :memberId " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductListProjection> findSalesHistory(@Param("memberId") Long memberId, Pageable pageable);
 
     /**
-     * 구매자별 상품 조회 (구매내역 조회용)
-     * SQL: SELECT * FROM product WHERE buyer_id = ? ORDER BY created_at DESC
-     * DISTINCT 사용: @ManyToMany 관계인 categories 때문에 중복 제거 필요
+     * 판매내역 다음 페이지 (키셋: 마지막 행의 (created_at, id) 이후)
+     * SQL: ... WHERE p.member_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT ?
      */
-    @Query("SELECT DISTINCT p FROM Product p " +
-           "JOIN FETCH p.member " +
-           "JOIN FETCH p.buyer " +
-           "LEFT JOIN FETCH p.categories " +
+    @Query("SELECT new potato.backend.domain.product.dto.ProductListProjection(" +
+           "p.id, m.id, m.name, p.title, p.condition, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Product p JOIN p.member m " +
+           "WHERE m.id = :memberId AND (p.createdAt, p.id) < (:createdAt, :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductListProjection> findSalesHistoryAfter(@Param("memberId") Long memberId,
+                                                      @Param("createdAt") java.time.Instant createdAt,
+                                                      @Param("id") Long id, Pageable pageable);
+
+    /**
+     * 구매내역 첫 페이지 (최신순, 작성자는 판매자)
+     * SQL: SELECT ... FROM product p JOIN member m ... WHERE p.buyer_id = ? ORDER BY created_at DESC, id DESC LIMIT ?
+     */
+    @Query("SELECT new potato.backend.domain.product.dto.ProductListProjection(" +
+           "p.id, m.id, m.name, p.title, p.condition, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Product p JOIN p.member m " +
            "WHERE p.buyer.id = :buyerId " +
-           "ORDER BY p.createdAt DESC")
-    java.util.List<Product> findByBuyerIdWithDetails(@Param("buyerId") Long buyerId);
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductListProjection> findPurchaseHistory(@Param("buyerId") Long buyerId, Pageable pageable);
+
+    /**
+     * 구매내역 다음 페이지 (키셋: 마지막 행의 (created_at, id) 이후)
+     * SQL: ... WHERE p.buyer_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT ?
+     */
+    @Query("SELECT new potato.backend.domain.product.dto.ProductListProjection(" +
+           "p.id, m.id, m.name, p.title, p.condition, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Product p JOIN p.member m " +
+           "WHERE p.buyer.id = :buyerId AND (p.createdAt, p.id) < (:createdAt, :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProductListProjection> findPurchaseHistoryAfter(@Param("buyerId") Long buyerId,
+                                                         @Param("createdAt") java.time.Instant createdAt,
+                                                         @Param("id") Long id, Pageable pageable);
     
     /**
      * 상태별 상품 조회 (상태)
@@ -103,4 +242,35 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
      */
     @Query("SELECT p FROM Product p WHERE p.title LIKE %:keyword% ORDER BY p.createdAt DESC")
     Page<Product> searchByTitle(@Param("keyword") String keyword, Pageable pageable);
+
+    /**
+     * ID 목록으로 상품 조회 (작성자, 카테고리 함께 로딩) - 검색 결과 조회용
+     * SQL: SELECT * FROM product WHERE 상품아이디 IN (?, ...)
+     */
+    @Query("SELECT DISTINCT p FROM Product p " +
+           "JOIN FETCH p.member " +
+           "LEFT JOIN FETCH p.categories " +
+           "WHERE p.id IN :productIds")
+    List<Product> findAllByIdInWithDetails(@Param("productIds") Collection<Long> productIds);
+
+    /**
+     * lastId 이후 상품 ID를 순서대로 조회 (검색 색인 전체 재구성용)
+     * SQL: SELECT 상품아이디 FROM product WHERE 상품아이디 > ? ORDER BY 상품아이디 ASC LIMIT ?
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /**
+     * 특정 시각 이후 수정된 상품 ID 조회 (검색 스냅샷 복원 후, 검색/필터 색인 주기 보정의 변경분 반영용)
+     * SQL: SELECT 상품아이디 FROM product WHERE updated_at >= ?
+     */
+    @Query("SELECT p.id FROM Product p WHERE p.updatedAt >= :since")
+    List<Long> findIdsUpdatedSince(@Param("since") java.time.Instant since);
+
+    /**
+     * 전체 상품 ID 조회 (검색 스냅샷 복원 후, 검색/필터 색인 주기 보정의 삭제된 상품 정리용)
+     * SQL: SELECT 상품아이디 FROM product
+     */
+    @Query("SELECT p.id FROM Product p")
+    List<Long> findAllIds();
 }
@@ -0,0 +1,134 @@
+package potato.backend.domain.product.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 상품 검색용 n-gram 토크나이저
+ * 한글은 띄어쓰기/조사와 무관하게 부분 일치가 되도록 음절 bigram(+unigram)으로 쪼개고,
+ * 영문/숫자는 단어 단위로 자르되 접두어 검색이 되도록 edge n-gram을 색인합니다.
+ * <pre>
+ *     색인: "아이폰15 프로" → [아, 이, 폰, 아이, 이폰, 15, 프, 로, 프로]
+ *     검색: "아이폰"       → [아이, 이폰]
+ * </pre>
+ * 토큰화 규칙이 바뀌면 스냅샷을 다시 만들어야 하므로 VERSION을 올립니다.
+ */
+public final class KoreanNgramTokenizer {
+
+    public static final int VERSION = 1;
+
+    private static final int MIN_EDGE_GRAM = 2;
+    private static final int MAX_EDGE_GRAM = 20;
+
+    private KoreanNgramTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 추출 (중복 포함, 빈도 계산에 사용)
+     * @param text 원문
+     * @return 토큰 목록
+     */
+    public static List<String> tokenizeForIndex(String text) {
+        List<String> tokens = new ArrayList<>();
+        for (Run run : split(text)) {
+            if (run.hangul()) {
+                addUnigrams(run.text(), tokens);
+                addBigrams(run.text(), tokens);
+            } else {
+                addEdgeGrams(run.text(), tokens);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * 검색어 토큰 추출
+     * 한글은 2음절 이상이면 bigram만, 1음절이면 unigram을 사용하고 영문/숫자는 단어 그대로 사용합니다.
+     * @param query 검색어
+     * @return 중복이 제거된 토큰 목록
+     */
+    public static List<String> tokenizeForQuery(String query) {
+        List<String> tokens = new ArrayList<>();
+        for (Run run : split(query)) {
+            if (run.hangul() && run.text().length() > 1) {
+                addBigrams(run.text(), tokens);
+            } else {
+                tokens.add(truncate(run.text()));
+            }
+        }
+        return tokens.stream().distinct().toList();
+    }
+
+    private static void addUnigrams(String run, List<String> tokens) {
+        for (int i = 0; i < run.length(); i++) {
+            tokens.add(run.substring(i, i + 1));
+        }
+    }
+
+    private static void addBigrams(String run, List<String> tokens) {
+        for (int i = 0; i + 2 <= run.length(); i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+    }
+
+    private static void addEdgeGrams(String word, List<String> tokens) {
+        String truncated = truncate(word);
+        if (truncated.length() < MIN_EDGE_GRAM) {
+            tokens.add(truncated);
+            return;
+        }
+        for (int end = MIN_EDGE_GRAM; end <= truncated.length(); end++) {
+            tokens.add(truncated.substring(0, end));
+        }
+    }
+
+    private static String truncate(String word) {
+        return word.length() > MAX_EDGE_GRAM ? word.substring(0, MAX_EDGE_GRAM) : word;
+    }
+
+    /**
+     * 정규화(NFKC, 소문자) 후 한글 구간과 영문/숫자 구간으로 분리 (그 외 문자는 구분자)
+     */
+    private static List<Run> split(String text) {
+        List<Run> runs = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return runs;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder current = new StringBuilder();
+        Boolean currentHangul = null;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            boolean hangul = isHangulSyllable(c);
+            boolean wordChar = hangul || Character.isLetterOrDigit(c);
+
+            if (!wordChar || (currentHangul != null && currentHangul != hangul)) {
+                flush(current, currentHangul, runs);
+                currentHangul = null;
+            }
+            if (wordChar) {
+                current.append(c);
+                currentHangul = hangul;
+            }
+        }
+        flush(current, currentHangul, runs);
+        return runs;
+    }
+
+    private static void flush(StringBuilder current, Boolean hangul, List<Run> runs) {
+        if (!current.isEmpty()) {
+            runs.add(new Run(current.toString(), Boolean.TRUE.equals(hangul)));
+            current.setLength(0);
+        }
+    }
+
+    private static boolean isHangulSyllable(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private record Run(String text, boolean hangul) {
+    }
+}
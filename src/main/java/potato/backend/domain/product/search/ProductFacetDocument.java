@@ -0,0 +1,31 @@
+package potato.backend.domain.product.search;
+
+import java.util.List;
+
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+
+/**
+ * 필터 색인 대상 상품 정보
+ * @param productId 상품 ID
+ * @param categoryNames 카테고리 이름 목록
+ * @param condition 상품 상태
+ * @param status 판매 상태
+ * @param price 가격 (원)
+ */
+public record ProductFacetDocument(Long productId, List<String> categoryNames, Condition condition, Status status, long price) {
+
+    /**
+     * 영속성 컨텍스트 안에서 상품의 필터 정보를 복사 (카테고리 지연 로딩 포함)
+     */
+    public static ProductFacetDocument from(Product product) {
+        return new ProductFacetDocument(
+                product.getId(),
+                product.getCategories().stream().map(Category::getCategoryName).toList(),
+                product.getCondition(),
+                product.getStatus(),
+                product.getPrice().longValue());
+    }
+}
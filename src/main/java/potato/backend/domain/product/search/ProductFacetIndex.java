@@ -0,0 +1,298 @@
+package potato.backend.domain.product.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Status;
+
+/**
+ * 상품 필터 색인 (in-process)
+ * 카테고리, 상품 상태, 판매 상태, 가격 구간별로 상품 ID 압축 비트맵(RoaringBitmap)을 유지해
+ * 조건 조합과 항목별 개수("디지털 (1,204)")를 비트맵 교집합으로 계산합니다.
+ * 상품 ID는 32비트 정수로 저장합니다 (product_seq 값이 int 범위를 넘으면 색인할 수 없음).
+ */
+public class ProductFacetIndex {
+
+    /**
+     * 가격 구간 하한 (원). 마지막 구간은 상한이 없습니다.
+     */
+    static final long[] PRICE_BUCKET_BOUNDS = {0, 10_000, 30_000, 50_000, 100_000, 300_000, 500_000, 1_000_000};
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Map<String, RoaringBitmap> categories = new HashMap<>();
+    private final Map<Condition, RoaringBitmap> conditions = new EnumMap<>(Condition.class);
+    private final Map<Status, RoaringBitmap> statuses = new EnumMap<>(Status.class);
+    private final RoaringBitmap[] priceBuckets = new RoaringBitmap[PRICE_BUCKET_BOUNDS.length];
+    private final Map<Integer, ProductFacetDocument> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public ProductFacetIndex() {
+        for (Condition condition : Condition.values()) {
+            conditions.put(condition, new RoaringBitmap());
+        }
+        for (Status status : Status.values()) {
+            statuses.put(status, new RoaringBitmap());
+        }
+        for (int i = 0; i < priceBuckets.length; i++) {
+            priceBuckets[i] = new RoaringBitmap();
+        }
+    }
+
+    /**
+     * 상품 색인 추가/갱신 (기존 색인이 있으면 교체)
+     */
+    public void upsert(ProductFacetDocument document) {
+        int id = Math.toIntExact(document.productId());
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+            documents.put(id, document);
+            all.add(id);
+            document.categoryNames().forEach(name -> categories.computeIfAbsent(name, k -> new RoaringBitmap()).add(id));
+            conditions.get(document.condition()).add(id);
+            statuses.get(document.status()).add(id);
+            priceBuckets[bucketOf(document.price())].add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 색인 제거
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(Math.toIntExact(productId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 ID 목록에 없는 상품 색인 제거 (주기적 보정에서 그 사이 삭제된 상품 정리용)
+     * @param liveProductIds 현재 존재하는 상품 ID
+     * @return 제거한 상품 수
+     */
+    public int retainAll(Set<Long> liveProductIds) {
+        lock.writeLock().lock();
+        try {
+            List<Integer> stale = documents.keySet().stream()
+                    .filter(id -> !liveProductIds.contains(Integer.toUnsignedLong(id)))
+                    .toList();
+            stale.forEach(this::removeInternal);
+            return stale.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 전체 재구성 후 연속 구간을 run 컨테이너로 압축
+     */
+    public void optimize() {
+        lock.writeLock().lock();
+        try {
+            all.runOptimize();
+            categories.values().forEach(RoaringBitmap::runOptimize);
+            conditions.values().forEach(RoaringBitmap::runOptimize);
+            statuses.values().forEach(RoaringBitmap::runOptimize);
+            for (RoaringBitmap bucket : priceBuckets) {
+                bucket.runOptimize();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return all.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 조건에 맞는 상품 ID(최신 등록순)와 항목별 개수 조회
+     * 항목별 개수는 해당 항목을 제외한 나머지 조건을 적용한 값입니다.
+     * (예: 카테고리=디지털, 상태=NEW 일 때 카테고리 개수는 상태=NEW 인 상품의 카테고리별 개수)
+     * @param filter 필터 조건 (null인 항목은 조건 없음)
+     * @param offset 건너뛸 개수
+     * @param limit 조회 개수
+     * @return 필터 결과
+     */
+    public FacetResult query(FacetFilter filter, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap category = filter.category() == null ? null
+                    : categories.getOrDefault(filter.category(), new RoaringBitmap());
+            RoaringBitmap condition = filter.condition() == null ? null : conditions.get(filter.condition());
+            RoaringBitmap status = filter.status() == null ? null : statuses.get(filter.status());
+            RoaringBitmap price = filter.minPrice() == null && filter.maxPrice() == null ? null
+                    : priceRange(filter.minPrice(), filter.maxPrice());
+
+            RoaringBitmap matched = intersect(category, condition, status, price);
+            int total = matched.getCardinality();
+
+            // 상품 ID는 시퀀스로 증가하므로 ID 내림차순 = 최신 등록순, select로 필요한 위치만 조회
+            List<Long> productIds = new ArrayList<>(Math.max(0, Math.min(limit, total - offset)));
+            for (int i = offset; i < total && i - offset < limit; i++) {
+                productIds.add(Integer.toUnsignedLong(matched.select(total - 1 - i)));
+            }
+
+            Facets facets = new Facets(
+                    countCategories(intersect(condition, status, price)),
+                    countEnum(conditions, intersect(category, status, price)),
+                    countEnum(statuses, intersect(category, condition, price)),
+                    countPriceBuckets(intersect(category, condition, status)));
+            return new FacetResult(productIds, total, facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap priceRange(Long minPrice, Long maxPrice) {
+        long min = minPrice == null ? 0 : minPrice;
+        long max = maxPrice == null ? Long.MAX_VALUE : maxPrice;
+        RoaringBitmap result = new RoaringBitmap();
+        if (min > max) {
+            return result;
+        }
+        for (int i = bucketOf(min); i <= bucketOf(max); i++) {
+            long bucketMin = PRICE_BUCKET_BOUNDS[i];
+            long bucketMax = i + 1 < PRICE_BUCKET_BOUNDS.length ? PRICE_BUCKET_BOUNDS[i + 1] - 1 : Long.MAX_VALUE;
+            if (min <= bucketMin && bucketMax <= max) {
+                result.or(priceBuckets[i]);
+                continue;
+            }
+            // 구간 일부만 포함되면 해당 구간 상품의 실제 가격을 확인
+            priceBuckets[i].forEach((int id) -> {
+                long value = documents.get(id).price();
+                if (min <= value && value <= max) {
+                    result.add(id);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 조건 비트맵의 교집합 (null은 조건 없음, 모두 null이면 전체)
+     * 색인 비트맵을 그대로 돌려줄 수 있으므로 결과를 수정하지 않고 읽기 잠금 안에서만 사용합니다.
+     */
+    private RoaringBitmap intersect(RoaringBitmap... bitmaps) {
+        RoaringBitmap result = null;
+        for (RoaringBitmap bitmap : bitmaps) {
+            if (bitmap != null) {
+                result = result == null ? bitmap : RoaringBitmap.and(result, bitmap);
+            }
+        }
+        return result == null ? all : result;
+    }
+
+    private Map<String, Integer> countCategories(RoaringBitmap base) {
+        List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+        categories.forEach((name, bitmap) -> {
+            int count = RoaringBitmap.andCardinality(base, bitmap);
+            if (count > 0) {
+                counts.add(Map.entry(name, count));
+            }
+        });
+        counts.sort(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        counts.forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+
+    private <E extends Enum<E>> Map<E, Integer> countEnum(Map<E, RoaringBitmap> bitmaps, RoaringBitmap base) {
+        Map<E, Integer> result = new LinkedHashMap<>();
+        bitmaps.forEach((key, bitmap) -> result.put(key, RoaringBitmap.andCardinality(base, bitmap)));
+        return result;
+    }
+
+    private List<PriceBucketCount> countPriceBuckets(RoaringBitmap base) {
+        List<PriceBucketCount> result = new ArrayList<>(priceBuckets.length);
+        for (int i = 0; i < priceBuckets.length; i++) {
+            Long maxPrice = i + 1 < PRICE_BUCKET_BOUNDS.length ? PRICE_BUCKET_BOUNDS[i + 1] - 1 : null;
+            result.add(new PriceBucketCount(PRICE_BUCKET_BOUNDS[i], maxPrice,
+                    RoaringBitmap.andCardinality(base, priceBuckets[i])));
+        }
+        return result;
+    }
+
+    private void removeInternal(int id) {
+        ProductFacetDocument previous = documents.remove(id);
+        if (previous == null) {
+            return;
+        }
+        all.remove(id);
+        previous.categoryNames().forEach(name -> {
+            RoaringBitmap bitmap = categories.get(name);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    categories.remove(name);
+                }
+            }
+        });
+        conditions.get(previous.condition()).remove(id);
+        statuses.get(previous.status()).remove(id);
+        priceBuckets[bucketOf(previous.price())].remove(id);
+    }
+
+    private static int bucketOf(long price) {
+        for (int i = PRICE_BUCKET_BOUNDS.length - 1; i > 0; i--) {
+            if (price >= PRICE_BUCKET_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 필터 조건
+     * @param category 카테고리 이름
+     * @param condition 상품 상태
+     * @param status 판매 상태
+     * @param minPrice 최소 가격 (포함)
+     * @param maxPrice 최대 가격 (포함)
+     */
+    public record FacetFilter(String category, Condition condition, Status status, Long minPrice, Long maxPrice) {
+    }
+
+    /**
+     * @param productIds 현재 페이지 상품 ID (최신 등록순)
+     * @param totalHits 조건에 맞는 전체 상품 수
+     * @param facets 항목별 개수
+     */
+    public record FacetResult(List<Long> productIds, int totalHits, Facets facets) {
+    }
+
+    public record Facets(Map<String, Integer> categories,
+                         Map<Condition, Integer> conditions,
+                         Map<Status, Integer> statuses,
+                         List<PriceBucketCount> priceBuckets) {
+    }
+
+    /**
+     * @param minPrice 구간 최소 가격 (포함)
+     * @param maxPrice 구간 최대 가격 (포함, 마지막 구간은 null)
+     * @param count 상품 수
+     */
+    public record PriceBucketCount(long minPrice, Long maxPrice, int count) {
+    }
+}
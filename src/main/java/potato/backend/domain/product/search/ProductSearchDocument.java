@@ -0,0 +1,27 @@
+package potato.backend.domain.product.search;
+
+import java.util.List;
+
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.product.domain.Product;
+
+/**
+ * 검색 색인 대상 상품 정보
+ * @param productId 상품 ID
+ * @param title 제목
+ * @param content 상세 설명
+ * @param categoryNames 카테고리 이름 목록
+ */
+public record ProductSearchDocument(Long productId, String title, String content, List<String> categoryNames) {
+
+    /**
+     * 영속성 컨텍스트 안에서 상품의 색인 정보를 복사 (카테고리 지연 로딩 포함)
+     */
+    public static ProductSearchDocument from(Product product) {
+        return new ProductSearchDocument(
+                product.getId(),
+                product.getTitle(),
+                product.getContent(),
+                product.getCategories().stream().map(Category::getCategoryName).toList());
+    }
+}
@@ -0,0 +1,327 @@
+package potato.backend.domain.product.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 상품 역색인 (in-process)
+ * 토큰 → (상품 ID → 가중 빈도) 포스팅과 상품별 토큰 빈도를 메모리에 유지하고 BM25로 점수를 매깁니다.
+ * 필드별 가중치(제목 3, 카테고리 2, 본문 1)를 빈도에 곱해 하나의 필드처럼 계산합니다.
+ * 원문은 보관하지 않고 토큰 빈도만 유지하므로 스냅샷도 토큰 빈도만 저장합니다.
+ */
+public class ProductSearchIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x50534958; // "PSIX"
+    private static final int SNAPSHOT_FORMAT = 1;
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int CATEGORY_WEIGHT = 2;
+    private static final int CONTENT_WEIGHT = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 점수 내림차순, 같은 점수면 상품 ID 내림차순(최신 상품 우선)
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::score).reversed()
+            .thenComparing(Comparator.comparingLong(Hit::productId).reversed());
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedDocument> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicLong modifications = new AtomicLong();
+    private long totalLength;
+
+    /**
+     * 상품 색인 추가/갱신 (기존 색인이 있으면 교체)
+     */
+    public void upsert(ProductSearchDocument document) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        addTerms(frequencies, document.title(), TITLE_WEIGHT);
+        addTerms(frequencies, document.content(), CONTENT_WEIGHT);
+        if (document.categoryNames() != null) {
+            document.categoryNames().forEach(name -> addTerms(frequencies, name, CATEGORY_WEIGHT));
+        }
+        int length = frequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(document.productId());
+            putInternal(document.productId(), new IndexedDocument(frequencies, length));
+            modifications.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품 색인 제거
+     */
+    public void remove(Long productId) {
+        lock.writeLock().lock();
+        try {
+            if (removeInternal(productId)) {
+                modifications.incrementAndGet();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 주어진 ID 목록에 없는 상품 색인 제거 (스냅샷 복원 후 그 사이 삭제된 상품 정리용)
+     * @param liveProductIds 현재 존재하는 상품 ID
+     * @return 제거한 상품 수
+     */
+    public int retainAll(Set<Long> liveProductIds) {
+        lock.writeLock().lock();
+        try {
+            List<Long> stale = documents.keySet().stream()
+                    .filter(id -> !liveProductIds.contains(id))
+                    .toList();
+            stale.forEach(this::removeInternal);
+            if (!stale.isEmpty()) {
+                modifications.incrementAndGet();
+            }
+            return stale.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 변경 횟수 (스냅샷 필요 여부 판단용)
+     */
+    public long modifications() {
+        return modifications.get();
+    }
+
+    /**
+     * 검색
+     * 검색어의 모든 토큰을 포함하는 상품만 대상으로 BM25 점수 순으로 정렬합니다.
+     * @param query 검색어
+     * @param after 이전 페이지의 마지막 결과 (첫 페이지면 null)
+     * @param limit 조회 개수
+     * @return 검색 결과
+     */
+    public SearchResult search(String query, Hit after, int limit) {
+        List<String> terms = KoreanNgramTokenizer.tokenizeForQuery(query);
+        if (terms.isEmpty()) {
+            return new SearchResult(List.of(), 0, false);
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> termPostings = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    return new SearchResult(List.of(), 0, false);
+                }
+                termPostings.add(posting);
+            }
+            // 가장 짧은 포스팅부터 교집합을 구함
+            termPostings.sort(Comparator.comparingInt(Map::size));
+
+            int documentCount = documents.size();
+            double averageLength = documentCount == 0 ? 1 : (double) totalLength / documentCount;
+            double[] idf = new double[termPostings.size()];
+            for (int i = 0; i < idf.length; i++) {
+                int df = termPostings.get(i).size();
+                idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+            }
+
+            // 상위 limit + 1개만 유지 (다음 페이지 존재 여부 확인용)
+            PriorityQueue<Hit> top = new PriorityQueue<>(limit + 1, RANKING.reversed());
+            int totalHits = 0;
+            candidates:
+            for (Long productId : termPostings.get(0).keySet()) {
+                double score = 0;
+                double norm = K1 * (1 - B + B * documents.get(productId).length() / averageLength);
+                for (int i = 0; i < termPostings.size(); i++) {
+                    Integer tf = termPostings.get(i).get(productId);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    score += idf[i] * tf * (K1 + 1) / (tf + norm);
+                }
+                totalHits++;
+
+                Hit hit = new Hit(productId, score);
+                if (after != null && RANKING.compare(hit, after) <= 0) {
+                    continue;
+                }
+                top.offer(hit);
+                if (top.size() > limit + 1) {
+                    top.poll();
+                }
+            }
+
+            List<Hit> hits = new ArrayList<>(top);
+            hits.sort(RANKING);
+            boolean hasNext = hits.size() > limit;
+            return new SearchResult(hasNext ? hits.subList(0, limit) : hits, totalHits, hasNext);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 저장 (임시 파일에 쓴 뒤 원자적으로 교체)
+     * @param path 저장 경로
+     * @param snapshotAt 스냅샷 기준 시각 (복원 시 이 시각 이후 변경분만 DB에서 다시 색인)
+     */
+    public void writeSnapshot(Path path, Instant snapshotAt) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        lock.readLock().lock();
+        try (OutputStream file = Files.newOutputStream(temp);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new GZIPOutputStream(file)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_FORMAT);
+            out.writeInt(KoreanNgramTokenizer.VERSION);
+            out.writeLong(snapshotAt.toEpochMilli());
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, IndexedDocument> entry : documents.entrySet()) {
+                out.writeLong(entry.getKey());
+                Map<String, Integer> frequencies = entry.getValue().frequencies();
+                out.writeInt(frequencies.size());
+                for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 복원 (기존 색인을 교체)
+     * @param path 스냅샷 경로
+     * @return 스냅샷 기준 시각
+     * @throws IOException 파일 형식이나 토크나이저 버전이 맞지 않는 경우 포함
+     */
+    public Instant restoreSnapshot(Path path) throws IOException {
+        try (InputStream file = Files.newInputStream(path);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(new GZIPInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_FORMAT) {
+                throw new IOException("상품 검색 스냅샷 형식이 올바르지 않습니다: " + path);
+            }
+            int tokenizerVersion = in.readInt();
+            if (tokenizerVersion != KoreanNgramTokenizer.VERSION) {
+                throw new IOException("토크나이저 버전이 다른 스냅샷입니다: " + tokenizerVersion);
+            }
+            Instant snapshotAt = Instant.ofEpochMilli(in.readLong());
+
+            int documentCount = in.readInt();
+            Map<Long, IndexedDocument> restored = new HashMap<>(documentCount * 2);
+            for (int i = 0; i < documentCount; i++) {
+                long productId = in.readLong();
+                int termCount = in.readInt();
+                Map<String, Integer> frequencies = new HashMap<>(termCount * 2);
+                int length = 0;
+                for (int j = 0; j < termCount; j++) {
+                    String term = in.readUTF().intern();
+                    int tf = in.readInt();
+                    frequencies.put(term, tf);
+                    length += tf;
+                }
+                restored.put(productId, new IndexedDocument(frequencies, length));
+            }
+
+            lock.writeLock().lock();
+            try {
+                postings.clear();
+                documents.clear();
+                totalLength = 0;
+                restored.forEach(this::putInternal);
+                modifications.incrementAndGet();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return snapshotAt;
+        }
+    }
+
+    private void addTerms(Map<String, Integer> frequencies, String text, int weight) {
+        for (String token : KoreanNgramTokenizer.tokenizeForIndex(text)) {
+            frequencies.merge(token, weight, Integer::sum);
+        }
+    }
+
+    private void putInternal(Long productId, IndexedDocument document) {
+        documents.put(productId, document);
+        totalLength += document.length();
+        document.frequencies().forEach((term, tf) ->
+                postings.computeIfAbsent(term, k -> new HashMap<>()).put(productId, tf));
+    }
+
+    private boolean removeInternal(Long productId) {
+        IndexedDocument previous = documents.remove(productId);
+        if (previous == null) {
+            return false;
+        }
+        totalLength -= previous.length();
+        previous.frequencies().keySet().forEach(term -> {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(productId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        });
+        return true;
+    }
+
+    private record IndexedDocument(Map<String, Integer> frequencies, int length) {
+    }
+
+    /**
+     * 검색 결과 항목
+     * @param productId 상품 ID
+     * @param score BM25 점수
+     */
+    public record Hit(long productId, double score) {
+    }
+
+    /**
+     * @param hits 현재 페이지 결과 (점수 내림차순)
+     * @param totalHits 검색어와 일치하는 전체 상품 수
+     * @param hasNext 다음 페이지 존재 여부
+     */
+    public record SearchResult(List<Hit> hits, int totalHits, boolean hasNext) {
+    }
+}
@@ -0,0 +1,327 @@
+package potato.backend.domain.product.service;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.service.CategoryDictionary;
+import potato.backend.domain.image.domain.Image;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.dto.ProductBulkImportResponse;
+import potato.backend.domain.product.dto.ProductBulkImportResponse.RowError;
+import potato.backend.domain.product.dto.ProductCreateRequest;
+import potato.backend.domain.product.event.ProductChangedEvent;
+import potato.backend.domain.product.search.ProductFacetDocument;
+import potato.backend.domain.product.search.ProductSearchDocument;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.global.exception.CustomException;
+import potato.backend.global.exception.ErrorCode;
+
+/**
+ * 상품 대량 등록 (NDJSON/CSV)
+ * 요청 본문을 한 줄씩 읽으며 검증하고, batch-size 행마다 한 트랜잭션에서 JDBC 배치 INSERT로 저장합니다.
+ * <ul>
+ *     <li>카테고리는 배치마다 한 번 CategoryDictionary로 변환</li>
+ *     <li>상품/이미지 ID는 엔티티와 같은 시퀀스 생성기(product_seq/image_seq, 50개씩 할당)에서 발급</li>
+ *     <li>검증 실패 행과 저장에 실패한 배치의 행은 오류로 보고하고 나머지 행은 계속 등록</li>
+ *     <li>등록한 상품은 커밋 후 ProductChangedEvent로 검색/필터 색인에 반영</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class ProductBulkImportService {
+
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final String INSERT_PRODUCT_SQL =
+            "INSERT INTO product (id, member_id, title, content, main_image_url, price, status, condition, " +
+            "view_count, like_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, 0, ?, ?)";
+    private static final String INSERT_IMAGE_SQL =
+            "INSERT INTO image (id, product_id, image_url, position, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_PRODUCT_CATEGORY_SQL =
+            "INSERT INTO product_categories (product_id, category_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final MemberRepository memberRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final Counter createdCounter;
+    private final Counter failedCounter;
+
+    @Value("${product.bulk.batch-size:200}")
+    private int batchSize;
+
+    @Value("${product.bulk.max-rows:10000}")
+    private int maxRows;
+
+    public ProductBulkImportService(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    EntityManager entityManager,
+                                    MemberRepository memberRepository,
+                                    CategoryDictionary categoryDictionary,
+                                    ApplicationEventPublisher eventPublisher,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entityManager = entityManager;
+        this.memberRepository = memberRepository;
+        this.categoryDictionary = categoryDictionary;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.createdCounter = Counter.builder("product.bulk.created")
+                .description("대량 등록으로 생성된 상품 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("product.bulk.failed")
+                .description("대량 등록에서 실패한 행 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청 본문 형식
+     */
+    public enum Format {
+        NDJSON, CSV;
+
+        public static Format fromContentType(String contentType) {
+            if (contentType != null) {
+                String type = contentType.toLowerCase();
+                if (type.startsWith("application/x-ndjson") || type.startsWith("application/jsonl")) {
+                    return NDJSON;
+                }
+                if (type.startsWith("text/csv")) {
+                    return CSV;
+                }
+            }
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT,
+                    "지원하지 않는 형식입니다 (application/x-ndjson 또는 text/csv): " + contentType);
+        }
+    }
+
+    /**
+     * 대량 등록
+     * @param body 요청 본문 (UTF-8)
+     * @param format 본문 형식
+     * @return 행별 등록 결과
+     */
+    public ProductBulkImportResponse importProducts(InputStream body, Format format) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        ProductBulkRowReader rows = format == Format.CSV
+                ? ProductBulkRowReader.csv(reader)
+                : ProductBulkRowReader.ndjson(reader, objectMapper);
+
+        List<Long> productIds = new ArrayList<>();
+        List<RowError> errors = new ArrayList<>();
+        List<ValidRow> batch = new ArrayList<>(batchSize);
+        int totalRows = 0;
+
+        ProductBulkRowReader.Row row;
+        while ((row = rows.next()) != null) {
+            if (totalRows == maxRows) {
+                errors.add(RowError.of(row.line(), "한 번에 최대 " + maxRows + "개까지 등록할 수 있어 이후 행은 처리하지 않았습니다"));
+                break;
+            }
+            totalRows++;
+            if (row.error() != null) {
+                errors.add(RowError.of(row.line(), row.error()));
+            } else {
+                ValidRow valid = validate(row, errors);
+                if (valid != null) {
+                    batch.add(valid);
+                }
+            }
+            if (batch.size() >= batchSize) {
+                insertBatch(batch, productIds, errors);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insertBatch(batch, productIds, errors);
+        }
+
+        createdCounter.increment(productIds.size());
+        failedCounter.increment(errors.size());
+        log.info("상품 대량 등록 완료 - format: {}, rows: {}, created: {}, failed: {}",
+                format, totalRows, productIds.size(), errors.size());
+        return ProductBulkImportResponse.of(totalRows, productIds, errors);
+    }
+
+    private void insertBatch(List<ValidRow> batch, List<Long> productIds, List<RowError> errors) {
+        // 회원 존재 여부는 배치마다 한 번에 확인
+        Set<Long> existingMemberIds = new HashSet<>(memberRepository.findExistingIds(
+                batch.stream().map(valid -> valid.request().getMemberId()).collect(Collectors.toSet())));
+        List<ValidRow> insertable = new ArrayList<>(batch.size());
+        for (ValidRow valid : batch) {
+            if (existingMemberIds.contains(valid.request().getMemberId())) {
+                insertable.add(valid);
+            } else {
+                errors.add(RowError.of(valid.line(), "회원을 찾을 수 없습니다: " + valid.request().getMemberId()));
+            }
+        }
+        if (insertable.isEmpty()) {
+            return;
+        }
+
+        try {
+            productIds.addAll(transactionTemplate.execute(status -> insert(insertable)));
+        } catch (RuntimeException e) {
+            // 예외 메시지에는 SQL/제약 조건 이름이 담길 수 있으므로 응답에는 넣지 않고 로그로만 남김
+            log.warn("상품 대량 등록 배치 저장 실패 - rows: {}, lines: {}-{}", insertable.size(),
+                    insertable.get(0).line(), insertable.get(insertable.size() - 1).line(), e);
+            insertable.forEach(valid -> errors.add(RowError.of(valid.line(), "저장에 실패했습니다. 잠시 후 다시 시도해주세요")));
+        }
+    }
+
+    private List<Long> insert(List<ValidRow> rows) {
+        Map<String, Category> categories = categoryDictionary.resolve(rows.stream()
+                        .flatMap(valid -> valid.categoryNames().stream())
+                        .distinct()
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(Category::getCategoryName, Function.identity()));
+
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> productParams = new ArrayList<>(rows.size());
+        List<Object[]> imageParams = new ArrayList<>();
+        List<Object[]> categoryParams = new ArrayList<>();
+        List<Long> ids = new ArrayList<>(rows.size());
+
+        for (ValidRow valid : rows) {
+            ProductCreateRequest request = valid.request();
+            Long productId = nextId(Product.class);
+            ids.add(productId);
+            productParams.add(new Object[]{productId, request.getMemberId(), request.getTitle(), request.getContent(),
+                    request.getMainImageUrl(), BigDecimal.valueOf(request.getPrice()), valid.status().name(),
+                    valid.condition().name(), now, now});
+            List<String> imageUrls = request.getImages();
+            for (int position = 0; position < imageUrls.size(); position++) {
+                imageParams.add(new Object[]{nextId(Image.class), productId, imageUrls.get(position), position, now, now});
+            }
+            for (String categoryName : valid.categoryNames()) {
+                categoryParams.add(new Object[]{productId, categories.get(categoryName).getId()});
+            }
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_SQL, productParams);
+        jdbcTemplate.batchUpdate(INSERT_IMAGE_SQL, imageParams);
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT_CATEGORY_SQL, categoryParams);
+
+        for (int i = 0; i < rows.size(); i++) {
+            ValidRow valid = rows.get(i);
+            Long productId = ids.get(i);
+            ProductCreateRequest request = valid.request();
+            eventPublisher.publishEvent(new ProductChangedEvent(productId, ProductChangedEvent.Type.CREATED,
+                    new ProductSearchDocument(productId, request.getTitle(), request.getContent(), valid.categoryNames()),
+                    new ProductFacetDocument(productId, valid.categoryNames(), valid.condition(), valid.status(),
+                            request.getPrice())));
+        }
+        return ids;
+    }
+
+    /**
+     * 엔티티 저장과 같은 시퀀스 생성기(pooled optimizer)에서 ID 발급
+     */
+    private Long nextId(Class<?> entityType) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        IdentifierGenerator generator = (IdentifierGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(entityType)
+                .getGenerator();
+        return (Long) generator.generate(session, null);
+    }
+
+    /**
+     * 상품 생성(ProductService.createProduct)과 같은 규칙으로 검증
+     * @return 유효한 행 (오류면 errors에 추가하고 null)
+     */
+    private ValidRow validate(ProductBulkRowReader.Row row, List<RowError> errors) {
+        ProductCreateRequest request = row.request();
+        String error = null;
+        List<String> categoryNames = request.getCategory() == null ? List.of() : request.getCategory().stream()
+                .filter(name -> name != null)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .toList();
+        Status status = parseEnum(Status.class, request.getStatus());
+        Condition condition = parseEnum(Condition.class, request.getCondition());
+
+        if (request.getMemberId() == null) {
+            error = "member_id는 필수입니다";
+        } else if (isBlankOrTooLong(request.getTitle())) {
+            error = "title은 1~" + MAX_TEXT_LENGTH + "자여야 합니다";
+        } else if (request.getContent() == null || request.getContent().isBlank()) {
+            error = "content는 필수입니다";
+        } else if (categoryNames.isEmpty()) {
+            error = "유효한 카테고리명이 최소 1개 이상이어야 합니다";
+        } else if (categoryNames.stream().anyMatch(name -> name.length() > MAX_TEXT_LENGTH)) {
+            error = "카테고리명은 " + MAX_TEXT_LENGTH + "자 이하여야 합니다";
+        } else if (isBlankOrTooLong(request.getMainImageUrl())) {
+            error = "main_image_url은 1~" + MAX_TEXT_LENGTH + "자여야 합니다";
+        } else if (request.getImages() == null || request.getImages().isEmpty()
+                || request.getImages().stream().anyMatch(ProductBulkImportService::isBlankOrTooLong)) {
+            error = "images는 1개 이상, 각 1~" + MAX_TEXT_LENGTH + "자여야 합니다";
+        } else if (request.getPrice() == null || request.getPrice() < 0) {
+            error = "price는 0 이상이어야 합니다";
+        } else if (status == null) {
+            error = "유효하지 않은 status입니다: " + request.getStatus();
+        } else if (condition == null) {
+            error = "유효하지 않은 condition입니다: " + request.getCondition();
+        }
+
+        if (error != null) {
+            errors.add(RowError.of(row.line(), error));
+            return null;
+        }
+        return new ValidRow(row.line(), request, categoryNames, status, condition);
+    }
+
+    private static boolean isBlankOrTooLong(String value) {
+        return value == null || value.isBlank() || value.length() > MAX_TEXT_LENGTH;
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record ValidRow(int line, ProductCreateRequest request, List<String> categoryNames,
+                            Status status, Condition condition) {
+    }
+}
@@ -0,0 +1,175 @@
+package potato.backend.domain.product.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import potato.backend.domain.product.dto.ProductCreateRequest;
+
+/**
+ * 대량 등록 요청 본문을 한 줄씩 읽어 상품 생성 요청으로 변환 (본문 전체를 메모리에 올리지 않음)
+ * <ul>
+ *     <li>NDJSON: 한 줄에 상품 생성 요청 JSON 하나 (POST /api/v1/products 본문과 같은 형식)</li>
+ *     <li>CSV: 첫 줄은 헤더 (member_id,title,category,content,main_image_url,images,price,status,condition),
+ *     category/images는 '|'로 구분, 따옴표 안의 쉼표 허용 (따옴표 안 줄바꿈은 지원하지 않음)</li>
+ * </ul>
+ * 빈 줄은 건너뛰고, 형식 오류는 예외 대신 오류 행으로 반환합니다.
+ */
+abstract class ProductBulkRowReader {
+
+    private static final String MULTI_VALUE_SEPARATOR = "\\|";
+
+    private final BufferedReader reader;
+    private int lineNumber;
+
+    private ProductBulkRowReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    static ProductBulkRowReader ndjson(BufferedReader reader, ObjectMapper objectMapper) {
+        return new ProductBulkRowReader(reader) {
+            @Override
+            Row parse(int line, String text) {
+                try {
+                    ProductCreateRequest request = objectMapper.readValue(text, ProductCreateRequest.class);
+                    if (request == null) {
+                        return Row.invalid(line, "JSON 형식 오류: 행은 JSON 객체여야 합니다");
+                    }
+                    return Row.valid(line, request);
+                } catch (JsonProcessingException e) {
+                    return Row.invalid(line, "JSON 형식 오류: " + e.getOriginalMessage());
+                }
+            }
+        };
+    }
+
+    static ProductBulkRowReader csv(BufferedReader reader) {
+        return new ProductBulkRowReader(reader) {
+            private Map<String, Integer> header;
+
+            @Override
+            Row parse(int line, String text) {
+                List<String> fields = splitCsvLine(text);
+                if (header == null) {
+                    header = new HashMap<>();
+                    for (int i = 0; i < fields.size(); i++) {
+                        header.put(fields.get(i).trim().toLowerCase(), i);
+                    }
+                    return null;
+                }
+                try {
+                    String price = field(fields, "price");
+                    String memberId = field(fields, "member_id");
+                    return Row.valid(line, ProductCreateRequest.of(
+                            memberId == null ? null : Long.valueOf(memberId),
+                            field(fields, "title"),
+                            multiValue(field(fields, "category")),
+                            field(fields, "content"),
+                            field(fields, "main_image_url"),
+                            multiValue(field(fields, "images")),
+                            price == null ? null : Long.valueOf(price),
+                            field(fields, "status"),
+                            field(fields, "condition")));
+                } catch (NumberFormatException e) {
+                    return Row.invalid(line, "숫자 형식 오류: " + e.getMessage());
+                }
+            }
+
+            private String field(List<String> fields, String name) {
+                Integer index = header.get(name);
+                if (index == null || index >= fields.size()) {
+                    return null;
+                }
+                String value = fields.get(index).trim();
+                return value.isEmpty() ? null : value;
+            }
+        };
+    }
+
+    /**
+     * 다음 행 (본문 끝이면 null)
+     */
+    Row next() {
+        try {
+            String text;
+            while ((text = reader.readLine()) != null) {
+                lineNumber++;
+                if (text.isBlank()) {
+                    continue;
+                }
+                Row row = parse(lineNumber, text);
+                if (row != null) {
+                    return row;
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return 변환된 행 (헤더처럼 건너뛸 줄이면 null)
+     */
+    abstract Row parse(int line, String text);
+
+    private static List<String> multiValue(String value) {
+        if (value == null) {
+            return null;
+        }
+        return Arrays.stream(value.split(MULTI_VALUE_SEPARATOR)).map(String::trim).toList();
+    }
+
+    static List<String> splitCsvLine(String text) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    /**
+     * 읽은 행
+     * @param line 본문에서의 줄 번호 (1부터)
+     * @param request 상품 생성 요청 (형식 오류면 null)
+     * @param error 형식 오류 메시지
+     */
+    record Row(int line, ProductCreateRequest request, String error) {
+
+        static Row valid(int line, ProductCreateRequest request) {
+            return new Row(line, request, null);
+        }
+
+        static Row invalid(int line, String error) {
+            return new Row(line, null, error);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package potato.backend.domain.product.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 상품 카운터 컬럼 증가분 버퍼 (write-behind)
+ * 상품별 LongAdder에 증가분을 누적하고 flush 시 한 번의 JDBC 배치 UPDATE로 반영합니다.
+ * 카운터는 지우지 않고 반영한 누적값(flushed)만 기록하므로, 반영 중에 들어온 증가분은 다음 반영에 포함됩니다.
+ */
+class ProductCounterBuffer {
+
+    private static final int EVICT_AFTER_IDLE_FLUSHES = 10;
+
+    private final String updateSql; // 파라미터 순서: (증가분, 상품 ID)
+    private final Map<Long, Slot> slots = new ConcurrentHashMap<>();
+
+    ProductCounterBuffer(String updateSql) {
+        this.updateSql = updateSql;
+    }
+
+    void add(Long productId, long delta) {
+        slots.computeIfAbsent(productId, id -> new Slot()).total.add(delta);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분
+     */
+    long pending(Long productId) {
+        Slot slot = slots.get(productId);
+        return slot == null ? 0 : slot.total.sum() - slot.flushed;
+    }
+
+    int size() {
+        return slots.size();
+    }
+
+    /**
+     * 누적된 증가분 반영
+     * @return 반영한 상품 수
+     * @throws RuntimeException 반영 실패 시 (증가분은 유지되어 다음 반영 때 재시도)
+     */
+    synchronized int flush(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        List<PendingDelta> deltas = new ArrayList<>();
+        slots.forEach((productId, slot) -> {
+            long total = slot.total.sum();
+            long delta = total - slot.flushed;
+            if (delta != 0) {
+                deltas.add(new PendingDelta(productId, slot, total, delta));
+                slot.idleFlushes = 0;
+            } else if (++slot.idleFlushes >= EVICT_AFTER_IDLE_FLUSHES) {
+                // 오래 변경이 없던 상품은 메모리에서 제거 (제거 직전 들어온 증가분은 유실될 수 있음)
+                slots.remove(productId, slot);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        // 여러 노드가 동시에 반영할 때 행 락 순서를 맞추기 위해 ID 순으로 정렬
+        deltas.sort(Comparator.comparingLong(PendingDelta::productId));
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(updateSql,
+                deltas.stream().map(delta -> new Object[]{delta.delta(), delta.productId()}).toList()));
+
+        deltas.forEach(delta -> delta.slot().flushed = delta.total());
+        return deltas.size();
+    }
+
+    private static final class Slot {
+        private final LongAdder total = new LongAdder();
+        private volatile long flushed;  // DB에 반영한 누적값 (flush 스레드만 변경)
+        private int idleFlushes;        // 연속으로 증가분이 없던 반영 횟수
+    }
+
+    private record PendingDelta(Long productId, Slot slot, long total, long delta) {
+    }
+}
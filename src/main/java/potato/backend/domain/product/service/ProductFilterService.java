@@ -0,0 +1,237 @@
+package potato.backend.domain.product.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.product.cache.ProductCacheInvalidationBus;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.dto.ProductFacetResponse;
+import potato.backend.domain.product.dto.ProductFilterResponse;
+import potato.backend.domain.product.dto.ProductListResponse;
+import potato.backend.domain.product.event.ProductChangedEvent;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.product.search.ProductFacetDocument;
+import potato.backend.domain.product.search.ProductFacetIndex;
+import potato.backend.global.exception.CustomException;
+import potato.backend.global.exception.ErrorCode;
+
+/**
+ * 상품 필터 서비스
+ * 카테고리/상품 상태/판매 상태/가격 조합 조건을 product_categories 조인 동적 SQL 대신
+ * 메모리 비트맵 색인(ProductFacetIndex)으로 계산하고, 현재 페이지 상품만 DB에서 조회합니다.
+ * <ul>
+ *     <li>색인 갱신: 상품 생성/수정/삭제/거래 완료 트랜잭션 커밋 후 ProductChangedEvent로 반영</li>
+ *     <li>다른 노드의 변경: 무효화 버스로 전파된 상품을 DB에서 다시 읽어 반영</li>
+ *     <li>전파 유실 보정: 주기적으로 마지막 보정 이후 수정된 상품을 다시 색인하고 삭제된 상품을 제거</li>
+ *     <li>기동: DB에서 ID 순으로 나눠 전체 재구성 (비트맵은 재구성이 빨라 스냅샷을 두지 않음)</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class ProductFilterService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1); // 노드 간 시계 오차 보정
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ProductFacetIndex index = new ProductFacetIndex();
+    private final Timer filterTimer;
+
+    @Value("${product.filter.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    private volatile Instant lastCatchUpAt; // 기동 시 색인 준비 전에는 null (보정하지 않음)
+
+    public ProductFilterService(ProductRepository productRepository,
+                                ProductCacheInvalidationBus invalidationBus,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.filterTimer = Timer.builder("product.filter.duration")
+                .description("상품 필터 조회 소요 시간 (비트맵 계산 + 상품 조회)")
+                .register(meterRegistry);
+        Gauge.builder("product.filter.documents", index, ProductFacetIndex::size)
+                .description("필터 색인에 등록된 상품 수")
+                .register(meterRegistry);
+        invalidationBus.subscribe(this::refresh);
+    }
+
+    /**
+     * 조건별 상품 목록과 항목별 개수 조회 (최신 등록순)
+     * @param category 카테고리 이름
+     * @param condition 상품 상태 (NEW, USED, REFURBISHED)
+     * @param status 판매 상태 (SELLING, RESERVED, SOLD_OUT)
+     * @param minPrice 최소 가격 (포함)
+     * @param maxPrice 최대 가격 (포함)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 필터 결과
+     */
+    public ProductFilterResponse filter(String category, String condition, String status,
+                                        Long minPrice, Long maxPrice, Integer page, Integer size) {
+        int pageNumber = page == null ? 0 : page;
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (pageNumber < 0 || pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAMETER,
+                    "page는 0 이상, size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+        long offset = (long) pageNumber * pageSize;
+        if (offset > Integer.MAX_VALUE) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAMETER, "조회할 수 있는 범위를 벗어난 page입니다");
+        }
+        if ((minPrice != null && minPrice < 0) || (maxPrice != null && maxPrice < 0)) {
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT, "가격은 0 이상이어야 합니다");
+        }
+
+        ProductFacetIndex.FacetFilter filter = new ProductFacetIndex.FacetFilter(
+                category == null || category.isBlank() ? null : category.trim(),
+                parseEnum(Condition.class, condition, "condition"),
+                parseEnum(Status.class, status, "status"),
+                minPrice,
+                maxPrice);
+
+        return filterTimer.record(() -> {
+            ProductFacetIndex.FacetResult result = index.query(filter, (int) offset, pageSize);
+            List<ProductListResponse> products = readOnlyTransaction.execute(tx -> loadInOrder(result.productIds()));
+            return ProductFilterResponse.of(products, result.totalHits(), pageNumber, pageSize,
+                    ProductFacetResponse.from(result.facets()));
+        });
+    }
+
+    /**
+     * 상품 변경 사항을 색인에 반영 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.type() == ProductChangedEvent.Type.DELETED) {
+            index.remove(event.productId());
+        } else {
+            index.upsert(event.facets());
+        }
+    }
+
+    /**
+     * 다른 노드에서 전파된 상품 변경 반영 (DB에서 다시 읽고, 없거나 삭제된 상품이면 색인에서 제거)
+     */
+    void refresh(Long productId) {
+        reindex(List.of(productId));
+    }
+
+    /**
+     * 전파가 유실된 변경 보정 (Redis Pub/Sub은 전달을 보장하지 않음)
+     * 소프트 삭제는 updated_at을 바꾸지 않으므로 삭제된 상품은 전체 ID와 비교해 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${product.filter.catch-up-interval-ms:300000}",
+            initialDelayString = "${product.filter.catch-up-interval-ms:300000}")
+    public void catchUp() {
+        Instant since = lastCatchUpAt;
+        if (since == null) {
+            return;
+        }
+        Instant startedAt = Instant.now();
+        int refreshed = reindex(productRepository.findIdsUpdatedSince(since.minus(CATCH_UP_MARGIN)));
+        int removed = index.retainAll(new HashSet<>(productRepository.findAllIds()));
+        lastCatchUpAt = startedAt;
+        log.info("상품 필터 색인 보정 완료 - refreshed: {}, removed: {}, since: {}", refreshed, removed, since);
+    }
+
+    /**
+     * 기동 시 전체 재구성 (readiness 전에 완료)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long start = System.nanoTime();
+        lastCatchUpAt = Instant.now();
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = productRepository.findIdsAfter(lastId, PageRequest.of(0, rebuildBatchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            reindex(ids);
+            lastId = ids.get(ids.size() - 1);
+        }
+        index.optimize();
+        log.info("상품 필터 색인 재구성 완료 - documents: {}, elapsedMs: {}",
+                index.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * 상품을 DB에서 다시 읽어 색인 (조회되지 않는 상품은 삭제된 것으로 보고 색인에서 제거)
+     * @return 색인한 상품 수
+     */
+    private int reindex(List<Long> productIds) {
+        int count = 0;
+        for (int from = 0; from < productIds.size(); from += rebuildBatchSize) {
+            List<Long> batch = productIds.subList(from, Math.min(from + rebuildBatchSize, productIds.size()));
+            List<ProductFacetDocument> documents = readOnlyTransaction.execute(status ->
+                    productRepository.findAllByIdInWithDetails(batch).stream()
+                            .map(ProductFacetDocument::from)
+                            .toList());
+            if (documents == null) {
+                continue;
+            }
+            documents.forEach(index::upsert);
+            count += documents.size();
+            if (documents.size() < batch.size()) {
+                Set<Long> found = documents.stream().map(ProductFacetDocument::productId).collect(Collectors.toSet());
+                batch.stream().filter(id -> !found.contains(id)).forEach(index::remove);
+            }
+        }
+        return count;
+    }
+
+    private List<ProductListResponse> loadInOrder(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> products = productRepository.findAllByIdInWithDetails(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 색인 반영 직전에 삭제된 상품은 건너뜀
+        return productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(ProductListResponse::fromEntity)
+                .toList();
+    }
+
+    private <E extends Enum<E>> E parseEnum(Class<E> type, String value, String name) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT, "유효하지 않은 " + name + " 값입니다: " + value);
+        }
+    }
+}
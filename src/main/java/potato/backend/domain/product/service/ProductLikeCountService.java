@@ -0,0 +1,142 @@
+package potato.backend.domain.product.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.wishlist.event.WishlistChangedEvent;
+
+/**
+ * 상품 찜 수(like_count) 비정규화 관리
+ * 목록마다 wishlist를 COUNT 하면 상품 수만큼 쿼리가 나가므로 product.like_count에 값을 유지합니다.
+ * <ul>
+ *     <li>위시리스트 추가/제거 커밋 후 WishlistChangedEvent의 증감을 모아 주기적으로 배치 UPDATE</li>
+ *     <li>매일 새벽 wishlist 기준으로 상품 ID 구간 단위 재계산 (이벤트 유실/중복 보정)</li>
+ * </ul>
+ * 재계산 직전에 반영 대기 중인 증감을 먼저 반영하지만, 다른 노드의 대기 증감은 다음 재계산까지 어긋날 수 있습니다.
+ */
+@Slf4j
+@Service
+public class ProductLikeCountService {
+
+    private static final String UPDATE_SQL = "UPDATE product SET like_count = GREATEST(like_count + ?, 0) WHERE id = ?";
+    private static final String RECONCILE_SQL =
+            "UPDATE product p SET like_count = (SELECT COUNT(*) FROM wishlist w WHERE w.product_id = p.id) " +
+            "WHERE p.id >= ? AND p.id < ? " +
+            "AND p.like_count <> (SELECT COUNT(*) FROM wishlist w WHERE w.product_id = p.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductCounterBuffer buffer = new ProductCounterBuffer(UPDATE_SQL);
+    private final AtomicBoolean reconciling = new AtomicBoolean(false);
+    private final Counter flushFailureCounter;
+    private final Counter correctedCounter;
+
+    @Value("${product.like-count.reconcile-chunk-size:1000}")
+    private long reconcileChunkSize;
+
+    @Value("${product.like-count.pause-between-chunks-ms:20}")
+    private long pauseBetweenChunksMs;
+
+    public ProductLikeCountService(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushFailureCounter = Counter.builder("product.like.flush.failures")
+                .description("찜 수 반영 실패 횟수 (증감은 다음 반영 때 재시도)")
+                .register(meterRegistry);
+        this.correctedCounter = Counter.builder("product.like.reconcile.corrected")
+                .description("재계산으로 보정된 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("product.like.pending.products", buffer, ProductCounterBuffer::size)
+                .description("찜 수 반영 대기 중인 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 위시리스트 변경을 찜 수 증감으로 누적 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        buffer.add(event.productId(), event.delta());
+    }
+
+    /**
+     * 누적된 증감을 한 번의 배치 UPDATE로 반영
+     * @return 반영한 상품 수
+     */
+    @Scheduled(fixedDelayString = "${product.like-count.flush-interval-ms:5000}")
+    public int flush() {
+        try {
+            return buffer.flush(jdbcTemplate, transactionTemplate);
+        } catch (RuntimeException e) {
+            flushFailureCounter.increment();
+            log.warn("상품 찜 수 반영 실패, 다음 주기에 재시도 - message: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("종료 전 상품 찜 수 반영 - products: {}", flushed);
+    }
+
+    /**
+     * wishlist 기준 찜 수 재계산
+     * 상품 ID 구간마다 별도 트랜잭션으로 값이 다른 행만 UPDATE 하여 장시간 락을 피합니다.
+     * @return 보정한 상품 수
+     */
+    @Scheduled(cron = "${product.like-count.reconcile-cron:0 0 4 * * *}")
+    public long reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            log.warn("상품 찜 수 재계산이 이미 실행 중입니다");
+            return 0;
+        }
+        long start = System.nanoTime();
+        long corrected = 0;
+        try {
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM product", Long.class);
+            for (long from = 1; maxId != null && from <= maxId; from += reconcileChunkSize) {
+                flush();
+                long chunkFrom = from;
+                Integer updated = transactionTemplate.execute(status ->
+                        jdbcTemplate.update(RECONCILE_SQL, chunkFrom, chunkFrom + reconcileChunkSize));
+                corrected += updated == null ? 0 : updated;
+                pause();
+            }
+            correctedCounter.increment(corrected);
+            log.info("상품 찜 수 재계산 완료 - corrected: {}, elapsedMs: {}",
+                    corrected, Duration.ofNanos(System.nanoTime() - start).toMillis());
+            return corrected;
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    private void pause() {
+        if (pauseBetweenChunksMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseBetweenChunksMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package potato.backend.domain.product.service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.storage.service.S3Service;
+
+/**
+ * 삭제된 상품 정리
+ * 상품 삭제는 deleted_at만 기록하므로(소프트 삭제), 보존 기간이 지난 상품의 종속 데이터를 상품 ID 배치 단위로 정리합니다.
+ * <ol>
+ *     <li>이미지 URL(image.image_url, product.main_image_url)의 S3 객체 삭제</li>
+ *     <li>한 트랜잭션에서 위시리스트, 채팅 메시지, 채팅방, 이미지, 카테고리 연결, 상품 행을 IN 조건으로 일괄 삭제</li>
+ * </ol>
+ * 버킷 객체가 아닌 URL(외부 URL, 상대 경로)과 배치 밖의 상품 행이나 아직 상품에 연결되지 않은 업로드 이미지가 참조하는 객체는 삭제하지 않습니다.
+ * S3 삭제는 URL마다 따로 시도하고, 실패한 객체를 쓰는 상품만 DB 행을 남겨 다음 실행에서 다시 시도합니다 (S3 삭제는 멱등).
+ * 채팅 변경 로그는 남지만 동기화 시 없는 채팅방은 건너뜁니다.
+ */
+@Slf4j
+@Service
+public class ProductPurgeService {
+
+    private static final String SELECT_BATCH_SQL =
+            "SELECT id FROM product WHERE deleted_at < ? AND id > ? ORDER BY id LIMIT ?";
+    private static final String SELECT_IMAGE_URLS_SQL =
+            "SELECT product_id, image_url FROM image WHERE product_id IN (:ids) " +
+            "UNION SELECT id, main_image_url FROM product WHERE id IN (:ids)";
+    private static final String SELECT_REFERENCED_URLS_SQL =
+            "SELECT image_url FROM image WHERE image_url IN (:urls) AND (product_id IS NULL OR product_id NOT IN (:ids)) " +
+            "UNION SELECT main_image_url FROM product WHERE main_image_url IN (:urls) AND id NOT IN (:ids)";
+    private static final List<String> DELETE_SQLS = List.of(
+            "DELETE FROM wishlist WHERE product_id IN (:ids)",
+            "DELETE FROM chat_messages WHERE chat_room_id IN (SELECT chat_room_id FROM chat_room WHERE product_id IN (:ids))",
+            "DELETE FROM chat_room WHERE product_id IN (:ids)",
+            "DELETE FROM image WHERE product_id IN (:ids)",
+            "DELETE FROM product_categories WHERE product_id IN (:ids)",
+            "DELETE FROM product WHERE id IN (:ids) AND deleted_at IS NOT NULL");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<S3Service> s3Service;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final Counter purgedCounter;
+    private final Counter failedBatchCounter;
+    private final Counter failedObjectCounter;
+
+    @Value("${product.purge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${product.purge.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${product.purge.batch-size:100}")
+    private int batchSize;
+
+    @Value("${product.purge.max-batches-per-run:100}")
+    private int maxBatchesPerRun;
+
+    @Value("${product.purge.pause-between-batches-ms:50}")
+    private long pauseBetweenBatchesMs;
+
+    public ProductPurgeService(JdbcTemplate jdbcTemplate,
+                               PlatformTransactionManager transactionManager,
+                               ObjectProvider<S3Service> s3Service,
+                               MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.s3Service = s3Service;
+        this.purgedCounter = Counter.builder("product.purge.products")
+                .description("정리된 삭제 상품 수")
+                .register(meterRegistry);
+        this.failedBatchCounter = Counter.builder("product.purge.failed.batches")
+                .description("정리 실패 배치 수 (다음 실행에서 재시도)")
+                .register(meterRegistry);
+        this.failedObjectCounter = Counter.builder("product.purge.failed.objects")
+                .description("S3 객체 삭제 실패 수 (해당 상품은 다음 실행에서 재시도)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보존 기간이 지난 삭제 상품 정리
+     * @return 정리한 상품 수
+     */
+    @Scheduled(cron = "${product.purge.cron:0 0 3 * * *}")
+    public long purge() {
+        if (!enabled) {
+            return 0;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("삭제 상품 정리가 이미 실행 중입니다");
+            return 0;
+        }
+        long start = System.nanoTime();
+        long purged = 0;
+        try {
+            Timestamp cutoff = Timestamp.from(Instant.now().minus(Duration.ofDays(retentionDays)));
+            long lastId = 0L;
+            for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+                List<Long> ids = jdbcTemplate.queryForList(SELECT_BATCH_SQL, Long.class, cutoff, lastId, batchSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lastId = ids.get(ids.size() - 1);
+                try {
+                    purged += purgeBatch(ids);
+                } catch (RuntimeException e) {
+                    // 실패한 배치는 건너뛰고 다음 실행에서 재시도
+                    failedBatchCounter.increment();
+                    log.warn("삭제 상품 정리 실패 - fromId: {}, toId: {}, message: {}", ids.get(0), lastId, e.getMessage());
+                }
+                pause();
+            }
+            purgedCounter.increment(purged);
+            log.info("삭제 상품 정리 완료 - products: {}, elapsedMs: {}",
+                    purged, Duration.ofNanos(System.nanoTime() - start).toMillis());
+            return purged;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 상품 ID 배치 정리 (S3 객체 삭제 후 DB 행 일괄 삭제)
+     * @return 삭제한 상품 행 수
+     */
+    int purgeBatch(List<Long> productIds) {
+        List<Long> purgeable = deleteImages(productIds);
+        if (purgeable.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<Long>> params = Map.of("ids", purgeable);
+        Integer deleted = transactionTemplate.execute(status -> {
+            int rows = 0;
+            for (String sql : DELETE_SQLS) {
+                rows = namedJdbcTemplate.update(sql, params);
+            }
+            return rows; // 마지막 문장(product) 삭제 행 수
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    /**
+     * 배치 상품의 S3 객체 삭제
+     * @return DB 행을 삭제해도 되는 상품 ID (S3 삭제에 실패한 객체를 쓰는 상품 제외)
+     */
+    private List<Long> deleteImages(List<Long> productIds) {
+        S3Service storage = s3Service.getIfAvailable();
+        if (storage == null) {
+            return productIds;
+        }
+
+        Map<String, Set<Long>> ownersByUrl = new LinkedHashMap<>();
+        namedJdbcTemplate.query(SELECT_IMAGE_URLS_SQL, Map.of("ids", productIds), rs -> {
+            String url = rs.getString(2);
+            if (url != null && storage.isBucketUrl(url)) {
+                ownersByUrl.computeIfAbsent(url, k -> new LinkedHashSet<>()).add(rs.getLong(1));
+            }
+        });
+        if (ownersByUrl.isEmpty()) {
+            return productIds;
+        }
+
+        // 배치 밖의 상품(복사 등록 등)이 같은 객체를 쓰고 있으면 남겨 둠
+        Set<String> referenced = new HashSet<>(namedJdbcTemplate.queryForList(SELECT_REFERENCED_URLS_SQL,
+                Map.of("ids", productIds, "urls", ownersByUrl.keySet()), String.class));
+        Set<Long> failed = new HashSet<>();
+        ownersByUrl.forEach((url, owners) -> {
+            if (referenced.contains(url)) {
+                return;
+            }
+            try {
+                storage.deleteFile(url);
+            } catch (RuntimeException e) {
+                failedObjectCounter.increment();
+                failed.addAll(owners);
+                log.warn("삭제 상품 이미지 S3 삭제 실패 - url: {}, productIds: {}, message: {}", url, owners, e.getMessage());
+            }
+        });
+        return failed.isEmpty() ? productIds : productIds.stream().filter(id -> !failed.contains(id)).toList();
+    }
+
+    private void pause() {
+        if (pauseBetweenBatchesMs <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseBetweenBatchesMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
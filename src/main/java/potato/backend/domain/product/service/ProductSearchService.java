@@ -0,0 +1,297 @@
+package potato.backend.domain.product.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.product.cache.ProductCacheInvalidationBus;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.dto.ProductListResponse;
+import potato.backend.domain.product.dto.ProductSearchResponse;
+import potato.backend.domain.product.event.ProductChangedEvent;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.product.search.ProductSearchDocument;
+import potato.backend.domain.product.search.ProductSearchIndex;
+import potato.backend.global.exception.CustomException;
+import potato.backend.global.exception.ErrorCode;
+
+/**
+ * 상품 검색 서비스
+ * LIKE '%keyword%'는 인덱스를 탈 수 없어 검색마다 product 테이블 전체를 읽으므로,
+ * 애플리케이션 메모리에 n-gram 역색인(ProductSearchIndex)을 두고 BM25 순으로 검색합니다.
+ * <ul>
+ *     <li>색인 갱신: 상품 생성/수정/삭제 트랜잭션 커밋 후 ProductChangedEvent로 반영</li>
+ *     <li>다른 노드의 변경: 무효화 버스로 전파된 상품을 DB에서 다시 읽어 반영</li>
+ *     <li>전파 유실 보정: 주기적으로 마지막 보정 이후 수정된 상품을 다시 색인하고 삭제된 상품을 제거</li>
+ *     <li>기동: 스냅샷을 복원하고 스냅샷 이후 변경분만 DB에서 다시 색인 (스냅샷이 없으면 전체 재구성)</li>
+ *     <li>스냅샷: 주기적으로, 그리고 종료 시 디스크에 저장</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class ProductSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_VERSION = "v1";
+    private static final Duration CATCH_UP_MARGIN = Duration.ofMinutes(1); // 노드 간 시계 오차 보정
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ProductSearchIndex index = new ProductSearchIndex();
+    private final Timer searchTimer;
+
+    @Value("${product.search.snapshot-path:}")
+    private String snapshotPath; // 비어 있으면 스냅샷을 사용하지 않음
+
+    @Value("${product.search.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    private volatile long snapshotModifications = -1;
+    private volatile Instant lastCatchUpAt; // 기동 시 색인 준비 전에는 null (보정하지 않음)
+
+    public ProductSearchService(ProductRepository productRepository,
+                                ProductCacheInvalidationBus invalidationBus,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.searchTimer = Timer.builder("product.search.duration")
+                .description("상품 검색 소요 시간 (색인 조회 + 상품 조회)")
+                .register(meterRegistry);
+        Gauge.builder("product.search.documents", index, ProductSearchIndex::size)
+                .description("검색 색인에 등록된 상품 수")
+                .register(meterRegistry);
+        invalidationBus.subscribe(this::refresh);
+    }
+
+    /**
+     * 상품 검색 (커서 기반 페이징)
+     * @param keyword 검색어 (제목, 상세 설명, 카테고리 이름 대상)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 검색 결과
+     */
+    public ProductSearchResponse search(String keyword, String cursor, Integer size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT, "검색어를 입력해주세요");
+        }
+        int limit = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAMETER, "size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+
+        return searchTimer.record(() -> {
+            ProductSearchIndex.SearchResult result = index.search(keyword, decodeCursor(cursor), limit);
+            List<ProductListResponse> products = readOnlyTransaction.execute(status -> loadInRankOrder(result.hits()));
+
+            String nextCursor = result.hasNext() ? encodeCursor(result.hits().get(result.hits().size() - 1)) : null;
+            log.info("상품 검색 완료 - keyword: {}, totalHits: {}, size: {}", keyword, result.totalHits(), products.size());
+            return ProductSearchResponse.of(products, result.totalHits(), result.hasNext(), nextCursor);
+        });
+    }
+
+    /**
+     * 상품 변경 사항을 색인에 반영 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.type() == ProductChangedEvent.Type.DELETED) {
+            index.remove(event.productId());
+        } else {
+            index.upsert(event.document());
+        }
+        log.debug("상품 검색 색인 갱신 - productId: {}, type: {}", event.productId(), event.type());
+    }
+
+    /**
+     * 다른 노드에서 전파된 상품 변경 반영 (DB에서 다시 읽고, 없거나 삭제된 상품이면 색인에서 제거)
+     */
+    void refresh(Long productId) {
+        reindex(List.of(productId));
+        log.debug("상품 검색 색인 갱신 (다른 노드) - productId: {}", productId);
+    }
+
+    /**
+     * 전파가 유실된 변경 보정 (Redis Pub/Sub은 전달을 보장하지 않음)
+     * 소프트 삭제는 updated_at을 바꾸지 않으므로 삭제된 상품은 전체 ID와 비교해 제거합니다.
+     */
+    @Scheduled(fixedDelayString = "${product.search.catch-up-interval-ms:300000}",
+            initialDelayString = "${product.search.catch-up-interval-ms:300000}")
+    public void catchUp() {
+        Instant since = lastCatchUpAt;
+        if (since == null) {
+            return;
+        }
+        Instant startedAt = Instant.now();
+        int refreshed = reindex(productRepository.findIdsUpdatedSince(since.minus(CATCH_UP_MARGIN)));
+        int removed = index.retainAll(new HashSet<>(productRepository.findAllIds()));
+        lastCatchUpAt = startedAt;
+        log.info("상품 검색 색인 보정 완료 - refreshed: {}, removed: {}, since: {}", refreshed, removed, since);
+    }
+
+    /**
+     * 기동 시 색인 준비
+     * ApplicationReadyEvent 처리 후에 readiness가 ACCEPTING_TRAFFIC으로 바뀌므로 색인이 준비된 뒤에 트래픽을 받습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long start = System.nanoTime();
+        lastCatchUpAt = Instant.now();
+        Path snapshot = snapshotFile();
+        if (snapshot != null && Files.exists(snapshot)) {
+            try {
+                Instant snapshotAt = index.restoreSnapshot(snapshot);
+                int refreshed = reindex(productRepository.findIdsUpdatedSince(snapshotAt.minus(CATCH_UP_MARGIN)));
+                int removed = index.retainAll(new HashSet<>(productRepository.findAllIds()));
+                log.info("상품 검색 스냅샷 복원 완료 - documents: {}, refreshed: {}, removed: {}, snapshotAt: {}, elapsedMs: {}",
+                        index.size(), refreshed, removed, snapshotAt, Duration.ofNanos(System.nanoTime() - start).toMillis());
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("상품 검색 스냅샷 복원 실패, 전체 재구성합니다 - path: {}, message: {}", snapshot, e.getMessage());
+            }
+        }
+        rebuild();
+        log.info("상품 검색 색인 재구성 완료 - documents: {}, elapsedMs: {}",
+                index.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    /**
+     * DB 기준으로 전체 색인 재구성 (ID 순으로 나눠서 조회)
+     */
+    public void rebuild() {
+        long lastId = 0L;
+        while (true) {
+            List<Long> ids = productRepository.findIdsAfter(lastId, PageRequest.of(0, rebuildBatchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            reindex(ids);
+            lastId = ids.get(ids.size() - 1);
+        }
+    }
+
+    /**
+     * 주기적 스냅샷 저장 (변경이 있을 때만)
+     */
+    @Scheduled(fixedDelayString = "${product.search.snapshot-interval-ms:600000}",
+            initialDelayString = "${product.search.snapshot-interval-ms:600000}")
+    public void snapshotOnSchedule() {
+        writeSnapshot();
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void snapshotOnShutdown() {
+        writeSnapshot();
+    }
+
+    private void writeSnapshot() {
+        Path snapshot = snapshotFile();
+        long modifications = index.modifications();
+        if (snapshot == null || modifications == snapshotModifications) {
+            return;
+        }
+        try {
+            index.writeSnapshot(snapshot, Instant.now());
+            snapshotModifications = modifications;
+            log.info("상품 검색 스냅샷 저장 완료 - path: {}, documents: {}", snapshot, index.size());
+        } catch (IOException e) {
+            log.warn("상품 검색 스냅샷 저장 실패 - path: {}, message: {}", snapshot, e.getMessage());
+        }
+    }
+
+    /**
+     * 상품을 DB에서 다시 읽어 색인 (조회되지 않는 상품은 삭제된 것으로 보고 색인에서 제거)
+     * @return 색인한 상품 수
+     */
+    private int reindex(List<Long> productIds) {
+        int count = 0;
+        for (int from = 0; from < productIds.size(); from += rebuildBatchSize) {
+            List<Long> batch = productIds.subList(from, Math.min(from + rebuildBatchSize, productIds.size()));
+            List<ProductSearchDocument> documents = readOnlyTransaction.execute(status ->
+                    productRepository.findAllByIdInWithDetails(batch).stream()
+                            .map(ProductSearchDocument::from)
+                            .toList());
+            if (documents == null) {
+                continue;
+            }
+            documents.forEach(index::upsert);
+            count += documents.size();
+            if (documents.size() < batch.size()) {
+                Set<Long> found = documents.stream().map(ProductSearchDocument::productId).collect(Collectors.toSet());
+                batch.stream().filter(id -> !found.contains(id)).forEach(index::remove);
+            }
+        }
+        return count;
+    }
+
+    private List<ProductListResponse> loadInRankOrder(List<ProductSearchIndex.Hit> hits) {
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> products = productRepository.findAllByIdInWithDetails(
+                        hits.stream().map(ProductSearchIndex.Hit::productId).toList())
+                .stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 색인 반영 직전에 삭제된 상품은 건너뜀
+        return hits.stream()
+                .map(hit -> products.get(hit.productId()))
+                .filter(Objects::nonNull)
+                .map(ProductListResponse::fromEntity)
+                .toList();
+    }
+
+    private String encodeCursor(ProductSearchIndex.Hit hit) {
+        String raw = CURSOR_VERSION + ":" + Long.toHexString(Double.doubleToLongBits(hit.score())) + ":" + hit.productId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ProductSearchIndex.Hit decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 3 || !CURSOR_VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException(cursor);
+            }
+            double score = Double.longBitsToDouble(Long.parseUnsignedLong(parts[1], 16));
+            return new ProductSearchIndex.Hit(Long.parseLong(parts[2]), score);
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT, "유효하지 않은 커서입니다");
+        }
+    }
+
+    private Path snapshotFile() {
+        return snapshotPath == null || snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+    }
+}
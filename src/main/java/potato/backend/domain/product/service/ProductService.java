@@ -1,9 +1,16 @@
 package potato.backend.domain.product.service;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -11,14 +18,20 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import potato.backend.domain.category.domain.Category;
-import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.category.service.CategoryDictionary;
 import potato.backend.domain.product.domain.Product;
 import potato.backend.domain.product.domain.Status;
 import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.dto.ProductCategoryName;
 import potato.backend.domain.product.dto.ProductCreateRequest;
+import potato.backend.domain.product.dto.ProductFeedCursor;
+import potato.backend.domain.product.dto.ProductFeedResponse;
+import potato.backend.domain.product.dto.ProductListProjection;
 import potato.backend.domain.product.dto.ProductListResponse;
 import potato.backend.domain.product.dto.ProductResponse;
 import potato.backend.domain.product.dto.ProductUpdateRequest;
+import potato.backend.domain.product.event.ProductChangedEvent;
+import potato.backend.domain.product.event.ProductPriceDroppedEvent;
 import potato.backend.domain.product.exception.ProductNotFoundException;
 import potato.backend.domain.product.repository.ProductRepository;
 import potato.backend.domain.user.domain.Member;
@@ -33,11 +46,16 @@ import potato.backend.global.exception.ErrorCode;
 @Slf4j
 public class ProductService {
 
+    private static final int DEFAULT_FEED_SIZE = 20;
+    private static final int MAX_FEED_SIZE = 100;
+
     private final ProductRepository productRepository;
 
     private final MemberRepository memberRepository;
 
-    private final CategoryRepository categoryRepository;
+    private final CategoryDictionary categoryDictionary;
+
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 상품 생성
@@ -56,40 +74,14 @@ public class ProductService {
                  .orElseThrow(() -> new MemberNotFoundException(request.getMemberId()));
 
         // 입력된 카테고리명 정규화: trim, 공백 제거, 중복 제거
-        List<String> requestedCategoryNames = request.getCategory().stream()
-                .filter(name -> name != null)
-                .map(String::trim)
-                .filter(name -> !name.isEmpty())
-                .distinct()
-                .toList();
+        List<String> requestedCategoryNames = normalizeCategoryNames(request.getCategory());
 
         if (requestedCategoryNames.isEmpty()) {
             throw new CustomException(ErrorCode.INVALID_ARGUMENT, "유효한 카테고리명이 최소 1개 이상이어야 합니다");
         }
 
-        // 1) 이미 존재하는 카테고리 조회
-        List<Category> existingCategories = categoryRepository.findByNameIn(requestedCategoryNames);
-
-        // 2) 없는 이름은 새로 생성
-        java.util.Set<String> existingNames = existingCategories.stream()
-                .map(Category::getCategoryName)
-                .collect(java.util.stream.Collectors.toSet());
-
-        List<String> missingNames = requestedCategoryNames.stream()
-                .filter(name -> !existingNames.contains(name))
-                .toList();
-
-        List<Category> newCategories = missingNames.stream()
-                .map(potato.backend.domain.category.domain.Category::create)
-                .toList();
-
-        if (!newCategories.isEmpty()) {
-            newCategories = categoryRepository.saveAll(newCategories);
-        }
-
-        // 3) 최종 카테고리 목록 결합
-        List<Category> categories = new java.util.ArrayList<>(existingCategories);
-        categories.addAll(newCategories);
+        // 카테고리 사전에서 조회 (없는 이름만 생성)
+        List<Category> categories = categoryDictionary.resolve(requestedCategoryNames);
 
         // Product.create()가 이미지 URL 문자열을 받아서 내부에서 Image 엔티티 생성
         Product product = Product.create(
@@ -105,6 +97,7 @@ public class ProductService {
         );
 
         Product savedProduct = productRepository.save(product);
+        eventPublisher.publishEvent(ProductChangedEvent.created(savedProduct));
         log.info("상품 생성 완료 - productId: {}, title: {}", savedProduct.getId(), savedProduct.getTitle());
         return ProductResponse.fromEntity(savedProduct);
     }
@@ -115,9 +108,110 @@ public class ProductService {
     public Page<ProductListResponse> getProductList(Pageable pageable) {
         log.info("상품 목록 조회 시작 - page: {}, size: {}", 
                 pageable.getPageNumber(), pageable.getPageSize());
-        Page<Product> products = productRepository.findAll(pageable);
-        log.info("상품 목록 조회 완료 - 총 {}개 상품 조회", products.getTotalElements());
-        return products.map(ProductListResponse::fromEntity);
+        // 1) 목록 컬럼 + 작성자 + 전체 개수를 한 번에 조회 (엔티티 지연 로딩 없음)
+        List<ProductListProjection> rows = productRepository.findProductListPage(pageable);
+        long total = rows.isEmpty()
+                ? (pageable.getOffset() == 0 ? 0 : productRepository.count()) // 마지막 페이지를 넘은 요청만 별도 count
+                : rows.get(0).totalCount();
+
+        // 2) 현재 페이지 상품들의 카테고리를 한 번에 조회
+        List<ProductListResponse> content = toListResponses(rows);
+        log.info("상품 목록 조회 완료 - 총 {}개 상품 조회", total);
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * 상품 피드 조회 (키셋 페이징)
+     * OFFSET/COUNT 없이 마지막 행의 정렬 키 이후부터 인덱스 순서대로 size + 1개만 읽습니다.
+     * @param sort 정렬 기준 (LATEST, PRICE_ASC, PRICE_DESC)
+     * @param cursor 이전 응답의 next_cursor (첫 페이지면 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     */
+    public ProductFeedResponse getProductFeed(String sort, String cursor, Integer size) {
+        int limit = size == null ? DEFAULT_FEED_SIZE : size;
+        if (limit < 1 || limit > MAX_FEED_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAMETER, "size는 1 이상 " + MAX_FEED_SIZE + " 이하여야 합니다");
+        }
+        ProductFeedCursor.Sort feedSort = ProductFeedCursor.Sort.from(sort);
+        ProductFeedCursor after = ProductFeedCursor.decode(cursor, feedSort);
+        Pageable firstRows = PageRequest.of(0, limit + 1); // 다음 페이지 확인용 1개 추가
+
+        List<ProductListProjection> rows = switch (feedSort) {
+            case LATEST -> after == null
+                    ? productRepository.findFeedLatest(firstRows)
+                    : productRepository.findFeedLatestAfter(after.createdAt(), after.productId(), firstRows);
+            case PRICE_ASC -> after == null
+                    ? productRepository.findFeedPriceAsc(firstRows)
+                    : productRepository.findFeedPriceAscAfter(after.price(), after.productId(), firstRows);
+            case PRICE_DESC -> after == null
+                    ? productRepository.findFeedPriceDesc(firstRows)
+                    : productRepository.findFeedPriceDescAfter(after.price(), after.productId(), firstRows);
+        };
+
+        boolean hasNext = rows.size() > limit;
+        List<ProductListProjection> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? ProductFeedCursor.after(feedSort, page.get(page.size() - 1)).encode() : null;
+        return ProductFeedResponse.of(toListResponses(page), hasNext, nextCursor);
+    }
+
+    /**
+     * 판매내역 조회 (최신순 키셋 페이징)
+     * (member_id, created_at, id) 인덱스 순서대로 size + 1개만 읽고, 카테고리는 페이지 상품 ID로 한 번에 조회합니다.
+     * @param memberId 판매자 ID
+     * @param cursor 이전 응답의 next_cursor (첫 페이지면 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     */
+    public ProductFeedResponse getSalesHistory(Long memberId, String cursor, Integer size) {
+        return getHistory(cursor, size, (after, firstRows) -> after == null
+                ? productRepository.findSalesHistory(memberId, firstRows)
+                : productRepository.findSalesHistoryAfter(memberId, after.createdAt(), after.productId(), firstRows));
+    }
+
+    /**
+     * 구매내역 조회 (최신순 키셋 페이징)
+     * @param buyerId 구매자 ID
+     * @param cursor 이전 응답의 next_cursor (첫 페이지면 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     */
+    public ProductFeedResponse getPurchaseHistory(Long buyerId, String cursor, Integer size) {
+        return getHistory(cursor, size, (after, firstRows) -> after == null
+                ? productRepository.findPurchaseHistory(buyerId, firstRows)
+                : productRepository.findPurchaseHistoryAfter(buyerId, after.createdAt(), after.productId(), firstRows));
+    }
+
+    private ProductFeedResponse getHistory(String cursor, Integer size,
+                                           BiFunction<ProductFeedCursor, Pageable, List<ProductListProjection>> query) {
+        int limit = size == null ? DEFAULT_FEED_SIZE : size;
+        if (limit < 1 || limit > MAX_FEED_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAMETER, "size는 1 이상 " + MAX_FEED_SIZE + " 이하여야 합니다");
+        }
+        ProductFeedCursor after = ProductFeedCursor.decode(cursor, ProductFeedCursor.Sort.LATEST);
+        List<ProductListProjection> rows = query.apply(after, PageRequest.of(0, limit + 1)); // 다음 페이지 확인용 1개 추가
+
+        boolean hasNext = rows.size() > limit;
+        List<ProductListProjection> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext
+                ? ProductFeedCursor.after(ProductFeedCursor.Sort.LATEST, page.get(page.size() - 1)).encode()
+                : null;
+        return ProductFeedResponse.of(toListResponses(page), hasNext, nextCursor);
+    }
+
+    /**
+     * 프로젝션 목록에 카테고리를 붙여 응답으로 변환 (카테고리는 상품 ID 목록으로 한 번에 조회)
+     */
+    private List<ProductListResponse> toListResponses(List<ProductListProjection> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> categoryNames = productRepository
+                .findCategoryNamesByProductIds(rows.stream().map(ProductListProjection::productId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(ProductCategoryName::productId,
+                        Collectors.mapping(ProductCategoryName::categoryName, Collectors.toList())));
+
+        return rows.stream()
+                .map(row -> ProductListResponse.from(row, categoryNames.getOrDefault(row.productId(), List.of())))
+                .toList();
     }
 
     /**
@@ -125,7 +219,7 @@ public class ProductService {
      */
     public ProductResponse getProduct(Long productId) {
         log.info("상품 단건 조회 시작 - productId: {}", productId);
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findActiveById(productId)
                 .orElseThrow(() -> new ProductNotFoundException(productId));
         log.info("상품 단건 조회 완료 - productId: {}, title: {}", productId, product.getTitle());
         return ProductResponse.fromEntity(product);
@@ -137,67 +231,59 @@ public class ProductService {
     @Transactional
     public ProductResponse updateProduct(Long productId, ProductUpdateRequest request) {
         log.info("상품 수정 시작 - productId: {}", productId);
-        Product product = productRepository.findById(productId)
+        Product product = productRepository.findActiveById(productId)
                 .orElseThrow(() -> new ProductNotFoundException(productId));
 
         // 카테고리 처리
         List<Category> categories = null;
         if (request.getCategory() != null) {
-            // 입력된 카테고리명 정규화
-            List<String> requestedCategoryNames = request.getCategory().stream()
-                    .filter(name -> name != null)
-                    .map(String::trim)
-                    .filter(name -> !name.isEmpty())
-                    .distinct()
-                    .toList();
-
+            List<String> requestedCategoryNames = normalizeCategoryNames(request.getCategory());
             if (!requestedCategoryNames.isEmpty()) {
-                // 1) 이미 존재하는 카테고리 조회
-                List<Category> existingCategories = categoryRepository.findByNameIn(requestedCategoryNames);
-
-                // 2) 없는 이름은 새로 생성
-                java.util.Set<String> existingNames = existingCategories.stream()
-                        .map(Category::getCategoryName)
-                        .collect(java.util.stream.Collectors.toSet());
-
-                List<String> missingNames = requestedCategoryNames.stream()
-                        .filter(name -> !existingNames.contains(name))
-                        .toList();
-
-                List<Category> newCategories = missingNames.stream()
-                        .map(potato.backend.domain.category.domain.Category::create)
-                        .toList();
-
-                if (!newCategories.isEmpty()) {
-                    newCategories = categoryRepository.saveAll(newCategories);
-                }
-
-                // 3) 최종 카테고리 목록 결합
-                categories = new java.util.ArrayList<>(existingCategories);
-                categories.addAll(newCategories);
+                categories = categoryDictionary.resolve(requestedCategoryNames);
             }
         }
 
+        BigDecimal previousPrice = product.getPrice();
         product.update(request.getTitle(), request.getContent(),
                 request.getPrice() != null ? BigDecimal.valueOf(request.getPrice()) : null,
                 request.getStatus() != null ? Status.valueOf(request.getStatus()) : null,
                 request.getMainImageUrl(),
                 categories,
                 request.getImageUrls());
+        eventPublisher.publishEvent(ProductChangedEvent.updated(product));
+        if (product.getPrice().compareTo(previousPrice) < 0) {
+            // 위시리스트 회원 알림은 커밋 후 백그라운드에서 전송 (WishlistPriceDropNotifier)
+            eventPublisher.publishEvent(new ProductPriceDroppedEvent(productId, product.getTitle(),
+                    previousPrice.longValue(), product.getPrice().longValue()));
+        }
 
         log.info("상품 수정 완료 - productId: {}", productId);
         return ProductResponse.fromEntity(product);
     }
 
     /**
-     * 상품 삭제
+     * 상품 삭제 (소프트 삭제)
+     * deleted_at만 기록하고, 이미지/S3 파일/위시리스트/채팅방은 ProductPurgeService가 보존 기간 후 정리합니다.
      */
     @Transactional
     public void deleteProduct(Long productId) {
         log.info("상품 삭제 시작 - productId: {}", productId);
-        Product product = productRepository.findById(productId)
-                .orElseThrow(() -> new ProductNotFoundException(productId));
-        productRepository.delete(product);
+        if (productRepository.softDeleteById(productId, Instant.now()) == 0) {
+            throw new ProductNotFoundException(productId);
+        }
+        eventPublisher.publishEvent(ProductChangedEvent.deleted(productId));
         log.info("상품 삭제 완료 - productId: {}", productId);
     }
-}
\ No newline at end of file
+
+    /**
+     * 카테고리명 정규화: trim, 빈 값 제거, 중복 제거
+     */
+    private static List<String> normalizeCategoryNames(List<String> names) {
+        return names.stream()
+                .filter(name -> name != null)
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .distinct()
+                .toList();
+    }
+}
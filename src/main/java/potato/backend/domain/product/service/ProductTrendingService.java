@@ -0,0 +1,169 @@
+package potato.backend.domain.product.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.chat.event.ChatRoomCreatedEvent;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.dto.ProductCategoryName;
+import potato.backend.domain.product.dto.ProductListResponse;
+import potato.backend.domain.product.dto.ProductTrendingResponse;
+import potato.backend.domain.product.event.ProductChangedEvent;
+import potato.backend.domain.product.ranking.ProductTrendingIndex;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.wishlist.event.WishlistChangedEvent;
+import potato.backend.global.exception.CustomException;
+import potato.backend.global.exception.ErrorCode;
+
+/**
+ * 인기 상품 서비스
+ * view_count/like_count로 정렬하면 요청마다 product 전체를 정렬해야 하므로,
+ * 이벤트마다 지수 감쇠 점수를 갱신하는 메모리 순위(ProductTrendingIndex)에서 상위 K개 ID를 꺼내고 해당 상품만 DB에서 조회합니다.
+ * <ul>
+ *     <li>점수: 상세 조회(중복 제외), 위시리스트 추가, 채팅방 생성에 각각 가중치를 주고 반감기로 감쇠</li>
+ *     <li>카테고리: 상품 변경 이벤트로 반영하고, 모르는 상품은 주기적으로 한 번에 조회</li>
+ *     <li>주기적으로 기준 시각 이동, 오래된 상품 제거, 순위 재구성</li>
+ * </ul>
+ * 점수는 노드별 메모리에만 있으므로 재기동하면 비어 있는 상태에서 다시 쌓이고, 각 노드는 자신이 받은 이벤트만 반영합니다.
+ */
+@Slf4j
+@Service
+public class ProductTrendingService {
+
+    private static final int DEFAULT_SIZE = 20;
+
+    private final ProductRepository productRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ProductTrendingIndex index;
+    private final int capacity;
+    private final double viewWeight;
+    private final double wishlistWeight;
+    private final double chatWeight;
+
+    @Value("${product.trending.resolve-batch-size:500}")
+    private int resolveBatchSize;
+
+    public ProductTrendingService(ProductRepository productRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${product.trending.half-life-minutes:360}") long halfLifeMinutes,
+                                  @Value("${product.trending.capacity:100}") int capacity,
+                                  @Value("${product.trending.min-score:0.05}") double minScore,
+                                  @Value("${product.trending.weight.view:1}") double viewWeight,
+                                  @Value("${product.trending.weight.wishlist:5}") double wishlistWeight,
+                                  @Value("${product.trending.weight.chat:10}") double chatWeight) {
+        this.productRepository = productRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.index = new ProductTrendingIndex(Duration.ofMinutes(halfLifeMinutes), capacity, minScore,
+                System.currentTimeMillis());
+        this.capacity = capacity;
+        this.viewWeight = viewWeight;
+        this.wishlistWeight = wishlistWeight;
+        this.chatWeight = chatWeight;
+        Gauge.builder("product.trending.tracked", index, ProductTrendingIndex::size)
+                .description("인기 점수를 추적 중인 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 인기 상품 조회
+     * @param category 카테고리 이름 (생략하면 전체)
+     * @param size 개수 (기본 20, 최대 capacity)
+     * @return 인기 점수 높은순 상품
+     */
+    public ProductTrendingResponse getTrending(String category, Integer size) {
+        int limit = size == null ? Math.min(DEFAULT_SIZE, capacity) : size;
+        if (limit < 1 || limit > capacity) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAMETER,
+                    "size는 1 이상 " + capacity + " 이하여야 합니다");
+        }
+        String key = category == null || category.isBlank() ? ProductTrendingIndex.ALL : category.trim();
+
+        List<Long> productIds = index.top(key, limit, System.currentTimeMillis()).stream()
+                .map(ProductTrendingIndex.Ranked::productId)
+                .toList();
+        List<ProductListResponse> products = readOnlyTransaction.execute(tx -> loadInOrder(productIds));
+        return ProductTrendingResponse.of(key.isEmpty() ? null : key, products);
+    }
+
+    /**
+     * 상세 조회 반영 (중복 제외된 조회만 전달)
+     */
+    public void recordView(Long productId) {
+        index.record(productId, viewWeight, System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        // 제거는 점수를 깎지 않음 (감쇠로 자연히 줄어듦)
+        if (event.delta() > 0) {
+            index.record(event.productId(), wishlistWeight * event.delta(), System.currentTimeMillis());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onChatRoomCreated(ChatRoomCreatedEvent event) {
+        index.record(event.productId(), chatWeight, System.currentTimeMillis());
+    }
+
+    /**
+     * 상품 카테고리 변경/삭제 반영 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.type() == ProductChangedEvent.Type.DELETED) {
+            index.remove(event.productId());
+        } else {
+            index.assignCategories(event.productId(), event.facets().categoryNames());
+        }
+    }
+
+    /**
+     * 카테고리를 모르는 상품의 카테고리 조회 후 순위 재구성
+     */
+    @Scheduled(fixedDelayString = "${product.trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        List<Long> unresolved = index.unresolved();
+        for (int from = 0; from < unresolved.size(); from += resolveBatchSize) {
+            List<Long> ids = unresolved.subList(from, Math.min(from + resolveBatchSize, unresolved.size()));
+            Map<Long, List<String>> categoryNames = readOnlyTransaction.execute(tx ->
+                    productRepository.findCategoryNamesByProductIds(ids).stream()
+                            .collect(Collectors.groupingBy(ProductCategoryName::productId,
+                                    Collectors.mapping(ProductCategoryName::categoryName, Collectors.toList()))));
+            ids.forEach(id -> index.assignCategories(id,
+                    categoryNames == null ? List.of() : categoryNames.getOrDefault(id, List.of())));
+        }
+        index.refresh(System.currentTimeMillis());
+    }
+
+    private List<ProductListResponse> loadInOrder(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Product> products = productRepository.findAllByIdInWithDetails(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
+        // 순위 반영 직전에 삭제된 상품은 건너뜀
+        return productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .map(ProductListResponse::fromEntity)
+                .toList();
+    }
+}
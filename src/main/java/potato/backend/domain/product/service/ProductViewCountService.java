@@ -0,0 +1,167 @@
+package potato.backend.domain.product.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 조회수 집계 (write-behind)
+ * 상세 조회마다 product 행을 UPDATE 하면 인기 상품 행에 락 경합이 생기므로,
+ * 상품별 LongAdder에 메모리로 누적하고(ProductCounterBuffer) 주기적으로 한 번의 JDBC 배치 UPDATE(view_count = view_count + ?)로 반영합니다.
+ * 종료 시(ContextClosedEvent)에도 남은 증가분을 반영합니다.
+ * <p>
+ * 같은 회원/세션의 반복 조회는 Bloom filter 두 개(현재/이전 구간)를 번갈아 사용해 일정 시간 동안 한 번만 집계합니다.
+ * 오탐률만큼 처음 조회가 누락될 수 있으나 조회수 특성상 허용합니다.
+ */
+@Slf4j
+@Service
+public class ProductViewCountService {
+
+    private static final String UPDATE_SQL = "UPDATE product SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductCounterBuffer buffer = new ProductCounterBuffer(UPDATE_SQL);
+    private final Counter recordedCounter;
+    private final Counter deduplicatedCounter;
+    private final Counter flushedRowsCounter;
+    private final Counter flushFailureCounter;
+
+    private final boolean dedupeEnabled;
+    private final long dedupeWindowMillis;
+    private final int dedupeExpectedViews;
+    private final double dedupeFpp;
+    private volatile BloomFilter<CharSequence> currentViews;
+    private volatile BloomFilter<CharSequence> previousViews;
+    private volatile long rotatedAt;
+    private final Object rotationLock = new Object();
+
+    public ProductViewCountService(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${product.view-count.dedupe.enabled:true}") boolean dedupeEnabled,
+                                   @Value("${product.view-count.dedupe.window-seconds:1800}") long dedupeWindowSeconds,
+                                   @Value("${product.view-count.dedupe.expected-views:1000000}") int dedupeExpectedViews,
+                                   @Value("${product.view-count.dedupe.fpp:0.01}") double dedupeFpp) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.dedupeEnabled = dedupeEnabled;
+        this.dedupeWindowMillis = Duration.ofSeconds(dedupeWindowSeconds).toMillis();
+        this.dedupeExpectedViews = dedupeExpectedViews;
+        this.dedupeFpp = dedupeFpp;
+        this.currentViews = newFilter();
+        this.previousViews = newFilter();
+        this.rotatedAt = System.currentTimeMillis();
+
+        this.recordedCounter = Counter.builder("product.view.recorded")
+                .description("집계된 상품 조회 수")
+                .register(meterRegistry);
+        this.deduplicatedCounter = Counter.builder("product.view.deduplicated")
+                .description("중복 조회로 제외된 수")
+                .register(meterRegistry);
+        this.flushedRowsCounter = Counter.builder("product.view.flush.rows")
+                .description("조회수 반영 UPDATE 행 수")
+                .register(meterRegistry);
+        this.flushFailureCounter = Counter.builder("product.view.flush.failures")
+                .description("조회수 반영 실패 횟수 (증가분은 다음 반영 때 재시도)")
+                .register(meterRegistry);
+        Gauge.builder("product.view.pending.products", buffer, ProductCounterBuffer::size)
+                .description("반영 대기 중인 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 조회 기록
+     * @param productId 상품 ID
+     * @param viewerKey 조회자 식별값 (회원 ID 또는 세션 식별값, null이면 중복 제거 없이 집계)
+     * @return 집계 여부 (중복 조회면 false)
+     */
+    public boolean recordView(Long productId, String viewerKey) {
+        if (dedupeEnabled && viewerKey != null && isDuplicate(viewerKey + ":" + productId)) {
+            deduplicatedCounter.increment();
+            return false;
+        }
+        buffer.add(productId, 1);
+        recordedCounter.increment();
+        return true;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수
+     */
+    public long pendingViews(Long productId) {
+        return buffer.pending(productId);
+    }
+
+    /**
+     * 누적된 조회수를 한 번의 배치 UPDATE로 반영
+     * @return 반영한 상품 수
+     */
+    @Scheduled(fixedDelayString = "${product.view-count.flush-interval-ms:5000}")
+    public int flush() {
+        try {
+            int flushed = buffer.flush(jdbcTemplate, transactionTemplate);
+            flushedRowsCounter.increment(flushed);
+            return flushed;
+        } catch (RuntimeException e) {
+            flushFailureCounter.increment();
+            log.warn("상품 조회수 반영 실패, 다음 주기에 재시도 - message: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 종료 시 남은 조회수 반영
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void flushOnShutdown() {
+        int flushed = flush();
+        log.info("종료 전 상품 조회수 반영 - products: {}", flushed);
+    }
+
+    private boolean isDuplicate(String key) {
+        rotateIfExpired();
+        if (currentViews.mightContain(key) || previousViews.mightContain(key)) {
+            return true;
+        }
+        currentViews.put(key);
+        return false;
+    }
+
+    /**
+     * 구간이 지나면 현재 필터를 이전 필터로 넘기고 새 필터를 사용 (중복 제거 기간: window ~ 2 * window)
+     */
+    private void rotateIfExpired() {
+        long now = System.currentTimeMillis();
+        if (now - rotatedAt < dedupeWindowMillis) {
+            return;
+        }
+        synchronized (rotationLock) {
+            if (now - rotatedAt >= dedupeWindowMillis) {
+                previousViews = currentViews;
+                currentViews = newFilter();
+                rotatedAt = now;
+            }
+        }
+    }
+
+    private BloomFilter<CharSequence> newFilter() {
+        return BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8), dedupeExpectedViews, dedupeFpp);
+    }
+}
@@ -0,0 +1,71 @@
+package potato.backend.domain.savedsearch.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import potato.backend.domain.savedsearch.dto.SavedSearchCreateRequest;
+import potato.backend.domain.savedsearch.dto.SavedSearchResponse;
+import potato.backend.domain.savedsearch.service.SavedSearchService;
+import potato.backend.global.util.MemberUtil;
+
+import java.util.List;
+
+/**
+ * 저장된 검색(새 상품 알림) 컨트롤러
+ */
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/saved-searches")
+@Tag(name = "SavedSearch", description = "저장된 검색 및 새 상품 알림 API")
+public class SavedSearchController {
+
+    private final SavedSearchService savedSearchService;
+    private final MemberUtil memberUtil;
+
+    @Operation(summary = "검색 조건 저장", description = "키워드/카테고리/가격 범위/상품 상태 조건을 저장하고, 조건에 맞는 상품이 등록되면 푸시 알림을 받습니다. 키워드와 카테고리 중 하나는 필수입니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "저장 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 조건 또는 저장 개수 초과"),
+            @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음")
+    })
+    @PostMapping
+    public ResponseEntity<SavedSearchResponse> createSavedSearch(@Valid @RequestBody SavedSearchCreateRequest request) {
+        Long memberId = memberUtil.getCurrentUser().memberId();
+        log.info("검색 조건 저장 요청: memberId={}", memberId);
+
+        SavedSearchResponse response = savedSearchService.createSavedSearch(memberId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "저장된 검색 목록 조회", description = "내가 저장한 검색 조건을 최근 등록순으로 조회합니다.")
+    @GetMapping
+    public ResponseEntity<List<SavedSearchResponse>> getSavedSearches() {
+        Long memberId = memberUtil.getCurrentUser().memberId();
+        return ResponseEntity.ok(savedSearchService.getSavedSearches(memberId));
+    }
+
+    @Operation(summary = "저장된 검색 삭제", description = "저장한 검색 조건을 삭제합니다. 이후 해당 조건의 알림은 전송되지 않습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "삭제 성공"),
+            @ApiResponse(responseCode = "404", description = "저장된 검색을 찾을 수 없음")
+    })
+    @DeleteMapping("/{savedSearchId}")
+    public ResponseEntity<Void> deleteSavedSearch(
+            @Parameter(description = "저장된 검색 ID", required = true)
+            @PathVariable Long savedSearchId) {
+        Long memberId = memberUtil.getCurrentUser().memberId();
+        log.info("저장된 검색 삭제 요청: memberId={}, savedSearchId={}", memberId, savedSearchId);
+
+        savedSearchService.deleteSavedSearch(memberId, savedSearchId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,66 @@
+package potato.backend.domain.savedsearch.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import potato.backend.domain.common.domain.BaseEntity;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.user.domain.Member;
+
+import java.util.Objects;
+
+/**
+ * 저장된 검색 (새 상품 알림 구독)
+ * 키워드/카테고리/가격 범위/상품 상태 조건을 저장해 두고, 조건에 맞는 상품이 등록되면 푸시 알림을 보냅니다.
+ */
+@Entity
+@Table(name = "saved_search", indexes = {
+        @Index(name = "idx_saved_search_member_id", columnList = "member_id")
+})
+@Getter
+@Builder(access = AccessLevel.PRIVATE)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SequenceGenerator(
+        name = "saved_search_seq",
+        sequenceName = "saved_search_seq",
+        allocationSize = 50
+)
+public class SavedSearch extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "saved_search_seq")
+    @Column(name = "saved_search_id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Column(length = 100)
+    private String keyword; // 제목 키워드 (nullable)
+
+    @Column(name = "category_name", length = 50)
+    private String categoryName; // 카테고리 이름 (nullable)
+
+    private Long minPrice; // 최소 가격, 포함 (nullable)
+
+    private Long maxPrice; // 최대 가격, 포함 (nullable)
+
+    @Enumerated(EnumType.STRING)
+    private Condition condition; // 상품 상태 (nullable)
+
+    // 저장된 검색 생성 팩토리 메서드
+    public static SavedSearch create(Member member, String keyword, String categoryName,
+                                     Long minPrice, Long maxPrice, Condition condition) {
+        Objects.requireNonNull(member, "member");
+
+        return SavedSearch.builder()
+                .member(member)
+                .keyword(keyword)
+                .categoryName(categoryName)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .condition(condition)
+                .build();
+    }
+}
@@ -0,0 +1,32 @@
+package potato.backend.domain.savedsearch.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+/**
+ * 저장된 검색 등록 요청 DTO
+ * 키워드와 카테고리 중 하나는 있어야 합니다.
+ */
+@Getter
+public class SavedSearchCreateRequest {
+
+    @Schema(description = "제목 키워드", example = "아이패드")
+    @Size(max = 100, message = "키워드는 100자 이하여야 합니다")
+    private String keyword;
+
+    @Schema(description = "카테고리 이름", example = "디지털")
+    private String category;
+
+    @Schema(description = "최소 가격(원, 포함)", example = "0")
+    @PositiveOrZero(message = "가격은 0 이상이어야 합니다")
+    private Long minPrice;
+
+    @Schema(description = "최대 가격(원, 포함)", example = "500000")
+    @PositiveOrZero(message = "가격은 0 이상이어야 합니다")
+    private Long maxPrice;
+
+    @Schema(description = "상품 상태", example = "USED")
+    private String condition;
+}
@@ -0,0 +1,29 @@
+package potato.backend.domain.savedsearch.dto;
+
+import lombok.Getter;
+import potato.backend.domain.savedsearch.domain.SavedSearch;
+
+import java.time.Instant;
+
+@Getter
+public class SavedSearchResponse {
+    private Long savedSearchId;
+    private String keyword;
+    private String category;
+    private Long minPrice;
+    private Long maxPrice;
+    private String condition;
+    private Instant createdAt;
+
+    public static SavedSearchResponse fromEntity(SavedSearch savedSearch) {
+        SavedSearchResponse response = new SavedSearchResponse();
+        response.savedSearchId = savedSearch.getId();
+        response.keyword = savedSearch.getKeyword();
+        response.category = savedSearch.getCategoryName();
+        response.minPrice = savedSearch.getMinPrice();
+        response.maxPrice = savedSearch.getMaxPrice();
+        response.condition = savedSearch.getCondition() == null ? null : savedSearch.getCondition().name();
+        response.createdAt = savedSearch.getCreatedAt();
+        return response;
+    }
+}
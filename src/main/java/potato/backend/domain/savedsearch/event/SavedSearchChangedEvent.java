@@ -0,0 +1,32 @@
+package potato.backend.domain.savedsearch.event;
+
+import potato.backend.domain.savedsearch.domain.SavedSearch;
+import potato.backend.domain.savedsearch.percolator.SavedSearchPercolator;
+
+/**
+ * 저장된 검색 등록/삭제 이벤트
+ * 커밋 이후(AFTER_COMMIT) percolator에 반영합니다.
+ * @param savedSearchId 저장된 검색 ID
+ * @param query 등록된 조건 (삭제 시 null)
+ */
+public record SavedSearchChangedEvent(Long savedSearchId, SavedSearchPercolator.Query query) {
+
+    public static SavedSearchChangedEvent created(SavedSearch savedSearch) {
+        return new SavedSearchChangedEvent(savedSearch.getId(), toQuery(savedSearch));
+    }
+
+    public static SavedSearchChangedEvent deleted(Long savedSearchId) {
+        return new SavedSearchChangedEvent(savedSearchId, null);
+    }
+
+    public static SavedSearchPercolator.Query toQuery(SavedSearch savedSearch) {
+        return new SavedSearchPercolator.Query(
+                savedSearch.getId(),
+                savedSearch.getMember().getId(),
+                savedSearch.getKeyword(),
+                savedSearch.getCategoryName(),
+                savedSearch.getCondition(),
+                savedSearch.getMinPrice(),
+                savedSearch.getMaxPrice());
+    }
+}
@@ -0,0 +1,189 @@
+package potato.backend.domain.savedsearch.percolator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.search.KoreanNgramTokenizer;
+
+/**
+ * 저장된 검색 조건 역색인 (percolator, in-process)
+ * 상품 검색 색인과 반대로 "검색 조건"을 색인하고 새 상품을 질의로 사용해, 상품에 맞는 조건만 찾습니다.
+ * <ul>
+ *     <li>조건마다 키워드 토큰/카테고리 중 등록 시점에 게시 목록이 가장 짧은 키 하나(anchor)에만 등록</li>
+ *     <li>상품의 제목 토큰과 카테고리로 anchor 게시 목록만 모아 나머지 조건(모든 토큰, 카테고리, 가격, 상태)을 검사</li>
+ * </ul>
+ * 후보 수는 상품과 anchor를 공유하는 조건 수에 비례하므로 전체 조건 수와 무관하게 대략 O(일치 수)로 동작합니다.
+ * 키워드 토큰화는 상품 검색(KoreanNgramTokenizer)과 같은 규칙을 사용합니다.
+ */
+public class SavedSearchPercolator {
+
+    private static final String CATEGORY_KEY_PREFIX = "c:";
+    private static final String TERM_KEY_PREFIX = "t:";
+
+    private final Map<String, List<Query>> postings = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 저장된 검색 조건
+     * @param savedSearchId 저장된 검색 ID
+     * @param memberId 구독 회원 ID
+     * @param keyword 제목 키워드 (없으면 null)
+     * @param categoryName 카테고리 이름 (없으면 null)
+     * @param condition 상품 상태 (없으면 null)
+     * @param minPrice 최소 가격 (포함, 없으면 null)
+     * @param maxPrice 최대 가격 (포함, 없으면 null)
+     */
+    public record Query(Long savedSearchId, Long memberId, String keyword, String categoryName,
+                        Condition condition, Long minPrice, Long maxPrice) {
+    }
+
+    /**
+     * 새로 등록된 상품
+     * @param title 제목
+     * @param categoryNames 카테고리 이름 목록
+     * @param condition 상품 상태
+     * @param price 가격 (원)
+     */
+    public record Document(String title, List<String> categoryNames, Condition condition, long price) {
+    }
+
+    private record Entry(Query query, Set<String> terms, String anchor) {
+    }
+
+    /**
+     * 조건 등록 (같은 ID가 있으면 교체)
+     * 키워드와 카테고리가 모두 없는 조건은 모든 상품과 일치하므로 등록하지 않습니다.
+     * @return 등록 여부
+     */
+    public boolean add(Query query) {
+        Set<String> terms = new LinkedHashSet<>(KoreanNgramTokenizer.tokenizeForQuery(query.keyword()));
+        lock.writeLock().lock();
+        try {
+            removeInternal(query.savedSearchId());
+            String anchor = selectAnchor(terms, query.categoryName());
+            if (anchor == null) {
+                return false;
+            }
+            entries.put(query.savedSearchId(), new Entry(query, terms, anchor));
+            postings.computeIfAbsent(anchor, k -> new ArrayList<>()).add(query);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 조건 제거
+     */
+    public void remove(Long savedSearchId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(savedSearchId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 상품과 일치하는 조건 조회
+     * @param document 상품
+     * @return 일치하는 조건 목록 (같은 회원의 조건이 여러 개일 수 있음)
+     */
+    public List<Query> match(Document document) {
+        Set<String> keys = new LinkedHashSet<>();
+        Set<String> titleTerms = new HashSet<>(KoreanNgramTokenizer.tokenizeForIndex(document.title()));
+        titleTerms.forEach(term -> keys.add(TERM_KEY_PREFIX + term));
+        document.categoryNames().forEach(name -> keys.add(CATEGORY_KEY_PREFIX + name));
+
+        List<Query> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (String key : keys) {
+                List<Query> candidates = postings.get(key);
+                if (candidates == null) {
+                    continue;
+                }
+                for (Query candidate : candidates) {
+                    if (matches(entries.get(candidate.savedSearchId()), titleTerms, document)) {
+                        matches.add(candidate);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return matches;
+    }
+
+    /**
+     * 등록된 조건 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean matches(Entry entry, Set<String> titleTerms, Document document) {
+        Query query = entry.query();
+        if (query.categoryName() != null && !document.categoryNames().contains(query.categoryName())) {
+            return false;
+        }
+        if (query.condition() != null && query.condition() != document.condition()) {
+            return false;
+        }
+        if (query.minPrice() != null && document.price() < query.minPrice()) {
+            return false;
+        }
+        if (query.maxPrice() != null && document.price() > query.maxPrice()) {
+            return false;
+        }
+        return titleTerms.containsAll(entry.terms());
+    }
+
+    /**
+     * 게시 목록이 가장 짧은 키 선택 (키워드가 흔한 토큰뿐이면 카테고리에 등록될 수 있음)
+     */
+    private String selectAnchor(Set<String> terms, String categoryName) {
+        List<String> keys = new ArrayList<>();
+        terms.forEach(term -> keys.add(TERM_KEY_PREFIX + term));
+        if (categoryName != null) {
+            keys.add(CATEGORY_KEY_PREFIX + categoryName);
+        }
+
+        String anchor = null;
+        int shortest = Integer.MAX_VALUE;
+        for (String key : keys) {
+            List<Query> posting = postings.get(key);
+            int length = posting == null ? 0 : posting.size();
+            if (length < shortest) {
+                anchor = key;
+                shortest = length;
+            }
+        }
+        return anchor;
+    }
+
+    private void removeInternal(Long savedSearchId) {
+        Entry entry = entries.remove(savedSearchId);
+        if (entry == null) {
+            return;
+        }
+        List<Query> posting = postings.get(entry.anchor());
+        posting.removeIf(query -> query.savedSearchId().equals(savedSearchId));
+        if (posting.isEmpty()) {
+            postings.remove(entry.anchor());
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package potato.backend.domain.savedsearch.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import potato.backend.domain.savedsearch.domain.SavedSearch;
+
+@Repository
+public interface SavedSearchRepository extends JpaRepository<SavedSearch, Long> {
+
+    List<SavedSearch> findByMemberIdOrderByIdDesc(Long memberId);
+
+    long countByMemberId(Long memberId);
+
+    /**
+     * ID 순 배치 조회 (기동 시 percolator 재구성용, member는 ID만 사용)
+     */
+    @Query("SELECT s FROM SavedSearch s WHERE s.id > :lastId ORDER BY s.id ASC")
+    List<SavedSearch> findAllAfter(@Param("lastId") Long lastId, Pageable pageable);
+}
@@ -0,0 +1,261 @@
+package potato.backend.domain.savedsearch.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.notification.dto.ProductAlertNotification;
+import potato.backend.domain.notification.service.FcmService;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.event.ProductChangedEvent;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.savedsearch.event.SavedSearchChangedEvent;
+import potato.backend.domain.savedsearch.percolator.SavedSearchPercolator;
+import potato.backend.domain.savedsearch.repository.SavedSearchRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+
+/**
+ * 저장된 검색 새 상품 알림 서비스
+ * <ul>
+ *     <li>매칭: 상품 생성 트랜잭션 커밋 후 ProductChangedEvent(CREATED)로 percolator에서 일치하는 조건만 조회해 대기열에 적재</li>
+ *     <li>전송: 주기적으로 대기열을 비우며 상품/회원을 IN 조회 한 번씩으로 불러와 FCM 다건 전송</li>
+ *     <li>기동: 저장된 검색을 ID 순으로 나눠 percolator 재구성</li>
+ *     <li>다른 노드의 등록/삭제: percolator가 노드마다 있으므로 주기적으로 DB에서 새로 만들어 교체</li>
+ * </ul>
+ * 한 상품에 같은 회원의 조건이 여러 개 일치해도 알림은 한 번만 보내고, 판매자 본인과 전송 전에 삭제된 상품은 제외합니다.
+ * 대기열은 노드 메모리에 있으므로 종료 직전에 등록된 상품의 알림은 유실될 수 있습니다.
+ */
+@Slf4j
+@Service
+public class SavedSearchAlertService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final ProductRepository productRepository;
+    private final MemberRepository memberRepository;
+    private final FcmService fcmService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Object percolatorLock = new Object();
+    private volatile SavedSearchPercolator percolator = new SavedSearchPercolator();
+    private List<SavedSearchChangedEvent> changesDuringReload; // 재구성 중 이 노드에서 반영한 변경 (percolatorLock으로 보호)
+    private final ConcurrentLinkedQueue<PendingAlert> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final Counter matchedCounter;
+    private final Counter droppedCounter;
+
+    @Value("${saved-search.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    @Value("${saved-search.alert.max-pending:10000}")
+    private int maxPending;
+
+    @Value("${saved-search.alert.products-per-dispatch:200}")
+    private int productsPerDispatch;
+
+    /**
+     * 전송 대기 중인 알림 (상품 하나와 일치한 회원들)
+     */
+    record PendingAlert(Long productId, Set<Long> memberIds) {
+    }
+
+    public SavedSearchAlertService(SavedSearchRepository savedSearchRepository,
+                                   ProductRepository productRepository,
+                                   MemberRepository memberRepository,
+                                   FcmService fcmService,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry) {
+        this.savedSearchRepository = savedSearchRepository;
+        this.productRepository = productRepository;
+        this.memberRepository = memberRepository;
+        this.fcmService = fcmService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.matchedCounter = Counter.builder("saved_search.alert.matched")
+                .description("저장된 검색과 일치해 대기열에 적재된 알림 수 (상품, 회원 단위)")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("saved_search.alert.dropped")
+                .description("대기열이 가득 차 버린 상품 수")
+                .register(meterRegistry);
+        Gauge.builder("saved_search.percolator.queries", this, service -> service.percolator.size())
+                .description("percolator에 등록된 저장된 검색 수")
+                .register(meterRegistry);
+        Gauge.builder("saved_search.alert.pending", pendingCount, AtomicInteger::get)
+                .description("전송 대기 중인 상품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 새 상품과 일치하는 저장된 검색을 찾아 대기열에 적재 (커밋된 상품만, 일치 수에 비례)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.type() != ProductChangedEvent.Type.CREATED) {
+            return;
+        }
+        List<SavedSearchPercolator.Query> matches = percolator.match(new SavedSearchPercolator.Document(
+                event.document().title(),
+                event.facets().categoryNames(),
+                event.facets().condition(),
+                event.facets().price()));
+        if (matches.isEmpty()) {
+            return;
+        }
+
+        Set<Long> memberIds = matches.stream()
+                .map(SavedSearchPercolator.Query::memberId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (pendingCount.incrementAndGet() > maxPending) {
+            pendingCount.decrementAndGet();
+            droppedCounter.increment();
+            log.warn("저장된 검색 알림 대기열이 가득 찼습니다 - productId: {}, members: {}", event.productId(), memberIds.size());
+            return;
+        }
+        pending.add(new PendingAlert(event.productId(), memberIds));
+        matchedCounter.increment(memberIds.size());
+    }
+
+    /**
+     * 저장된 검색 등록/삭제를 percolator에 반영 (커밋된 변경만)
+     * 재구성 중이면 새 percolator에도 반영되도록 변경을 남겨 둡니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSavedSearchChanged(SavedSearchChangedEvent event) {
+        synchronized (percolatorLock) {
+            apply(percolator, event);
+            if (changesDuringReload != null) {
+                changesDuringReload.add(event);
+            }
+        }
+    }
+
+    /**
+     * 대기열의 알림을 모아 FCM 다건 전송
+     * @return 전송 요청한 알림 수
+     */
+    @Scheduled(fixedDelayString = "${saved-search.alert.dispatch-interval-ms:3000}")
+    public int dispatch() {
+        List<PendingAlert> alerts = new ArrayList<>();
+        PendingAlert alert;
+        while (alerts.size() < productsPerDispatch && (alert = pending.poll()) != null) {
+            pendingCount.decrementAndGet();
+            alerts.add(alert);
+        }
+        if (alerts.isEmpty()) {
+            return 0;
+        }
+
+        List<ProductAlertNotification> notifications = readOnlyTransaction.execute(status -> toNotifications(alerts));
+        if (notifications == null || notifications.isEmpty()) {
+            return 0;
+        }
+        return fcmService.sendProductAlerts(notifications);
+    }
+
+    /**
+     * 기동 시 percolator 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    /**
+     * DB 기준으로 percolator를 새로 만들어 교체 (다른 노드에서 등록/삭제된 조건 반영)
+     * 조회 중에 이 노드에서 커밋된 변경은 교체 직전에 새 percolator에 다시 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${saved-search.reload-interval-ms:60000}",
+            initialDelayString = "${saved-search.reload-interval-ms:60000}")
+    public void reload() {
+        long start = System.nanoTime();
+        synchronized (percolatorLock) {
+            changesDuringReload = new ArrayList<>();
+        }
+        SavedSearchPercolator rebuilt = new SavedSearchPercolator();
+        try {
+            long lastId = 0L;
+            while (true) {
+                long afterId = lastId;
+                List<SavedSearchPercolator.Query> queries = readOnlyTransaction.execute(status ->
+                        savedSearchRepository.findAllAfter(afterId, PageRequest.of(0, rebuildBatchSize)).stream()
+                                .map(SavedSearchChangedEvent::toQuery)
+                                .toList());
+                if (queries == null || queries.isEmpty()) {
+                    break;
+                }
+                queries.forEach(rebuilt::add);
+                lastId = queries.get(queries.size() - 1).savedSearchId();
+            }
+        } catch (RuntimeException e) {
+            synchronized (percolatorLock) {
+                changesDuringReload = null;
+            }
+            log.warn("저장된 검색 percolator 재구성 실패, 기존 조건을 유지합니다 - message: {}", e.getMessage());
+            return;
+        }
+        synchronized (percolatorLock) {
+            changesDuringReload.forEach(event -> apply(rebuilt, event));
+            changesDuringReload = null;
+            percolator = rebuilt;
+        }
+        log.info("저장된 검색 percolator 재구성 완료 - queries: {}, elapsedMs: {}",
+                rebuilt.size(), Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    private static void apply(SavedSearchPercolator target, SavedSearchChangedEvent event) {
+        if (event.query() == null) {
+            target.remove(event.savedSearchId());
+        } else {
+            target.add(event.query());
+        }
+    }
+
+    private List<ProductAlertNotification> toNotifications(List<PendingAlert> alerts) {
+        // 전송 전에 삭제된 상품은 조회되지 않음 (@SQLRestriction)
+        Map<Long, Product> products = productRepository.findAllById(
+                        alerts.stream().map(PendingAlert::productId).toList()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        Map<Long, Member> members = memberRepository.findAllById(
+                        alerts.stream().flatMap(pendingAlert -> pendingAlert.memberIds().stream()).distinct().toList()).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+        List<ProductAlertNotification> notifications = new ArrayList<>();
+        for (PendingAlert pendingAlert : alerts) {
+            Product product = products.get(pendingAlert.productId());
+            if (product == null) {
+                continue;
+            }
+            Long sellerId = product.getMember().getId();
+            for (Long memberId : pendingAlert.memberIds()) {
+                Member member = members.get(memberId);
+                if (member != null && !memberId.equals(sellerId)) {
+                    notifications.add(new ProductAlertNotification(member, product.getId(), product.getTitle(),
+                            product.getPrice().longValue()));
+                }
+            }
+        }
+        return notifications;
+    }
+}
@@ -0,0 +1,111 @@
+package potato.backend.domain.savedsearch.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.search.KoreanNgramTokenizer;
+import potato.backend.domain.savedsearch.domain.SavedSearch;
+import potato.backend.domain.savedsearch.dto.SavedSearchCreateRequest;
+import potato.backend.domain.savedsearch.dto.SavedSearchResponse;
+import potato.backend.domain.savedsearch.event.SavedSearchChangedEvent;
+import potato.backend.domain.savedsearch.repository.SavedSearchRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.global.exception.CustomException;
+import potato.backend.global.exception.ErrorCode;
+
+/**
+ * 저장된 검색 관리 서비스
+ * 등록/삭제는 커밋 후 SavedSearchChangedEvent로 알림 percolator(SavedSearchAlertService)에 반영됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SavedSearchService {
+
+    private final SavedSearchRepository savedSearchRepository;
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${saved-search.max-per-member:20}")
+    private int maxPerMember;
+
+    /**
+     * 저장된 검색 등록
+     * @param memberId 회원 ID
+     * @param request 검색 조건 (키워드와 카테고리 중 하나는 필수)
+     * @return 등록된 검색 조건
+     */
+    @Transactional
+    public SavedSearchResponse createSavedSearch(Long memberId, SavedSearchCreateRequest request) {
+        String keyword = normalize(request.getKeyword());
+        String category = normalize(request.getCategory());
+        if ((keyword == null || KoreanNgramTokenizer.tokenizeForQuery(keyword).isEmpty()) && category == null) {
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT, "키워드와 카테고리 중 하나는 입력해야 합니다");
+        }
+        if (request.getMinPrice() != null && request.getMaxPrice() != null
+                && request.getMinPrice() > request.getMaxPrice()) {
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT, "최소 가격은 최대 가격보다 클 수 없습니다");
+        }
+        Condition condition = parseCondition(request.getCondition());
+
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new CustomException(ErrorCode.MEMBER_NOT_FOUND));
+        if (savedSearchRepository.countByMemberId(memberId) >= maxPerMember) {
+            throw new CustomException(ErrorCode.SAVED_SEARCH_LIMIT_EXCEEDED,
+                    "검색 조건은 최대 " + maxPerMember + "개까지 저장할 수 있습니다");
+        }
+
+        SavedSearch savedSearch = savedSearchRepository.save(SavedSearch.create(member, keyword, category,
+                request.getMinPrice(), request.getMaxPrice(), condition));
+        eventPublisher.publishEvent(SavedSearchChangedEvent.created(savedSearch));
+        log.info("저장된 검색 등록: memberId={}, savedSearchId={}", memberId, savedSearch.getId());
+        return SavedSearchResponse.fromEntity(savedSearch);
+    }
+
+    /**
+     * 회원의 저장된 검색 목록 조회 (최근 등록순)
+     */
+    public List<SavedSearchResponse> getSavedSearches(Long memberId) {
+        return savedSearchRepository.findByMemberIdOrderByIdDesc(memberId).stream()
+                .map(SavedSearchResponse::fromEntity)
+                .toList();
+    }
+
+    /**
+     * 저장된 검색 삭제 (본인 것만)
+     */
+    @Transactional
+    public void deleteSavedSearch(Long memberId, Long savedSearchId) {
+        SavedSearch savedSearch = savedSearchRepository.findById(savedSearchId)
+                .filter(found -> found.getMember().getId().equals(memberId))
+                .orElseThrow(() -> new CustomException(ErrorCode.SAVED_SEARCH_NOT_FOUND));
+
+        savedSearchRepository.delete(savedSearch);
+        eventPublisher.publishEvent(SavedSearchChangedEvent.deleted(savedSearchId));
+        log.info("저장된 검색 삭제: memberId={}, savedSearchId={}", memberId, savedSearchId);
+    }
+
+    private String normalize(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private Condition parseCondition(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Condition.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT, "유효하지 않은 condition 값입니다: " + value);
+        }
+    }
+}
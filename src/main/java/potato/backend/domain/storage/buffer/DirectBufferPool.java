@@ -0,0 +1,111 @@
+package potato.backend.domain.storage.buffer;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 재사용 가능한 고정 크기 direct ByteBuffer 풀
+ * S3 멀티파트 업로드의 파트 버퍼로 사용하며, 버퍼 수가 maxBuffers로 제한되므로
+ * 동시 업로드가 많아도 업로드 버퍼 메모리는 bufferSize * maxBuffers를 넘지 않습니다.
+ * 버퍼는 처음 필요할 때 만들고, 모두 사용 중이면 반납될 때까지 기다립니다.
+ */
+public class DirectBufferPool {
+
+    private final int bufferSize;
+    private final int maxBuffers;
+    private final long acquireTimeoutMillis;
+    private final BlockingQueue<ByteBuffer> idle;
+    private final AtomicInteger allocated = new AtomicInteger();
+
+    public DirectBufferPool(int bufferSize, int maxBuffers, long acquireTimeoutMillis) {
+        if (bufferSize <= 0 || maxBuffers <= 0) {
+            throw new IllegalArgumentException("버퍼 크기와 개수는 0보다 커야 합니다");
+        }
+        this.bufferSize = bufferSize;
+        this.maxBuffers = maxBuffers;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.idle = new ArrayBlockingQueue<>(maxBuffers);
+    }
+
+    /**
+     * 버퍼 대여 (비어 있는 상태로 반환)
+     * @throws IllegalStateException 대기 시간 안에 버퍼를 얻지 못한 경우
+     */
+    public ByteBuffer acquire() {
+        ByteBuffer buffer = idle.poll();
+        if (buffer != null) {
+            return buffer;
+        }
+        if (allocated.getAndUpdate(count -> count < maxBuffers ? count + 1 : count) < maxBuffers) {
+            return ByteBuffer.allocateDirect(bufferSize);
+        }
+        try {
+            buffer = idle.poll(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("업로드 버퍼 대기 중 인터럽트되었습니다", e);
+        }
+        if (buffer == null) {
+            throw new IllegalStateException("업로드 버퍼 대기 시간이 초과되었습니다 (" + acquireTimeoutMillis + "ms)");
+        }
+        return buffer;
+    }
+
+    /**
+     * 버퍼 반납
+     */
+    public void release(ByteBuffer buffer) {
+        if (buffer == null) {
+            return;
+        }
+        buffer.clear();
+        idle.offer(buffer);
+    }
+
+    public int bufferSize() {
+        return bufferSize;
+    }
+
+    public int allocatedCount() {
+        return allocated.get();
+    }
+
+    public int idleCount() {
+        return idle.size();
+    }
+
+    /**
+     * 버퍼의 position~limit 구간을 복사 없이 읽는 InputStream
+     * 원본 버퍼의 위치를 바꾸지 않도록 duplicate()를 넘겨야 합니다.
+     */
+    public static InputStream asInputStream(ByteBuffer buffer) {
+        return new InputStream() {
+            @Override
+            public int read() {
+                return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+            }
+
+            @Override
+            public int read(byte[] bytes, int offset, int length) {
+                if (length == 0) {
+                    return 0;
+                }
+                if (!buffer.hasRemaining()) {
+                    return -1;
+                }
+                int count = Math.min(length, buffer.remaining());
+                buffer.get(bytes, offset, count);
+                return count;
+            }
+
+            @Override
+            public int available() {
+                return buffer.remaining();
+            }
+        };
+    }
+}
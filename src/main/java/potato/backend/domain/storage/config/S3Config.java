@@ -8,6 +8,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.storage.buffer.DirectBufferPool;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
@@ -37,6 +38,8 @@ public class S3Config {
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
 
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024; // S3 최소 파트 크기 (5MiB)
+
     @Bean
     public S3Client s3Client() {
         log.info("=== S3Client 초기화 시작 ===");
@@ -104,7 +107,11 @@ public class S3Config {
                 .credentialsProvider(StaticCredentialsProvider.create(
                         AwsBasicCredentials.create(accessKey, secretKey)
                 ))
-                .region(Region.of(region));
+                .region(Region.of(region))
+                // 서명 URL도 S3Client와 같은 주소 형식(path-style 여부)으로 만들어야 서명이 일치함
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(pathStyle)
+                        .build());
         
         // endpoint가 설정되어 있으면 (로컬 MinIO 등) override
         if (endpoint != null && !endpoint.isEmpty()) {
@@ -114,6 +121,22 @@ public class S3Config {
         return builder.build();
     }
 
+    /**
+     * 멀티파트 업로드 파트 버퍼 풀
+     * S3는 마지막 파트를 제외한 파트가 5MiB 이상이어야 하므로 그보다 작은 파트 크기는 허용하지 않습니다.
+     */
+    @Bean
+    public DirectBufferPool s3UploadBufferPool(
+            @Value("${cloud.aws.s3.multipart.part-size-bytes:5242880}") int partSize,
+            @Value("${cloud.aws.s3.multipart.max-buffers:8}") int maxBuffers,
+            @Value("${cloud.aws.s3.multipart.buffer-wait-millis:10000}") long bufferWaitMillis) {
+        if (partSize < MIN_PART_SIZE) {
+            throw new IllegalStateException("cloud.aws.s3.multipart.part-size-bytes는 5MiB 이상이어야 합니다: " + partSize);
+        }
+        log.info("Initializing S3 upload buffer pool - partSize: {}, maxBuffers: {}", partSize, maxBuffers);
+        return new DirectBufferPool(partSize, maxBuffers, bufferWaitMillis);
+    }
+
     @Bean
     public S3Configuration s3Configuration() {
         return S3Configuration.builder()
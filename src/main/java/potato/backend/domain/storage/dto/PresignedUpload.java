@@ -0,0 +1,21 @@
+package potato.backend.domain.storage.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 서명된 업로드 URL 발급 결과
+ * 클라이언트는 uploadUrl로 headers를 그대로 실어 PUT 요청을 보내야 합니다.
+ *
+ * @param key 업로드될 S3 object key (완료 요청에 사용)
+ * @param uploadUrl 서명된 PUT URL
+ * @param headers 서명에 포함된 헤더 (Content-Type, Content-Length)
+ * @param expiresAt URL 만료 시각
+ */
+public record PresignedUpload(
+        String key,
+        String uploadUrl,
+        Map<String, String> headers,
+        Instant expiresAt
+) {
+}
@@ -1,8 +1,18 @@
 package potato.backend.domain.storage.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -13,18 +23,33 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import potato.backend.domain.image.exception.ImageUploadException;
 import potato.backend.domain.image.exception.InvalidImageException;
+import potato.backend.domain.storage.buffer.DirectBufferPool;
+import potato.backend.domain.storage.dto.PresignedUpload;
 import potato.backend.global.util.FileNameUtils;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
 import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 /**
  * S3 파일 업로드/삭제 서비스
- * 서버를 통해 직접 파일을 업로드/삭제하는 로직을 담당합니다.
+ * 서버를 통해 직접 파일을 업로드/삭제하는 로직과,
+ * 클라이언트가 S3로 직접 올릴 수 있도록 서명된 업로드 URL을 발급/검증하는 로직을 담당합니다.
  */
 @Slf4j
 @Service
@@ -33,6 +58,8 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 public class S3Service {
     
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final DirectBufferPool uploadBufferPool;
     
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -43,14 +70,24 @@ public class S3Service {
     @Value("${cloud.aws.s3.endpoint:#{null}}")
     private String endpoint;
     
+    @Value("${cloud.aws.s3.presign.ttl-seconds:300}")
+    private long presignTtlSeconds;
+    
+    @Value("${cloud.aws.s3.multipart.threshold-bytes:8388608}")
+    private long multipartThreshold;
+    
     private static final List<String> ALLOWED_CONTENT_TYPES = Arrays.asList(
             "image/jpeg", "image/jpg", "image/png", "image/gif", "image/webp"
     );
     
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024; // 10MB
     
+    private static final String IMAGE_KEY_PREFIX = "images/";
+    
     /**
      * 단일 파일 업로드
+     * 파일 전체를 힙에 복사하지 않고 멀티파트 파트(임시 파일)의 InputStream에서 바로 전송합니다.
+     * multipartThreshold 이상인 파일은 풀에서 빌린 direct 버퍼 하나로 파트씩 나눠 S3 멀티파트 업로드를 사용합니다.
      * 
      * @param file 업로드할 파일
      * @return 업로드된 파일의 URL
@@ -60,28 +97,30 @@ public class S3Service {
         
         String originalFilename = file.getOriginalFilename();
         String uniqueFileName = FileNameUtils.uniqueName(originalFilename);
-        String key = "images/" + uniqueFileName;
+        String key = IMAGE_KEY_PREFIX + uniqueFileName;
         
         try {
         // Debug logging: request details
         log.debug("Preparing to upload file to S3 - bucket: {}, key: {}, size: {}, contentType: {}", 
             bucketName, key, file.getSize(), file.getContentType());
 
-            // MultipartFile의 bytes를 읽어서 RequestBody를 생성
-            // 이렇게 하면 InputStream의 mark/reset 문제를 피할 수 있음
-            byte[] fileBytes = file.getBytes();
-            
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .contentType(file.getContentType())
-                    .contentLength((long) fileBytes.length)
-                    .build();
-            
-            s3Client.putObject(
-                    putObjectRequest, 
-                    RequestBody.fromBytes(fileBytes)
-            );
+            long size = file.getSize();
+            if (size >= multipartThreshold) {
+                uploadMultipart(file, key);
+            } else {
+                PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(file.getContentType())
+                        .contentLength(size)
+                        .build();
+                
+                // 재시도마다 새 InputStream을 열어 mark/reset 없이 처음부터 다시 보냄
+                s3Client.putObject(
+                        putObjectRequest, 
+                        RequestBody.fromContentProvider(() -> openStream(file), size, file.getContentType())
+                );
+            }
             
             String fileUrl = generateFileUrl(key);
             log.info("File uploaded successfully - key: {}, url: {}", key, fileUrl);
@@ -105,12 +144,92 @@ public class S3Service {
                     e.statusCode(),
                     e);
             throw new ImageUploadException("S3 업로드 실패: " + errorMsg, e);
-        } catch (IOException e) {
+        } catch (IOException | UncheckedIOException e) {
             log.error("Failed to read file: {}", originalFilename, e);
             throw new ImageUploadException("파일 읽기 실패: " + originalFilename, e);
         }
     }
 
+    /**
+     * 서명된 업로드(PUT) URL 발급
+     * Content-Type과 Content-Length를 서명에 포함하므로, 클라이언트가 다른 형식이나 크기로 올리면 S3가 거부합니다.
+     * 
+     * @param originalFilename 원본 파일명 (확장자만 사용)
+     * @param contentType 업로드할 파일 형식
+     * @param contentLength 업로드할 파일 크기 (bytes)
+     * @return 업로드 key, URL, 필수 헤더, 만료 시각
+     */
+    public PresignedUpload presignUpload(String originalFilename, String contentType, long contentLength) {
+        validateImage(originalFilename, contentType, contentLength);
+        
+        String key = IMAGE_KEY_PREFIX + FileNameUtils.uniqueName(originalFilename);
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType.toLowerCase(Locale.ROOT))
+                .contentLength(contentLength)
+                .build();
+        
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(presignTtlSeconds))
+                .putObjectRequest(putObjectRequest)
+                .build());
+        
+        // host는 URL에 포함되므로 클라이언트가 따로 보낼 헤더에서 제외
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+        
+        log.info("Presigned upload URL issued - key: {}, contentType: {}, size: {}, expiresAt: {}",
+                key, contentType, contentLength, presigned.expiration());
+        return new PresignedUpload(key, presigned.url().toString(), headers, presigned.expiration());
+    }
+    
+    /**
+     * 서명된 URL로 업로드된 파일 검증
+     * headObject로 실제 올라간 객체의 형식과 크기를 확인하고, 조건에 맞지 않으면 객체를 삭제합니다.
+     * 
+     * @param key presignUpload에서 발급한 key
+     * @return 검증된 파일의 URL
+     */
+    public String verifyUploadedFile(String key) {
+        if (key == null || !key.startsWith(IMAGE_KEY_PREFIX) || key.contains("..")) {
+            throw new InvalidImageException("잘못된 업로드 key입니다: " + key);
+        }
+        
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new InvalidImageException("업로드된 파일을 찾을 수 없습니다: " + key);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new InvalidImageException("업로드된 파일을 찾을 수 없습니다: " + key);
+            }
+            log.error("S3 headObject failed for key: {} - statusCode: {}", key, e.statusCode(), e);
+            throw new ImageUploadException("업로드 확인 실패: " + key, e);
+        }
+        
+        try {
+            validateImage(key, head.contentType(), head.contentLength() != null ? head.contentLength() : 0L);
+        } catch (InvalidImageException e) {
+            log.warn("Uploaded object rejected - key: {}, contentType: {}, size: {}",
+                    key, head.contentType(), head.contentLength());
+            deleteObject(key);
+            throw e;
+        }
+        
+        String fileUrl = generateFileUrl(key);
+        log.info("Presigned upload verified - key: {}, size: {}, url: {}", key, head.contentLength(), fileUrl);
+        return fileUrl;
+    }
+
     /**
      * 디버그용: S3에 연결하여 버킷 리스트를 반환합니다.
      */
@@ -157,13 +276,7 @@ public class S3Service {
     public void deleteFile(String fileUrl) {
         try {
             String key = extractKeyFromUrl(fileUrl);
-            
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
-            
-            s3Client.deleteObject(deleteObjectRequest);
+            deleteObject(key);
             log.info("File deleted successfully - key: {}, url: {}", key, fileUrl);
             
         } catch (S3Exception e) {
@@ -178,6 +291,16 @@ public class S3Service {
         }
     }
     
+    /**
+     * 이 버킷의 객체를 가리키는 URL인지 확인 (외부 URL이나 상대 경로면 false)
+     * 
+     * @param fileUrl 확인할 파일의 URL
+     * @return 버킷 객체 URL 여부
+     */
+    public boolean isBucketUrl(String fileUrl) {
+        return findKeyInUrl(fileUrl) != null;
+    }
+    
     /**
      * 여러 파일 삭제
      * 
@@ -220,6 +343,122 @@ public class S3Service {
         }
     }
     
+    /**
+     * S3 멀티파트 업로드
+     * 파트를 순서대로 하나씩 보내므로 업로드 하나가 쓰는 버퍼는 파트 크기 하나뿐입니다.
+     * 중간에 실패하면 업로드를 abort해 S3에 남은 파트가 과금되지 않게 합니다.
+     */
+    private void uploadMultipart(MultipartFile file, String key) throws IOException {
+        ByteBuffer buffer = acquireUploadBuffer();
+        String uploadId = null;
+        try (InputStream in = file.getInputStream();
+             ReadableByteChannel channel = Channels.newChannel(in)) {
+            uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .contentType(file.getContentType())
+                    .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                    .build())
+                    .uploadId();
+            
+            List<CompletedPart> parts = new ArrayList<>();
+            int partNumber = 1;
+            int length;
+            while ((length = fill(channel, buffer)) > 0) {
+                UploadPartRequest uploadPartRequest = UploadPartRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                        .build();
+                
+                // 버퍼를 복사하지 않고 읽고, 재시도 시에는 duplicate()로 처음부터 다시 읽음
+                UploadPartResponse response = s3Client.uploadPart(
+                        uploadPartRequest,
+                        RequestBody.fromContentProvider(() -> DirectBufferPool.asInputStream(buffer.duplicate()),
+                                length, "application/octet-stream")
+                );
+                parts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .checksumCRC32(response.checksumCRC32())
+                        .build());
+                partNumber++;
+            }
+            
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+            log.debug("Multipart upload completed - key: {}, parts: {}", key, parts.size());
+            
+        } catch (IOException | RuntimeException e) {
+            if (uploadId != null) {
+                abortMultipartUpload(key, uploadId, e);
+            }
+            throw e;
+        } finally {
+            uploadBufferPool.release(buffer);
+        }
+    }
+    
+    private ByteBuffer acquireUploadBuffer() {
+        try {
+            return uploadBufferPool.acquire();
+        } catch (IllegalStateException e) {
+            throw new ImageUploadException("업로드 버퍼를 할당하지 못했습니다: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 채널에서 버퍼가 가득 차거나 스트림이 끝날 때까지 읽고, 읽기 모드로 전환
+     * 
+     * @return 읽은 바이트 수 (0이면 스트림 끝)
+     */
+    private static int fill(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.clear();
+        while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+            // 버퍼가 찰 때까지 반복
+        }
+        buffer.flip();
+        return buffer.remaining();
+    }
+    
+    private void abortMultipartUpload(String key, String uploadId, Exception cause) {
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            log.warn("Multipart upload aborted - key: {}, uploadId: {}", key, uploadId);
+        } catch (RuntimeException e) {
+            log.error("Failed to abort multipart upload - key: {}, uploadId: {}", key, uploadId, e);
+            cause.addSuppressed(e);
+        }
+    }
+    
+    private static InputStream openStream(MultipartFile file) {
+        try {
+            return file.getInputStream();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private void deleteObject(String key) {
+        DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+        
+        s3Client.deleteObject(deleteObjectRequest);
+    }
+    
     /**
      * 파일 유효성 검증
      */
@@ -228,22 +467,31 @@ public class S3Service {
             throw new InvalidImageException("파일이 비어있습니다");
         }
         
-        if (file.getSize() > MAX_FILE_SIZE) {
+        validateImage(file.getOriginalFilename(), file.getContentType(), file.getSize());
+    }
+    
+    /**
+     * 파일명/형식/크기 검증 (서버 업로드와 서명 URL 업로드 공통)
+     */
+    private void validateImage(String originalFilename, String contentType, long size) {
+        if (size <= 0) {
+            throw new InvalidImageException("파일이 비어있습니다");
+        }
+        
+        if (size > MAX_FILE_SIZE) {
             throw new InvalidImageException(
                     String.format("파일 크기가 너무 큽니다. 최대 크기: %dMB, 현재 크기: %.2fMB", 
                             MAX_FILE_SIZE / 1024 / 1024,
-                            file.getSize() / 1024.0 / 1024.0)
+                            size / 1024.0 / 1024.0)
             );
         }
         
-        String contentType = file.getContentType();
-        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase())) {
+        if (contentType == null || !ALLOWED_CONTENT_TYPES.contains(contentType.toLowerCase(Locale.ROOT))) {
             throw new InvalidImageException(
                     "지원하지 않는 파일 형식입니다. 지원 형식: " + String.join(", ", ALLOWED_CONTENT_TYPES)
             );
         }
         
-        String originalFilename = file.getOriginalFilename();
         if (originalFilename == null || originalFilename.trim().isEmpty()) {
             throw new InvalidImageException("파일명이 유효하지 않습니다");
         }
@@ -273,6 +521,21 @@ public class S3Service {
             throw new InvalidImageException("파일 URL이 비어있습니다");
         }
         
+        String key = findKeyInUrl(fileUrl);
+        if (key == null) {
+            throw new InvalidImageException("잘못된 S3 URL 형식입니다: " + fileUrl);
+        }
+        return key;
+    }
+    
+    /**
+     * URL에서 S3 key 추출 (버킷 URL이 아니면 null)
+     */
+    private String findKeyInUrl(String fileUrl) {
+        if (fileUrl == null || fileUrl.trim().isEmpty()) {
+            return null;
+        }
+        
         // S3 버킷명 이후의 key 추출
         if (fileUrl.contains(bucketName + "/")) {
             String[] parts = fileUrl.split(bucketName + "/");
@@ -287,6 +550,6 @@ public class S3Service {
             return fileUrl.substring(bucketIndex + bucketName.length() + 2);
         }
         
-        throw new InvalidImageException("잘못된 S3 URL 형식입니다: " + fileUrl);
+        return null;
     }
 }
@@ -12,7 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-import potato.backend.domain.product.dto.ProductListResponse;
+import potato.backend.domain.product.dto.ProductFeedResponse;
 import potato.backend.domain.user.dto.FcmTokenRequest;
 import potato.backend.domain.user.dto.FcmTokenResponse;
 import potato.backend.domain.user.dto.SignUpRequest;
@@ -20,8 +20,6 @@ import potato.backend.domain.user.dto.SignUpResponse;
 import potato.backend.domain.user.service.MemberService;
 import potato.backend.global.util.MemberUtil;
 
-import java.util.List;
-
 /**
  * 회원 관련 컨트롤러
  */
@@ -105,14 +103,14 @@ public class MemberController {
 
     /**
      * 마이페이지 - 판매내역 조회 API
-     * 내가 등록한 상품 목록을 조회합니다.
+     * 내가 등록한 상품 목록을 최신순으로 조회합니다 (커서 기반 페이징).
      */
-    @Operation(summary = "판매내역 조회", description = "내가 등록한 상품 목록을 조회합니다.")
+    @Operation(summary = "판매내역 조회", description = "내가 등록한 상품 목록을 최신순으로 조회합니다. 다음 페이지는 응답의 next_cursor를 cursor로 전달하세요.")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "판매내역 조회 성공",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductListResponse.class))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductFeedResponse.class))
             ),
             @ApiResponse(
                     responseCode = "404",
@@ -121,26 +119,30 @@ public class MemberController {
             )
     })
     @GetMapping("/me/sales")
-    public ResponseEntity<List<ProductListResponse>> getSalesHistory() {
+    public ResponseEntity<ProductFeedResponse> getSalesHistory(
+            @Parameter(description = "이전 응답의 next_cursor (첫 페이지면 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size) {
         Long authenticatedMemberId = memberUtil.getCurrentUser().memberId();
         log.info("판매내역 조회 요청: memberId={}", authenticatedMemberId);
 
-        List<ProductListResponse> salesHistory = memberService.getSalesHistory(authenticatedMemberId);
-        log.info("판매내역 조회 완료: memberId={}, 상품 개수={}", authenticatedMemberId, salesHistory.size());
+        ProductFeedResponse salesHistory = memberService.getSalesHistory(authenticatedMemberId, cursor, size);
+        log.info("판매내역 조회 완료: memberId={}, 상품 개수={}", authenticatedMemberId, salesHistory.getProducts().size());
 
         return ResponseEntity.ok(salesHistory);
     }
 
     /**
      * 마이페이지 - 구매내역 조회 API
-     * 내가 구매한 상품 목록을 조회합니다.
+     * 내가 구매한 상품 목록을 최신순으로 조회합니다 (커서 기반 페이징).
      */
-    @Operation(summary = "구매내역 조회", description = "내가 구매한 상품 목록을 조회합니다.")
+    @Operation(summary = "구매내역 조회", description = "내가 구매한 상품 목록을 최신순으로 조회합니다. 다음 페이지는 응답의 next_cursor를 cursor로 전달하세요.")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
                     description = "구매내역 조회 성공",
-                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductListResponse.class))
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ProductFeedResponse.class))
             ),
             @ApiResponse(
                     responseCode = "404",
@@ -149,12 +151,16 @@ public class MemberController {
             )
     })
     @GetMapping("/me/purchases")
-    public ResponseEntity<List<ProductListResponse>> getPurchaseHistory() {
+    public ResponseEntity<ProductFeedResponse> getPurchaseHistory(
+            @Parameter(description = "이전 응답의 next_cursor (첫 페이지면 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size) {
         Long authenticatedMemberId = memberUtil.getCurrentUser().memberId();
         log.info("구매내역 조회 요청: memberId={}", authenticatedMemberId);
 
-        List<ProductListResponse> purchaseHistory = memberService.getPurchaseHistory(authenticatedMemberId);
-        log.info("구매내역 조회 완료: memberId={}, 상품 개수={}", authenticatedMemberId, purchaseHistory.size());
+        ProductFeedResponse purchaseHistory = memberService.getPurchaseHistory(authenticatedMemberId, cursor, size);
+        log.info("구매내역 조회 완료: memberId={}, 상품 개수={}", authenticatedMemberId, purchaseHistory.getProducts().size());
 
         return ResponseEntity.ok(purchaseHistory);
     }
@@ -165,13 +171,17 @@ public class MemberController {
      */
     @Operation(summary = "판매내역 조회 (테스트용)", description = "memberId를 파라미터로 받아 판매내역을 조회합니다. 개발/테스트 전용입니다.")
     @GetMapping("/{memberId}/sales")
-    public ResponseEntity<List<ProductListResponse>> getSalesHistoryForTest(
+    public ResponseEntity<ProductFeedResponse> getSalesHistoryForTest(
             @Parameter(description = "회원 ID", required = true)
-            @PathVariable Long memberId) {
+            @PathVariable Long memberId,
+            @Parameter(description = "이전 응답의 next_cursor (첫 페이지면 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size) {
         log.info("판매내역 조회 요청 (테스트용): memberId={}", memberId);
 
-        List<ProductListResponse> salesHistory = memberService.getSalesHistory(memberId);
-        log.info("판매내역 조회 완료 (테스트용): memberId={}, 상품 개수={}", memberId, salesHistory.size());
+        ProductFeedResponse salesHistory = memberService.getSalesHistory(memberId, cursor, size);
+        log.info("판매내역 조회 완료 (테스트용): memberId={}, 상품 개수={}", memberId, salesHistory.getProducts().size());
 
         return ResponseEntity.ok(salesHistory);
     }
@@ -182,15 +192,18 @@ public class MemberController {
      */
     @Operation(summary = "구매내역 조회 (테스트용)", description = "memberId를 파라미터로 받아 구매내역을 조회합니다. 개발/테스트 전용입니다.")
     @GetMapping("/{memberId}/purchases")
-    public ResponseEntity<List<ProductListResponse>> getPurchaseHistoryForTest(
+    public ResponseEntity<ProductFeedResponse> getPurchaseHistoryForTest(
             @Parameter(description = "회원 ID", required = true)
-            @PathVariable Long memberId) {
+            @PathVariable Long memberId,
+            @Parameter(description = "이전 응답의 next_cursor (첫 페이지면 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size) {
         log.info("구매내역 조회 요청 (테스트용): memberId={}", memberId);
 
-        List<ProductListResponse> purchaseHistory = memberService.getPurchaseHistory(memberId);
-        log.info("구매내역 조회 완료 (테스트용): memberId={}, 상품 개수={}", memberId, purchaseHistory.size());
+        ProductFeedResponse purchaseHistory = memberService.getPurchaseHistory(memberId, cursor, size);
+        log.info("구매내역 조회 완료 (테스트용): memberId={}, 상품 개수={}", memberId, purchaseHistory.getProducts().size());
 
         return ResponseEntity.ok(purchaseHistory);
     }
 }
-
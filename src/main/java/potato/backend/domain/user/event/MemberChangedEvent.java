@@ -0,0 +1,10 @@
+package potato.backend.domain.user.event;
+
+/**
+ * 회원 정보 변경 이벤트
+ * 이름/이메일/권한 변경이나 탈퇴처럼 캐시된 사용자 정보(UserInfo)가 달라지는 변경 시 트랜잭션 안에서 발행하고,
+ * 구독자는 커밋 이후(AFTER_COMMIT)에 처리합니다.
+ * @param memberId 회원 ID
+ */
+public record MemberChangedEvent(Long memberId) {
+}
@@ -1,8 +1,12 @@
 package potato.backend.domain.user.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import potato.backend.domain.user.domain.Member;
@@ -11,4 +15,10 @@ import potato.backend.domain.user.domain.Member;
 public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByOauthId(String oauthId);
     Optional<Member> findByEmail(String email);
+
+    /**
+     * 주어진 ID 중 존재하는 회원 ID만 조회 (대량 등록 검증용)
+     */
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
@@ -7,9 +7,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import potato.backend.domain.product.domain.Product;
-import potato.backend.domain.product.dto.ProductListResponse;
-import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.product.dto.ProductFeedResponse;
+import potato.backend.domain.product.service.ProductService;
 import potato.backend.domain.user.domain.Member;
 import potato.backend.domain.user.dto.SignUpRequest;
 import potato.backend.domain.user.dto.SignUpResponse;
@@ -18,9 +17,6 @@ import potato.backend.domain.user.repository.MemberRepository;
 import potato.backend.global.exception.CustomException;
 import potato.backend.global.exception.ErrorCode;
 
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * 회원 서비스
  */
@@ -32,7 +28,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ProductRepository productRepository;
+    private final ProductService productService;
 
 
     /**
@@ -104,48 +100,50 @@ public class MemberService {
         );
     }
 
-     /**
+    /**
      * 판매내역 조회
-     * 내가 등록한 상품 목록을 반환합니다.
+     * 내가 등록한 상품 목록을 최신순으로 페이지 단위 반환합니다.
      * @param memberId 회원 ID
+     * @param cursor 이전 응답의 next_cursor (첫 페이지면 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
      * @return 판매내역 (상품 목록)
      */
-    public List<ProductListResponse> getSalesHistory(Long memberId) {
+    public ProductFeedResponse getSalesHistory(Long memberId, String cursor, Integer size) {
         log.info("판매내역 조회 시작 - memberId: {}", memberId);
         
         // 회원 존재 여부 확인
-        memberRepository.findById(memberId)
-                .orElseThrow(() -> new MemberNotFoundException(memberId));
+        if (!memberRepository.existsById(memberId)) {
+            throw new MemberNotFoundException(memberId);
+        }
         
-        List<Product> products = productRepository.findByMemberIdWithDetails(memberId);
-        List<ProductListResponse> salesHistory = products.stream()
-                .map(ProductListResponse::fromEntity)
-                .collect(Collectors.toList());
+        ProductFeedResponse salesHistory = productService.getSalesHistory(memberId, cursor, size);
         
-        log.info("판매내역 조회 완료 - memberId: {}, 상품 개수: {}", memberId, salesHistory.size());
+        log.info("판매내역 조회 완료 - memberId: {}, 상품 개수: {}, hasNext: {}",
+                memberId, salesHistory.getProducts().size(), salesHistory.isHasNext());
         return salesHistory;
     }
 
     /**
      * 구매내역 조회
-     * 내가 구매한 상품 목록을 반환합니다.
+     * 내가 구매한 상품 목록을 최신순으로 페이지 단위 반환합니다.
      * (Product.buyer == 내 ID인 상품 목록)
      * @param memberId 회원 ID
+     * @param cursor 이전 응답의 next_cursor (첫 페이지면 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
      * @return 구매내역 (상품 목록)
      */
-    public List<ProductListResponse> getPurchaseHistory(Long memberId) {
+    public ProductFeedResponse getPurchaseHistory(Long memberId, String cursor, Integer size) {
         log.info("구매내역 조회 시작 - memberId: {}", memberId);
         
         // 회원 존재 여부 확인
-        memberRepository.findById(memberId)
-                .orElseThrow(() -> new MemberNotFoundException(memberId));
+        if (!memberRepository.existsById(memberId)) {
+            throw new MemberNotFoundException(memberId);
+        }
         
-        List<Product> products = productRepository.findByBuyerIdWithDetails(memberId);
-        List<ProductListResponse> purchaseHistory = products.stream()
-                .map(ProductListResponse::fromEntity)
-                .collect(Collectors.toList());
+        ProductFeedResponse purchaseHistory = productService.getPurchaseHistory(memberId, cursor, size);
         
-        log.info("구매내역 조회 완료 - memberId: {}, 상품 개수: {}", memberId, purchaseHistory.size());
+        log.info("구매내역 조회 완료 - memberId: {}, 상품 개수: {}, hasNext: {}",
+                memberId, purchaseHistory.getProducts().size(), purchaseHistory.isHasNext());
         return purchaseHistory;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,157 @@
+package potato.backend.domain.wishlist.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import potato.backend.domain.wishlist.event.WishlistChangedEvent;
+import potato.backend.domain.wishlist.repository.WishlistRepository;
+
+/**
+ * 회원별 찜 여부 캐시
+ * 목록 페이지의 찜 표시를 위해 회원마다 "확인한 상품 ID"와 "찜한 상품 ID"를 압축 비트맵(RoaringBitmap)으로 보관합니다.
+ * <ul>
+ *     <li>조회: 확인하지 않은 상품만 모아 페이지당 한 번 IN 조회 (모두 확인된 상품이면 DB 조회 없음)</li>
+ *     <li>갱신: 위시리스트 추가/제거 커밋 후 WishlistChangedEvent로 이 노드의 항목을 즉시 반영</li>
+ * </ul>
+ * 다른 노드에서 바뀐 찜은 TTL이 지나야 반영됩니다.
+ * 조회 도중 반영된 변경이 덮어써지지 않도록, 이미 확인된 상품의 조회 결과는 버립니다.
+ * 상품 ID는 32비트 정수로 저장합니다 (ProductFacetIndex와 같은 제약).
+ * 클라이언트가 보낸 ID가 이 범위를 벗어나면 존재할 수 없는 상품이므로 찜하지 않은 것으로 봅니다.
+ */
+@Component
+public class WishlistMembershipCache {
+
+    private final WishlistRepository wishlistRepository;
+    private final Cache<Long, Membership> cache;
+
+    public WishlistMembershipCache(WishlistRepository wishlistRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${wishlist.membership-cache.max-size:10000}") long maxSize,
+                                   @Value("${wishlist.membership-cache.ttl-seconds:60}") long ttlSeconds) {
+        this.wishlistRepository = wishlistRepository;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "wishlist.membership");
+    }
+
+    /**
+     * 주어진 상품 중 회원이 찜한 상품 ID 조회
+     * @param memberId 회원 ID
+     * @param productIds 상품 ID 목록
+     * @return 찜한 상품 ID (productIds 순서)
+     */
+    public Set<Long> findWishlisted(Long memberId, Collection<Long> productIds) {
+        List<Long> storable = productIds.stream().filter(WishlistMembershipCache::isStorable).toList();
+        if (storable.isEmpty()) {
+            return Set.of();
+        }
+        Membership membership = membershipOf(memberId);
+        List<Long> unknown = membership.unknown(storable);
+        if (!unknown.isEmpty()) {
+            membership.merge(unknown, wishlistRepository.findWishlistedProductIds(memberId, unknown));
+        }
+        return membership.wishlisted(storable);
+    }
+
+    /**
+     * 단건 찜 여부
+     */
+    public boolean isWishlisted(Long memberId, Long productId) {
+        return findWishlisted(memberId, List.of(productId)).contains(productId);
+    }
+
+    /**
+     * 위시리스트 변경 반영 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWishlistChanged(WishlistChangedEvent event) {
+        Membership membership = cache.getIfPresent(event.memberId());
+        if (membership != null && isStorable(event.productId())) {
+            membership.set(event.productId(), event.delta() > 0);
+        }
+    }
+
+    /**
+     * 비트맵에 저장할 수 있는 상품 ID인지 (양수이고 int 범위)
+     */
+    private static boolean isStorable(Long productId) {
+        return productId != null && productId > 0 && productId <= Integer.MAX_VALUE;
+    }
+
+    private Membership membershipOf(Long memberId) {
+        try {
+            // 조회 전에 항목을 만들어 두어 조회 중 커밋된 변경도 이 항목에 반영되게 함
+            return cache.get(memberId, Membership::new);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 회원 한 명의 찜 여부 (확인한 상품 ⊇ 찜한 상품)
+     */
+    static final class Membership {
+
+        private final RoaringBitmap checked = new RoaringBitmap();
+        private final RoaringBitmap wishlisted = new RoaringBitmap();
+
+        synchronized List<Long> unknown(Collection<Long> productIds) {
+            return productIds.stream()
+                    .filter(id -> !checked.contains(Math.toIntExact(id)))
+                    .distinct()
+                    .toList();
+        }
+
+        synchronized Set<Long> wishlisted(Collection<Long> productIds) {
+            Set<Long> result = new LinkedHashSet<>();
+            for (Long id : productIds) {
+                if (wishlisted.contains(Math.toIntExact(id))) {
+                    result.add(id);
+                }
+            }
+            return result;
+        }
+
+        synchronized void merge(Collection<Long> queried, Collection<Long> found) {
+            Set<Long> foundIds = Set.copyOf(found);
+            for (Long id : queried) {
+                int value = Math.toIntExact(id);
+                if (checked.contains(value)) {
+                    continue; // 조회 중 반영된 변경이 우선
+                }
+                checked.add(value);
+                if (foundIds.contains(id)) {
+                    wishlisted.add(value);
+                }
+            }
+        }
+
+        synchronized void set(Long productId, boolean isWishlisted) {
+            int value = Math.toIntExact(productId);
+            checked.add(value);
+            if (isWishlisted) {
+                wishlisted.add(value);
+            } else {
+                wishlisted.remove(value);
+            }
+        }
+    }
+}
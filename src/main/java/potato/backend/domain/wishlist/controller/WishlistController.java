@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,7 +13,9 @@ import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import potato.backend.domain.wishlist.service.WishlistService;
 import potato.backend.domain.wishlist.dto.WishlistResponse;
-import potato.backend.domain.wishlist.dto.WishlistListResponse;
+import potato.backend.domain.wishlist.dto.WishlistPageResponse;
+import potato.backend.domain.wishlist.dto.WishlistCheckRequest;
+import potato.backend.domain.wishlist.dto.WishlistCheckResponse;
 
 import java.util.List;
 
@@ -69,18 +72,23 @@ public class WishlistController {
     }
 
     // 위시리스트 목록 조회
-    @Operation(summary = "위시리스트 목록 조회", description = "특정 회원의 위시리스트 목록을 조회합니다.")
+    @Operation(summary = "위시리스트 목록 조회", description = "특정 회원의 위시리스트를 추가한 최신순으로 조회합니다. 다음 페이지는 응답의 next_cursor를 cursor로 전달하세요.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 페이지 크기"),
             @ApiResponse(responseCode = "404", description = "회원을 찾을 수 없음")
     })
     @GetMapping("/members/{memberId}")
-    public ResponseEntity<List<WishlistListResponse>> getWishlistList(
+    public ResponseEntity<WishlistPageResponse> getWishlistList(
             @Parameter(description = "회원 ID", required = true)
-            @PathVariable Long memberId) {
-        
-        List<WishlistListResponse> wishlistList = wishlistService.getWishlistList(memberId);
-        return ResponseEntity.ok(wishlistList);
+            @PathVariable Long memberId,
+            @Parameter(description = "이전 응답의 next_cursor (첫 페이지면 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+            @RequestParam(required = false) Integer size) {
+
+        WishlistPageResponse wishlistPage = wishlistService.getWishlistList(memberId, cursor, size);
+        return ResponseEntity.ok(wishlistPage);
     }
 
     // 위시리스트 확인
@@ -97,4 +105,20 @@ public class WishlistController {
         return ResponseEntity.ok(isInWishlist);
     }
 
+    // 위시리스트 일괄 확인
+    @Operation(summary = "위시리스트 일괄 확인", description = "여러 상품의 찜 여부를 한 번에 확인합니다. 상품 목록/검색 응답의 is_wishlisted로 충분하지 않을 때 사용하세요.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "확인 성공"),
+            @ApiResponse(responseCode = "400", description = "상품 ID가 200개를 초과")
+    })
+    @PostMapping("/members/{memberId}/products/check")
+    public ResponseEntity<WishlistCheckResponse> checkWishlist(
+            @Parameter(description = "회원 ID", required = true)
+            @PathVariable Long memberId,
+            @Valid @RequestBody WishlistCheckRequest request) {
+
+        List<Long> wishlisted = wishlistService.getWishlistedProductIds(memberId, request.getProductIds());
+        return ResponseEntity.ok(WishlistCheckResponse.of(memberId, wishlisted));
+    }
+
 }
@@ -11,6 +11,9 @@ import java.util.Objects;
 @Entity
 @Table(name = "wishlist", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"member_id", "product_id"}) // 한 사용자가 한 상품을 한 번만 위시리스트에 추가할 수 있도록 제한
+}, indexes = {
+    @Index(name = "idx_wishlist_product_id_id", columnList = "product_id, wishlist_id"), // 가격 인하 알림 대상 키셋 페이징용
+    @Index(name = "idx_wishlist_member_created_at_id", columnList = "member_id, created_at DESC, wishlist_id DESC") // 목록 키셋 페이징용
 })
 @Getter
 @Builder(access = AccessLevel.PRIVATE)
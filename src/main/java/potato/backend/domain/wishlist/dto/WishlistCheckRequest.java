@@ -0,0 +1,18 @@
+package potato.backend.domain.wishlist.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+
+/**
+ * 찜 여부 일괄 확인 요청 DTO
+ */
+@Getter
+public class WishlistCheckRequest {
+
+    @Schema(description = "확인할 상품 ID 목록 (최대 200개)", example = "[101, 102, 103]")
+    @NotNull(message = "상품 ID 목록은 필수입니다")
+    private List<Long> productIds;
+}
@@ -0,0 +1,17 @@
+package potato.backend.domain.wishlist.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class WishlistCheckResponse {
+    private Long memberId;
+    private List<Long> wishlistedProductIds; // 요청한 상품 중 찜한 상품 ID (요청 순서)
+
+    public static WishlistCheckResponse of(Long memberId, List<Long> wishlistedProductIds) {
+        return new WishlistCheckResponse(memberId, wishlistedProductIds);
+    }
+}
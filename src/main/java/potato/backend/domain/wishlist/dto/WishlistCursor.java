@@ -0,0 +1,52 @@
+package potato.backend.domain.wishlist.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+import potato.backend.global.exception.CustomException;
+import potato.backend.global.exception.ErrorCode;
+
+/**
+ * 위시리스트 목록 커서 (마지막 행의 (created_at, wishlist_id))
+ * 클라이언트에는 "v1|추가시각|위시리스트ID"를 base64url로 인코딩한 문자열로 전달합니다.
+ * @param createdAt 마지막 행이 위시리스트에 추가된 시각
+ * @param wishlistId 마지막 행의 위시리스트 ID
+ */
+public record WishlistCursor(Instant createdAt, Long wishlistId) {
+
+    private static final String VERSION = "v1";
+
+    public static WishlistCursor after(WishlistListProjection last) {
+        return new WishlistCursor(last.wishlistCreatedAt(), last.wishlistId());
+    }
+
+    public String encode() {
+        String raw = String.join("|", VERSION, createdAt.getEpochSecond() + "." + createdAt.getNano(),
+                String.valueOf(wishlistId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석
+     * @param cursor 이전 응답의 next_cursor
+     * @return 커서 (첫 페이지면 null)
+     */
+    public static WishlistCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException(cursor);
+            }
+            String[] time = parts[1].split("\\.");
+            return new WishlistCursor(Instant.ofEpochSecond(Long.parseLong(time[0]), Long.parseLong(time[1])),
+                    Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeException e) {
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT, "유효하지 않은 커서입니다");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package potato.backend.domain.wishlist.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+import potato.backend.domain.product.domain.Status;
+
+/**
+ * 위시리스트 목록 조회용 생성자 프로젝션 (엔티티/지연 로딩 없이 필요한 컬럼만 조회)
+ * @param wishlistId 위시리스트 ID (키셋 페이징 기준)
+ * @param wishlistCreatedAt 위시리스트에 추가된 시각 (키셋 페이징 기준)
+ */
+public record WishlistListProjection(
+        Long wishlistId,
+        Instant wishlistCreatedAt,
+        Long productId,
+        Long sellerId,
+        String title,
+        BigDecimal price,
+        String mainImageUrl,
+        Status status,
+        Long likeCount,
+        Long viewCount,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
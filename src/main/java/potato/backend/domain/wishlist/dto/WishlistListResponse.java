@@ -46,4 +46,21 @@ public class WishlistListResponse {
         
         return response;
     }
+
+    public static WishlistListResponse from(WishlistListProjection projection, List<String> categoryNames) {
+        WishlistListResponse response = new WishlistListResponse();
+        response.productId = projection.productId();
+        response.sellerId = projection.sellerId();
+        response.category = categoryNames;
+        response.title = projection.title();
+        response.price = projection.price().longValue();
+        response.mainImageUrl = projection.mainImageUrl();
+        response.status = projection.status().name();
+        response.likeCount = projection.likeCount();
+        response.viewCount = projection.viewCount();
+        response.createdAt = projection.createdAt();
+        response.updatedAt = projection.updatedAt();
+        response.wishlistCreatedAt = projection.wishlistCreatedAt();
+        return response;
+    }
 }
@@ -0,0 +1,20 @@
+package potato.backend.domain.wishlist.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class WishlistPageResponse {
+    private List<WishlistListResponse> wishlists;  // 위시리스트에 추가한 최신순
+    private boolean hasNext;
+    private String nextCursor;  // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+
+    public static WishlistPageResponse of(List<WishlistListResponse> wishlists, boolean hasNext, String nextCursor) {
+        WishlistPageResponse response = new WishlistPageResponse();
+        response.wishlists = wishlists;
+        response.hasNext = hasNext;
+        response.nextCursor = nextCursor;
+        return response;
+    }
+}
@@ -0,0 +1,10 @@
+package potato.backend.domain.wishlist.dto;
+
+/**
+ * 위시리스트 알림 대상 생성자 프로젝션 (회원 엔티티 없이 FCM 토큰만 조회)
+ * @param wishlistId 위시리스트 ID (키셋 페이징 기준)
+ * @param memberId 회원 ID
+ * @param fcmToken FCM 디바이스 토큰
+ */
+public record WishlistPushTarget(Long wishlistId, Long memberId, String fcmToken) {
+}
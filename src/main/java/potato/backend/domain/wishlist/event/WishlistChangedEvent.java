@@ -0,0 +1,19 @@
+package potato.backend.domain.wishlist.event;
+
+/**
+ * 위시리스트 추가/제거 이벤트
+ * 트랜잭션 안에서 발행하고, 구독자는 커밋 이후(AFTER_COMMIT)에 처리합니다.
+ * @param memberId 회원 ID
+ * @param productId 상품 ID
+ * @param delta 찜 수 변화량 (추가 +1, 제거 -1)
+ */
+public record WishlistChangedEvent(Long memberId, Long productId, int delta) {
+
+    public static WishlistChangedEvent added(Long memberId, Long productId) {
+        return new WishlistChangedEvent(memberId, productId, 1);
+    }
+
+    public static WishlistChangedEvent removed(Long memberId, Long productId) {
+        return new WishlistChangedEvent(memberId, productId, -1);
+    }
+}
@@ -0,0 +1,55 @@
+package potato.backend.domain.wishlist.repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 위시리스트 추가 (조회 없이 INSERT 한 번)
+ * 삭제되지 않은 상품일 때만 행을 만들고, 이미 있는 (member_id, product_id)는 건너뜁니다.
+ * PostgreSQL은 ON CONFLICT DO NOTHING, 그 외(테스트용 H2 등)는 NOT EXISTS 조건으로 같은 결과를 냅니다.
+ */
+@Repository
+public class WishlistInsertRepository {
+
+    private static final String INSERT_SELECT =
+            "INSERT INTO wishlist (member_id, product_id, created_at, updated_at) " +
+            "SELECT ?, p.id, ?, ? FROM product p WHERE p.id = ? AND p.deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String insertSql;
+    private final boolean insertSqlBindsKeyTwice;
+
+    public WishlistInsertRepository(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        if (dialect instanceof PostgreSQLDialect) {
+            this.insertSql = INSERT_SELECT + " ON CONFLICT (member_id, product_id) DO NOTHING";
+            this.insertSqlBindsKeyTwice = false;
+        } else {
+            this.insertSql = INSERT_SELECT +
+                    " AND NOT EXISTS (SELECT 1 FROM wishlist w WHERE w.member_id = ? AND w.product_id = ?)";
+            this.insertSqlBindsKeyTwice = true;
+        }
+    }
+
+    /**
+     * 위시리스트 추가
+     * 없는 회원이면 외래 키 위반(DataIntegrityViolationException)이 발생합니다.
+     * @return 추가 여부 (이미 찜했거나 상품이 없으면 false)
+     */
+    public boolean insertIfAbsent(Long memberId, Long productId) {
+        Timestamp now = Timestamp.from(Instant.now());
+        int inserted = insertSqlBindsKeyTwice
+                ? jdbcTemplate.update(insertSql, memberId, now, now, productId, memberId, productId)
+                : jdbcTemplate.update(insertSql, memberId, now, now, productId);
+        return inserted > 0;
+    }
+}
@@ -1,13 +1,18 @@
 package potato.backend.domain.wishlist.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import potato.backend.domain.wishlist.domain.Wishlist;
+import potato.backend.domain.wishlist.dto.WishlistListProjection;
+import potato.backend.domain.wishlist.dto.WishlistPushTarget;
 import potato.backend.domain.user.domain.Member;
 import potato.backend.domain.product.domain.Product;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,15 +22,33 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
     // 특정 회원의 위시리스트 목록 조회 (최신순)
     List<Wishlist> findByMemberIdOrderByCreatedAtDesc(Long memberId);
 
-    // 특정 회원의 위시리스트 목록 조회
-    // DISTINCT 사용: @ManyToMany 관계인 categories 때문에 중복 제거 필요
-    @Query("SELECT DISTINCT w FROM Wishlist w " +
-           "JOIN FETCH w.product p " +
-           "JOIN FETCH p.member " +
-           "LEFT JOIN FETCH p.categories " +
+    /**
+     * 회원의 위시리스트 목록 - 첫 페이지 (추가한 최신순, 삭제된 상품 제외)
+     * SQL: SELECT w.wishlist_id, w.created_at, p.* FROM wishlist w JOIN product p ...
+     *      WHERE w.member_id = ? ORDER BY w.created_at DESC, w.wishlist_id DESC LIMIT ?
+     */
+    @Query("SELECT new potato.backend.domain.wishlist.dto.WishlistListProjection(" +
+           "w.id, w.createdAt, p.id, p.member.id, p.title, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Wishlist w JOIN w.product p " +
            "WHERE w.member.id = :memberId " +
-           "ORDER BY w.createdAt DESC")
-    List<Wishlist> findByMemberIdWithDetails(@Param("memberId") Long memberId);
+           "ORDER BY w.createdAt DESC, w.id DESC")
+    List<WishlistListProjection> findPage(@Param("memberId") Long memberId, Pageable pageable);
+
+    /**
+     * 회원의 위시리스트 목록 - 다음 페이지 (키셋: 마지막 행의 (created_at, wishlist_id) 이후)
+     * SQL: ... WHERE w.member_id = ? AND (w.created_at, w.wishlist_id) < (?, ?) ORDER BY ... LIMIT ?
+     */
+    @Query("SELECT new potato.backend.domain.wishlist.dto.WishlistListProjection(" +
+           "w.id, w.createdAt, p.id, p.member.id, p.title, p.price, p.mainImageUrl, p.status, " +
+           "p.likeCount, p.viewCount, p.createdAt, p.updatedAt) " +
+           "FROM Wishlist w JOIN w.product p " +
+           "WHERE w.member.id = :memberId AND (w.createdAt, w.id) < (:createdAt, :id) " +
+           "ORDER BY w.createdAt DESC, w.id DESC")
+    List<WishlistListProjection> findPageAfter(@Param("memberId") Long memberId,
+                                               @Param("createdAt") Instant createdAt,
+                                               @Param("id") Long id,
+                                               Pageable pageable);
 
     // 특정 회원과 상품으로 위시리스트 조회 (중복 체크용)
     Optional<Wishlist> findByMemberAndProduct(Member member, Product product);
@@ -38,4 +61,27 @@ public interface WishlistRepository extends JpaRepository<Wishlist, Long> {
 
     // 특정 상품이 위시리스트에 추가된 횟수 조회
     Long countByProductId(Long productId);
+
+    /**
+     * 주어진 상품 중 회원이 찜한 상품 ID 조회 (목록 페이지 찜 표시용, 엔티티 없이 ID만)
+     * SQL: SELECT product_id FROM wishlist WHERE member_id = ? AND product_id IN (...)
+     */
+    @Query("SELECT w.product.id FROM Wishlist w WHERE w.member.id = :memberId AND w.product.id IN :productIds")
+    List<Long> findWishlistedProductIds(@Param("memberId") Long memberId,
+                                        @Param("productIds") Collection<Long> productIds);
+
+    /**
+     * 상품을 찜한 회원 중 푸시 알림 대상만 키셋 페이징으로 조회 (위시리스트 ID 순)
+     * SQL: SELECT w.wishlist_id, m.id, m.fcm_token FROM wishlist w JOIN member m ...
+     *      WHERE w.product_id = ? AND w.wishlist_id > ? AND m.push_notification_enabled AND m.fcm_token IS NOT NULL
+     *      ORDER BY w.wishlist_id LIMIT ?
+     */
+    @Query("SELECT new potato.backend.domain.wishlist.dto.WishlistPushTarget(w.id, m.id, m.fcmToken) " +
+           "FROM Wishlist w JOIN w.member m " +
+           "WHERE w.product.id = :productId AND w.id > :lastWishlistId " +
+           "AND m.pushNotificationEnabled = true AND m.fcmToken IS NOT NULL AND m.fcmToken <> '' " +
+           "ORDER BY w.id ASC")
+    List<WishlistPushTarget> findPushTargetsAfter(@Param("productId") Long productId,
+                                                  @Param("lastWishlistId") Long lastWishlistId,
+                                                  Pageable pageable);
 }
@@ -0,0 +1,107 @@
+package potato.backend.domain.wishlist.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import potato.backend.domain.notification.service.FcmService;
+import potato.backend.domain.product.event.ProductPriceDroppedEvent;
+import potato.backend.domain.wishlist.dto.WishlistPushTarget;
+import potato.backend.domain.wishlist.repository.WishlistRepository;
+
+/**
+ * 가격 인하 위시리스트 알림
+ * 상품 수정 트랜잭션 커밋 후 알림 전용 스레드 풀(notificationExecutor)에서 전송하므로 수정 요청은 대상 수와 무관하게 끝납니다.
+ * <ul>
+ *     <li>대상 조회: 위시리스트 ID 키셋 페이징으로 batch-size 명씩 (푸시 알림 활성화, 토큰 보유 회원만)</li>
+ *     <li>전송: 페이지마다 FCM 멀티캐스트(최대 500 토큰)로 전송 후 다음 페이지 조회</li>
+ * </ul>
+ * 스레드 풀 대기열이 가득 차면 해당 가격 인하 알림은 보내지 않습니다.
+ */
+@Slf4j
+@Service
+public class WishlistPriceDropNotifier {
+
+    private final WishlistRepository wishlistRepository;
+    private final FcmService fcmService;
+    private final TaskExecutor notificationExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Counter sentCounter;
+    private final Counter rejectedCounter;
+
+    @Value("${wishlist.price-drop.batch-size:500}")
+    private int batchSize;
+
+    public WishlistPriceDropNotifier(WishlistRepository wishlistRepository,
+                                     FcmService fcmService,
+                                     @Qualifier("notificationExecutor") TaskExecutor notificationExecutor,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry) {
+        this.wishlistRepository = wishlistRepository;
+        this.fcmService = fcmService;
+        this.notificationExecutor = notificationExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.sentCounter = Counter.builder("wishlist.price_drop.sent")
+                .description("전송에 성공한 가격 인하 알림 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("wishlist.price_drop.rejected")
+                .description("스레드 풀 대기열이 가득 차 보내지 못한 가격 인하 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 가격 인하 알림 전송 예약 (커밋된 변경만)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onPriceDropped(ProductPriceDroppedEvent event) {
+        try {
+            notificationExecutor.execute(() -> notifyWishlisters(event));
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            log.warn("가격 인하 알림 전송 거절 (대기열 가득 참) - productId: {}", event.productId());
+        }
+    }
+
+    /**
+     * 상품을 찜한 회원에게 가격 인하 알림 전송
+     * @return 전송 성공 수
+     */
+    int notifyWishlisters(ProductPriceDroppedEvent event) {
+        long start = System.nanoTime();
+        long lastWishlistId = 0L;
+        int targets = 0;
+        int sent = 0;
+        while (true) {
+            long afterId = lastWishlistId;
+            List<WishlistPushTarget> page = readOnlyTransaction.execute(status ->
+                    wishlistRepository.findPushTargetsAfter(event.productId(), afterId, PageRequest.of(0, batchSize)));
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            targets += page.size();
+            sent += fcmService.sendPriceDropNotifications(page, event.productId(), event.title(),
+                    event.previousPrice(), event.price());
+            if (page.size() < batchSize) {
+                break;
+            }
+            lastWishlistId = page.get(page.size() - 1).wishlistId();
+        }
+        sentCounter.increment(sent);
+        log.info("가격 인하 알림 전송 완료 - productId: {}, targets: {}, sent: {}, elapsedMs: {}",
+                event.productId(), targets, sent, (System.nanoTime() - start) / 1_000_000);
+        return sent;
+    }
+}
@@ -2,19 +2,38 @@ package potato.backend.domain.wishlist.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
+import potato.backend.domain.wishlist.cache.WishlistMembershipCache;
 import potato.backend.domain.wishlist.domain.Wishlist;
+import potato.backend.domain.wishlist.repository.WishlistInsertRepository;
 import potato.backend.domain.wishlist.repository.WishlistRepository;
+import potato.backend.domain.wishlist.dto.WishlistCursor;
+import potato.backend.domain.wishlist.dto.WishlistListProjection;
 import potato.backend.domain.wishlist.dto.WishlistListResponse;
+import potato.backend.domain.wishlist.dto.WishlistPageResponse;
+import potato.backend.domain.wishlist.event.WishlistChangedEvent;
 import potato.backend.domain.user.domain.Member;
 import potato.backend.domain.user.repository.MemberRepository;
 import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.dto.ProductCategoryName;
 import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.global.exception.CustomException;
+import potato.backend.global.exception.ErrorCode;
 
+import java.sql.SQLException;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,28 +42,46 @@ import java.util.stream.Collectors;
 @Slf4j
 public class WishlistService {
 
+    private static final int MAX_CHECK_SIZE = 200;
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> FOREIGN_KEY_VIOLATION_STATES = Set.of("23503", "23506"); // PostgreSQL, H2
+
     private final WishlistRepository wishlistRepository;
     private final MemberRepository memberRepository;
     private final ProductRepository productRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final WishlistMembershipCache wishlistMembershipCache;
+    private final WishlistInsertRepository wishlistInsertRepository;
 
     /**
      * 위시리스트에 상품 추가
+     * 조회 없이 INSERT 한 번으로 처리하고, 추가되지 않은 경우에만 원인(상품 없음/중복)을 확인합니다.
      * @param memberId 회원 ID
      * @param productId 상품 ID
      */
     @Transactional
     public void addToWishlist(Long memberId, Long productId) {
-        Member member = getMember(memberId);
-        Product product = getProduct(productId);
-        
-        // 중복 체크
-        if (wishlistRepository.findByMemberIdAndProductId(memberId, productId).isPresent()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, 
+        boolean inserted;
+        try {
+            inserted = wishlistInsertRepository.insertIfAbsent(memberId, productId);
+        } catch (DuplicateKeyException e) {
+            // 동시 요청이 먼저 추가해 (member_id, product_id) 유니크 제약 위반
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 위시리스트에 추가된 상품입니다");
+        } catch (DataIntegrityViolationException e) {
+            if (!isForeignKeyViolation(e)) {
+                throw e;
+            }
+            // member_id 외래 키 위반
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다: " + memberId);
+        }
+        if (!inserted) {
+            getProduct(productId); // 없는 상품이면 404
+            throw new ResponseStatusException(HttpStatus.CONFLICT,
                     "이미 위시리스트에 추가된 상품입니다");
         }
-        
-        Wishlist wishlist = Wishlist.create(member, product);
-        wishlistRepository.save(wishlist);
+
+        eventPublisher.publishEvent(WishlistChangedEvent.added(memberId, productId));
         log.info("위시리스트에 상품 추가: memberId={}, productId={}", memberId, productId);
     }
 
@@ -60,26 +97,62 @@ public class WishlistService {
                         "위시리스트에서 해당 상품을 찾을 수 없습니다"));
         
         wishlistRepository.delete(wishlist);
+        eventPublisher.publishEvent(WishlistChangedEvent.removed(memberId, productId));
         log.info("위시리스트에서 상품 제거: memberId={}, productId={}", memberId, productId);
     }
 
     // 위시리스트에 상품이 있는지 확인 (사용자가 상품 페이지에 들어갔을 때 표시하기 위해 필요)
-    @Transactional(readOnly = true)
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.SUPPORTS)
     public boolean isInWishlist(Long memberId, Long productId) {
-        return wishlistRepository.findByMemberIdAndProductId(memberId, productId).isPresent();
+        return wishlistMembershipCache.isWishlisted(memberId, productId);
     }
 
     /**
-     * 회원의 위시리스트 목록 조회
+     * 여러 상품의 찜 여부 일괄 확인 (목록 화면 하트 표시용)
      * @param memberId 회원 ID
-     * @return 위시리스트 목록 (최신순)
+     * @param productIds 상품 ID 목록 (최대 MAX_CHECK_SIZE개)
+     * @return 찜한 상품 ID (요청 순서)
      */
-    public List<WishlistListResponse> getWishlistList(Long memberId) {
-        getMember(memberId); // 회원 존재 여부 확인
-        List<Wishlist> wishlists = wishlistRepository.findByMemberIdWithDetails(memberId);
-        return wishlists.stream()
-                .map(WishlistListResponse::fromEntity)
-                .collect(Collectors.toList());
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public List<Long> getWishlistedProductIds(Long memberId, List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return List.of();
+        }
+        if (productIds.size() > MAX_CHECK_SIZE || productIds.stream().anyMatch(Objects::isNull)) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "상품 ID는 null 없이 최대 " + MAX_CHECK_SIZE + "개까지 확인할 수 있습니다");
+        }
+        return List.copyOf(wishlistMembershipCache.findWishlisted(memberId, productIds));
+    }
+
+    /**
+     * 회원의 위시리스트 목록 조회 (추가한 최신순 키셋 페이징)
+     * (member_id, created_at, wishlist_id) 인덱스 순서대로 size + 1개만 읽고, 카테고리는 페이지 상품 ID로 한 번에 조회합니다.
+     * 회원 존재 여부는 첫 페이지가 비었을 때만 확인합니다.
+     * @param memberId 회원 ID
+     * @param cursor 이전 응답의 next_cursor (첫 페이지면 null)
+     * @param size 페이지 크기 (기본 20, 최대 100)
+     * @return 위시리스트 페이지
+     */
+    public WishlistPageResponse getWishlistList(Long memberId, String cursor, Integer size) {
+        int limit = size == null ? DEFAULT_PAGE_SIZE : size;
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new CustomException(ErrorCode.INVALID_PAGING_PARAMETER, "size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+        WishlistCursor after = WishlistCursor.decode(cursor);
+        Pageable firstRows = PageRequest.of(0, limit + 1); // 다음 페이지 확인용 1개 추가
+        List<WishlistListProjection> rows = after == null
+                ? wishlistRepository.findPage(memberId, firstRows)
+                : wishlistRepository.findPageAfter(memberId, after.createdAt(), after.wishlistId(), firstRows);
+        if (rows.isEmpty() && after == null && !memberRepository.existsById(memberId)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "회원을 찾을 수 없습니다: " + memberId);
+        }
+
+        boolean hasNext = rows.size() > limit;
+        List<WishlistListProjection> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? WishlistCursor.after(page.get(page.size() - 1)).encode() : null;
+        return WishlistPageResponse.of(toListResponses(page), hasNext, nextCursor);
     }
 
     // 회원의 위시리스트 개수 조회
@@ -88,6 +161,24 @@ public class WishlistService {
         return wishlistRepository.countByMemberId(memberId);
     }
 
+    /**
+     * 프로젝션 목록에 카테고리를 붙여 응답으로 변환 (카테고리는 상품 ID 목록으로 한 번에 조회)
+     */
+    private List<WishlistListResponse> toListResponses(List<WishlistListProjection> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<String>> categoryNames = productRepository
+                .findCategoryNamesByProductIds(rows.stream().map(WishlistListProjection::productId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(ProductCategoryName::productId,
+                        Collectors.mapping(ProductCategoryName::categoryName, Collectors.toList())));
+
+        return rows.stream()
+                .map(row -> WishlistListResponse.from(row, categoryNames.getOrDefault(row.productId(), List.of())))
+                .toList();
+    }
+
     private Member getMember(Long memberId) {
         return memberRepository.findById(memberId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
@@ -95,8 +186,13 @@ public class WishlistService {
     }
 
     private Product getProduct(Long productId) {
-        return productRepository.findById(productId)
+        return productRepository.findActiveById(productId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, 
                         "상품을 찾을 수 없습니다: " + productId));
     }
+
+    private static boolean isForeignKeyViolation(DataIntegrityViolationException e) {
+        return e.getMostSpecificCause() instanceof SQLException sqlException
+                && FOREIGN_KEY_VIOLATION_STATES.contains(sqlException.getSQLState());
+    }
 }
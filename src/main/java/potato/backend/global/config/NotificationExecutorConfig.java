@@ -0,0 +1,30 @@
+package potato.backend.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 알림 전송 전용 스레드 풀
+ * 대상이 많은 푸시 알림(예: 가격 인하 시 위시리스트 회원 전체)을 요청 스레드와 분리해 전송합니다.
+ * 대기열이 가득 차면 작업을 거절하고(호출 스레드에서 실행하지 않음) 호출 측에서 로그를 남깁니다.
+ */
+@Configuration
+public class NotificationExecutorConfig {
+
+    @Bean(name = "notificationExecutor")
+    public ThreadPoolTaskExecutor notificationExecutor(
+            @Value("${notification.executor.pool-size:2}") int poolSize,
+            @Value("${notification.executor.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("notification-");
+        // 종료 시 진행 중인 전송은 마무리
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,13 @@
+package potato.backend.global.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 활성화 설정
+ * 보관 기간 정책 등 주기적으로 실행되는 배치 작업에서 사용합니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -77,6 +77,8 @@ public class SecurityConfig {
                                 "/static/**"  // 정적 리소스 허용
 
                         ).permitAll()
+                        // 노드의 WebSocket 세션을 끊는 운영용 엔드포인트는 관리자만 호출 가능
+                        .requestMatchers("/actuator/websocketdrain/**").hasRole("ADMIN")
                         .anyRequest().authenticated() // 개발용
                 );
 
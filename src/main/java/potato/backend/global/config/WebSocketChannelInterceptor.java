@@ -1,8 +1,10 @@
 package potato.backend.global.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
@@ -10,41 +12,65 @@ import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.stereotype.Component;
+import potato.backend.global.security.oauth.UserInfo;
 
 import java.security.Principal;
+import java.util.Map;
+
+import static potato.backend.global.config.WebSocketHandshakeInterceptor.PRINCIPAL_ATTRIBUTE;
 
 /**
  * WebSocket STOMP Channel Interceptor
  * 핸드셰이크 인터셉터에서 설정한 Principal을 STOMP 세션에 설정합니다.
+ * 핸드셰이크에서 인증되지 않은 경우 STOMP CONNECT 헤더(Authorization: Bearer ...)의 Access Token으로 인증합니다.
  */
 @Slf4j
 @Component
 @Order(Ordered.HIGHEST_PRECEDENCE + 99)
+@RequiredArgsConstructor
 public class WebSocketChannelInterceptor implements ChannelInterceptor {
 
+    private final WebSocketPrincipalResolver principalResolver;
+
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
         StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
-        
+
         if (accessor != null && StompCommand.CONNECT.equals(accessor.getCommand())) {
             // 핸드셰이크 인터셉터에서 설정한 Principal 가져오기
-            Object principal = accessor.getSessionAttributes().get("principal");
-            
+            Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+            Object principal = sessionAttributes != null ? sessionAttributes.get(PRINCIPAL_ATTRIBUTE) : null;
+
+            // 핸드셰이크에서 인증되지 않았으면 CONNECT 헤더의 Access Token으로 인증
+            if (principal == null) {
+                principal = resolveFromConnectHeader(accessor);
+                if (principal != null && sessionAttributes != null) {
+                    sessionAttributes.put(PRINCIPAL_ATTRIBUTE, principal);
+                }
+            }
+
             if (principal instanceof Principal) {
                 accessor.setUser((Principal) principal);
-                
-                if (principal instanceof potato.backend.global.security.oauth.UserInfo userInfo) {
-                    log.info("STOMP 연결 성공: memberId={}", userInfo.memberId());
+
+                if (principal instanceof UserInfo userInfo) {
+                    log.debug("STOMP 연결 성공: memberId={}", userInfo.memberId());
                 } else {
-                    log.info("STOMP 연결 성공: principal={}", ((Principal) principal).getName());
+                    log.debug("STOMP 연결 성공: principal={}", ((Principal) principal).getName());
                 }
             } else {
                 log.warn("STOMP 연결 실패: Principal이 설정되지 않았습니다");
                 return null; // 연결 거부
             }
         }
-        
+
         return message;
     }
-}
 
+    private UserInfo resolveFromConnectHeader(StompHeaderAccessor accessor) {
+        String accessToken = principalResolver.extractBearerToken(accessor.getFirstNativeHeader(HttpHeaders.AUTHORIZATION));
+        if (accessToken == null) {
+            return null;
+        }
+        return principalResolver.resolve(accessToken);
+    }
+}
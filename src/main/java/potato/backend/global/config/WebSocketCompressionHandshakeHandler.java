@@ -0,0 +1,37 @@
+package potato.backend.global.config;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.List;
+
+/**
+ * permessage-deflate 확장 협상을 제어하는 핸드셰이크 핸들러
+ * Tomcat은 permessage-deflate를 기본 지원하므로 클라이언트가 요청하면 그대로 협상됩니다.
+ * 압축이 비활성화된 경우 요청된 확장 목록에서 permessage-deflate를 제거합니다.
+ */
+public class WebSocketCompressionHandshakeHandler extends DefaultHandshakeHandler {
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean compressionEnabled;
+
+    public WebSocketCompressionHandshakeHandler(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                                                                 List<WebSocketExtension> requestedExtensions,
+                                                                 List<WebSocketExtension> supportedExtensions) {
+        List<WebSocketExtension> extensions =
+                super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions);
+        if (compressionEnabled) {
+            return extensions;
+        }
+        return extensions.stream()
+                .filter(extension -> !PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()))
+                .toList();
+    }
+}
@@ -1,12 +1,14 @@
 package potato.backend.global.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker // STOMP 기반 웹소켓 메시징을 활성화하는 스프링 설정
@@ -15,6 +17,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final WebSocketHandshakeInterceptor handshakeInterceptor;
     private final WebSocketChannelInterceptor channelInterceptor;
+    private final WebSocketTrafficMonitor trafficMonitor;
+
+    @Value("${websocket.transport.compression-enabled:true}")
+    private boolean compressionEnabled; // permessage-deflate 협상 허용 여부
+
+    @Value("${websocket.transport.message-size-limit:65536}")
+    private int messageSizeLimit; // 수신 STOMP 메시지 최대 크기 (bytes)
+
+    @Value("${websocket.transport.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit; // 세션별 송신 버퍼 한도 (bytes), 초과 시 느린 소비자로 보고 세션 종료
+
+    @Value("${websocket.transport.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs; // 단일 송신에 허용되는 최대 시간, 초과 시 세션 종료
+
+    @Value("${websocket.transport.time-to-first-message-ms:30000}")
+    private int timeToFirstMessageMs; // 연결 후 첫 메시지(CONNECT)까지 대기 시간
+
+    @Value("${websocket.outbound.core-pool-size:8}")
+    private int outboundCorePoolSize;
+
+    @Value("${websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @Value("${websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
 
     private static final String CHAT_ENDPOINT = "/ws-chat"; // 웹소켓으로 채팅방을 연결하는 엔드포인트
     private static final String APPLICATION_DESTINATION_PREFIX = "/app"; // 클라이언트가 서버로 메시지를 보내는 프리픽스
@@ -27,6 +54,7 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint(CHAT_ENDPOINT) // /ws-chat 으로 URL을 열어두면 클라이언트가 연결 가능
                 .setAllowedOriginPatterns("*") // 어떤 도메인에서든 연결 허용
+                .setHandshakeHandler(new WebSocketCompressionHandshakeHandler(compressionEnabled)) // permessage-deflate 협상 제어
                 .addInterceptors(handshakeInterceptor) // JWT 인증 인터셉터 추가
                 .withSockJS(); // 브라우저가 웹소켓을 지원하지 않을때 AJAX의 SockJS 폴백 방식으로 통신
     }
@@ -43,4 +71,25 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(channelInterceptor); // JWT 인증 인터셉터 추가
     }
+
+    // 세션별 송신 한도 설정
+    // 송신은 세션 단위로 직렬화되므로 느린 클라이언트 하나가 outbound 스레드를 붙잡지 않도록
+    // 송신 버퍼/시간 한도를 넘기면 세션을 종료(SESSION_NOT_RELIABLE)함
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setMessageSizeLimit(messageSizeLimit)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .setTimeToFirstMessage(timeToFirstMessageMs)
+                .addDecoratorFactory(trafficMonitor); // 세션별 송신 바이트/프레임 집계
+    }
+
+    // 서버에서 클라이언트로 메시지를 보내는 스레드 풀 설정 (무제한 큐 방지)
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundCorePoolSize)
+                .maxPoolSize(outboundMaxPoolSize)
+                .queueCapacity(outboundQueueCapacity);
+    }
 }
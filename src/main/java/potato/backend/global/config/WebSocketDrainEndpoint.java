@@ -0,0 +1,38 @@
+package potato.backend.global.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * WebSocket drain actuator 엔드포인트
+ * GET /actuator/websocketdrain : drain 상태 조회
+ * POST /actuator/websocketdrain : drain 실행 (배포 전 preStop 훅에서 호출)
+ * DELETE /actuator/websocketdrain : drain 해제 (배포를 취소했을 때 다시 핸드셰이크를 받음)
+ * 관리자(ROLE_ADMIN)만 호출할 수 있습니다 (SecurityConfig).
+ */
+@Component
+@Endpoint(id = "websocketdrain")
+@RequiredArgsConstructor
+public class WebSocketDrainEndpoint {
+
+    private final WebSocketDrainManager drainManager;
+
+    @ReadOperation
+    public WebSocketDrainManager.DrainResult status() {
+        return drainManager.status();
+    }
+
+    @WriteOperation
+    public WebSocketDrainManager.DrainResult drain() {
+        return drainManager.drain("actuator");
+    }
+
+    @DeleteOperation
+    public WebSocketDrainManager.DrainResult resume() {
+        return drainManager.resume("actuator");
+    }
+}
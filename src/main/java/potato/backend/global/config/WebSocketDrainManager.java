@@ -0,0 +1,305 @@
+package potato.backend.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 배포 시 WebSocket 세션 drain 관리자
+ * 롤링 배포로 노드가 내려갈 때 모든 STOMP 세션이 한꺼번에 끊기면 클라이언트가 동시에 재연결하면서
+ * 핸드셰이크마다 회원 조회가 몰려 DB 부하가 치솟습니다. drain 모드에서는 다음 순서로 세션을 정리합니다.
+ * <ol>
+ *     <li>새 핸드셰이크 거부 (503 + Retry-After)</li>
+ *     <li>inbound(메시지 저장)/outbound(브로드캐스트) 채널에 쌓인 작업이 비워질 때까지 대기</li>
+ *     <li>세션을 일정 시간에 걸쳐 나눠서 종료하며, 종료 프레임(1012 Service Restart)의 reason에
+ *     세션마다 다른(jitter) 재연결 대기 시간을 담아 전달</li>
+ * </ol>
+ * 애플리케이션 종료(ContextClosedEvent) 시 자동으로 실행되며, actuator 엔드포인트(websocketdrain)로도 실행할 수 있습니다.
+ * 완료된 drain은 resume으로 해제할 수 있고, 해제 후에는 다시 drain할 수 있습니다.
+ */
+@Slf4j
+@Component
+public class WebSocketDrainManager {
+
+    public static final String RECONNECT_HINT_PREFIX = "reconnect_after_ms=";
+
+    private final WebSocketTrafficMonitor trafficMonitor;
+    private final ObjectProvider<ThreadPoolTaskExecutor> inboundExecutor;
+    private final ObjectProvider<ThreadPoolTaskExecutor> outboundExecutor;
+
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicReference<Instant> drainStartedAt = new AtomicReference<>();
+    private final AtomicReference<DrainResult> lastResult = new AtomicReference<>();
+
+    private final Timer drainDuration;
+    private final Counter rejectedHandshakes;
+    private final Counter drainedSessions;
+
+    @Value("${websocket.drain.flush-timeout-ms:5000}")
+    private long flushTimeoutMs; // 대기 중인 inbound/outbound 작업을 비우는 최대 시간
+
+    @Value("${websocket.drain.close-spread-ms:5000}")
+    private long closeSpreadMs; // 세션 종료를 분산시키는 시간
+
+    @Value("${websocket.drain.close-batches:10}")
+    private int closeBatches; // 세션 종료를 나눠 수행하는 횟수
+
+    @Value("${websocket.drain.reconnect-min-delay-ms:1000}")
+    private long reconnectMinDelayMs; // 클라이언트 재연결 대기 시간 하한
+
+    @Value("${websocket.drain.reconnect-max-delay-ms:15000}")
+    private long reconnectMaxDelayMs; // 클라이언트 재연결 대기 시간 상한
+
+    @Value("${websocket.drain.await-close-timeout-ms:3000}")
+    private long awaitCloseTimeoutMs; // 종료 요청 후 세션이 실제로 정리될 때까지 대기하는 최대 시간
+
+    // inbound/outbound 채널 실행기는 WebSocketConfig를 통해 만들어지므로 순환 참조를 피하기 위해 지연 조회
+    public WebSocketDrainManager(WebSocketTrafficMonitor trafficMonitor,
+                                 @Qualifier("clientInboundChannelExecutor") ObjectProvider<ThreadPoolTaskExecutor> inboundExecutor,
+                                 @Qualifier("clientOutboundChannelExecutor") ObjectProvider<ThreadPoolTaskExecutor> outboundExecutor,
+                                 MeterRegistry meterRegistry) {
+        this.trafficMonitor = trafficMonitor;
+        this.inboundExecutor = inboundExecutor;
+        this.outboundExecutor = outboundExecutor;
+        this.drainDuration = Timer.builder("websocket.drain.duration")
+                .description("WebSocket drain 소요 시간")
+                .register(meterRegistry);
+        this.rejectedHandshakes = Counter.builder("websocket.drain.handshakes.rejected")
+                .description("drain 중 거부된 핸드셰이크 수")
+                .register(meterRegistry);
+        this.drainedSessions = Counter.builder("websocket.drain.sessions.closed")
+                .description("drain으로 종료된 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.drain.active", draining, d -> d.get() ? 1 : 0)
+                .description("drain 진행 여부 (1: 진행 중)")
+                .register(meterRegistry);
+        Gauge.builder("websocket.drain.sessions.remaining", this, m -> m.isDraining() ? m.trafficMonitor.getSessions().size() : 0)
+                .description("drain 중 아직 종료되지 않은 세션 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 종료 시 drain 실행
+     * ContextClosedEvent는 웹 서버/메시지 브로커가 멈추기 전에 발행되므로 세션이 아직 살아 있는 상태에서 정리할 수 있습니다.
+     */
+    @EventListener(ContextClosedEvent.class)
+    public void onContextClosed() {
+        drain("shutdown");
+    }
+
+    /**
+     * drain 진행 여부
+     * @return drain이 시작되었으면 true (이후 새 핸드셰이크는 거부됨)
+     */
+    public boolean isDraining() {
+        return draining.get();
+    }
+
+    /**
+     * drain 중 핸드셰이크 거부를 기록하고 클라이언트에게 전달할 재연결 대기 시간(초)을 반환
+     * @return Retry-After 헤더 값 (초)
+     */
+    public long rejectHandshake() {
+        rejectedHandshakes.increment();
+        return Math.max(1, Duration.ofMillis(nextReconnectDelayMs()).toSeconds());
+    }
+
+    /**
+     * drain 실행
+     * 이미 진행 중이거나 완료된 경우 다시 실행하지 않고 현재 상태를 반환합니다.
+     * @param trigger 실행 주체 (shutdown, actuator 등 로그용)
+     * @return drain 결과
+     */
+    public DrainResult drain(String trigger) {
+        if (!draining.compareAndSet(false, true)) {
+            log.info("WebSocket drain 이미 진행됨: trigger={}", trigger);
+            DrainResult result = lastResult.get();
+            return result != null ? result : DrainResult.inProgress(drainStartedAt.get(), trigger, trafficMonitor.getSessions().size());
+        }
+
+        Instant startedAt = Instant.now();
+        drainStartedAt.set(startedAt);
+        long startNanos = System.nanoTime();
+        int sessionsAtStart = trafficMonitor.getSessions().size();
+        log.info("WebSocket drain 시작: trigger={}, sessions={}", trigger, sessionsAtStart);
+
+        // 1. 저장/브로드캐스트 대기 작업 비우기
+        boolean flushed = awaitChannelsIdle(flushTimeoutMs);
+        if (!flushed) {
+            log.warn("WebSocket drain: 제한 시간 내에 채널 작업을 모두 비우지 못했습니다. timeoutMs={}", flushTimeoutMs);
+        }
+
+        // 2. 세션을 나눠서 종료 (재연결 대기 시간 힌트 포함)
+        int closed = closeSessionsGradually();
+
+        // 3. 종료 처리(SessionDisconnectEvent 등)가 끝날 때까지 대기
+        long deadline = System.nanoTime() + Duration.ofMillis(awaitCloseTimeoutMs).toNanos();
+        while (!trafficMonitor.getSessions().isEmpty() && System.nanoTime() < deadline) {
+            sleep(50);
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        drainDuration.record(Duration.ofNanos(elapsedNanos));
+        int remaining = trafficMonitor.getSessions().size();
+        DrainResult result = new DrainResult(trigger, startedAt, Duration.ofNanos(elapsedNanos).toMillis(),
+                sessionsAtStart, closed, remaining, flushed, true);
+        lastResult.set(result);
+        log.info("WebSocket drain 완료: trigger={}, closed={}, remaining={}, flushed={}, elapsedMs={}",
+                trigger, closed, remaining, flushed, result.elapsedMs());
+        return result;
+    }
+
+    /**
+     * drain 해제
+     * 완료된 drain만 해제하며, 진행 중이면 세션 종료가 끝날 때까지 해제하지 않고 현재 상태를 반환합니다.
+     * 해제 후에는 새 핸드셰이크를 다시 받습니다.
+     * @param trigger 실행 주체 (로그용)
+     * @return 해제 후 상태
+     */
+    public synchronized DrainResult resume(String trigger) {
+        if (!draining.get()) {
+            return status();
+        }
+        DrainResult result = lastResult.get();
+        if (result == null) {
+            log.warn("WebSocket drain 진행 중에는 해제할 수 없습니다: trigger={}", trigger);
+            return status();
+        }
+        lastResult.set(null);
+        drainStartedAt.set(null);
+        draining.set(false);
+        log.info("WebSocket drain 해제: trigger={}, drainStartedAt={}", trigger, result.startedAt());
+        return status();
+    }
+
+    /**
+     * 현재 drain 상태 조회
+     */
+    public DrainResult status() {
+        DrainResult result = lastResult.get();
+        if (result != null) {
+            return result;
+        }
+        Instant startedAt = drainStartedAt.get();
+        return startedAt != null
+                ? DrainResult.inProgress(startedAt, null, trafficMonitor.getSessions().size())
+                : DrainResult.idle(trafficMonitor.getSessions().size());
+    }
+
+    private boolean awaitChannelsIdle(long timeoutMs) {
+        long deadline = System.nanoTime() + Duration.ofMillis(timeoutMs).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (isIdle(inboundExecutor.getIfAvailable()) && isIdle(outboundExecutor.getIfAvailable())) {
+                return true;
+            }
+            sleep(20);
+        }
+        return false;
+    }
+
+    private boolean isIdle(ThreadPoolTaskExecutor executor) {
+        if (executor == null || executor.getThreadPoolExecutor() == null) {
+            return true;
+        }
+        return executor.getQueueSize() == 0 && executor.getActiveCount() == 0;
+    }
+
+    private int closeSessionsGradually() {
+        List<WebSocketSession> targets = new ArrayList<>(trafficMonitor.getSessions());
+        if (targets.isEmpty()) {
+            return 0;
+        }
+        Collections.shuffle(targets);
+
+        int batches = Math.max(1, Math.min(closeBatches, targets.size()));
+        int batchSize = (targets.size() + batches - 1) / batches;
+        long pauseMs = batches > 1 ? closeSpreadMs / (batches - 1) : 0;
+
+        int closed = 0;
+        for (int from = 0; from < targets.size(); from += batchSize) {
+            if (from > 0) {
+                sleep(pauseMs);
+            }
+            for (WebSocketSession session : targets.subList(from, Math.min(from + batchSize, targets.size()))) {
+                if (close(session)) {
+                    closed++;
+                }
+            }
+        }
+        return closed;
+    }
+
+    private boolean close(WebSocketSession session) {
+        if (!session.isOpen()) {
+            return false;
+        }
+        try {
+            // 1012(Service Restart): 클라이언트는 reason의 대기 시간 후 다른 노드로 재연결
+            session.close(CloseStatus.SERVICE_RESTARTED.withReason(RECONNECT_HINT_PREFIX + nextReconnectDelayMs()));
+            drainedSessions.increment();
+            return true;
+        } catch (IOException e) {
+            log.debug("WebSocket drain 중 세션 종료 실패: sessionId={}", session.getId(), e);
+            return false;
+        }
+    }
+
+    private long nextReconnectDelayMs() {
+        long min = Math.max(0, reconnectMinDelayMs);
+        long max = Math.max(min, reconnectMaxDelayMs);
+        return ThreadLocalRandom.current().nextLong(min, max + 1);
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * drain 결과
+     * @param trigger 실행 주체
+     * @param startedAt 시작 시각 (drain 전이면 null)
+     * @param elapsedMs 소요 시간
+     * @param sessionsAtStart 시작 시점 세션 수
+     * @param sessionsClosed 종료 요청한 세션 수
+     * @param sessionsRemaining 현재 남아 있는 세션 수
+     * @param flushed 제한 시간 내에 채널 작업을 모두 비웠는지 여부
+     * @param completed drain 완료 여부
+     */
+    public record DrainResult(String trigger, Instant startedAt, long elapsedMs, int sessionsAtStart,
+                              int sessionsClosed, int sessionsRemaining, boolean flushed, boolean completed) {
+
+        static DrainResult idle(int sessions) {
+            return new DrainResult(null, null, 0, 0, 0, sessions, false, false);
+        }
+
+        static DrainResult inProgress(Instant startedAt, String trigger, int sessions) {
+            long elapsed = startedAt != null ? Duration.between(startedAt, Instant.now()).toMillis() : 0;
+            return new DrainResult(trigger, startedAt, elapsed, 0, 0, sessions, false, false);
+        }
+    }
+}
@@ -7,32 +7,43 @@ import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.WebSocketHandler;
 import org.springframework.web.socket.server.HandshakeInterceptor;
-import potato.backend.domain.user.domain.Member;
-import potato.backend.domain.user.repository.MemberRepository;
 import potato.backend.global.security.oauth.UserInfo;
 
 import java.util.Map;
 
 /**
  * WebSocket 핸드셰이크 인터셉터
- * WebSocket 연결 시점에 memberId를 쿼리 파라미터로 받아 사용자 정보를 Principal로 설정합니다.
+ * WebSocket 연결 시점에 Access Token(쿠키 또는 Authorization 헤더)을 검증하여 사용자 정보를 Principal로 설정합니다.
+ * 클라이언트가 보낸 memberId 등은 신뢰하지 않습니다.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
 
-    private final MemberRepository memberRepository;
+    public static final String PRINCIPAL_ATTRIBUTE = "principal";
+
+    private final WebSocketPrincipalResolver principalResolver;
+    private final WebSocketDrainManager drainManager;
 
     /**
      * 핸드셰이크 전에 실행
-     * 쿼리 파라미터에서 memberId를 받아 Member를 조회하고 UserInfo를 Principal로 설정합니다.
+     * Access Token의 클레임으로 UserInfo를 만들어 Principal로 설정합니다.
      */
     @Override
     public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
                                      WebSocketHandler wsHandler, Map<String, Object> attributes) throws Exception {
         
         String path = request.getURI().getPath();
+
+        // drain 중인 노드는 새 연결을 받지 않음 (SockJS info 포함, 클라이언트가 다른 노드로 재연결하도록 유도)
+        if (drainManager.isDraining()) {
+            long retryAfterSeconds = drainManager.rejectHandshake();
+            log.debug("WebSocket 핸드셰이크 거부: drain 진행 중, retryAfter={}s", retryAfterSeconds);
+            response.getHeaders().set(org.springframework.http.HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setStatusCode(org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE);
+            return false;
+        }
         
         // SockJS의 info 엔드포인트는 허용 (쿼리 파라미터 없이도 통과)
         if (path != null && path.endsWith("/info")) {
@@ -40,50 +51,26 @@ public class WebSocketHandshakeInterceptor implements HandshakeInterceptor {
             return true;
         }
         
-        // 쿼리 파라미터에서 memberId 추출
-        String queryString = request.getURI().getQuery();
-        Long memberId = null;
-        
-        if (queryString != null && queryString.contains("memberId=")) {
-            String[] params = queryString.split("&");
-            for (String param : params) {
-                if (param.startsWith("memberId=")) {
-                    String memberIdStr = param.substring(9); // "memberId=" 제거
-                    memberIdStr = java.net.URLDecoder.decode(memberIdStr, java.nio.charset.StandardCharsets.UTF_8);
-                    try {
-                        memberId = Long.parseLong(memberIdStr);
-                    } catch (NumberFormatException e) {
-                        log.warn("WebSocket 핸드셰이크 실패: 유효하지 않은 memberId 형식: {}", memberIdStr);
-                        response.setStatusCode(org.springframework.http.HttpStatus.BAD_REQUEST);
-                        return false;
-                    }
-                    break;
-                }
-            }
-        }
-        
-        // memberId가 없으면 인증 실패
-        if (memberId == null) {
-            log.warn("WebSocket 핸드셰이크 실패: memberId 파라미터가 없습니다. path={}, query={}", path, queryString);
-            response.setStatusCode(org.springframework.http.HttpStatus.BAD_REQUEST);
-            return false;
+        // Access Token은 쿠키(accessToken) 또는 Authorization 헤더로 전달
+        // 브라우저 SockJS처럼 핸드셰이크에 토큰을 실을 수 없는 경우 STOMP CONNECT 헤더로 인증 (WebSocketChannelInterceptor)
+        String accessToken = principalResolver.extractToken(request);
+        if (accessToken == null) {
+            log.debug("WebSocket 핸드셰이크: 토큰 없음, STOMP CONNECT 단계에서 인증합니다. path={}", path);
+            return true;
         }
 
-        // Member 조회
-        Member member = memberRepository.findById(memberId)
-                .orElse(null);
-        
-        if (member == null) {
-            log.warn("WebSocket 핸드셰이크 실패: 존재하지 않는 회원입니다. memberId={}", memberId);
-            response.setStatusCode(org.springframework.http.HttpStatus.NOT_FOUND);
+        // 토큰 검증 후 클레임으로 UserInfo 생성 (DB 조회 없음)
+        UserInfo userInfo = principalResolver.resolve(accessToken);
+        if (userInfo == null) {
+            log.warn("WebSocket 핸드셰이크 실패: 유효하지 않은 Access Token입니다. path={}", path);
+            response.setStatusCode(org.springframework.http.HttpStatus.UNAUTHORIZED);
             return false;
         }
 
-        // UserInfo 생성 및 WebSocket 세션에 저장 (Principal)
-        UserInfo userInfo = UserInfo.from(member);
-        attributes.put("principal", userInfo);
+        // UserInfo를 WebSocket 세션에 저장 (Principal)
+        attributes.put(PRINCIPAL_ATTRIBUTE, userInfo);
         
-        log.info("WebSocket 핸드셰이크 성공: memberId={}", memberId);
+        log.debug("WebSocket 핸드셰이크 성공: memberId={}", userInfo.memberId());
         
         return true;
     }
@@ -0,0 +1,183 @@
+package potato.backend.global.config;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.event.MemberChangedEvent;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.global.security.jwt.JwtUtil;
+import potato.backend.global.security.oauth.UserInfo;
+
+import jakarta.servlet.http.Cookie;
+import java.time.Duration;
+import java.util.List;
+
+import static potato.backend.global.constant.SecurityConstant.ACCESS_TOKEN_COOKIE_NAME;
+
+/**
+ * WebSocket 연결 사용자(Principal) 확인
+ * 핸드셰이크 요청(쿠키/Authorization 헤더) 또는 STOMP CONNECT 헤더의 Access Token을 JwtUtil로 검증하고,
+ * 클레임만으로 UserInfo를 만들어 재연결이 몰려도 DB를 조회하지 않도록 합니다.
+ * 클레임이 부족한 경우(이름 누락 등)에만 짧은 TTL의 회원 캐시를 거쳐 DB에서 보충합니다.
+ */
+@Slf4j
+@Component
+public class WebSocketPrincipalResolver {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final MemberRepository memberRepository;
+    private final Cache<Long, UserInfo> memberCache;
+
+    private final Counter resolvedFromClaims;
+    private final Counter resolvedFromMember;
+    private final Counter rejected;
+
+    public WebSocketPrincipalResolver(JwtUtil jwtUtil,
+                                      MemberRepository memberRepository,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${websocket.auth.member-cache-ttl-seconds:60}") long memberCacheTtlSeconds,
+                                      @Value("${websocket.auth.member-cache-max-size:10000}") long memberCacheMaxSize) {
+        this.jwtUtil = jwtUtil;
+        this.memberRepository = memberRepository;
+        this.memberCache = CacheBuilder.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(memberCacheTtlSeconds))
+                .maximumSize(memberCacheMaxSize)
+                .build();
+        this.resolvedFromClaims = authCounter(meterRegistry, "claims");
+        this.resolvedFromMember = authCounter(meterRegistry, "member");
+        this.rejected = authCounter(meterRegistry, "rejected");
+    }
+
+    private static Counter authCounter(MeterRegistry meterRegistry, String source) {
+        return Counter.builder("websocket.auth.resolved")
+                .description("WebSocket 인증 결과 (claims: 토큰만으로 확인, member: 회원 정보 보충, rejected: 거부)")
+                .tag("source", source)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 핸드셰이크 요청에서 Access Token 추출 (Authorization 헤더 우선, 없으면 accessToken 쿠키)
+     * @param request 핸드셰이크 요청
+     * @return Access Token (없으면 null)
+     */
+    public String extractToken(ServerHttpRequest request) {
+        String token = extractBearerToken(request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+        if (token != null) {
+            return token;
+        }
+
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            Cookie[] cookies = servletRequest.getServletRequest().getCookies();
+            if (cookies != null) {
+                for (Cookie cookie : cookies) {
+                    if (ACCESS_TOKEN_COOKIE_NAME.equals(cookie.getName())) {
+                        return cookie.getValue();
+                    }
+                }
+            }
+            return null;
+        }
+
+        List<String> cookieHeaders = request.getHeaders().getOrEmpty(HttpHeaders.COOKIE);
+        for (String cookieHeader : cookieHeaders) {
+            for (String pair : cookieHeader.split(";")) {
+                String[] nameValue = pair.trim().split("=", 2);
+                if (nameValue.length == 2 && ACCESS_TOKEN_COOKIE_NAME.equals(nameValue[0])) {
+                    return nameValue[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * STOMP CONNECT 헤더 값에서 Access Token 추출
+     * @param authorizationHeader Authorization 헤더 값 ("Bearer ..." 또는 토큰 자체)
+     * @return Access Token (없으면 null)
+     */
+    public String extractBearerToken(String authorizationHeader) {
+        if (authorizationHeader == null || authorizationHeader.isBlank()) {
+            return null;
+        }
+        return authorizationHeader.startsWith(BEARER_PREFIX)
+                ? authorizationHeader.substring(BEARER_PREFIX.length()).trim()
+                : authorizationHeader.trim();
+    }
+
+    /**
+     * Access Token으로 UserInfo 확인
+     * @param accessToken Access Token
+     * @return 인증된 사용자 정보 (유효하지 않은 토큰이거나 존재하지 않는 회원이면 null)
+     */
+    public UserInfo resolve(String accessToken) {
+        if (accessToken == null || accessToken.isBlank()) {
+            rejected.increment();
+            return null;
+        }
+
+        UserInfo claims = jwtUtil.parseAccessToken(accessToken);
+        if (claims == null) {
+            rejected.increment();
+            return null;
+        }
+
+        if (claims.name() != null) {
+            resolvedFromClaims.increment();
+            return claims;
+        }
+
+        // 클레임이 부족한 경우에만 회원 캐시/DB에서 보충
+        UserInfo member = findMember(claims.memberId());
+        if (member == null) {
+            log.warn("WebSocket 인증 실패: 존재하지 않는 회원입니다. memberId={}", claims.memberId());
+            rejected.increment();
+            return null;
+        }
+        resolvedFromMember.increment();
+        return member;
+    }
+
+    /**
+     * 회원 정보 변경 시 캐시된 사용자 정보 제거 (커밋된 변경만)
+     * 다른 노드의 캐시는 TTL(websocket.auth.member-cache-ttl-seconds)이 지나면 갱신됩니다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        invalidate(event.memberId());
+    }
+
+    /**
+     * 회원 정보 변경 시 캐시된 사용자 정보 제거
+     * @param memberId 회원 ID
+     */
+    public void invalidate(Long memberId) {
+        memberCache.invalidate(memberId);
+    }
+
+    private UserInfo findMember(Long memberId) {
+        UserInfo cached = memberCache.getIfPresent(memberId);
+        if (cached != null) {
+            return cached;
+        }
+
+        Member member = memberRepository.findById(memberId).orElse(null);
+        if (member == null) {
+            return null;
+        }
+        UserInfo userInfo = UserInfo.from(member);
+        memberCache.put(memberId, userInfo);
+        return userInfo;
+    }
+}
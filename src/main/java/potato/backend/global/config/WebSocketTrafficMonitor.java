@@ -0,0 +1,154 @@
+package potato.backend.global.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * WebSocket 세션별 송신 트래픽 모니터
+ * 세션별 송신 바이트/프레임 수를 집계하고, 송신 버퍼 한도 또는 송신 시간 한도를 넘겨
+ * 강제로 종료된 세션(느린 소비자)을 메트릭으로 기록합니다.
+ * 세션 ID를 태그로 쓰면 메트릭 카디널리티가 폭증하므로, 세션별 값은 메모리에서 관리하고
+ * 종료 시점에 분포(DistributionSummary)로만 기록합니다.
+ */
+@Slf4j
+@Component
+public class WebSocketTrafficMonitor implements WebSocketHandlerDecoratorFactory {
+
+    // Key: sessionId, Value: 세션별 송신 통계
+    private final Map<String, SessionTraffic> sessions = new ConcurrentHashMap<>();
+
+    private final Counter outboundBytes;
+    private final Counter outboundFrames;
+    private final Counter slowConsumerCloses;
+    private final DistributionSummary sessionOutboundBytes;
+    private final DistributionSummary sessionOutboundFrames;
+
+    public WebSocketTrafficMonitor(MeterRegistry meterRegistry) {
+        this.outboundBytes = Counter.builder("websocket.outbound.bytes")
+                .description("WebSocket 송신 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.outboundFrames = Counter.builder("websocket.outbound.frames")
+                .description("WebSocket 송신 프레임 수")
+                .register(meterRegistry);
+        this.slowConsumerCloses = Counter.builder("websocket.sessions.slow_consumer.closed")
+                .description("송신 버퍼/시간 한도 초과로 종료된 세션 수")
+                .register(meterRegistry);
+        this.sessionOutboundBytes = DistributionSummary.builder("websocket.session.outbound.bytes")
+                .description("종료된 세션의 세션당 송신 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.sessionOutboundFrames = DistributionSummary.builder("websocket.session.outbound.frames")
+                .description("종료된 세션의 세션당 송신 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("websocket.sessions.active", sessions, Map::size)
+                .description("현재 연결된 WebSocket 세션 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionTraffic traffic = new SessionTraffic(session);
+                sessions.put(session.getId(), traffic);
+                super.afterConnectionEstablished(traffic);
+            }
+
+            @Override
+            public void handleMessage(WebSocketSession session, WebSocketMessage<?> message) throws Exception {
+                super.handleMessage(tracked(session), message);
+            }
+
+            @Override
+            public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+                super.handleTransportError(tracked(session), exception);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SessionTraffic traffic = sessions.remove(session.getId());
+                if (traffic != null) {
+                    record(traffic, closeStatus);
+                }
+                super.afterConnectionClosed(traffic != null ? traffic : session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * 현재 연결된 세션 목록 조회
+     * @return 송신 통계가 포함된 세션 목록 (읽기 전용)
+     */
+    public Collection<SessionTraffic> getSessions() {
+        return Collections.unmodifiableCollection(sessions.values());
+    }
+
+    private WebSocketSession tracked(WebSocketSession session) {
+        SessionTraffic traffic = sessions.get(session.getId());
+        return traffic != null ? traffic : session;
+    }
+
+    private void record(SessionTraffic traffic, CloseStatus closeStatus) {
+        sessionOutboundBytes.record(traffic.getOutboundBytes());
+        sessionOutboundFrames.record(traffic.getOutboundFrames());
+
+        // ConcurrentWebSocketSessionDecorator는 송신 버퍼/시간 한도 초과 시 SESSION_NOT_RELIABLE로 세션을 종료함
+        if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+            slowConsumerCloses.increment();
+            log.warn("느린 소비자 세션 종료: sessionId={}, outboundBytes={}, outboundFrames={}",
+                    traffic.getId(), traffic.getOutboundBytes(), traffic.getOutboundFrames());
+        }
+    }
+
+    /**
+     * 송신 바이트/프레임 수를 집계하는 세션 데코레이터
+     */
+    public class SessionTraffic extends WebSocketSessionDecorator {
+
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicLong frames = new AtomicLong();
+
+        private SessionTraffic(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            super.sendMessage(message);
+            int length = message.getPayloadLength();
+            bytes.addAndGet(length);
+            frames.incrementAndGet();
+            outboundBytes.increment(length);
+            outboundFrames.increment();
+        }
+
+        public long getOutboundBytes() {
+            return bytes.get();
+        }
+
+        public long getOutboundFrames() {
+            return frames.get();
+        }
+    }
+}
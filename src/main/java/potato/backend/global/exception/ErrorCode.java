@@ -50,6 +50,10 @@ public enum ErrorCode {
     INVALID_CHAT_ROOM_PARTICIPANTS(HttpStatus.BAD_REQUEST, "채팅방 참가자가 유효하지 않습니다"),
     CHAT_MESSAGE_INVALID(HttpStatus.BAD_REQUEST, "유효하지 않은 메시지입니다"),
 
+    // 저장된 검색
+    SAVED_SEARCH_NOT_FOUND(HttpStatus.NOT_FOUND, "저장된 검색을 찾을 수 없습니다"),
+    SAVED_SEARCH_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "저장할 수 있는 검색 개수를 초과했습니다"),
+
     INVALID_ARGUMENT(HttpStatus.BAD_REQUEST, "유효하지 않은 인자입니다"),
 
     // 페이징
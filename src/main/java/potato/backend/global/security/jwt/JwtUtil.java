@@ -144,6 +144,41 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Access Token을 검증하고 클레임만으로 UserInfo를 생성 (DB 조회 없음)
+     * getClaims와 달리 만료된 토큰은 허용하지 않으며, role 클레임이 없는 토큰(Refresh Token 등)은 거부합니다.
+     * 이름/이메일 등 선택 클레임이 없으면 해당 필드는 null로 채워집니다.
+     * @param accessToken Access Token
+     * @return 클레임으로 만든 UserInfo (유효하지 않은 토큰이면 null)
+     */
+    public UserInfo parseAccessToken(String accessToken) {
+        try {
+            Claims claims = Jwts.parser()
+                    .verifyWith(publicKey)
+                    .build()
+                    .parseSignedClaims(accessToken)
+                    .getPayload();
+
+            String role = claims.get(CLAIM_ROLE, String.class);
+            if (claims.getSubject() == null || role == null) {
+                log.warn("[JwtUtil][parseAccessToken] Access Token 클레임 누락: subject={}", claims.getSubject());
+                return null;
+            }
+
+            return UserInfo.of(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get(CLAIM_OAUTH_ID, String.class),
+                    Role.valueOf(role),
+                    claims.get(CLAIM_NAME, String.class),
+                    claims.get(CLAIM_EMAIL, String.class));
+        } catch (ExpiredJwtException e) {
+            log.debug("[JwtUtil][parseAccessToken] JWT 만료: message={}", e.getMessage());
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("[JwtUtil][parseAccessToken] JWT 검증 실패: message={}", e.getMessage());
+        }
+        return null;
+    }
+
     private PrivateKey generatePrivateKey(String keyString) throws Exception {
         byte[] keyBytes = Base64.getDecoder().decode(keyString);
         PKCS8EncodedKeySpec keySpec = new PKCS8EncodedKeySpec(keyBytes);
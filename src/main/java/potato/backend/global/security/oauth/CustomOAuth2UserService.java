@@ -2,6 +2,7 @@ package potato.backend.global.security.oauth;
 
 import java.util.Objects;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -12,6 +13,7 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 
 import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.event.MemberChangedEvent;
 import potato.backend.domain.user.repository.MemberRepository;
 
 @Service
@@ -20,6 +22,7 @@ import potato.backend.domain.user.repository.MemberRepository;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public OAuth2User loadUser(OAuth2UserRequest userRequest) throws OAuth2AuthenticationException {
@@ -45,11 +48,17 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         if (member == null) {
             return memberRepository.save(Member.create(oauthId, email, name));
         } else {
+            boolean changed = false;
             if (!Objects.equals(member.getEmail(), email)) {
                 member.updateEmail(email);
+                changed = true;
             }
             if (!Objects.equals(member.getName(), name)) {
                 member.updateName(name);
+                changed = true;
+            }
+            if (changed) {
+                eventPublisher.publishEvent(new MemberChangedEvent(member.getId()));
             }
         }
 
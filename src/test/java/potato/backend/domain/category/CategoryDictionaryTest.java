@@ -0,0 +1,103 @@
+package potato.backend.domain.category;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManagerFactory;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.category.service.CategoryDictionary;
+
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("카테고리 사전 테스트")
+class CategoryDictionaryTest {
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private CategoryDictionary dictionary;
+
+    @BeforeEach
+    void setUp() {
+        categoryRepository.save(Category.create("디지털"));
+        dictionary = new CategoryDictionary(categoryRepository, jdbcTemplate, transactionManager, entityManagerFactory);
+        dictionary.reload();
+    }
+
+    @AfterEach
+    void tearDown() {
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("없는 이름만 생성하고 이후에는 사전에서 같은 카테고리를 반환한다")
+    void resolve_createsMissingOnce() {
+        List<Category> first = dictionary.resolve(List.of("디지털", "도서", "의류"));
+
+        assertThat(first).extracting(Category::getCategoryName).containsExactly("디지털", "도서", "의류");
+        assertThat(first).extracting(Category::getId).doesNotContainNull();
+        assertThat(categoryRepository.count()).isEqualTo(3);
+        assertThat(dictionary.size()).isEqualTo(3);
+
+        List<Category> second = dictionary.resolve(List.of("의류", "디지털"));
+        assertThat(second.get(0)).isSameAs(first.get(2));
+        assertThat(second.get(1)).isSameAs(first.get(0));
+        assertThat(categoryRepository.count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다른 곳에서 이미 만든 이름이면 새로 만들지 않고 기존 카테고리를 사용한다")
+    void resolve_reusesCategoryCreatedElsewhere() {
+        Category created = categoryRepository.save(Category.create("도서"));
+
+        List<Category> resolved = dictionary.resolve(List.of("도서"));
+
+        assertThat(resolved).extracting(Category::getId).containsExactly(created.getId());
+        assertThat(categoryRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션에서 만든 카테고리는 사전에 남지 않는다")
+    void resolve_ignoresRolledBackCategories() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            dictionary.resolve(List.of("롤백"));
+            status.setRollbackOnly();
+        });
+
+        assertThat(dictionary.size()).isEqualTo(1);
+        assertThat(dictionary.resolve(List.of("롤백"))).extracting(Category::getId).doesNotContainNull();
+        assertThat(categoryRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 이름의 카테고리는 중복 저장할 수 없다")
+    void categoryName_isUnique() {
+        assertThatThrownBy(() -> categoryRepository.save(Category.create("디지털")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+}
@@ -0,0 +1,195 @@
+package potato.backend.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.chat.domain.ChatMessage;
+import potato.backend.domain.chat.domain.ChatRetentionRule;
+import potato.backend.domain.chat.domain.ChatRoom;
+import potato.backend.domain.chat.repository.ChatMessageRepository;
+import potato.backend.domain.chat.repository.ChatRoomRepository;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+
+@DataJpaTest
+@DisplayName("채팅 메시지 보관 기간 정책 테스트")
+class ChatRetentionServiceTest {
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ChatRetentionService retentionService;
+    private Member seller;
+    private Member buyer;
+    private Category category;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        buyer = memberRepository.save(Member.create("구매자", "buyer@example.com", "hashed-password", "010-3333-4444"));
+        category = categoryRepository.save(Category.create("디지털"));
+        now = Instant.now();
+
+        retentionService = new ChatRetentionService(chatMessageRepository, transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(retentionService, "chunkSize", 2L);
+        ReflectionTestUtils.setField(retentionService, "maxChunksPerRun", 100);
+        ReflectionTestUtils.setField(retentionService, "pauseBetweenChunksMs", 0L);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 완료 채팅방의 메시지는 chunk 단위로 삭제되고, 기간 내 메시지는 남는다")
+    void run_completedRoom_deletesExpiredInChunks() {
+        // given
+        List<Long> expired = saveMessages(saveRoom("오래된 거래", days(200)), 3);
+        List<Long> recent = saveMessages(saveRoom("최근 거래", days(10)), 2);
+        List<Long> open = saveMessages(saveRoom("진행 중 거래", null), 2);
+        flushAndClear();
+
+        // when
+        ChatRetentionService.RetentionRunResult result =
+                retentionService.run(ChatRetentionRule.COMPLETED_ROOM, days(180), false);
+
+        // then
+        assertThat(result.rows()).isEqualTo(3);
+        assertThat(result.chunks()).isEqualTo(2); // chunkSize 2 → [id, id+2), [id+2, id+4)
+        assertThat(result.completed()).isTrue();
+        assertThat(chatMessageRepository.findAllById(expired)).isEmpty();
+        assertThat(chatMessageRepository.findAllById(recent)).hasSize(2);
+        assertThat(chatMessageRepository.findAllById(open)).hasSize(2);
+        assertThat(retentionService.getCursor(ChatRetentionRule.COMPLETED_ROOM)).isZero();
+    }
+
+    @Test
+    @DisplayName("소프트 삭제 후 보관 기간이 지난 메시지만 삭제한다")
+    void run_softDeleted_deletesOnlyExpired() {
+        // given
+        List<Long> ids = saveMessages(saveRoom("진행 중 거래", null), 3);
+        softDelete(ids.get(0), days(40));
+        softDelete(ids.get(1), days(5));
+        flushAndClear();
+
+        // when
+        ChatRetentionService.RetentionRunResult result =
+                retentionService.run(ChatRetentionRule.SOFT_DELETED, days(30), false);
+
+        // then
+        assertThat(result.rows()).isEqualTo(1);
+        assertThat(chatMessageRepository.findAllById(ids)).extracting(ChatMessage::getId)
+                .containsExactlyInAnyOrder(ids.get(1), ids.get(2));
+    }
+
+    @Test
+    @DisplayName("실행당 chunk 수에 도달하면 커서를 남기고 다음 실행에서 이어서 삭제한다")
+    void run_resumesFromCursor() {
+        // given
+        ReflectionTestUtils.setField(retentionService, "maxChunksPerRun", 1);
+        List<Long> expired = saveMessages(saveRoom("오래된 거래", days(200)), 3);
+        flushAndClear();
+
+        // when
+        ChatRetentionService.RetentionRunResult first =
+                retentionService.run(ChatRetentionRule.COMPLETED_ROOM, days(180), false);
+
+        // then
+        assertThat(first.rows()).isEqualTo(2);
+        assertThat(first.completed()).isFalse();
+        assertThat(retentionService.getCursor(ChatRetentionRule.COMPLETED_ROOM)).isEqualTo(expired.get(0) + 2);
+        assertThat(chatMessageRepository.findAllById(expired)).extracting(ChatMessage::getId)
+                .containsExactly(expired.get(2));
+
+        ChatRetentionService.RetentionRunResult second =
+                retentionService.run(ChatRetentionRule.COMPLETED_ROOM, days(180), false);
+        assertThat(second.rows()).isEqualTo(1);
+        assertThat(chatMessageRepository.findAllById(expired)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("dry-run은 대상 행 수만 집계하고 삭제하지 않는다")
+    void run_dryRun_countsWithoutDeleting() {
+        // given
+        List<Long> expired = saveMessages(saveRoom("오래된 거래", days(200)), 3);
+        flushAndClear();
+
+        // when
+        ChatRetentionService.RetentionRunResult result =
+                retentionService.run(ChatRetentionRule.COMPLETED_ROOM, days(180), true);
+
+        // then
+        assertThat(result.rows()).isEqualTo(3);
+        assertThat(chatMessageRepository.findAllById(expired)).hasSize(3);
+        assertThat(retentionService.getCursor(ChatRetentionRule.COMPLETED_ROOM)).isZero();
+    }
+
+    private ChatRoom saveRoom(String title, Instant completedAt) {
+        Product product = productRepository.save(Product.create(seller, List.of(category), title, "상품 설명",
+                List.of("detail.jpg"), BigDecimal.valueOf(10_000L), Status.SELLING, "main-image.jpg", Condition.USED));
+        ChatRoom room = ChatRoom.create(seller, buyer, product);
+        if (completedAt != null) {
+            room.completeTransaction();
+            ReflectionTestUtils.setField(room, "completedAt", completedAt);
+        }
+        return chatRoomRepository.save(room);
+    }
+
+    private List<Long> saveMessages(ChatRoom room, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(chatMessageRepository.save(ChatMessage.create(seller, room, "메시지 " + i)).getId());
+        }
+        return ids;
+    }
+
+    private void softDelete(Long messageId, Instant deletedAt) {
+        ChatMessage message = chatMessageRepository.findById(messageId).orElseThrow();
+        ReflectionTestUtils.setField(message, "deletedAt", deletedAt);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private Instant days(int days) {
+        return now.minus(Duration.ofDays(days));
+    }
+}
@@ -0,0 +1,110 @@
+package potato.backend.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import potato.backend.domain.chat.domain.ChatChangeType;
+import potato.backend.domain.chat.domain.ChatRoom;
+import potato.backend.domain.chat.dto.chatRoom.ChatSyncResponse;
+import potato.backend.domain.chat.repository.ChatChangeLogRepository;
+import potato.backend.domain.chat.repository.ChatRoomRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+
+/**
+ * 변경 로그 ID 순서와 커밋 순서가 다를 때의 동기화 테스트
+ * 실제로 커밋되는 트랜잭션이 필요하므로 테스트 트랜잭션을 쓰지 않고, 끝난 뒤 직접 정리합니다.
+ */
+@DataJpaTest
+@Import(ChatSyncService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ChatSyncService 커밋 순서 역전 테스트")
+class ChatSyncCommitOrderTest {
+
+    @Autowired
+    private ChatSyncService chatSyncService;
+
+    @Autowired
+    private ChatChangeLogRepository chatChangeLogRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate requiresNew;
+    private Member buyer;
+    private ChatRoom firstRoom;
+    private ChatRoom secondRoom;
+
+    @BeforeEach
+    void setUp() {
+        requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Member seller = memberRepository.save(Member.create("판매자", "sync-seller@example.com", "hashed-password", "010-1111-2222"));
+        buyer = memberRepository.save(Member.create("구매자", "sync-buyer@example.com", "hashed-password", "010-3333-4444"));
+        firstRoom = chatRoomRepository.save(ChatRoom.create(seller, buyer));
+        secondRoom = chatRoomRepository.save(ChatRoom.create(seller, buyer));
+    }
+
+    @AfterEach
+    void tearDown() {
+        chatChangeLogRepository.deleteAllInBatch();
+        chatRoomRepository.deleteAllInBatch();
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("먼저 ID를 받고 늦게 커밋된 변경도 다음 동기화에서 전달된다")
+    void sync_deliversChangeCommittedOutOfOrder() {
+        // given
+        String token = chatSyncService.sync(buyer.getId(), null, null).getData().getSyncToken();
+        AtomicReference<String> tokenWhileInFlight = new AtomicReference<>();
+
+        requiresNew.executeWithoutResult(late -> {
+            // 작은 ID를 먼저 받지만 아직 커밋하지 않은 변경
+            chatSyncService.record(buyer.getId(), firstRoom.getId(), ChatChangeType.READ);
+
+            // 큰 ID를 받은 변경이 먼저 커밋됨
+            requiresNew.executeWithoutResult(early ->
+                    chatSyncService.record(buyer.getId(), secondRoom.getId(), ChatChangeType.READ));
+
+            // when: 늦은 변경이 커밋되기 전에 동기화
+            ChatSyncResponse whileInFlight = requiresNew.execute(reader ->
+                    chatSyncService.sync(buyer.getId(), token, null));
+
+            // then: 커밋된 변경만 보임
+            assertThat(whileInFlight.getData().getRooms())
+                    .extracting(change -> change.getRoom().getId())
+                    .containsExactly(secondRoom.getId().toString());
+            tokenWhileInFlight.set(whileInFlight.getData().getSyncToken());
+        });
+
+        // when: 늦은 변경이 커밋된 뒤 받은 토큰으로 다시 동기화
+        ChatSyncResponse afterCommit = chatSyncService.sync(buyer.getId(), tokenWhileInFlight.get(), null);
+
+        // then: 토큰이 늦은 변경을 건너뛰지 않음
+        assertThat(afterCommit.getData().getRooms())
+                .extracting(change -> change.getRoom().getId())
+                .contains(firstRoom.getId().toString());
+    }
+}
@@ -0,0 +1,152 @@
+package potato.backend.domain.chat.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.chat.domain.ChatChangeType;
+import potato.backend.domain.chat.domain.ChatMessage;
+import potato.backend.domain.chat.domain.ChatRoom;
+import potato.backend.domain.chat.dto.chatRoom.ChatSyncResponse;
+import potato.backend.domain.chat.repository.ChatMessageRepository;
+import potato.backend.domain.chat.repository.ChatRoomRepository;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+
+// 커밋 지연 보정은 ChatSyncCommitOrderTest에서 확인하고, 여기서는 기록 즉시 토큰이 전진하도록 함
+@DataJpaTest(properties = "chat.sync.commit-lag-ms=0")
+@Import(ChatSyncService.class)
+@DisplayName("ChatSyncService 채팅 동기화 테스트")
+class ChatSyncServiceTest {
+
+    @Autowired
+    private ChatSyncService chatSyncService;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Member seller;
+    private Member buyer;
+    private ChatRoom firstRoom;
+    private ChatRoom secondRoom;
+
+    @BeforeEach
+    void setUp() {
+        seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        buyer = memberRepository.save(Member.create("구매자", "buyer@example.com", "hashed-password", "010-3333-4444"));
+        Category category = categoryRepository.save(Category.create("디지털"));
+
+        firstRoom = chatRoomRepository.save(ChatRoom.create(seller, buyer, saveProduct(category, "첫 번째 상품")));
+        secondRoom = chatRoomRepository.save(ChatRoom.create(seller, buyer, saveProduct(category, "두 번째 상품")));
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 전체 채팅방 목록과 현재 토큰을 반환")
+    void sync_withoutToken_returnsFullSync() {
+        // when
+        ChatSyncResponse response = chatSyncService.sync(buyer.getId(), null, null);
+
+        // then
+        assertThat(response.getData().isFullSync()).isTrue();
+        assertThat(response.getData().getRooms()).hasSize(2);
+        assertThat(response.getData().getSyncToken()).isNotBlank();
+    }
+
+    @Test
+    @DisplayName("토큰 이후 변경된 채팅방과 새 메시지만 반환")
+    void sync_withToken_returnsOnlyChangedRooms() {
+        // given
+        String token = chatSyncService.sync(buyer.getId(), null, null).getData().getSyncToken();
+        ChatMessage first = saveMessage(firstRoom, seller, "안녕하세요");
+        ChatMessage second = saveMessage(firstRoom, seller, "아직 판매 중입니다");
+
+        // when
+        ChatSyncResponse response = chatSyncService.sync(buyer.getId(), token, null);
+
+        // then
+        assertThat(response.getData().isFullSync()).isFalse();
+        assertThat(response.getData().getRooms()).hasSize(1);
+
+        ChatSyncResponse.RoomChange change = response.getData().getRooms().get(0);
+        assertThat(change.getRoom().getId()).isEqualTo(firstRoom.getId().toString());
+        assertThat(change.getRoom().getLastMessage()).isEqualTo("아직 판매 중입니다");
+        assertThat(change.getRoom().getUnreadCount()).isEqualTo(2);
+        assertThat(change.getMessages()).extracting("id")
+                .containsExactly(first.getId().toString(), second.getId().toString());
+
+        // 같은 토큰 이후 변경이 없으면 빈 응답
+        ChatSyncResponse next = chatSyncService.sync(buyer.getId(), response.getData().getSyncToken(), null);
+        assertThat(next.getData().getRooms()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("채팅방별 새 메시지는 limit까지만 반환")
+    void sync_capsMessagesPerRoom() {
+        // given
+        String token = chatSyncService.sync(buyer.getId(), null, null).getData().getSyncToken();
+        for (int i = 0; i < 3; i++) {
+            saveMessage(secondRoom, seller, "메시지 " + i);
+        }
+
+        // when
+        ChatSyncResponse response = chatSyncService.sync(buyer.getId(), token, 2);
+
+        // then
+        ChatSyncResponse.RoomChange change = response.getData().getRooms().get(0);
+        assertThat(change.getMessages()).hasSize(2);
+        assertThat(change.isHasMoreMessages()).isTrue();
+    }
+
+    @Test
+    @DisplayName("유효하지 않은 토큰이면 예외 발생")
+    void sync_invalidToken_throws() {
+        assertThatThrownBy(() -> chatSyncService.sync(buyer.getId(), "not-a-token", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Product saveProduct(Category category, String title) {
+        return productRepository.save(Product.create(
+                seller,
+                List.of(category),
+                title,
+                "상품 설명",
+                List.of("detail.jpg"),
+                BigDecimal.valueOf(10_000L),
+                Status.SELLING,
+                "main-image.jpg",
+                Condition.USED));
+    }
+
+    private ChatMessage saveMessage(ChatRoom chatRoom, Member sender, String content) {
+        ChatMessage message = chatMessageRepository.save(ChatMessage.create(sender, chatRoom, content));
+        chatSyncService.recordForParticipants(chatRoom, ChatChangeType.MESSAGE, message.getId());
+        return message;
+    }
+}
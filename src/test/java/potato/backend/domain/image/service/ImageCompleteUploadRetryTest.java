@@ -0,0 +1,89 @@
+package potato.backend.domain.image.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.persistence.EntityManager;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.image.dto.ImageResponse;
+import potato.backend.domain.image.dto.ImageUploadCompleteRequest;
+import potato.backend.domain.image.repository.ImageRepository;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.storage.service.S3Service;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+
+/**
+ * 이미지 url은 유일하지 않으므로(상품에 연결된 이미지 행과 같은 url) 업로드 완료 재요청이 단건 조회로 실패하지 않는지 확인
+ */
+@DataJpaTest
+@Import(ImageService.class)
+@DisplayName("서명된 URL 업로드 완료 재요청 테스트")
+class ImageCompleteUploadRetryTest {
+
+    private static final String KEY = "images/direct.jpg";
+    private static final String IMAGE_URL = "https://cdn.test/images/direct.jpg";
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private ImageRepository imageRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        S3Service s3Service = mock(S3Service.class);
+        when(s3Service.verifyUploadedFile(KEY)).thenReturn(IMAGE_URL);
+        ReflectionTestUtils.setField(imageService, "s3Service", s3Service);
+    }
+
+    @Test
+    @DisplayName("같은 url의 이미지가 상품에 연결돼 있어도 재요청은 연결되지 않은 기존 이미지를 반환한다")
+    void completeUpload_retryWithDuplicateUrlReturnsUnattachedImage() {
+        // given: 첫 완료 요청으로 저장된 이미지 + 같은 url로 등록된 상품의 이미지 행
+        ImageResponse first = imageService.completeUpload(new ImageUploadCompleteRequest(KEY));
+        Member seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        List<Category> categories = List.of(categoryRepository.save(Category.create("디지털")));
+        productRepository.save(Product.create(seller, categories, "상품", "설명",
+                List.of(IMAGE_URL), BigDecimal.valueOf(10_000), Status.SELLING, IMAGE_URL, Condition.USED));
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        ImageResponse retried = imageService.completeUpload(new ImageUploadCompleteRequest(KEY));
+
+        // then
+        assertThat(retried.id()).isEqualTo(first.id());
+        assertThat(imageRepository.findAll())
+                .filteredOn(image -> IMAGE_URL.equals(image.getImageUrl()))
+                .hasSize(2);
+    }
+}
@@ -3,11 +3,13 @@ package potato.backend.domain.image.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,6 +23,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import potato.backend.domain.image.domain.Image;
 import potato.backend.domain.image.dto.ImageResponse;
+import potato.backend.domain.image.dto.ImageUploadCompleteRequest;
 import potato.backend.domain.image.repository.ImageRepository;
 import potato.backend.domain.product.repository.ProductRepository;
 import potato.backend.domain.storage.service.S3Service;
@@ -116,4 +119,44 @@ class ImageServiceTest {
         verify(s3Service).uploadFiles(anyList());
         verify(imageRepository, times(2)).save(any(Image.class));
     }
+
+    @Test
+    @DisplayName("서명된 URL 업로드 완료 시 S3 객체를 확인한 뒤 이미지를 저장한다")
+    void completeUpload_verifiesAndSaves() {
+        // given
+        String imageUrl = "https://cdn.test/images/direct.jpg";
+        when(s3Service.verifyUploadedFile("images/direct.jpg")).thenReturn(imageUrl);
+        when(imageRepository.findFirstByImageUrlAndProductIsNullOrderByIdAsc(imageUrl)).thenReturn(Optional.empty());
+        when(imageRepository.save(any(Image.class))).thenAnswer(invocation -> {
+            Image image = invocation.getArgument(0);
+            ReflectionTestUtils.setField(image, "id", 7L);
+            return image;
+        });
+
+        // when
+        ImageResponse response = imageService.completeUpload(new ImageUploadCompleteRequest("images/direct.jpg"));
+
+        // then
+        assertThat(response.id()).isEqualTo(7L);
+        assertThat(response.imageUrl()).isEqualTo(imageUrl);
+        verify(s3Service).verifyUploadedFile("images/direct.jpg");
+    }
+
+    @Test
+    @DisplayName("같은 key로 완료를 다시 요청하면 기존 이미지를 반환한다")
+    void completeUpload_isIdempotent() {
+        // given
+        String imageUrl = "https://cdn.test/images/direct.jpg";
+        Image existing = Image.create(imageUrl);
+        ReflectionTestUtils.setField(existing, "id", 7L);
+        when(s3Service.verifyUploadedFile("images/direct.jpg")).thenReturn(imageUrl);
+        when(imageRepository.findFirstByImageUrlAndProductIsNullOrderByIdAsc(imageUrl)).thenReturn(Optional.of(existing));
+
+        // when
+        ImageResponse response = imageService.completeUpload(new ImageUploadCompleteRequest("images/direct.jpg"));
+
+        // then
+        assertThat(response.id()).isEqualTo(7L);
+        verify(imageRepository, never()).save(any(Image.class));
+    }
 }
@@ -0,0 +1,123 @@
+package potato.backend.domain.product.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import potato.backend.domain.product.dto.ProductResponse;
+import potato.backend.domain.product.event.ProductChangedEvent;
+
+@DisplayName("상품 상세 캐시 테스트")
+class ProductDetailCacheTest {
+
+    private static final Long PRODUCT_ID = 1L;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final RecordingBus bus = new RecordingBus();
+    private ProductDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ProductDetailCache(new ObjectMapper(), bus, new SimpleMeterRegistry(), 100, 300);
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 상세는 다시 조회하지 않고 ETag가 일치하면 304 대상이다")
+    void getOrLoad_cachesAndMatchesEtag() {
+        ProductDetailCache.CachedProduct first = cache.getOrLoad(PRODUCT_ID, () -> load("2025-01-01T00:00:00Z"));
+        ProductDetailCache.CachedProduct second = cache.getOrLoad(PRODUCT_ID, () -> load("2025-01-02T00:00:00Z"));
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(first.etag()).startsWith("W/\"1-");
+        assertThat(first.matches(first.etag())).isTrue();
+        assertThat(first.matches(first.etag().substring(2))).isTrue();
+        assertThat(first.matches("\"other\", " + first.etag())).isTrue();
+        assertThat(first.matches("*")).isTrue();
+        assertThat(first.matches("W/\"1-0\"")).isFalse();
+        assertThat(first.matches(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("상품 변경 이벤트로 무효화하고 다른 노드에 전파한다")
+    void onProductChanged_invalidatesAndPublishes() {
+        String oldEtag = cache.getOrLoad(PRODUCT_ID, () -> load("2025-01-01T00:00:00Z")).etag();
+
+        cache.onProductChanged(ProductChangedEvent.deleted(PRODUCT_ID));
+
+        assertThat(cache.get(PRODUCT_ID)).isNull();
+        assertThat(bus.published).hasValue(1);
+        String newEtag = cache.getOrLoad(PRODUCT_ID, () -> load("2025-01-02T00:00:00Z")).etag();
+        assertThat(newEtag).isNotEqualTo(oldEtag);
+    }
+
+    @Test
+    @DisplayName("상품 생성도 다른 노드의 색인 갱신을 위해 전파한다")
+    void onProductChanged_publishesCreated() {
+        cache.getOrLoad(PRODUCT_ID, () -> load("2025-01-01T00:00:00Z"));
+
+        cache.onProductChanged(new ProductChangedEvent(2L, ProductChangedEvent.Type.CREATED, null, null));
+
+        assertThat(bus.published).hasValue(1);
+        assertThat(cache.get(PRODUCT_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 전파된 무효화를 반영한다")
+    void subscriber_invalidatesLocally() {
+        cache.getOrLoad(PRODUCT_ID, () -> load("2025-01-01T00:00:00Z"));
+
+        bus.listener.accept(PRODUCT_ID);
+
+        assertThat(cache.get(PRODUCT_ID)).isNull();
+        assertThat(bus.published).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("조회 도중 무효화되면 이전 값을 캐시에 넣지 않는다")
+    void getOrLoad_skipsStaleValueWhenInvalidatedDuringLoad() {
+        ProductDetailCache.CachedProduct stale = cache.getOrLoad(PRODUCT_ID, () -> {
+            ProductResponse response = load("2025-01-01T00:00:00Z");
+            cache.onProductChanged(ProductChangedEvent.deleted(PRODUCT_ID));
+            return response;
+        });
+
+        assertThat(stale).isNotNull();
+        assertThat(cache.get(PRODUCT_ID)).isNull();
+    }
+
+    private ProductResponse load(String updatedAt) {
+        loads.incrementAndGet();
+        ProductResponse response = new ProductResponse();
+        ReflectionTestUtils.setField(response, "productId", PRODUCT_ID);
+        ReflectionTestUtils.setField(response, "title", "상품");
+        ReflectionTestUtils.setField(response, "updatedAt", Instant.parse(updatedAt).toString());
+        return response;
+    }
+
+    private static class RecordingBus implements ProductCacheInvalidationBus {
+
+        private final AtomicInteger published = new AtomicInteger();
+        private Consumer<Long> listener;
+
+        @Override
+        public void publish(Long productId) {
+            published.incrementAndGet();
+        }
+
+        @Override
+        public void subscribe(Consumer<Long> listener) {
+            this.listener = listener;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package potato.backend.domain.product.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.category.service.CategoryDictionary;
+import potato.backend.domain.product.cache.LocalProductCacheInvalidationBus;
+import potato.backend.domain.product.cache.ProductDetailCache;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.dto.ProductUpdateRequest;
+import potato.backend.domain.product.event.ProductChangedEvent;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.product.service.ProductBulkImportService;
+import potato.backend.domain.product.service.ProductFilterService;
+import potato.backend.domain.product.service.ProductSearchService;
+import potato.backend.domain.product.service.ProductService;
+import potato.backend.domain.product.service.ProductTrendingService;
+import potato.backend.domain.product.service.ProductViewCountService;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.domain.wishlist.cache.WishlistMembershipCache;
+
+@DataJpaTest
+@Import({ProductService.class, CategoryDictionary.class})
+@DisplayName("상품 상세 조회 ETag 테스트")
+class ProductControllerTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ProductController productController;
+    private ProductDetailCache productDetailCache;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Member seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        List<Category> categories = List.of(categoryRepository.save(Category.create("디지털")));
+        product = productRepository.save(Product.create(seller, categories, "상품", "설명",
+                List.of("a.jpg", "b.jpg"), BigDecimal.valueOf(10_000), Status.SELLING, "a.jpg", Condition.USED));
+        entityManager.flush();
+        entityManager.clear();
+
+        productDetailCache = new ProductDetailCache(new ObjectMapper().findAndRegisterModules(),
+                new LocalProductCacheInvalidationBus(), new SimpleMeterRegistry(), 100, 300);
+        productController = new ProductController(productService, mock(ProductSearchService.class),
+                mock(ProductFilterService.class), mock(ProductViewCountService.class), productDetailCache,
+                mock(ProductBulkImportService.class), mock(ProductTrendingService.class),
+                mock(WishlistMembershipCache.class));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 이전 ETag로 304를 반환한다")
+    void getProduct_returnsNotModifiedForSameEtag() {
+        String etag = getProduct(null).getHeaders().getETag();
+
+        ResponseEntity<byte[]> response = getProduct(etag);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    @DisplayName("이미지만 수정해 updatedAt이 그대로여도 이전 ETag로는 200과 새 본문을 반환한다")
+    void getProduct_imageOnlyEditChangesEtag() {
+        String oldEtag = getProduct(null).getHeaders().getETag();
+
+        productService.updateProduct(product.getId(), ProductUpdateRequest.builder()
+                .imageUrls(List.of("a.jpg", "c.jpg"))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        // 커밋 후 ProductChangedEvent로 무효화되는 것과 같음
+        productDetailCache.onProductChanged(new ProductChangedEvent(product.getId(), ProductChangedEvent.Type.UPDATED, null, null));
+
+        ResponseEntity<byte[]> response = getProduct(oldEtag);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isNotEqualTo(oldEtag);
+        assertThat(new String(response.getBody())).contains("c.jpg");
+    }
+
+    private ResponseEntity<byte[]> getProduct(String ifNoneMatch) {
+        return productController.getProduct(product.getId(), ifNoneMatch, null, new MockHttpServletRequest());
+    }
+}
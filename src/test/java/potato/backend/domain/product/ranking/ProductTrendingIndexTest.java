@@ -0,0 +1,123 @@
+package potato.backend.domain.product.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * ProductTrendingIndex 단위 테스트
+ */
+class ProductTrendingIndexTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+
+    private ProductTrendingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductTrendingIndex(Duration.ofHours(1), 3, 0.05, 0);
+    }
+
+    @Test
+    @DisplayName("점수는 반감기마다 절반으로 감쇠한다")
+    void top_decaysByHalfLife() {
+        index.record(1L, 8, 0);
+
+        assertThat(index.top(ProductTrendingIndex.ALL, 10, 2 * HOUR).get(0).score()).isCloseTo(2.0, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("최근 이벤트가 오래된 이벤트보다 높게 평가된다")
+    void top_prefersRecentEvents() {
+        index.record(1L, 3, 0);
+        index.record(2L, 2, 2 * HOUR);
+
+        assertThat(ids(index.top(ProductTrendingIndex.ALL, 10, 2 * HOUR))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("순위별로 capacity개만 유지하고, 점수가 오른 상품은 다시 진입한다")
+    void record_keepsTopK() {
+        index.record(1L, 4, 0);
+        index.record(2L, 3, 0);
+        index.record(3L, 2, 0);
+        index.record(4L, 1, 0);
+
+        assertThat(ids(index.top(ProductTrendingIndex.ALL, 10, 0))).containsExactly(1L, 2L, 3L);
+
+        index.record(4L, 5, 0);
+
+        assertThat(ids(index.top(ProductTrendingIndex.ALL, 10, 0))).containsExactly(4L, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("카테고리를 지정하면 카테고리별 순위에 반영되고, 바뀌면 이전 카테고리에서 빠진다")
+    void assignCategories_updatesCategoryBoards() {
+        index.record(1L, 2, 0);
+        index.record(2L, 1, 0);
+        assertThat(index.unresolved()).containsExactlyInAnyOrder(1L, 2L);
+
+        index.assignCategories(1L, List.of("디지털"));
+        index.assignCategories(2L, List.of("디지털", "가구"));
+
+        assertThat(ids(index.top("디지털", 10, 0))).containsExactly(1L, 2L);
+        assertThat(ids(index.top("가구", 10, 0))).containsExactly(2L);
+        assertThat(index.unresolved()).isEmpty();
+
+        index.assignCategories(2L, List.of("가구"));
+
+        assertThat(ids(index.top("디지털", 10, 0))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("refresh는 순서를 유지한 채 기준 시각을 옮기고 삭제로 빈 자리를 채운다")
+    void refresh_rebasesAndRefills() {
+        index.record(1L, 4, 0);
+        index.record(2L, 3, 0);
+        index.record(3L, 2, 0);
+        index.record(4L, 1, 0);
+        index.remove(1L);
+
+        assertThat(ids(index.top(ProductTrendingIndex.ALL, 10, 0))).containsExactly(2L, 3L);
+
+        index.refresh(HOUR);
+
+        List<ProductTrendingIndex.Ranked> top = index.top(ProductTrendingIndex.ALL, 10, HOUR);
+        assertThat(ids(top)).containsExactly(2L, 3L, 4L);
+        assertThat(top.get(0).score()).isCloseTo(1.5, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("점수가 min-score보다 작아진 상품은 refresh 때 제거된다")
+    void refresh_prunesStaleProducts() {
+        index.record(1L, 1, 0);
+        index.record(2L, 1, 10 * HOUR);
+
+        index.refresh(10 * HOUR);
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(ids(index.top(ProductTrendingIndex.ALL, 10, 10 * HOUR))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("기준 시각에서 오래 지나도 점수가 넘치지 않는다")
+    void record_rebasesBeforeOverflow() {
+        long later = 1_000 * HOUR;
+        index.record(1L, 1, later);
+        index.record(2L, 2, later);
+
+        List<ProductTrendingIndex.Ranked> top = index.top(ProductTrendingIndex.ALL, 10, later);
+        assertThat(ids(top)).containsExactly(2L, 1L);
+        assertThat(top.get(0).score()).isCloseTo(2.0, within(1e-9));
+    }
+
+    private List<Long> ids(List<ProductTrendingIndex.Ranked> ranked) {
+        return ranked.stream().map(ProductTrendingIndex.Ranked::productId).toList();
+    }
+}
@@ -0,0 +1,92 @@
+package potato.backend.domain.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Status;
+
+/**
+ * ProductFacetIndex 단위 테스트
+ */
+class ProductFacetIndexTest {
+
+    private ProductFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductFacetIndex();
+        index.upsert(new ProductFacetDocument(1L, List.of("디지털", "모바일"), Condition.NEW, Status.SELLING, 1_200_000));
+        index.upsert(new ProductFacetDocument(2L, List.of("디지털"), Condition.USED, Status.SELLING, 45_000));
+        index.upsert(new ProductFacetDocument(3L, List.of("디지털"), Condition.USED, Status.SOLD_OUT, 52_000));
+        index.upsert(new ProductFacetDocument(4L, List.of("가구"), Condition.USED, Status.SELLING, 30_000));
+    }
+
+    @Test
+    @DisplayName("여러 조건을 조합해 최신 등록순으로 조회한다")
+    void query_combinedFilters() {
+        ProductFacetIndex.FacetResult result = index.query(
+                new ProductFacetIndex.FacetFilter("디지털", Condition.USED, null, null, null), 0, 10);
+
+        assertThat(result.productIds()).containsExactly(3L, 2L);
+        assertThat(result.totalHits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("가격 범위는 구간 경계와 무관하게 실제 가격으로 판단한다")
+    void query_priceRange() {
+        ProductFacetIndex.FacetResult result = index.query(
+                new ProductFacetIndex.FacetFilter(null, null, null, 30_000L, 50_000L), 0, 10);
+
+        assertThat(result.productIds()).containsExactly(4L, 2L);
+        assertThat(index.query(new ProductFacetIndex.FacetFilter(null, null, null, 1_000_000L, null), 0, 10).productIds())
+                .containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("항목별 개수는 해당 항목을 제외한 나머지 조건으로 계산한다")
+    void query_facetCounts() {
+        ProductFacetIndex.Facets facets = index.query(
+                new ProductFacetIndex.FacetFilter("디지털", Condition.USED, null, null, null), 0, 10).facets();
+
+        // 카테고리 개수: condition=USED 만 적용
+        assertThat(facets.categories()).containsEntry("디지털", 2).containsEntry("가구", 1).doesNotContainKey("모바일");
+        // 상품 상태 개수: category=디지털 만 적용
+        assertThat(facets.conditions()).containsEntry(Condition.NEW, 1).containsEntry(Condition.USED, 2);
+        // 판매 상태 개수: 두 조건 모두 적용
+        assertThat(facets.statuses()).containsEntry(Status.SELLING, 1).containsEntry(Status.SOLD_OUT, 1);
+    }
+
+    @Test
+    @DisplayName("페이지 단위로 조회하고 수정과 삭제가 반영된다")
+    void query_pagingAndUpdates() {
+        ProductFacetIndex.FacetFilter all = new ProductFacetIndex.FacetFilter(null, null, null, null, null);
+        assertThat(index.query(all, 2, 2).productIds()).containsExactly(2L, 1L);
+
+        index.upsert(new ProductFacetDocument(2L, List.of("가구"), Condition.USED, Status.SOLD_OUT, 45_000));
+        index.remove(4L);
+
+        ProductFacetIndex.FacetResult result = index.query(
+                new ProductFacetIndex.FacetFilter("가구", null, null, null, null), 0, 10);
+        assertThat(result.productIds()).containsExactly(2L);
+        assertThat(result.facets().statuses()).containsEntry(Status.SOLD_OUT, 1).containsEntry(Status.SELLING, 0);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("현재 존재하는 상품 ID에 없는 색인을 제거한다")
+    void retainAll_removesDeletedProducts() {
+        int removed = index.retainAll(Set.of(1L, 3L));
+
+        assertThat(removed).isEqualTo(2);
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.query(new ProductFacetIndex.FacetFilter("디지털", null, null, null, null), 0, 10).productIds())
+                .containsExactly(3L, 1L);
+    }
+}
@@ -0,0 +1,87 @@
+package potato.backend.domain.product.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * ProductSearchIndex 단위 테스트
+ */
+class ProductSearchIndexTest {
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductSearchIndex();
+        index.upsert(new ProductSearchDocument(1L, "아이폰 15 프로 팝니다", "배터리 효율 90%", List.of("디지털")));
+        index.upsert(new ProductSearchDocument(2L, "갤럭시 S24", "아이폰으로 바꿔서 팝니다", List.of("디지털")));
+        index.upsert(new ProductSearchDocument(3L, "원목 책상", "이사로 급처합니다", List.of("가구")));
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열로 검색되고 제목 일치가 본문 일치보다 높은 점수를 받는다")
+    void search_rankByField() {
+        ProductSearchIndex.SearchResult result = index.search("아이폰", null, 10);
+
+        assertThat(result.totalHits()).isEqualTo(2);
+        assertThat(result.hits()).extracting(ProductSearchIndex.Hit::productId).containsExactly(1L, 2L);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 토큰을 포함하는 상품만 조회하고 영문은 접두어로 검색된다")
+    void search_allTermsAndPrefix() {
+        assertThat(index.search("아이폰 책상", null, 10).hits()).isEmpty();
+        assertThat(index.search("가구", null, 10).hits()).extracting(ProductSearchIndex.Hit::productId).containsExactly(3L);
+        assertThat(index.search("S2", null, 10).hits()).extracting(ProductSearchIndex.Hit::productId).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("이전 페이지의 마지막 결과를 기준으로 다음 페이지를 조회한다")
+    void search_cursorPaging() {
+        ProductSearchIndex.SearchResult first = index.search("팝니다", null, 1);
+        ProductSearchIndex.SearchResult second = index.search("팝니다", first.hits().get(0), 1);
+
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.hasNext()).isFalse();
+        assertThat(second.totalHits()).isEqualTo(2);
+        assertThat(List.of(first.hits().get(0).productId(), second.hits().get(0).productId()))
+                .containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("수정과 삭제가 색인에 반영된다")
+    void upsertAndRemove() {
+        index.upsert(new ProductSearchDocument(3L, "아이폰 케이스", "미개봉", List.of("디지털")));
+        index.remove(2L);
+
+        assertThat(index.search("책상", null, 10).hits()).isEmpty();
+        assertThat(index.search("아이폰", null, 10).hits()).extracting(ProductSearchIndex.Hit::productId)
+                .containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("스냅샷을 복원하면 같은 검색 결과를 얻고 삭제된 상품은 정리할 수 있다")
+    void snapshotRoundTrip(@TempDir Path dir) throws Exception {
+        Path snapshot = dir.resolve("product-search.snapshot");
+        Instant snapshotAt = Instant.parse("2025-01-01T00:00:00Z");
+        index.writeSnapshot(snapshot, snapshotAt);
+
+        ProductSearchIndex restored = new ProductSearchIndex();
+        assertThat(restored.restoreSnapshot(snapshot)).isEqualTo(snapshotAt);
+        assertThat(restored.search("아이폰", null, 10)).isEqualTo(index.search("아이폰", null, 10));
+
+        assertThat(restored.retainAll(Set.of(1L, 3L))).isEqualTo(1);
+        assertThat(restored.search("갤럭시", null, 10).hits()).isEmpty();
+    }
+}
@@ -0,0 +1,180 @@
+package potato.backend.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.category.service.CategoryDictionary;
+import potato.backend.domain.image.domain.Image;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.dto.ProductBulkImportResponse;
+import potato.backend.domain.product.dto.ProductBulkImportResponse.RowError;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+
+@DataJpaTest
+@DisplayName("상품 대량 등록 테스트")
+class ProductBulkImportServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private ProductBulkImportService bulkImportService;
+    private Member seller;
+
+    @BeforeEach
+    void setUp() {
+        seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        CategoryDictionary categoryDictionary =
+                new CategoryDictionary(categoryRepository, jdbcTemplate, transactionManager, entityManagerFactory);
+        bulkImportService = new ProductBulkImportService(jdbcTemplate, transactionManager, entityManager,
+                memberRepository, categoryDictionary, eventPublisher,
+                Jackson2ObjectMapperBuilder.json().propertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE).build(),
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(bulkImportService, "batchSize", 2);
+        ReflectionTestUtils.setField(bulkImportService, "maxRows", 100);
+    }
+
+    @Test
+    @DisplayName("NDJSON 행을 배치로 등록하고 잘못된 행은 줄 번호와 함께 보고한다")
+    void importNdjson_reportsRowErrors() {
+        String body = String.join("\n",
+                ndjson(seller.getId(), "상품1", "10000"),
+                "",
+                ndjson(seller.getId(), "상품2", "-1"),
+                "{\"title\": ",
+                ndjson(999_999L, "상품3", "3000"),
+                ndjson(seller.getId(), "상품4", "5000"),
+                ndjson(seller.getId(), "상품5", "7000"));
+
+        ProductBulkImportResponse response = import_(body, ProductBulkImportService.Format.NDJSON);
+
+        assertThat(response.getTotalRows()).isEqualTo(6);
+        assertThat(response.getCreatedCount()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(RowError::getLine).containsExactlyInAnyOrder(3, 4, 5);
+
+        entityManager.clear();
+        List<Product> products = productRepository.findAllByIdInWithDetails(response.getProductIds());
+        assertThat(products).extracting(Product::getTitle).containsExactlyInAnyOrder("상품1", "상품4", "상품5");
+        assertThat(products).allSatisfy(product -> {
+            assertThat(product.getMember().getId()).isEqualTo(seller.getId());
+            assertThat(product.getCategories()).extracting(Category::getCategoryName)
+                    .containsExactlyInAnyOrder("디지털", "모바일");
+            assertThat(product.getImages()).extracting(Image::getImageUrl).containsExactly("a.jpg", "b.jpg");
+            assertThat(product.getCreatedAt()).isNotNull();
+        });
+        assertThat(categoryRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("JSON null 행은 가져오기를 중단하지 않고 행 오류로 보고한다")
+    void importNdjson_reportsNullRow() {
+        String body = String.join("\n",
+                "null",
+                ndjson(seller.getId(), "상품1", "10000"));
+
+        ProductBulkImportResponse response = import_(body, ProductBulkImportService.Format.NDJSON);
+
+        assertThat(response.getTotalRows()).isEqualTo(2);
+        assertThat(response.getCreatedCount()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(RowError::getLine).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("CSV의 따옴표 필드와 '|' 목록을 해석하고, 이후 엔티티 저장과 ID가 겹치지 않는다")
+    void importCsv_sharesSequenceWithEntities() {
+        String body = String.join("\n",
+                "member_id,title,category,content,main_image_url,images,price,status,condition",
+                seller.getId() + ",\"노트북, 16인치\",디지털|노트북,\"설명 \"\"좋음\"\"\",main.jpg,a.jpg|b.jpg,1200000,SELLING,USED",
+                seller.getId() + ",책,도서,설명,main.jpg,c.jpg,abc,SELLING,NEW",
+                seller.getId() + ",책상,가구,설명,main.jpg,d.jpg,50000,UNKNOWN,NEW");
+
+        ProductBulkImportResponse response = import_(body, ProductBulkImportService.Format.CSV);
+
+        assertThat(response.getCreatedCount()).isEqualTo(1);
+        assertThat(response.getErrors()).extracting(RowError::getLine).containsExactly(3, 4);
+
+        Product saved = productRepository.saveAndFlush(Product.create(seller, List.of(categoryRepository.save(Category.create("기타"))),
+                "개별 등록", "설명", List.of("e.jpg"), BigDecimal.valueOf(1_000), Status.SELLING, "main.jpg", Condition.NEW));
+        assertThat(saved.getId()).isNotIn(response.getProductIds());
+
+        entityManager.clear();
+        Product imported = productRepository.findAllByIdInWithDetails(response.getProductIds()).get(0);
+        assertThat(imported.getTitle()).isEqualTo("노트북, 16인치");
+        assertThat(imported.getContent()).isEqualTo("설명 \"좋음\"");
+        assertThat(imported.getCategories()).extracting(Category::getCategoryName)
+                .containsExactlyInAnyOrder("디지털", "노트북");
+        assertThat(imported.getImages()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("최대 행 수를 넘는 행은 처리하지 않는다")
+    void import_stopsAtMaxRows() {
+        ReflectionTestUtils.setField(bulkImportService, "maxRows", 2);
+        String body = String.join("\n",
+                ndjson(seller.getId(), "상품1", "1000"),
+                ndjson(seller.getId(), "상품2", "1000"),
+                ndjson(seller.getId(), "상품3", "1000"));
+
+        ProductBulkImportResponse response = import_(body, ProductBulkImportService.Format.NDJSON);
+
+        assertThat(response.getCreatedCount()).isEqualTo(2);
+        assertThat(response.getErrors()).extracting(RowError::getLine).containsExactly(3);
+    }
+
+    private ProductBulkImportResponse import_(String body, ProductBulkImportService.Format format) {
+        return bulkImportService.importProducts(
+                new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), format);
+    }
+
+    private static String ndjson(Long memberId, String title, String price) {
+        return "{\"member_id\": " + memberId + ", \"title\": \"" + title + "\", \"category\": [\"디지털\", \"모바일\"], "
+                + "\"content\": \"설명\", \"main_image_url\": \"main.jpg\", \"images\": [\"a.jpg\", \"b.jpg\"], "
+                + "\"price\": " + price + ", \"status\": \"SELLING\", \"condition\": \"USED\"}";
+    }
+}
@@ -0,0 +1,109 @@
+package potato.backend.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import jakarta.persistence.EntityManager;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.category.service.CategoryDictionary;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.dto.ProductFeedResponse;
+import potato.backend.domain.product.dto.ProductListResponse;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.global.exception.CustomException;
+
+@DataJpaTest
+@Import({ProductService.class, CategoryDictionary.class})
+@DisplayName("상품 피드 키셋 페이징 테스트")
+class ProductFeedTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void setUp() {
+        Member seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        List<Category> categories = List.of(categoryRepository.save(Category.create("디지털")));
+        // 같은 가격을 섞어 동일 정렬 키에서 ID로 순서가 정해지는지 확인
+        long[] prices = {5_000, 3_000, 5_000, 1_000, 5_000, 3_000, 9_000};
+        for (int i = 0; i < prices.length; i++) {
+            productRepository.save(Product.create(seller, categories, "상품 " + i, "설명", List.of("image.jpg"),
+                    BigDecimal.valueOf(prices[i]), Status.SELLING, "main.jpg", Condition.USED));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("커서를 따라가면 모든 상품을 중복/누락 없이 정렬 순서대로 조회한다")
+    void feed_followCursor() {
+        assertThat(prices(readAll("PRICE_ASC"))).containsExactly(1_000L, 3_000L, 3_000L, 5_000L, 5_000L, 5_000L, 9_000L);
+        assertThat(prices(readAll("PRICE_DESC"))).containsExactly(9_000L, 5_000L, 5_000L, 5_000L, 3_000L, 3_000L, 1_000L);
+
+        List<ProductListResponse> latest = readAll(null);
+        assertThat(latest).extracting(ProductListResponse::getProductId).doesNotHaveDuplicates().hasSize(7);
+        for (int i = 1; i < latest.size(); i++) {
+            ProductListResponse previous = latest.get(i - 1);
+            ProductListResponse current = latest.get(i);
+            assertThat(previous.getCreatedAt().isAfter(current.getCreatedAt())
+                    || (previous.getCreatedAt().equals(current.getCreatedAt()) && previous.getProductId() > current.getProductId()))
+                    .isTrue();
+        }
+        assertThat(latest.get(0).getCategory()).containsExactly("디지털");
+    }
+
+    @Test
+    @DisplayName("정렬 기준이 다른 커서나 잘못된 커서는 거부한다")
+    void feed_rejectsMismatchedCursor() {
+        ProductFeedResponse first = productService.getProductFeed("PRICE_ASC", null, 2);
+
+        assertThat(first.isHasNext()).isTrue();
+        assertThatThrownBy(() -> productService.getProductFeed("LATEST", first.getNextCursor(), 2))
+                .isInstanceOf(CustomException.class);
+        assertThatThrownBy(() -> productService.getProductFeed("PRICE_ASC", "not-a-cursor", 2))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private List<ProductListResponse> readAll(String sort) {
+        List<ProductListResponse> products = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProductFeedResponse page = productService.getProductFeed(sort, cursor, 3);
+            products.addAll(page.getProducts());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return products;
+    }
+
+    private List<Long> prices(List<ProductListResponse> products) {
+        return products.stream().map(ProductListResponse::getPrice).toList();
+    }
+}
@@ -0,0 +1,108 @@
+package potato.backend.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import jakarta.persistence.EntityManager;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.category.service.CategoryDictionary;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.dto.ProductFeedResponse;
+import potato.backend.domain.product.dto.ProductListResponse;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+
+@DataJpaTest
+@Import({ProductService.class, CategoryDictionary.class})
+@DisplayName("판매/구매 내역 키셋 페이징 테스트")
+class ProductHistoryTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Member seller;
+    private Member buyer;
+    private List<Long> soldToBuyer;
+
+    @BeforeEach
+    void setUp() {
+        seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        buyer = memberRepository.save(Member.create("구매자", "buyer@example.com", "hashed-password", "010-3333-4444"));
+        Member other = memberRepository.save(Member.create("다른 판매자", "other@example.com", "hashed-password", "010-5555-6666"));
+        List<Category> categories = List.of(categoryRepository.save(Category.create("디지털")),
+                categoryRepository.save(Category.create("모바일")));
+
+        soldToBuyer = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Product product = productRepository.save(Product.create(seller, categories, "상품 " + i, "설명",
+                    List.of("image.jpg"), BigDecimal.valueOf(10_000), Status.SELLING, "main.jpg", Condition.USED));
+            if (i % 2 == 0) {
+                product.markAsSoldOut(buyer);
+                soldToBuyer.add(product.getId());
+            }
+        }
+        productRepository.save(Product.create(other, categories, "다른 상품", "설명",
+                List.of("image.jpg"), BigDecimal.valueOf(10_000), Status.SELLING, "main.jpg", Condition.USED));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("판매내역은 본인 상품만 커서를 따라 중복/누락 없이 조회한다")
+    void salesHistory_followCursor() {
+        List<ProductListResponse> sales = readAll(cursor -> productService.getSalesHistory(seller.getId(), cursor, 2));
+
+        assertThat(sales).hasSize(5)
+                .extracting(ProductListResponse::getProductId).doesNotHaveDuplicates();
+        assertThat(sales).extracting(ProductListResponse::getNickname).containsOnly("판매자");
+        assertThat(sales.get(0).getCategory()).containsExactlyInAnyOrder("디지털", "모바일");
+    }
+
+    @Test
+    @DisplayName("구매내역은 구매자로 기록된 상품만 조회한다")
+    void purchaseHistory_followCursor() {
+        List<ProductListResponse> purchases = readAll(cursor -> productService.getPurchaseHistory(buyer.getId(), cursor, 2));
+
+        assertThat(purchases).extracting(ProductListResponse::getProductId)
+                .containsExactlyInAnyOrderElementsOf(soldToBuyer);
+        assertThat(productService.getPurchaseHistory(seller.getId(), null, 2).getProducts()).isEmpty();
+    }
+
+    private List<ProductListResponse> readAll(Function<String, ProductFeedResponse> page) {
+        List<ProductListResponse> products = new ArrayList<>();
+        String cursor = null;
+        do {
+            ProductFeedResponse response = page.apply(cursor);
+            products.addAll(response.getProducts());
+            cursor = response.getNextCursor();
+        } while (cursor != null);
+        return products;
+    }
+}
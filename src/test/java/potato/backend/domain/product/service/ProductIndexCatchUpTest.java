@@ -0,0 +1,123 @@
+package potato.backend.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.category.service.CategoryDictionary;
+import potato.backend.domain.product.cache.LocalProductCacheInvalidationBus;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.dto.ProductListResponse;
+import potato.backend.domain.product.dto.ProductUpdateRequest;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+
+/**
+ * 다른 노드의 변경 전파가 유실됐을 때 주기적 보정(updated_at 기준)으로 색인이 따라잡는지 확인
+ * 이 노드의 ProductChangedEvent는 받지 않은 상태(다른 노드에서 수정)로 보고 catchUp만 호출합니다.
+ */
+@DataJpaTest
+@Import({ProductService.class, CategoryDictionary.class})
+@DisplayName("검색/필터 색인 주기적 보정 테스트")
+class ProductIndexCatchUpTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        Member seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        List<Category> categories = List.of(categoryRepository.save(Category.create("디지털")));
+        product = productRepository.save(Product.create(seller, categories, "중고 노트북", "설명",
+                List.of("a.jpg"), BigDecimal.valueOf(10_000), Status.SELLING, "a.jpg", Condition.USED));
+        entityManager.flush();
+        // 보정 여유 시간(1분)보다 오래전에 등록된 상품
+        jdbcTemplate.update("UPDATE product SET updated_at = ? WHERE id = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofHours(1))), product.getId());
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("카테고리만 수정해도 updated_at이 갱신되어 검색 색인 보정에 반영된다")
+    void searchCatchUp_picksUpCategoryOnlyEdit() {
+        ProductSearchService searchService = new ProductSearchService(productRepository,
+                new LocalProductCacheInvalidationBus(), transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(searchService, "snapshotPath", "");
+        ReflectionTestUtils.setField(searchService, "rebuildBatchSize", 100);
+        searchService.initialize();
+        assertThat(searchService.search("카메라", null, 10).getProducts()).isEmpty();
+
+        editCategoriesOnly();
+        searchService.catchUp();
+
+        assertThat(searchService.search("카메라", null, 10).getProducts())
+                .extracting(ProductListResponse::getProductId)
+                .containsExactly(product.getId());
+    }
+
+    @Test
+    @DisplayName("카테고리만 수정해도 updated_at이 갱신되어 필터 색인 보정에서 카테고리 비트맵이 바뀐다")
+    void filterCatchUp_picksUpCategoryOnlyEdit() {
+        ProductFilterService filterService = new ProductFilterService(productRepository,
+                new LocalProductCacheInvalidationBus(), transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filterService, "rebuildBatchSize", 100);
+        filterService.initialize();
+        assertThat(filterService.filter("카메라", null, null, null, null, 0, 10).getTotalHits()).isZero();
+
+        editCategoriesOnly();
+        filterService.catchUp();
+
+        assertThat(filterService.filter("카메라", null, null, null, null, 0, 10).getProducts())
+                .extracting(ProductListResponse::getProductId)
+                .containsExactly(product.getId());
+    }
+
+    private void editCategoriesOnly() {
+        productService.updateProduct(product.getId(), ProductUpdateRequest.builder()
+                .category(List.of("디지털", "카메라"))
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,106 @@
+package potato.backend.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.domain.wishlist.domain.Wishlist;
+import potato.backend.domain.wishlist.event.WishlistChangedEvent;
+import potato.backend.domain.wishlist.repository.WishlistRepository;
+
+@DataJpaTest
+@DisplayName("상품 찜 수 비정규화 테스트")
+class ProductLikeCountServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ProductLikeCountService likeCountService;
+    private Member seller;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        product = productRepository.save(Product.create(seller, List.of(categoryRepository.save(Category.create("디지털"))),
+                "상품", "설명", List.of("image.jpg"), BigDecimal.valueOf(10_000), Status.SELLING, "main.jpg", Condition.USED));
+        entityManager.flush();
+
+        likeCountService = new ProductLikeCountService(jdbcTemplate, transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(likeCountService, "reconcileChunkSize", 2L);
+        ReflectionTestUtils.setField(likeCountService, "pauseBetweenChunksMs", 0L);
+    }
+
+    @Test
+    @DisplayName("위시리스트 증감을 모아 한 번에 반영하고 0 아래로 내려가지 않는다")
+    void flush_appliesDeltas() {
+        likeCountService.onWishlistChanged(WishlistChangedEvent.added(1L, product.getId()));
+        likeCountService.onWishlistChanged(WishlistChangedEvent.added(2L, product.getId()));
+        likeCountService.onWishlistChanged(WishlistChangedEvent.removed(1L, product.getId()));
+
+        assertThat(likeCountService.flush()).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(1);
+
+        likeCountService.onWishlistChanged(WishlistChangedEvent.removed(2L, product.getId()));
+        likeCountService.onWishlistChanged(WishlistChangedEvent.removed(3L, product.getId()));
+        likeCountService.flush();
+        assertThat(likeCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("재계산은 wishlist 기준으로 값이 다른 상품만 보정한다")
+    void reconcile_recomputesFromWishlist() {
+        for (int i = 0; i < 3; i++) {
+            Member buyer = memberRepository.save(Member.create("구매자" + i, "buyer" + i + "@example.com", "pw", "010-2222-000" + i));
+            wishlistRepository.save(Wishlist.create(buyer, product));
+        }
+        entityManager.flush();
+        jdbcTemplate.update("UPDATE product SET like_count = 7 WHERE id = ?", product.getId());
+
+        assertThat(likeCountService.reconcile()).isEqualTo(1);
+        assertThat(likeCount()).isEqualTo(3);
+        assertThat(likeCountService.reconcile()).isZero();
+    }
+
+    private long likeCount() {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM product WHERE id = ?", Long.class, product.getId());
+    }
+}
@@ -0,0 +1,110 @@
+package potato.backend.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.category.service.CategoryDictionary;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.dto.ProductListResponse;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ProductService.class, CategoryDictionary.class})
+@DisplayName("상품 목록 조회 쿼리 수 테스트")
+class ProductListQueryCountTest {
+
+    private static final int PRODUCT_COUNT = 25;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<Category> categories = categoryRepository.saveAll(List.of(Category.create("디지털"), Category.create("모바일")));
+        for (int i = 0; i < PRODUCT_COUNT; i++) {
+            // 판매자를 상품마다 달리 해서 작성자 지연 로딩이 일어나면 쿼리 수가 늘어나도록 함
+            Member seller = memberRepository.save(
+                    Member.create("판매자" + i, "seller" + i + "@example.com", "hashed-password", "010-0000-" + String.format("%04d", i)));
+            productRepository.save(Product.create(seller, categories, "상품 " + i, "설명", List.of("image.jpg"),
+                    BigDecimal.valueOf(1_000L * (i + 1)), Status.SELLING, "main.jpg", Condition.USED));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("한 페이지 조회는 목록 쿼리 1번과 카테고리 쿼리 1번으로 끝난다")
+    void getProductList_twoQueriesPerPage() {
+        // when
+        Page<ProductListResponse> firstPage = productService.getProductList(PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "price")));
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(firstPage.getTotalElements()).isEqualTo(PRODUCT_COUNT);
+        assertThat(firstPage.getContent()).hasSize(20);
+        assertThat(firstPage.getContent().get(0).getTitle()).isEqualTo("상품 24");
+        assertThat(firstPage.getContent().get(0).getNickname()).isEqualTo("판매자24");
+        assertThat(firstPage.getContent().get(0).getCategory()).containsExactlyInAnyOrder("디지털", "모바일");
+
+        // when
+        statistics.clear();
+        Page<ProductListResponse> lastPage = productService.getProductList(PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "price")));
+
+        // then
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(lastPage.getContent()).hasSize(5);
+        assertThat(lastPage.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 페이지를 넘은 요청은 count 쿼리로 전체 개수를 구한다")
+    void getProductList_pageOutOfRange() {
+        Page<ProductListResponse> page = productService.getProductList(PageRequest.of(5, 20));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(PRODUCT_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+}
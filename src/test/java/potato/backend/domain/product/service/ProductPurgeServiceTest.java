@@ -0,0 +1,221 @@
+package potato.backend.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.category.service.CategoryDictionary;
+import potato.backend.domain.chat.domain.ChatMessage;
+import potato.backend.domain.chat.domain.ChatRoom;
+import potato.backend.domain.chat.repository.ChatMessageRepository;
+import potato.backend.domain.chat.repository.ChatRoomRepository;
+import potato.backend.domain.image.domain.Image;
+import potato.backend.domain.image.exception.ImageUploadException;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.exception.ProductNotFoundException;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.storage.service.S3Service;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.domain.wishlist.domain.Wishlist;
+import potato.backend.domain.wishlist.repository.WishlistRepository;
+
+@DataJpaTest
+@Import({ProductService.class, CategoryDictionary.class})
+@DisplayName("상품 소프트 삭제 및 정리 테스트")
+class ProductPurgeServiceTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    @Autowired
+    private ChatRoomRepository chatRoomRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ProductPurgeService purgeService;
+    private Member seller;
+    private List<Category> categories;
+    private Product product;
+    private Product kept;
+
+    @BeforeEach
+    void setUp() {
+        seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        Member buyer = memberRepository.save(Member.create("구매자", "buyer@example.com", "hashed-password", "010-3333-4444"));
+        categories = List.of(categoryRepository.save(Category.create("디지털")));
+        product = productRepository.save(Product.create(seller, categories, "삭제할 상품", "설명",
+                List.of("a.jpg", "b.jpg"), BigDecimal.valueOf(10_000), Status.SELLING, "a.jpg", Condition.USED));
+        kept = productRepository.save(Product.create(seller, categories, "남는 상품", "설명",
+                List.of("c.jpg"), BigDecimal.valueOf(10_000), Status.SELLING, "c.jpg", Condition.USED));
+        wishlistRepository.save(Wishlist.create(buyer, product));
+        ChatRoom chatRoom = chatRoomRepository.save(ChatRoom.create(seller, buyer, product));
+        chatMessageRepository.save(ChatMessage.create(buyer, chatRoom, "구매 가능할까요?"));
+        entityManager.flush();
+        entityManager.clear();
+
+        purgeService = new ProductPurgeService(jdbcTemplate, transactionManager,
+                new DefaultListableBeanFactory().getBeanProvider(S3Service.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(purgeService, "enabled", true);
+        ReflectionTestUtils.setField(purgeService, "retentionDays", 7);
+        ReflectionTestUtils.setField(purgeService, "batchSize", 10);
+        ReflectionTestUtils.setField(purgeService, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(purgeService, "pauseBetweenBatchesMs", 0L);
+    }
+
+    @Test
+    @DisplayName("삭제하면 deleted_at만 기록되고 상품 조회에서 제외된다")
+    void deleteProduct_softDeletes() {
+        productService.deleteProduct(product.getId());
+        entityManager.clear();
+
+        assertThat(productRepository.findActiveById(product.getId())).isEmpty();
+        assertThat(productRepository.findAllIds()).containsExactly(kept.getId());
+        assertThat(count("SELECT COUNT(*) FROM image WHERE product_id = ?", product.getId())).isEqualTo(2);
+        assertThatThrownBy(() -> productService.deleteProduct(product.getId()))
+                .isInstanceOf(ProductNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("보존 기간이 지난 삭제 상품만 종속 데이터와 함께 정리한다")
+    void purge_removesExpiredProducts() {
+        productService.deleteProduct(product.getId());
+        entityManager.flush();
+
+        assertThat(purgeService.purge()).isZero();
+
+        jdbcTemplate.update("UPDATE product SET deleted_at = ? WHERE id = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(8))), product.getId());
+
+        assertThat(purgeService.purge()).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM product WHERE id = ?", product.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM image WHERE product_id = ?", product.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM wishlist WHERE product_id = ?", product.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM chat_room WHERE product_id = ?", product.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM chat_messages", null)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM image WHERE product_id = ?", kept.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버킷 밖 URL과 남은 상품이 쓰는 객체는 지우지 않고, S3 삭제 실패는 해당 상품만 다음 실행으로 미룬다")
+    void purge_deletesOnlyUnreferencedBucketObjects() {
+        String bucket = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/";
+        Product withObjects = saveProduct(List.of(bucket + "own.jpg", bucket + "shared.jpg", "legacy.jpg"), bucket + "own.jpg");
+        Product withBrokenObject = saveProduct(List.of(bucket + "broken.jpg"), bucket + "broken.jpg");
+        Product sharing = saveProduct(List.of(bucket + "shared.jpg"), bucket + "shared.jpg");
+        entityManager.flush();
+        entityManager.clear();
+        for (Product deleted : List.of(withObjects, withBrokenObject)) {
+            jdbcTemplate.update("UPDATE product SET deleted_at = ? WHERE id = ?",
+                    Timestamp.from(Instant.now().minus(Duration.ofDays(8))), deleted.getId());
+        }
+
+        S3Service storage = mock(S3Service.class);
+        when(storage.isBucketUrl(anyString())).thenAnswer(invocation -> invocation.<String>getArgument(0).startsWith(bucket));
+        doThrow(new ImageUploadException("S3 삭제 실패: boom")).when(storage).deleteFile(bucket + "broken.jpg");
+
+        assertThat(purgeServiceWith(storage).purge()).isEqualTo(1);
+
+        verify(storage).deleteFile(bucket + "own.jpg");
+        verify(storage, never()).deleteFile(bucket + "shared.jpg");
+        verify(storage, never()).deleteFile("legacy.jpg");
+        assertThat(count("SELECT COUNT(*) FROM product WHERE id = ?", withObjects.getId())).isZero();
+        assertThat(count("SELECT COUNT(*) FROM product WHERE id = ?", withBrokenObject.getId())).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM image WHERE product_id = ?", sharing.getId())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("아직 상품에 연결되지 않은 업로드 이미지가 같은 URL을 쓰면 S3 객체를 지우지 않는다")
+    void purge_keepsObjectsOfUnattachedImages() {
+        String bucket = "https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/";
+        Product deleted = saveProduct(List.of(bucket + "uploaded.jpg"), bucket + "uploaded.jpg");
+        // 서명된 URL 업로드 완료 후 상품 등록 전인 이미지 (product_id NULL)
+        entityManager.persist(Image.create(bucket + "uploaded.jpg"));
+        entityManager.flush();
+        entityManager.clear();
+        jdbcTemplate.update("UPDATE product SET deleted_at = ? WHERE id = ?",
+                Timestamp.from(Instant.now().minus(Duration.ofDays(8))), deleted.getId());
+
+        S3Service storage = mock(S3Service.class);
+        when(storage.isBucketUrl(anyString())).thenAnswer(invocation -> invocation.<String>getArgument(0).startsWith(bucket));
+
+        assertThat(purgeServiceWith(storage).purge()).isEqualTo(1);
+
+        verify(storage, never()).deleteFile(bucket + "uploaded.jpg");
+        assertThat(count("SELECT COUNT(*) FROM image WHERE product_id IS NULL", null)).isEqualTo(1);
+    }
+
+    private ProductPurgeService purgeServiceWith(S3Service storage) {
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("s3Service", storage);
+        ProductPurgeService purgeWithStorage = new ProductPurgeService(jdbcTemplate, transactionManager,
+                beanFactory.getBeanProvider(S3Service.class), new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(purgeWithStorage, "enabled", true);
+        ReflectionTestUtils.setField(purgeWithStorage, "retentionDays", 7);
+        ReflectionTestUtils.setField(purgeWithStorage, "batchSize", 10);
+        ReflectionTestUtils.setField(purgeWithStorage, "maxBatchesPerRun", 10);
+        ReflectionTestUtils.setField(purgeWithStorage, "pauseBetweenBatchesMs", 0L);
+        return purgeWithStorage;
+    }
+
+    private Product saveProduct(List<String> imageUrls, String mainImageUrl) {
+        return productRepository.save(Product.create(seller, categories, "이미지 상품", "설명",
+                imageUrls, BigDecimal.valueOf(10_000), Status.SELLING, mainImageUrl, Condition.USED));
+    }
+
+    private long count(String sql, Long productId) {
+        return productId == null
+                ? jdbcTemplate.queryForObject(sql, Long.class)
+                : jdbcTemplate.queryForObject(sql, Long.class, productId);
+    }
+}
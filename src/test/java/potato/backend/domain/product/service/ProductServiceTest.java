@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Import;
 
 import potato.backend.domain.category.domain.Category;
 import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.category.service.CategoryDictionary;
 import potato.backend.domain.product.domain.Condition;
 import potato.backend.domain.product.domain.Product;
 import potato.backend.domain.product.domain.Status;
@@ -23,7 +24,7 @@ import potato.backend.domain.user.domain.Member;
 import potato.backend.domain.user.repository.MemberRepository;
 
 @DataJpaTest
-@Import(ProductService.class)
+@Import({ProductService.class, CategoryDictionary.class})
 @DisplayName("ProductService 상품 생성 테스트")
 class ProductServiceTest {
 
@@ -0,0 +1,136 @@
+package potato.backend.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.category.service.CategoryDictionary;
+import potato.backend.domain.image.domain.Image;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.dto.ProductUpdateRequest;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({ProductService.class, CategoryDictionary.class})
+@DisplayName("상품 수정 쿼리 수 테스트")
+class ProductUpdateQueryCountTest {
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Product small;
+    private Product large;
+
+    @BeforeEach
+    void setUp() {
+        Member seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        List<Category> categories = categoryRepository.saveAll(
+                List.of(Category.create("디지털"), Category.create("모바일"), Category.create("가전")));
+        small = productRepository.save(Product.create(seller, categories, "이미지 3장", "설명", imageUrls("s", 3),
+                BigDecimal.valueOf(10_000), Status.SELLING, "s-0.jpg", Condition.USED));
+        large = productRepository.save(Product.create(seller, categories, "이미지 12장", "설명", imageUrls("l", 12),
+                BigDecimal.valueOf(10_000), Status.SELLING, "l-0.jpg", Condition.USED));
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("이미지 한 장 교체는 이미지 수와 관계없이 DELETE 1번, INSERT 1번, updated_at UPDATE 1번으로 끝난다")
+    void updateProduct_singleImageEditIsConstant() {
+        long smallStatements = replaceOneImage(small, "s", 3);
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(1); // product.updated_at
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+        assertThat(statistics.getCollectionRemoveCount()).isZero();
+
+        long largeStatements = replaceOneImage(large, "l", 12);
+        assertThat(largeStatements).isEqualTo(smallStatements);
+    }
+
+    @Test
+    @DisplayName("순서 변경은 위치가 바뀐 이미지만 UPDATE 하고 카테고리는 바뀐 연결만 반영한다")
+    void updateProduct_reorderAndCategoryDiff() {
+        List<String> reordered = new ArrayList<>(imageUrls("s", 3));
+        reordered.add(0, reordered.remove(2)); // s-2, s-0, s-1
+
+        productService.updateProduct(small.getId(), ProductUpdateRequest.builder()
+                .imageUrls(reordered)
+                .category(List.of("디지털", "모바일", "카메라"))
+                .build());
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount()).isZero();
+        assertThat(statistics.getEntityDeleteCount()).isZero();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(4); // 이미지 position 3 + product.updated_at
+        assertThat(statistics.getCollectionRecreateCount()).isZero();
+
+        entityManager.clear();
+        Product persisted = productRepository.findById(small.getId()).orElseThrow();
+        assertThat(persisted.getImages()).extracting(Image::getImageUrl).containsExactly("s-2.jpg", "s-0.jpg", "s-1.jpg");
+        assertThat(persisted.getCategories()).extracting(Category::getCategoryName)
+                .containsExactlyInAnyOrder("디지털", "모바일", "카메라");
+    }
+
+    /**
+     * 중간 이미지 한 장만 다른 URL로 바꾸고 flush 까지의 SQL 문 수
+     */
+    private long replaceOneImage(Product product, String prefix, int imageCount) {
+        List<String> urls = new ArrayList<>(imageUrls(prefix, imageCount));
+        urls.set(1, prefix + "-new.jpg");
+
+        statistics.clear();
+        productService.updateProduct(product.getId(), ProductUpdateRequest.builder().imageUrls(urls).build());
+        entityManager.flush();
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+
+        Product persisted = productRepository.findById(product.getId()).orElseThrow();
+        assertThat(persisted.getImages()).extracting(Image::getImageUrl).containsExactlyElementsOf(urls);
+        entityManager.clear();
+        return statements;
+    }
+
+    private List<String> imageUrls(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + "-" + i + ".jpg").toList();
+    }
+}
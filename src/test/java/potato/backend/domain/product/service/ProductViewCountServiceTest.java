@@ -0,0 +1,107 @@
+package potato.backend.domain.product.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+
+@DataJpaTest
+@DisplayName("상품 조회수 write-behind 집계 테스트")
+class ProductViewCountServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private ProductViewCountService viewCountService;
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        Member seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        Product product = productRepository.save(Product.create(seller, List.of(categoryRepository.save(Category.create("디지털"))),
+                "상품", "설명", List.of("image.jpg"), BigDecimal.valueOf(10_000), Status.SELLING, "main.jpg", Condition.USED));
+        entityManager.flush();
+        productId = product.getId();
+
+        viewCountService = new ProductViewCountService(jdbcTemplate, transactionManager, new SimpleMeterRegistry(),
+                true, 1800, 10_000, 0.001);
+    }
+
+    @Test
+    @DisplayName("동시에 누적한 조회수를 한 번의 반영으로 DB에 더한다")
+    void flush_appliesAccumulatedViews() throws Exception {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 1_000; i++) {
+            executor.execute(() -> viewCountService.recordView(productId, null));
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+        assertThat(viewCountService.pendingViews(productId)).isEqualTo(1_000);
+
+        // when
+        int flushed = viewCountService.flush();
+
+        // then
+        assertThat(flushed).isEqualTo(1);
+        assertThat(viewCount()).isEqualTo(1_000);
+        assertThat(viewCountService.pendingViews(productId)).isZero();
+        assertThat(viewCountService.flush()).isZero();
+
+        viewCountService.recordView(productId, null);
+        viewCountService.flush();
+        assertThat(viewCount()).isEqualTo(1_001);
+    }
+
+    @Test
+    @DisplayName("같은 조회자의 반복 조회는 한 번만 집계한다")
+    void recordView_deduplicatesSameViewer() {
+        assertThat(viewCountService.recordView(productId, "m:1")).isTrue();
+        assertThat(viewCountService.recordView(productId, "m:1")).isFalse();
+        assertThat(viewCountService.recordView(productId, "m:2")).isTrue();
+        assertThat(viewCountService.recordView(productId + 1, "m:1")).isTrue();
+
+        assertThat(viewCountService.pendingViews(productId)).isEqualTo(2);
+    }
+
+    private long viewCount() {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM product WHERE id = ?", Long.class, productId);
+    }
+}
@@ -0,0 +1,97 @@
+package potato.backend.domain.savedsearch.percolator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import potato.backend.domain.product.domain.Condition;
+
+/**
+ * SavedSearchPercolator 단위 테스트
+ */
+class SavedSearchPercolatorTest {
+
+    private SavedSearchPercolator percolator;
+
+    @BeforeEach
+    void setUp() {
+        percolator = new SavedSearchPercolator();
+    }
+
+    @Test
+    @DisplayName("키워드, 카테고리, 가격 상한이 모두 맞는 상품만 일치한다")
+    void match_appliesAllPredicates() {
+        percolator.add(query(1L, 10L, "아이패드", "디지털", null, null, 500_000L));
+
+        assertThat(ids(document("아이패드 에어 5세대", List.of("디지털"), Condition.USED, 450_000))).containsExactly(1L);
+        assertThat(ids(document("아이패드 프로", List.of("디지털"), Condition.USED, 900_000))).isEmpty();
+        assertThat(ids(document("아이패드 케이스", List.of("잡화"), Condition.NEW, 10_000))).isEmpty();
+        assertThat(ids(document("갤럭시 탭", List.of("디지털"), Condition.USED, 300_000))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("키워드는 띄어쓰기와 무관하게 모든 토큰이 제목에 있어야 한다")
+    void match_requiresEveryKeywordToken() {
+        percolator.add(query(1L, 10L, "맥북 프로", null, null, null, null));
+
+        assertThat(ids(document("맥북프로 14인치", List.of(), Condition.USED, 1_500_000))).containsExactly(1L);
+        assertThat(ids(document("맥북 에어", List.of(), Condition.USED, 900_000))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("카테고리만 저장한 조건은 상품 상태와 가격 하한으로 거른다")
+    void match_categoryOnly() {
+        percolator.add(query(1L, 10L, null, "가구", Condition.NEW, 100_000L, null));
+        percolator.add(query(2L, 11L, null, "가구", null, null, null));
+
+        assertThat(ids(document("원목 책상", List.of("가구"), Condition.NEW, 150_000))).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(ids(document("원목 책상", List.of("가구"), Condition.USED, 150_000))).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("키워드와 카테고리가 모두 없는 조건은 등록하지 않는다")
+    void add_rejectsMatchAll() {
+        assertThat(percolator.add(query(1L, 10L, " ", null, null, null, 1_000L))).isFalse();
+        assertThat(percolator.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("제거한 조건과 교체 전 조건은 더 이상 일치하지 않는다")
+    void removeAndReplace() {
+        percolator.add(query(1L, 10L, "자전거", null, null, null, null));
+        percolator.add(query(2L, 11L, "자전거", null, null, null, null));
+        percolator.remove(1L);
+        percolator.add(query(2L, 11L, "킥보드", null, null, null, null));
+
+        assertThat(ids(document("로드 자전거", List.of(), Condition.USED, 200_000))).isEmpty();
+        assertThat(ids(document("전동 킥보드", List.of(), Condition.USED, 200_000))).containsExactly(2L);
+        assertThat(percolator.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("흔한 토큰을 공유하는 조건이 많아도 각 조건은 한 번만 일치한다")
+    void match_returnsEachQueryOnce() {
+        for (long id = 1; id <= 50; id++) {
+            percolator.add(query(id, id, "아이폰 " + id, null, null, null, null));
+        }
+
+        assertThat(ids(document("아이폰 7 팝니다", List.of(), Condition.USED, 100_000))).containsExactly(7L);
+    }
+
+    private List<Long> ids(SavedSearchPercolator.Document document) {
+        return percolator.match(document).stream().map(SavedSearchPercolator.Query::savedSearchId).toList();
+    }
+
+    private SavedSearchPercolator.Query query(Long id, Long memberId, String keyword, String category,
+                                              Condition condition, Long minPrice, Long maxPrice) {
+        return new SavedSearchPercolator.Query(id, memberId, keyword, category, condition, minPrice, maxPrice);
+    }
+
+    private SavedSearchPercolator.Document document(String title, List<String> categories, Condition condition, long price) {
+        return new SavedSearchPercolator.Document(title, categories, condition, price);
+    }
+}
@@ -0,0 +1,148 @@
+package potato.backend.domain.storage.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import potato.backend.domain.image.exception.ImageUploadException;
+import potato.backend.domain.storage.buffer.DirectBufferPool;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3Service 스트리밍/멀티파트 업로드 테스트")
+class S3ServiceTest {
+
+    private static final int PART_SIZE = 4 * 1024;
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    private DirectBufferPool bufferPool;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        // 테스트에서는 S3 최소 파트 크기(5MiB) 대신 작은 파트로 분할을 확인
+        bufferPool = new DirectBufferPool(PART_SIZE, 1, 1_000);
+        s3Service = new S3Service(s3Client, s3Presigner, bufferPool);
+        ReflectionTestUtils.setField(s3Service, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(s3Service, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(s3Service, "multipartThreshold", 8 * 1024L);
+    }
+
+    @Test
+    @DisplayName("임계값보다 작은 파일은 길이를 지정해 스트림으로 한 번에 전송한다")
+    void uploadFile_streamsSmallFile() throws Exception {
+        // given
+        byte[] content = bytes(3 * 1024);
+        MockMultipartFile file = new MockMultipartFile("image", "small.jpg", "image/jpeg", content);
+        ArgumentCaptor<PutObjectRequest> request = ArgumentCaptor.forClass(PutObjectRequest.class);
+        ArgumentCaptor<RequestBody> body = ArgumentCaptor.forClass(RequestBody.class);
+        when(s3Client.putObject(request.capture(), body.capture())).thenReturn(PutObjectResponse.builder().build());
+
+        // when
+        String url = s3Service.uploadFile(file);
+
+        // then
+        assertThat(url).startsWith("https://test-bucket.s3.ap-northeast-2.amazonaws.com/images/");
+        assertThat(request.getValue().contentLength()).isEqualTo(content.length);
+        assertThat(body.getValue().optionalContentLength()).contains((long) content.length);
+        assertThat(body.getValue().contentStreamProvider().newStream().readAllBytes()).isEqualTo(content);
+        verify(s3Client, never()).createMultipartUpload(any(CreateMultipartUploadRequest.class));
+    }
+
+    @Test
+    @DisplayName("임계값 이상인 파일은 풀의 버퍼 하나로 파트를 나눠 멀티파트 업로드한다")
+    void uploadFile_usesMultipartForLargeFile() {
+        // given
+        byte[] content = bytes(PART_SIZE * 2 + 1_000);
+        MockMultipartFile file = new MockMultipartFile("image", "large.png", "image/png", content);
+        ByteArrayOutputStream uploaded = new ByteArrayOutputStream();
+        List<Long> partLengths = new ArrayList<>();
+
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            RequestBody body = invocation.getArgument(1);
+            partLengths.add(request.contentLength());
+            uploaded.write(body.contentStreamProvider().newStream().readAllBytes());
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        });
+        ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        when(s3Client.completeMultipartUpload(complete.capture()))
+                .thenReturn(CompleteMultipartUploadResponse.builder().build());
+
+        // when
+        s3Service.uploadFile(file);
+
+        // then
+        assertThat(partLengths).containsExactly((long) PART_SIZE, (long) PART_SIZE, 1_000L);
+        assertThat(uploaded.toByteArray()).isEqualTo(content);
+        assertThat(complete.getValue().uploadId()).isEqualTo("upload-1");
+        assertThat(complete.getValue().multipartUpload().parts())
+                .extracting(part -> part.partNumber() + ":" + part.eTag())
+                .containsExactly("1:etag-1", "2:etag-2", "3:etag-3");
+        assertThat(bufferPool.allocatedCount()).isEqualTo(1);
+        assertThat(bufferPool.idleCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("파트 업로드가 실패하면 멀티파트 업로드를 중단하고 버퍼를 반납한다")
+    void uploadFile_abortsOnPartFailure() {
+        // given
+        MockMultipartFile file = new MockMultipartFile("image", "large.png", "image/png", bytes(PART_SIZE * 3));
+        when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+                .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-2").build());
+        when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+                .thenThrow(S3Exception.builder().statusCode(500).message("boom").build());
+        ArgumentCaptor<AbortMultipartUploadRequest> abort = ArgumentCaptor.forClass(AbortMultipartUploadRequest.class);
+
+        // when & then
+        assertThatThrownBy(() -> s3Service.uploadFile(file)).isInstanceOf(ImageUploadException.class);
+        verify(s3Client).abortMultipartUpload(abort.capture());
+        assertThat(abort.getValue().uploadId()).isEqualTo("upload-2");
+        verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        assertThat(bufferPool.idleCount()).isEqualTo(1);
+    }
+
+    private static byte[] bytes(int size) {
+        byte[] bytes = new byte[size];
+        for (int i = 0; i < size; i++) {
+            bytes[i] = (byte) (i * 31);
+        }
+        return bytes;
+    }
+}
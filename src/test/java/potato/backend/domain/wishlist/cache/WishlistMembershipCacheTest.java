@@ -0,0 +1,122 @@
+package potato.backend.domain.wishlist.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.domain.wishlist.domain.Wishlist;
+import potato.backend.domain.wishlist.event.WishlistChangedEvent;
+import potato.backend.domain.wishlist.repository.WishlistRepository;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@DisplayName("회원별 찜 여부 캐시 테스트")
+class WishlistMembershipCacheTest {
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private WishlistMembershipCache cache;
+    private Statistics statistics;
+    private Member member;
+    private List<Long> productIds;
+
+    @BeforeEach
+    void setUp() {
+        Member seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        member = memberRepository.save(Member.create("구매자", "buyer@example.com", "hashed-password", "010-3333-4444"));
+        List<Category> categories = List.of(categoryRepository.save(Category.create("디지털")));
+
+        productIds = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Product product = productRepository.save(Product.create(seller, categories, "상품 " + i, "설명",
+                    List.of("image.jpg"), BigDecimal.valueOf(10_000), Status.SELLING, "main.jpg", Condition.USED));
+            productIds.add(product.getId());
+            if (i % 2 == 0) {
+                wishlistRepository.save(Wishlist.create(member, product));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        cache = new WishlistMembershipCache(wishlistRepository, new SimpleMeterRegistry(), 100, 60);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("한 페이지는 IN 조회 한 번으로 확인하고, 이미 확인한 상품은 다시 조회하지 않는다")
+    void findWishlisted_queriesOncePerPage() {
+        assertThat(cache.findWishlisted(member.getId(), productIds.subList(0, 4)))
+                .containsExactly(productIds.get(0), productIds.get(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        assertThat(cache.findWishlisted(member.getId(), productIds.subList(0, 4)))
+                .containsExactly(productIds.get(0), productIds.get(2));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // 확인하지 않은 상품만 조회
+        assertThat(cache.findWishlisted(member.getId(), productIds)).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("위시리스트 추가/제거 이벤트는 DB 조회 없이 캐시에 반영된다")
+    void onWishlistChanged_updatesCachedMembership() {
+        cache.findWishlisted(member.getId(), productIds);
+        statistics.clear();
+
+        cache.onWishlistChanged(WishlistChangedEvent.removed(member.getId(), productIds.get(0)));
+        cache.onWishlistChanged(WishlistChangedEvent.added(member.getId(), productIds.get(1)));
+
+        assertThat(cache.isWishlisted(member.getId(), productIds.get(0))).isFalse();
+        assertThat(cache.isWishlisted(member.getId(), productIds.get(1))).isTrue();
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("int 범위를 벗어난 상품 ID는 예외 없이 찜하지 않은 것으로 본다")
+    void findWishlisted_outOfRangeIdIsNotWishlisted() {
+        long outOfRange = Integer.MAX_VALUE + 1L;
+
+        assertThat(cache.findWishlisted(member.getId(), List.of(productIds.get(0), outOfRange)))
+                .containsExactly(productIds.get(0));
+        assertThat(cache.isWishlisted(member.getId(), outOfRange)).isFalse();
+        assertThat(cache.isWishlisted(member.getId(), -1L)).isFalse();
+    }
+}
@@ -0,0 +1,110 @@
+package potato.backend.domain.wishlist.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.notification.service.FcmService;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.event.ProductPriceDroppedEvent;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.domain.wishlist.domain.Wishlist;
+import potato.backend.domain.wishlist.dto.WishlistPushTarget;
+import potato.backend.domain.wishlist.repository.WishlistRepository;
+
+@DataJpaTest
+@DisplayName("가격 인하 위시리스트 알림 테스트")
+class WishlistPriceDropNotifierTest {
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final List<List<WishlistPushTarget>> sentPages = new ArrayList<>();
+    private WishlistPriceDropNotifier notifier;
+    private Product product;
+    private List<Long> reachableMemberIds;
+
+    @BeforeEach
+    void setUp() {
+        Member seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        product = productRepository.save(Product.create(seller, List.of(categoryRepository.save(Category.create("디지털"))),
+                "아이패드 에어", "설명", List.of("a.jpg"), BigDecimal.valueOf(500_000), Status.SELLING, "a.jpg", Condition.USED));
+
+        reachableMemberIds = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            Member member = memberRepository.save(Member.create("회원" + i, "member" + i + "@example.com",
+                    "hashed-password", "010-0000-000" + i));
+            if (i == 5) {
+                member.updateFcmToken("token-" + i);
+                member.disablePushNotification(); // 알림 끔
+            } else if (i != 6) {
+                member.updateFcmToken("token-" + i); // i == 6 은 토큰 없음
+                reachableMemberIds.add(member.getId());
+            }
+            wishlistRepository.save(Wishlist.create(member, product));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        FcmService fcmService = mock(FcmService.class);
+        when(fcmService.sendPriceDropNotifications(anyList(), eq(product.getId()), anyString(), anyLong(), anyLong()))
+                .thenAnswer(invocation -> {
+                    List<WishlistPushTarget> page = invocation.getArgument(0);
+                    sentPages.add(List.copyOf(page));
+                    return page.size();
+                });
+        notifier = new WishlistPriceDropNotifier(wishlistRepository, fcmService, new SyncTaskExecutor(),
+                transactionManager, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(notifier, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("알림을 켜고 토큰이 있는 찜 회원만 배치 크기씩 나눠 한 번씩 전송한다")
+    void onPriceDropped_sendsInKeysetPages() {
+        notifier.onPriceDropped(new ProductPriceDroppedEvent(product.getId(), "아이패드 에어", 500_000, 450_000));
+
+        assertThat(sentPages).hasSize(3).allSatisfy(page -> assertThat(page).hasSizeLessThanOrEqualTo(2));
+        assertThat(sentPages.stream().flatMap(List::stream).map(WishlistPushTarget::memberId).toList())
+                .containsExactlyElementsOf(reachableMemberIds);
+    }
+}
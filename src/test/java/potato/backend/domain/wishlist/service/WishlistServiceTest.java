@@ -0,0 +1,151 @@
+package potato.backend.domain.wishlist.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import potato.backend.domain.category.domain.Category;
+import potato.backend.domain.category.repository.CategoryRepository;
+import potato.backend.domain.product.domain.Condition;
+import potato.backend.domain.product.domain.Product;
+import potato.backend.domain.product.domain.Status;
+import potato.backend.domain.product.repository.ProductRepository;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.domain.wishlist.cache.WishlistMembershipCache;
+import potato.backend.domain.wishlist.dto.WishlistListResponse;
+import potato.backend.domain.wishlist.dto.WishlistPageResponse;
+import potato.backend.domain.wishlist.repository.WishlistInsertRepository;
+import potato.backend.domain.wishlist.repository.WishlistRepository;
+
+@DataJpaTest
+@Import(WishlistInsertRepository.class)
+@DisplayName("위시리스트 추가 및 키셋 페이징 테스트")
+class WishlistServiceTest {
+
+    @Autowired
+    private WishlistRepository wishlistRepository;
+
+    @Autowired
+    private WishlistInsertRepository wishlistInsertRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private WishlistService wishlistService;
+    private Member member;
+    private List<Product> products;
+
+    @BeforeEach
+    void setUp() {
+        Member seller = memberRepository.save(Member.create("판매자", "seller@example.com", "hashed-password", "010-1111-2222"));
+        member = memberRepository.save(Member.create("구매자", "buyer@example.com", "hashed-password", "010-3333-4444"));
+        List<Category> categories = List.of(categoryRepository.save(Category.create("디지털")),
+                categoryRepository.save(Category.create("모바일")));
+
+        products = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            products.add(productRepository.save(Product.create(seller, categories, "상품 " + i, "설명",
+                    List.of("image.jpg"), BigDecimal.valueOf(10_000), Status.SELLING, "main.jpg", Condition.USED)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        wishlistService = new WishlistService(wishlistRepository, memberRepository, productRepository, eventPublisher,
+                new WishlistMembershipCache(wishlistRepository, new SimpleMeterRegistry(), 100, 60),
+                wishlistInsertRepository);
+    }
+
+    @Test
+    @DisplayName("추가는 한 번만 되고, 중복이면 409, 없는 상품이면 404")
+    void addToWishlist_insertsOnce() {
+        wishlistService.addToWishlist(member.getId(), products.get(0).getId());
+
+        assertThat(wishlistRepository.countByMemberId(member.getId())).isEqualTo(1);
+        assertThatThrownBy(() -> wishlistService.addToWishlist(member.getId(), products.get(0).getId()))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+        assertThatThrownBy(() -> wishlistService.addToWishlist(member.getId(), -1L))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("없는 회원은 404, 동시 추가로 유니크 제약을 위반하면 409")
+    void addToWishlist_mapsIntegrityViolations() {
+        assertThatThrownBy(() -> wishlistService.addToWishlist(-1L, products.get(0).getId()))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.NOT_FOUND);
+
+        WishlistInsertRepository racingInsert = mock(WishlistInsertRepository.class);
+        when(racingInsert.insertIfAbsent(any(), any())).thenThrow(new DuplicateKeyException("uk_wishlist_member_product"));
+        WishlistService racingService = new WishlistService(wishlistRepository, memberRepository, productRepository,
+                eventPublisher, new WishlistMembershipCache(wishlistRepository, new SimpleMeterRegistry(), 100, 60),
+                racingInsert);
+        assertThatThrownBy(() -> racingService.addToWishlist(member.getId(), products.get(0).getId()))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting(e -> ((ResponseStatusException) e).getStatusCode())
+                .isEqualTo(HttpStatus.CONFLICT);
+    }
+
+    @Test
+    @DisplayName("목록은 커서를 따라 중복/누락 없이 조회하고 카테고리를 함께 반환한다")
+    void getWishlistList_followsCursor() {
+        products.forEach(product -> wishlistService.addToWishlist(member.getId(), product.getId()));
+
+        List<WishlistListResponse> wishlists = new ArrayList<>();
+        String cursor = null;
+        do {
+            WishlistPageResponse page = wishlistService.getWishlistList(member.getId(), cursor, 2);
+            assertThat(page.getWishlists()).hasSizeLessThanOrEqualTo(2);
+            wishlists.addAll(page.getWishlists());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(wishlists).extracting(WishlistListResponse::getProductId)
+                .containsExactlyInAnyOrderElementsOf(products.stream().map(Product::getId).toList());
+        assertThat(wishlists.get(0).getCategory()).containsExactlyInAnyOrder("디지털", "모바일");
+    }
+
+    @Test
+    @DisplayName("비어 있는 첫 페이지에서만 회원 존재 여부를 확인한다")
+    void getWishlistList_unknownMember() {
+        assertThat(wishlistService.getWishlistList(member.getId(), null, null).getWishlists()).isEmpty();
+        assertThatThrownBy(() -> wishlistService.getWishlistList(-1L, null, null))
+                .isInstanceOf(ResponseStatusException.class);
+    }
+}
@@ -0,0 +1,129 @@
+package potato.backend.global.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * WebSocketDrainManager 단위 테스트
+ */
+class WebSocketDrainManagerTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private WebSocketTrafficMonitor trafficMonitor;
+    private WebSocketHandler decoratedHandler;
+    private WebSocketDrainManager drainManager;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        trafficMonitor = new WebSocketTrafficMonitor(meterRegistry);
+        decoratedHandler = trafficMonitor.decorate(mock(WebSocketHandler.class));
+
+        ObjectProvider<ThreadPoolTaskExecutor> noExecutor = mock(ObjectProvider.class);
+        drainManager = new WebSocketDrainManager(trafficMonitor, noExecutor, noExecutor, meterRegistry);
+        ReflectionTestUtils.setField(drainManager, "flushTimeoutMs", 100L);
+        ReflectionTestUtils.setField(drainManager, "closeSpreadMs", 0L);
+        ReflectionTestUtils.setField(drainManager, "closeBatches", 2);
+        ReflectionTestUtils.setField(drainManager, "reconnectMinDelayMs", 1000L);
+        ReflectionTestUtils.setField(drainManager, "reconnectMaxDelayMs", 2000L);
+        ReflectionTestUtils.setField(drainManager, "awaitCloseTimeoutMs", 500L);
+    }
+
+    @Test
+    @DisplayName("drain 시 모든 세션을 1012 상태와 재연결 대기 시간 힌트로 종료한다")
+    void drain_closesSessionsWithReconnectHint() throws Exception {
+        // Given
+        WebSocketSession first = openSession("s1");
+        WebSocketSession second = openSession("s2");
+        WebSocketSession third = openSession("s3");
+
+        // When
+        WebSocketDrainManager.DrainResult result = drainManager.drain("test");
+
+        // Then
+        assertThat(result.completed()).isTrue();
+        assertThat(result.flushed()).isTrue();
+        assertThat(result.sessionsAtStart()).isEqualTo(3);
+        assertThat(result.sessionsClosed()).isEqualTo(3);
+        assertThat(result.sessionsRemaining()).isZero();
+
+        for (WebSocketSession session : new WebSocketSession[]{first, second, third}) {
+            ArgumentCaptor<CloseStatus> status = ArgumentCaptor.forClass(CloseStatus.class);
+            verify(session).close(status.capture());
+            assertThat(status.getValue().getCode()).isEqualTo(CloseStatus.SERVICE_RESTARTED.getCode());
+            long delay = Long.parseLong(status.getValue().getReason()
+                    .substring(WebSocketDrainManager.RECONNECT_HINT_PREFIX.length()));
+            assertThat(delay).isBetween(1000L, 2000L);
+        }
+        assertThat(meterRegistry.get("websocket.drain.sessions.closed").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("websocket.drain.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("drain이 시작되면 핸드셰이크를 거부하고 두 번째 drain은 다시 실행하지 않는다")
+    void drain_rejectsHandshakesAndRunsOnce() throws Exception {
+        // Given
+        openSession("s1");
+        assertThat(drainManager.isDraining()).isFalse();
+
+        // When
+        WebSocketDrainManager.DrainResult first = drainManager.drain("actuator");
+        WebSocketDrainManager.DrainResult second = drainManager.drain("shutdown");
+
+        // Then
+        assertThat(drainManager.isDraining()).isTrue();
+        assertThat(second).isSameAs(first);
+        assertThat(drainManager.rejectHandshake()).isBetween(1L, 2L);
+        assertThat(meterRegistry.get("websocket.drain.handshakes.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("완료된 drain을 해제하면 핸드셰이크를 다시 받고, 이후 다시 drain할 수 있다")
+    void resume_acceptsHandshakesAgain() throws Exception {
+        // Given
+        openSession("s1");
+        WebSocketDrainManager.DrainResult drained = drainManager.drain("actuator");
+
+        // When
+        WebSocketDrainManager.DrainResult resumed = drainManager.resume("actuator");
+
+        // Then
+        assertThat(drainManager.isDraining()).isFalse();
+        assertThat(resumed.completed()).isFalse();
+        assertThat(resumed.startedAt()).isNull();
+
+        openSession("s2");
+        WebSocketDrainManager.DrainResult second = drainManager.drain("shutdown");
+        assertThat(second).isNotSameAs(drained);
+        assertThat(second.sessionsClosed()).isEqualTo(1);
+    }
+
+    /**
+     * 열린 세션을 모니터에 등록하고, close 호출 시 실제 컨테이너처럼 afterConnectionClosed를 호출하도록 설정
+     */
+    private WebSocketSession openSession(String id) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            decoratedHandler.afterConnectionClosed(session, invocation.getArgument(0));
+            return null;
+        }).when(session).close(any(CloseStatus.class));
+        decoratedHandler.afterConnectionEstablished(session);
+        return session;
+    }
+}
@@ -0,0 +1,160 @@
+package potato.backend.global.config;
+
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import potato.backend.domain.user.domain.Member;
+import potato.backend.domain.user.domain.Role;
+import potato.backend.domain.user.event.MemberChangedEvent;
+import potato.backend.domain.user.repository.MemberRepository;
+import potato.backend.global.security.jwt.JwtUtil;
+import potato.backend.global.security.oauth.UserInfo;
+
+import jakarta.servlet.http.Cookie;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * WebSocketPrincipalResolver 단위 테스트
+ */
+class WebSocketPrincipalResolverTest {
+
+    private KeyPair keyPair;
+    private JwtUtil jwtUtil;
+    private MemberRepository memberRepository;
+    private WebSocketPrincipalResolver resolver;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        keyPair = generator.generateKeyPair();
+
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "publicKeyString", Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        ReflectionTestUtils.setField(jwtUtil, "privateKeyString", Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        jwtUtil.init();
+
+        memberRepository = mock(MemberRepository.class);
+        resolver = new WebSocketPrincipalResolver(jwtUtil, memberRepository, new SimpleMeterRegistry(), 60, 100);
+    }
+
+    @Test
+    @DisplayName("Access Token의 클레임만으로 사용자 정보를 만들고 DB를 조회하지 않는다")
+    void resolve_fromClaims() {
+        // Given
+        String token = jwtUtil.generateAccessToken(UserInfo.of(7L, null, Role.USER, "감자", "potato@example.com"));
+
+        // When
+        UserInfo userInfo = resolver.resolve(token);
+
+        // Then
+        assertThat(userInfo.memberId()).isEqualTo(7L);
+        assertThat(userInfo.name()).isEqualTo("감자");
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("이름 클레임이 없으면 회원 정보로 보충하고 이후에는 캐시를 사용한다")
+    void resolve_insufficientClaims_usesMemberCache() {
+        // Given
+        Member member = Member.create("감자", "potato@example.com", "pw", "010-0000-0000");
+        ReflectionTestUtils.setField(member, "id", 7L);
+        when(memberRepository.findById(7L)).thenReturn(Optional.of(member));
+        String token = signedToken("7", Role.USER.name(), Instant.now().plus(10, ChronoUnit.MINUTES));
+
+        // When
+        UserInfo first = resolver.resolve(token);
+        UserInfo second = resolver.resolve(token);
+
+        // Then
+        assertThat(first.name()).isEqualTo("감자");
+        assertThat(second).isEqualTo(first);
+        verify(memberRepository, times(1)).findById(7L);
+    }
+
+    @Test
+    @DisplayName("회원 정보가 바뀌면 캐시를 비워 다음 인증에서 바뀐 정보를 읽는다")
+    void onMemberChanged_evictsCachedMember() {
+        // Given
+        Member member = Member.create("감자", "potato@example.com", "pw", "010-0000-0000");
+        ReflectionTestUtils.setField(member, "id", 7L);
+        when(memberRepository.findById(7L)).thenReturn(Optional.of(member));
+        String token = signedToken("7", Role.USER.name(), Instant.now().plus(10, ChronoUnit.MINUTES));
+        resolver.resolve(token);
+
+        // When
+        member.updateName("고구마");
+        resolver.onMemberChanged(new MemberChangedEvent(7L));
+        UserInfo refreshed = resolver.resolve(token);
+
+        // Then
+        assertThat(refreshed.name()).isEqualTo("고구마");
+        verify(memberRepository, times(2)).findById(7L);
+    }
+
+    @Test
+    @DisplayName("만료된 토큰, Refresh Token, 다른 키로 서명된 토큰은 거부한다")
+    void resolve_rejectsInvalidTokens() throws Exception {
+        // Given
+        String expired = signedToken("7", Role.USER.name(), Instant.now().minus(1, ChronoUnit.MINUTES));
+        String refreshToken = jwtUtil.generateRefreshToken(UserInfo.of(7L, null, Role.USER, "감자", null));
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        String forged = Jwts.builder()
+                .subject("7")
+                .claim("role", Role.USER.name())
+                .claim("name", "감자")
+                .expiration(Date.from(Instant.now().plus(10, ChronoUnit.MINUTES)))
+                .signWith(generator.generateKeyPair().getPrivate(), Jwts.SIG.ES256)
+                .compact();
+
+        // When & Then
+        assertThat(resolver.resolve(expired)).isNull();
+        assertThat(resolver.resolve(refreshToken)).isNull();
+        assertThat(resolver.resolve(forged)).isNull();
+        assertThat(resolver.resolve("not-a-token")).isNull();
+        verifyNoInteractions(memberRepository);
+    }
+
+    @Test
+    @DisplayName("핸드셰이크 요청에서 Authorization 헤더, accessToken 쿠키 순으로 토큰을 추출한다")
+    void extractToken_fromHeaderOrCookie() {
+        MockHttpServletRequest cookieRequest = new MockHttpServletRequest();
+        cookieRequest.setCookies(new Cookie("accessToken", "cookie-token"));
+        assertThat(resolver.extractToken(new ServletServerHttpRequest(cookieRequest))).isEqualTo("cookie-token");
+
+        MockHttpServletRequest headerRequest = new MockHttpServletRequest();
+        headerRequest.addHeader("Authorization", "Bearer header-token");
+        headerRequest.setCookies(new Cookie("accessToken", "cookie-token"));
+        assertThat(resolver.extractToken(new ServletServerHttpRequest(headerRequest))).isEqualTo("header-token");
+
+        MockHttpServletRequest queryRequest = new MockHttpServletRequest();
+        queryRequest.setQueryString("memberId=1");
+        assertThat(resolver.extractToken(new ServletServerHttpRequest(queryRequest))).isNull();
+    }
+
+    private String signedToken(String subject, String role, Instant expiration) {
+        return Jwts.builder()
+                .subject(subject)
+                .claim("role", role)
+                .issuedAt(Date.from(Instant.now().minus(20, ChronoUnit.MINUTES)))
+                .expiration(Date.from(expiration))
+                .signWith(keyPair.getPrivate(), Jwts.SIG.ES256)
+                .compact();
+    }
+}